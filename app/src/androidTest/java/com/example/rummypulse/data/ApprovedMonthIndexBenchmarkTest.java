@@ -0,0 +1,172 @@
+package com.example.rummypulse.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import android.content.Context;
+import android.os.Bundle;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.test.core.app.ApplicationProvider;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.FirebaseOptions;
+import com.google.firebase.Timestamp;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.FirebaseFirestoreSettings;
+import com.google.firebase.firestore.MemoryCacheSettings;
+import com.google.firebase.firestore.QuerySnapshot;
+import com.google.firebase.firestore.Source;
+import com.google.firebase.firestore.WriteBatch;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Month report rebuild cost against the Firestore emulator at 1k, 10k and 50k archived games:
+ * the old full-collection read filtered in memory versus {@link ApprovedMonthIndex#monthQuery}.
+ * Half of the seeded rows are legacy rows without {@code approvedMonthKey}, so each size also
+ * times {@link ApprovedMonthIndex#backfill}. Skipped unless an emulator host is passed:
+ *
+ * <pre>
+ * firebase emulators:start --only firestore
+ * ./gradlew connectedDebugAndroidTest \
+ *     -Pandroid.testInstrumentationRunnerArguments.class=com.example.rummypulse.data.ApprovedMonthIndexBenchmarkTest \
+ *     -Pandroid.testInstrumentationRunnerArguments.firestoreEmulatorHost=10.0.2.2
+ * </pre>
+ *
+ * Results are logged under {@code ApprovedMonthBench}. Each run uses a fresh emulator project.
+ */
+@RunWith(AndroidJUnit4.class)
+public class ApprovedMonthIndexBenchmarkTest {
+    private static final String TAG = "ApprovedMonthBench";
+    private static final int[] SIZES = {1_000, 10_000, 50_000};
+    private static final int MONTHS = 24;
+    private static final String TARGET_MONTH = "2024-06";
+    private static final long TIMEOUT_MINUTES = 10;
+
+    private FirebaseApp app;
+    private FirebaseFirestore db;
+
+    @Before
+    public void connect() {
+        Bundle arguments = InstrumentationRegistry.getArguments();
+        String host = arguments.getString("firestoreEmulatorHost");
+        assumeTrue("firestoreEmulatorHost not set", host != null && !host.isEmpty());
+        int port = Integer.parseInt(arguments.getString("firestoreEmulatorPort", "8080"));
+
+        Context context = ApplicationProvider.getApplicationContext();
+        String projectId = "demo-rummypulse-bench-" + System.currentTimeMillis();
+        FirebaseOptions options = new FirebaseOptions.Builder()
+                .setProjectId(projectId)
+                .setApplicationId("1:000000000000:android:0000000000000000")
+                .setApiKey("emulator")
+                .build();
+        app = FirebaseApp.initializeApp(context, options, projectId);
+        db = FirebaseFirestore.getInstance(app);
+        db.useEmulator(host, port);
+        db.setFirestoreSettings(new FirebaseFirestoreSettings.Builder()
+                .setLocalCacheSettings(MemoryCacheSettings.newBuilder().build())
+                .build());
+    }
+
+    @After
+    public void disconnect() {
+        if (app != null) {
+            app.delete();
+        }
+    }
+
+    @Test
+    public void monthRebuildAtArchiveSizes() throws Exception {
+        await(ApprovedMonthIndex.migrationRef(db).get(Source.SERVER));
+        int seeded = 0;
+        for (int size : SIZES) {
+            seed(seeded, size);
+            seeded = size;
+
+            long started = SystemClock.elapsedRealtime();
+            QuerySnapshot all = await(db.collection(FirestoreCollections.APPROVED_GAMES)
+                    .get(Source.SERVER));
+            int scanned = 0;
+            for (DocumentSnapshot document : all.getDocuments()) {
+                ApprovedGameData game = document.toObject(ApprovedGameData.class);
+                if (game != null && TARGET_MONTH.equals(ReportAggregator.yearMonthKey(game))) {
+                    scanned++;
+                }
+            }
+            long fullScanMs = SystemClock.elapsedRealtime() - started;
+
+            started = SystemClock.elapsedRealtime();
+            int stamped = await(ApprovedMonthIndex.backfill(db));
+            long backfillMs = SystemClock.elapsedRealtime() - started;
+
+            started = SystemClock.elapsedRealtime();
+            QuerySnapshot month = await(ApprovedMonthIndex.monthQuery(db, TARGET_MONTH)
+                    .get(Source.SERVER));
+            long indexedMs = SystemClock.elapsedRealtime() - started;
+
+            assertEquals(scanned, month.size());
+            Log.i(TAG, "games=" + size
+                    + " monthGames=" + month.size()
+                    + " fullScanMs=" + fullScanMs
+                    + " indexedMs=" + indexedMs
+                    + " backfillMs=" + backfillMs
+                    + " stamped=" + stamped);
+        }
+    }
+
+    /** Adds games {@code from..to-1}; odd indexes are legacy rows without the month key. */
+    private void seed(int from, int to) throws Exception {
+        Calendar calendar = Calendar.getInstance(TimeZone.getDefault(), Locale.US);
+        WriteBatch batch = db.batch();
+        int writes = 0;
+        for (int index = from; index < to; index++) {
+            calendar.clear();
+            calendar.set(2023, Calendar.JANUARY, 1, 12, 0, 0);
+            calendar.add(Calendar.MONTH, index % MONTHS);
+            calendar.add(Calendar.DAY_OF_MONTH, index % 27);
+
+            Map<String, Object> game = new HashMap<>();
+            String gameId = String.format(Locale.US, "bench-%06d", index);
+            game.put("gameId", gameId);
+            game.put("numPlayers", 2 + index % 5);
+            game.put("pointValue", index % 3 == 0 ? 0.25 : 0.5);
+            game.put("gstPercent", 10.0);
+            game.put("gstAmount", Integer.toString(10 + index % 40));
+            game.put("gameStatus", "Completed");
+            game.put("approvedAt", new Timestamp(calendar.getTime()));
+            if (index % 2 == 0) {
+                game.put(ApprovedMonthIndex.FIELD, String.format(Locale.US, "%04d-%02d",
+                        calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH) + 1));
+            }
+            batch.set(db.collection(FirestoreCollections.APPROVED_GAMES).document(gameId), game);
+            if (++writes == 500) {
+                await(batch.commit());
+                batch = db.batch();
+                writes = 0;
+            }
+        }
+        if (writes > 0) {
+            await(batch.commit());
+        }
+    }
+
+    private static <T> T await(com.google.android.gms.tasks.Task<T> task) throws Exception {
+        return Tasks.await(task, TIMEOUT_MINUTES, TimeUnit.MINUTES);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.rummypulse.data.sync;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import android.content.Context;
+import android.database.sqlite.SQLiteDatabase;
+
+import androidx.room.Room;
+import androidx.test.core.app.ApplicationProvider;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import com.example.rummypulse.data.GameData;
+import com.google.gson.Gson;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+
+/**
+ * Opens a database written in the version 2 layout, with Gson JSON columns, through
+ * {@link GameOperationDatabase#MIGRATION_2_3} and the migrations after it, so Room also checks
+ * the migrated tables against the current entities.
+ */
+@RunWith(AndroidJUnit4.class)
+public class GameOperationDatabaseMigrationTest {
+    private static final String NAME = "operations-migration-test.db";
+    private static final Gson GSON = new Gson();
+
+    private Context context;
+    private GameOperationDatabase database;
+
+    @Before
+    public void writeVersion2Database() {
+        context = ApplicationProvider.getApplicationContext();
+        context.deleteDatabase(NAME);
+        try (SQLiteDatabase db = SQLiteDatabase.openOrCreateDatabase(
+                context.getDatabasePath(NAME), null)) {
+            db.execSQL("CREATE TABLE `game_snapshots` (`gameId` TEXT NOT NULL,"
+                    + " `snapshotJson` TEXT NOT NULL, `revision` INTEGER NOT NULL,"
+                    + " `editGeneration` INTEGER NOT NULL, `updatedAt` INTEGER NOT NULL,"
+                    + " PRIMARY KEY(`gameId`))");
+            db.execSQL("CREATE TABLE `pending_game_operations` (`operationId` TEXT NOT NULL,"
+                    + " `gameId` TEXT NOT NULL, `editGeneration` INTEGER NOT NULL,"
+                    + " `playerId` TEXT, `sequence` INTEGER NOT NULL, `type` TEXT NOT NULL,"
+                    + " `payloadJson` TEXT NOT NULL, `status` TEXT NOT NULL,"
+                    + " `attemptCount` INTEGER NOT NULL, `lastError` TEXT,"
+                    + " `createdAt` INTEGER NOT NULL, PRIMARY KEY(`operationId`))");
+            db.execSQL("CREATE UNIQUE INDEX `index_pending_game_operations_gameId_sequence`"
+                    + " ON `pending_game_operations` (`gameId`, `sequence`)");
+            db.execSQL("CREATE INDEX `index_pending_game_operations_gameId_status`"
+                    + " ON `pending_game_operations` (`gameId`, `status`)");
+            db.execSQL("CREATE TABLE `round_score_drafts` (`gameId` TEXT NOT NULL,"
+                    + " `editGeneration` INTEGER NOT NULL, `serializedDraft` TEXT NOT NULL,"
+                    + " `updatedAt` INTEGER NOT NULL, PRIMARY KEY(`gameId`, `editGeneration`))");
+            db.execSQL("CREATE TABLE `dashboard_rows` (`ownerUid` TEXT NOT NULL,"
+                    + " `gameId` TEXT NOT NULL, `position` INTEGER NOT NULL,"
+                    + " `rowJson` TEXT NOT NULL, `serverUpdatedAt` INTEGER NOT NULL,"
+                    + " `savedAt` INTEGER NOT NULL, PRIMARY KEY(`ownerUid`, `gameId`))");
+
+            GameData game = new GameData();
+            game.setNumPlayers(3);
+            game.setPointValue(0.5);
+            db.execSQL("INSERT INTO `game_snapshots` VALUES (?, ?, ?, ?, ?)",
+                    new Object[] {"valid", GSON.toJson(game), 7, 2, 100});
+            db.execSQL("INSERT INTO `game_snapshots` VALUES (?, ?, ?, ?, ?)",
+                    new Object[] {"corrupt", "{broken", 3, 1, 100});
+            db.execSQL("INSERT INTO `pending_game_operations`"
+                            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                    new Object[] {"op-valid", "valid", 2, "p1", 1,
+                            GameOperationType.RENAME_PLAYER.name(),
+                            GSON.toJson(GameOperationPayload.rename("Debu")),
+                            GameOperationStatus.PENDING.name(), 0, null, 101});
+            db.execSQL("INSERT INTO `pending_game_operations`"
+                            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                    new Object[] {"op-corrupt", "valid", 2, "p1", 2,
+                            GameOperationType.RENAME_PLAYER.name(), "{broken",
+                            GameOperationStatus.PENDING.name(), 1, null, 102});
+            db.setVersion(2);
+        }
+        database = Room.databaseBuilder(context, GameOperationDatabase.class, NAME)
+                .addMigrations(GameOperationDatabase.MIGRATION_1_2,
+                        GameOperationDatabase.MIGRATION_2_3,
+                        GameOperationDatabase.MIGRATION_3_4)
+                .allowMainThreadQueries()
+                .build();
+    }
+
+    @After
+    public void deleteDatabase() {
+        if (database != null) {
+            database.close();
+        }
+        context.deleteDatabase(NAME);
+    }
+
+    @Test
+    public void readableRowsAreReEncoded() {
+        GameSnapshotEntity snapshot = database.operations().getSnapshot("valid");
+        assertNotNull(snapshot);
+        assertEquals(7, snapshot.revision);
+        GameData game = GameOperationCodec.decodeGame(snapshot.snapshotBlob);
+        assertEquals(3, game.getNumPlayers());
+        assertEquals(0.5, game.getPointValue(), 0.0);
+
+        PendingGameOperation operation = database.operations().getNextPending("valid");
+        assertEquals("op-valid", operation.operationId);
+        assertEquals("Debu", GameOperationCodec.decodePayload(operation.payloadBlob).name);
+    }
+
+    @Test
+    public void corruptSnapshotIsDroppedAndCorruptPayloadIsBlocked() {
+        assertNull(database.operations().getSnapshot("corrupt"));
+
+        List<PendingGameOperation> active = database.operations().getActiveOperations("valid");
+        assertEquals(2, active.size());
+        PendingGameOperation blocked = active.get(1);
+        assertEquals("op-corrupt", blocked.operationId);
+        assertEquals(GameOperationStatus.BLOCKED.name(), blocked.status);
+        assertEquals("This pending change could not be converted.", blocked.lastError);
+        assertEquals(1, blocked.attemptCount);
+    }
+}
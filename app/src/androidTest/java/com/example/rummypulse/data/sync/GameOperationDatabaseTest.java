@@ -1,7 +1,6 @@
 package com.example.rummypulse.data.sync;
 
 import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertNotNull;
 
 import android.content.Context;
 
@@ -9,6 +8,8 @@ import androidx.room.Room;
 import androidx.test.core.app.ApplicationProvider;
 import androidx.test.ext.junit.runners.AndroidJUnit4;
 
+import com.example.rummypulse.data.GameData;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -36,7 +37,7 @@ public class GameOperationDatabaseTest {
     public void snapshotDraftAndOperationsSurviveIndependentReads() {
         GameOperationDao dao = database.operations();
         dao.upsertSnapshot(new GameSnapshotEntity(
-                "game", "{}", 4, 2, 100));
+                "game", GameOperationCodec.encodeGame(new GameData()), 4, 2, 100));
         dao.upsertRoundDraft(new RoundScoreDraftEntity(
                 "game", 2, "draft", 101));
         dao.insertOperation(new PendingGameOperation(
@@ -46,7 +47,7 @@ public class GameOperationDatabaseTest {
                 "player",
                 dao.nextSequence("game"),
                 GameOperationType.RENAME_PLAYER.name(),
-                "{\"name\":\"Debu\"}",
+                GameOperationCodec.encodePayload(GameOperationPayload.rename("Debu")),
                 GameOperationStatus.PENDING.name(),
                 0,
                 null,
@@ -54,7 +55,8 @@ public class GameOperationDatabaseTest {
 
         assertEquals(4, dao.getSnapshot("game").revision);
         assertEquals("draft", dao.getRoundDraft("game", 2).serializedDraft);
-        assertNotNull(dao.getNextPending("game"));
+        assertEquals("Debu", GameOperationCodec.decodePayload(
+                dao.getNextPending("game").payloadBlob).name);
         assertEquals(1, dao.activeOperationCount("game"));
     }
 }
@@ -0,0 +1,162 @@
+package com.example.rummypulse.data.sync;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import android.content.Context;
+import android.os.Bundle;
+
+import androidx.test.core.app.ApplicationProvider;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.example.rummypulse.data.FirestoreCollections;
+import com.example.rummypulse.data.GameData;
+import com.example.rummypulse.data.GameDataSchema;
+import com.example.rummypulse.data.Player;
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.FirebaseOptions;
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.FirebaseFirestoreSettings;
+import com.google.firebase.firestore.MemoryCacheSettings;
+import com.google.firebase.firestore.Source;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Commits a full {@link GameOperationBatch#MAX_SIZE} batch of score operations through
+ * {@link GameOperationRemoteApplier} against the emulator with {@code firestore.rules} loaded,
+ * so a cap above the rules access-call budget fails here instead of in the field. Skipped unless
+ * an emulator host is passed:
+ *
+ * <pre>
+ * firebase emulators:start --only firestore,auth
+ * ./gradlew connectedDebugAndroidTest \
+ *     -Pandroid.testInstrumentationRunnerArguments.class=com.example.rummypulse.data.sync.GameOperationRulesBudgetTest \
+ *     -Pandroid.testInstrumentationRunnerArguments.firestoreEmulatorHost=10.0.2.2
+ * </pre>
+ */
+@RunWith(AndroidJUnit4.class)
+public class GameOperationRulesBudgetTest {
+    private static final long TIMEOUT_SECONDS = 60;
+    private static final String GAME_ID = "rules-budget-game";
+
+    private FirebaseApp app;
+    private FirebaseFirestore db;
+    private String editorUserId;
+
+    @Before
+    public void connect() throws Exception {
+        Bundle arguments = InstrumentationRegistry.getArguments();
+        String host = arguments.getString("firestoreEmulatorHost");
+        assumeTrue("firestoreEmulatorHost not set", host != null && !host.isEmpty());
+        int port = Integer.parseInt(arguments.getString("firestoreEmulatorPort", "8080"));
+        int authPort = Integer.parseInt(arguments.getString("authEmulatorPort", "9099"));
+
+        Context context = ApplicationProvider.getApplicationContext();
+        String projectId = "demo-rummypulse-rules-" + System.currentTimeMillis();
+        FirebaseOptions options = new FirebaseOptions.Builder()
+                .setProjectId(projectId)
+                .setApplicationId("1:000000000000:android:0000000000000000")
+                .setApiKey("emulator")
+                .build();
+        app = FirebaseApp.initializeApp(context, options, projectId);
+        FirebaseAuth auth = FirebaseAuth.getInstance(app);
+        auth.useEmulator(host, authPort);
+        editorUserId = await(auth.signInAnonymously()).getUser().getUid();
+        db = FirebaseFirestore.getInstance(app);
+        db.useEmulator(host, port);
+        db.setFirestoreSettings(new FirebaseFirestoreSettings.Builder()
+                .setLocalCacheSettings(MemoryCacheSettings.newBuilder().build())
+                .build());
+    }
+
+    @After
+    public void disconnect() {
+        if (app != null) {
+            app.delete();
+        }
+    }
+
+    @Test
+    public void scoreBatchAtTheCapPassesTheRules() throws Exception {
+        seedGame();
+        List<PendingGameOperation> operations = new ArrayList<>();
+        for (int index = 0; index < GameOperationBatch.MAX_SIZE; index++) {
+            operations.add(scores(index + 1, index % 10 + 1, index, index + 1));
+        }
+
+        GameOperationRemoteApplier.Result result =
+                await(GameOperationRemoteApplier.apply(db, editorUserId, operations));
+
+        assertEquals(GameOperationBatch.MAX_SIZE, result.revision);
+        DocumentSnapshot stored = await(db.collection(FirestoreCollections.GAME_DATA)
+                .document(GAME_ID).get(Source.SERVER));
+        assertEquals(Long.valueOf(GameOperationBatch.MAX_SIZE), stored.getLong("revision"));
+        assertEquals("op-" + GameOperationBatch.MAX_SIZE, stored.getString("lastOperationId"));
+    }
+
+    private void seedGame() throws Exception {
+        Map<String, Object> game = new HashMap<>();
+        game.put("gameId", GAME_ID);
+        game.put("creatorUserId", editorUserId);
+        game.put("activeEditorUserId", editorUserId);
+        game.put("pinGeneration", 1L);
+        await(db.collection(FirestoreCollections.GAMES).document(GAME_ID).set(game));
+
+        GameData data = new GameData();
+        data.setNumPlayers(2);
+        data.setPointValue(1.0);
+        data.setPlayers(new ArrayList<>(Arrays.asList(player("p1", "u1"), player("p2", "u2"))));
+        GameDataSchema.normalize(data);
+        Map<String, Object> document = new HashMap<>();
+        document.put("data", GameDataSchema.toFirestoreData(data));
+        document.put("version", "2.0");
+        document.put("editGeneration", 1L);
+        document.put("revision", 0L);
+        await(db.collection(FirestoreCollections.GAME_DATA).document(GAME_ID).set(document));
+    }
+
+    private static Player player(String id, String userId) {
+        Player player = new Player();
+        player.setPlayerId(id);
+        player.setName(id);
+        player.setUserId(userId);
+        List<Integer> scores = new ArrayList<>();
+        for (int round = 0; round < 10; round++) {
+            scores.add(-1);
+        }
+        player.setScores(scores);
+        return player;
+    }
+
+    private static PendingGameOperation scores(long sequence, int round, int first, int second) {
+        Map<String, Integer> values = new LinkedHashMap<>();
+        values.put("p1", first);
+        values.put("p2", second);
+        return new PendingGameOperation(
+                "op-" + sequence, GAME_ID, 1L, null, sequence,
+                GameOperationType.UPDATE_SCORE.name(),
+                GameOperationCodec.encodePayload(GameOperationPayload.scores(round, values)),
+                GameOperationStatus.PENDING.name(), 0, null, sequence);
+    }
+
+    private static <T> T await(Task<T> task) throws Exception {
+        return Tasks.await(task, TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+}
@@ -33,6 +33,7 @@ import com.example.rummypulse.data.AppUser;
 import com.example.rummypulse.data.AppUserManager;
 import com.example.rummypulse.data.AppUserRepository;
 import com.example.rummypulse.data.AppUserRoleSession;
+import com.example.rummypulse.data.CreatorProfileCache;
 import com.example.rummypulse.data.FirestoreCollections;
 import com.example.rummypulse.data.GameAuth;
 import com.example.rummypulse.data.GameViewApproval;
@@ -40,16 +41,21 @@ import com.example.rummypulse.data.GameViewApprovalStatus;
 import com.example.rummypulse.data.Player;
 import com.example.rummypulse.data.RoundScoreDraft;
 import com.example.rummypulse.data.RoundScorePatch;
+import com.example.rummypulse.data.SnapshotDecodeExecutor;
 import com.example.rummypulse.databinding.ActivityJoinGameBinding;
 import com.example.rummypulse.data.GameRepository;
 import com.example.rummypulse.data.GameDataSchema;
 import com.example.rummypulse.data.GameIntegrityResult;
 import com.example.rummypulse.data.GameIntegrityValidator;
+import com.example.rummypulse.data.StandingsEngine;
 import com.example.rummypulse.data.sync.GameOperationPayload;
 import com.example.rummypulse.data.sync.GameOperationProjector;
 import com.example.rummypulse.data.sync.GameOperationRepository;
+import com.example.rummypulse.data.sync.GameOperationSyncWorker;
 import com.example.rummypulse.data.sync.GameOperationType;
+import com.example.rummypulse.data.sync.PendingRoundCatchUp;
 import com.example.rummypulse.ui.join.JoinGameViewModel;
+import com.example.rummypulse.ui.join.OfflineCatchUpTrace;
 import com.example.rummypulse.ui.join.PlayerRoundStatistics;
 import com.example.rummypulse.ui.join.PlayerRoundStatisticsCalculator;
 import com.example.rummypulse.utils.ModernToast;
@@ -75,6 +81,11 @@ public class JoinGameActivity extends AppCompatActivity {
     private GameOperationRepository operationRepository;
     private ActivityJoinGameBinding binding;
     private String currentGameId;
+    /** Highest revision decoded by {@link #setupRealtimeListener()}; older snapshots are dropped. */
+    private final java.util.concurrent.atomic.AtomicLong listenerDecodedRevision =
+            new java.util.concurrent.atomic.AtomicLong(-1L);
+    private final java.util.concurrent.atomic.AtomicLong listenerDecodeSequence =
+            new java.util.concurrent.atomic.AtomicLong();
     
     // Track previous ranks for animation
     private java.util.Map<String, Integer> previousRanks = new java.util.HashMap<>();
@@ -128,14 +139,17 @@ public class JoinGameActivity extends AppCompatActivity {
     private AlertDialog activeSequentialScoreDialog;
     /** Scores remain local until every required player in this round is reviewed. */
     private RoundScoreDraft activeRoundScoreDraft;
-    private boolean restoringPendingRounds;
     private boolean applyingProjectedGameState;
     private boolean projectingPendingGameState;
-    private boolean pendingRoundSyncInProgress;
-    private boolean legacyPendingRoundsMigrationStarted;
+    /** Legacy pending rounds are offered to the catch-up once per screen. */
+    private boolean legacyPendingRoundsCaughtUp;
     private boolean roomDraftLoaded;
     private String cachedRoomDraft;
-    private Runnable pendingRoundAfterSync;
+    private final OfflineCatchUpTrace catchUpTrace = new OfflineCatchUpTrace();
+    /** Set when a catch-up result is applied; cleared by the render that shows it. */
+    private boolean catchUpRenderPending;
+    private int catchUpQueuedRounds;
+    private long catchUpLaneMs;
     /** Player selected from the read-only settlement board for round-score details. */
     private String selectedViewRoundPlayerKey;
     /** Player whose round details are currently expanded from an edit-mode card. */
@@ -150,6 +164,9 @@ public class JoinGameActivity extends AppCompatActivity {
             new java.util.HashSet<>();
     private final java.util.Map<java.util.UUID, androidx.work.WorkInfo.State>
             observedOperationWorkStates = new java.util.HashMap<>();
+    /** Sync runs that already reported this game as drained. */
+    private final java.util.Set<java.util.UUID> observedDrainedOperationWork =
+            new java.util.HashSet<>();
 
     /** Prevents a programmatic mapped-name update from scheduling a second game-data write. */
     private boolean suppressPlayerNamePersistence;
@@ -293,23 +310,31 @@ public class JoinGameActivity extends AppCompatActivity {
 
     private void observeOperationSync() {
         androidx.work.WorkManager.getInstance(getApplicationContext())
-                .getWorkInfosByTagLiveData("game-operation-sync")
+                .getWorkInfosByTagLiveData(GameOperationSyncWorker.UNIQUE_WORK_NAME)
                 .observe(this, workInfos -> {
                     if (currentGameId == null || workInfos == null) {
                         return;
                     }
                     boolean completedForGame = false;
-                    String gameTag = "game-operation-sync-" + currentGameId;
                     for (androidx.work.WorkInfo workInfo : workInfos) {
                         androidx.work.WorkInfo.State previousState =
                                 observedOperationWorkStates.put(
                                         workInfo.getId(), workInfo.getState());
+                        // The coordinator syncs every game; it reports each drained game as
+                        // progress and succeeds once no game has operations left to send.
+                        String[] drained = workInfo.getProgress().getStringArray(
+                                GameOperationSyncWorker.PROGRESS_DRAINED_GAME_IDS);
+                        if (drained != null
+                                && java.util.Arrays.asList(drained).contains(currentGameId)
+                                && observedDrainedOperationWork.add(workInfo.getId())) {
+                            completedForGame = true;
+                        }
                         if (previousState != null
                                 && previousState
                                 != androidx.work.WorkInfo.State.SUCCEEDED
-                                && workInfo.getTags().contains(gameTag)
                                 && workInfo.getState()
-                                == androidx.work.WorkInfo.State.SUCCEEDED) {
+                                == androidx.work.WorkInfo.State.SUCCEEDED
+                                && !observedDrainedOperationWork.contains(workInfo.getId())) {
                             completedForGame = true;
                         }
                     }
@@ -759,14 +784,11 @@ public class JoinGameActivity extends AppCompatActivity {
         // Delay the game completion announcement to ensure all score announcements complete first
         ttsHandler.postDelayed(() -> {
             // Calculate standings
-            java.util.List<PlayerStanding> standings = calculateStandings(gameData);
+            java.util.List<StandingsEngine.Standing> standings = calculateStandings(gameData);
             
             // Calculate total contribution
             double totalContribution = calculateTotalContribution(gameData);
             
-            // Sort by total score (ascending - lower is better)
-            standings.sort((a, b) -> Integer.compare(a.totalScore, b.totalScore));
-            
             // Build announcement based on current locale
             StringBuilder announcement = new StringBuilder();
             
@@ -776,7 +798,7 @@ public class JoinGameActivity extends AppCompatActivity {
                 
                 // Announce each player's results
                 for (int i = 0; i < standings.size(); i++) {
-                    PlayerStanding standing = standings.get(i);
+                    StandingsEngine.Standing standing = standings.get(i);
                     String playerName = standing.player.getName();
                     int totalScore = standing.totalScore;
                     double netAmount = standing.netAmount;
@@ -804,7 +826,7 @@ public class JoinGameActivity extends AppCompatActivity {
                 
                 // Announce each player's results
                 for (int i = 0; i < standings.size(); i++) {
-                    PlayerStanding standing = standings.get(i);
+                    StandingsEngine.Standing standing = standings.get(i);
                     String playerName = standing.player.getName();
                     int totalScore = standing.totalScore;
                     double netAmount = standing.netAmount;
@@ -1238,48 +1260,22 @@ public class JoinGameActivity extends AppCompatActivity {
                             gameData,
                             viewModel.getLatestGameRevision(),
                             viewModel.getActiveEditGeneration());
-                    operationRepository.projectPending(
-                            currentGameId,
-                            gameData,
-                            new GameOperationRepository.Callback() {
-                                @Override
-                                public void onStored(
-                                        com.example.rummypulse.data.GameData projected) {
-                                    projectingPendingGameState = false;
-                                    applyingProjectedGameState = true;
-                                    viewModel.updateGameData(projected);
-                                }
-
-                                @Override
-                                public void onError(String message) {
-                                    projectingPendingGameState = false;
-                                    ModernToast.warning(
-                                            JoinGameActivity.this, message);
-                                }
-                            });
+                    catchUpPendingWork(gameData, true);
                     return;
                 }
                 if (applyingProjectedGameState) {
                     applyingProjectedGameState = false;
                 }
                 if (Boolean.TRUE.equals(editAccess)) {
-                    migrateLegacyPendingRoundsToOperationQueue(gameData);
                     loadRoomRoundDraftOnce();
                 }
-                if (Boolean.TRUE.equals(editAccess) && !restoringPendingRounds) {
-                    com.example.rummypulse.data.GameData withPending =
-                            applyPendingRoundsToCopy(gameData);
-                    if (withPending != gameData) {
-                        restoringPendingRounds = true;
-                        viewModel.replaceLocalGameData(withPending);
-                        return;
-                    }
-                } else if (restoringPendingRounds) {
-                    restoringPendingRounds = false;
-                }
                 refreshViewRequestsSection();
                 displayGameData(gameData);
                 refreshPendingOperationMarkers();
+                if (catchUpRenderPending) {
+                    catchUpRenderPending = false;
+                    catchUpTrace.markConsistent(catchUpQueuedRounds, catchUpLaneMs);
+                }
                 handleIntegrityState(gameData, Boolean.TRUE.equals(editAccess));
                 
                 // Set up real-time listener if in view mode (no edit access)
@@ -1713,10 +1709,9 @@ public class JoinGameActivity extends AppCompatActivity {
             TextView balanceView) {
         FirebaseUser currentUser = FirebaseAuth.getInstance().getCurrentUser();
         String currentUserId = currentUser == null ? null : currentUser.getUid();
-        List<PlayerStanding> standings = calculateStandings(gameData);
-        standings.sort((a, b) -> Integer.compare(a.totalScore, b.totalScore));
+        List<StandingsEngine.Standing> standings = calculateStandings(gameData);
 
-        PlayerStanding currentStanding = null;
+        StandingsEngine.Standing currentStanding = null;
         int currentPosition = -1;
         if (selectedViewRoundPlayerKey != null) {
             for (int i = 0; i < standings.size(); i++) {
@@ -1811,12 +1806,11 @@ public class JoinGameActivity extends AppCompatActivity {
         positiveRows.removeAllViews();
         negativeRows.removeAllViews();
         hiddenRows.removeAllViews();
-        List<PlayerStanding> standings = calculateStandings(gameData);
-        standings.sort((a, b) -> Integer.compare(a.totalScore, b.totalScore));
+        List<StandingsEngine.Standing> standings = calculateStandings(gameData);
         FirebaseUser currentUser = FirebaseAuth.getInstance().getCurrentUser();
         String currentUserId = currentUser == null ? null : currentUser.getUid();
         if (selectedViewRoundPlayerKey == null && !TextUtils.isEmpty(currentUserId)) {
-            for (PlayerStanding standing : standings) {
+            for (StandingsEngine.Standing standing : standings) {
                 if (currentUserId.equals(standing.player.getUserId())) {
                     selectedViewRoundPlayerKey = viewPlayerSelectionKey(standing.player);
                     break;
@@ -1831,7 +1825,7 @@ public class JoinGameActivity extends AppCompatActivity {
         int positiveCount = 0;
         int negativeCount = 0;
         for (int i = 0; i < standings.size(); i++) {
-            PlayerStanding standing = standings.get(i);
+            StandingsEngine.Standing standing = standings.get(i);
             boolean amountVisible = shouldShowStandingAmountForPlayer(gameData, standing.player);
             LinearLayout targetRows;
             // The settlement direction is safe to expose because scores are already
@@ -2068,10 +2062,9 @@ public class JoinGameActivity extends AppCompatActivity {
             com.example.rummypulse.data.GameData gameData) {
         FirebaseUser currentUser = FirebaseAuth.getInstance().getCurrentUser();
         String userId = currentUser == null ? null : currentUser.getUid();
-        List<PlayerStanding> standings = calculateStandings(gameData);
-        standings.sort((left, right) -> Integer.compare(left.totalScore, right.totalScore));
+        List<StandingsEngine.Standing> standings = calculateStandings(gameData);
 
-        PlayerStanding mappedStanding = null;
+        StandingsEngine.Standing mappedStanding = null;
         int position = -1;
         if (!TextUtils.isEmpty(userId)) {
             for (int index = 0; index < standings.size(); index++) {
@@ -2186,36 +2179,20 @@ public class JoinGameActivity extends AppCompatActivity {
         if (gameData == null || gameData.getPlayers() == null) {
             return 0.0;
         }
-        
-        double totalContribution = 0.0;
+        // Contribution is split across the players actually present, not the stored count.
         int numPlayers = gameData.getPlayers().size();
-        
-        for (com.example.rummypulse.data.Player player : gameData.getPlayers()) {
-            // Calculate settlement for each player
-            int totalScore = 0;
-            for (com.example.rummypulse.data.Player p : gameData.getPlayers()) {
-                totalScore += p.getTotalScore();
-            }
-            
-            // Calculate gross amount
-            int playerScore = player.getTotalScore();
-            double grossAmount = (totalScore - (playerScore * numPlayers)) * gameData.getPointValue();
-            
-            // Only winners pay GST (positive gross amount)
-            if (grossAmount > 0) {
-                double gstAmount = grossAmount * (gameData.getGstPercent() / 100.0);
-                totalContribution += gstAmount;
-            }
+        if (numPlayers == gameData.getNumPlayers()) {
+            return gameData.standings().totalGst();
         }
-        
-        return totalContribution;
+        return StandingsEngine.compute(gameData.getPlayers(), numPlayers,
+                gameData.getPointValue(), gameData.getGstPercent()).totalGst();
     }
 
     private void generatePlayerCards(com.example.rummypulse.data.GameData gameData) {
         GameDataSchema.normalize(gameData);
         // Clear existing player cards
         binding.playersContainer.removeAllViews();
-        java.util.Map<String, PlayerStanding> standingsByPlayerId =
+        java.util.Map<String, StandingsEngine.Standing> standingsByPlayerId =
                 buildStandingsByPlayerId(gameData);
 
         // Add player cards
@@ -2359,7 +2336,7 @@ public class JoinGameActivity extends AppCompatActivity {
             generatePlayerCards(gameData);
             return;
         }
-        java.util.Map<String, PlayerStanding> standingsByPlayerId =
+        java.util.Map<String, StandingsEngine.Standing> standingsByPlayerId =
                 buildStandingsByPlayerId(gameData);
         for (int index = 0; index < gameData.getPlayers().size(); index++) {
             com.example.rummypulse.data.Player player =
@@ -2392,6 +2369,7 @@ public class JoinGameActivity extends AppCompatActivity {
         appUserRepository.getUsersCached(new AppUserRepository.UsersCallback() {
             @Override
             public void onSuccess(List<AppUser> users) {
+                CreatorProfileCache.getInstance().putAll(users);
                 cachedDirectoryUsers = sortDirectoryUsers(users);
                 refreshPlayerAvatars();
             }
@@ -2501,6 +2479,7 @@ public class JoinGameActivity extends AppCompatActivity {
         appUserRepository.getUsersCached(new AppUserRepository.UsersCallback() {
             @Override
             public void onSuccess(List<AppUser> users) {
+                CreatorProfileCache.getInstance().putAll(users);
                 cachedDirectoryUsers = sortDirectoryUsers(users);
                 if (dialog.isShowing()) {
                     bindUserDirectory(dialog, playerId, player, gameData,
@@ -2753,8 +2732,18 @@ public class JoinGameActivity extends AppCompatActivity {
 
     private String playerAvatarInitials(com.example.rummypulse.data.Player player) {
         String sourceName = player == null ? "" : player.getName();
-        if (player != null && !TextUtils.isEmpty(player.getUserId())
-                && cachedDirectoryUsers != null) {
+        if (player == null || TextUtils.isEmpty(player.getUserId())) {
+            return initialsForName(sourceName);
+        }
+        CreatorProfileCache.Profile profile = CreatorProfileCache.getInstance().resolve(
+                player.getUserId(), loaded -> {
+                    if (loaded != null && !isFinishing()) {
+                        refreshPlayerAvatars();
+                    }
+                });
+        if (profile != null && !TextUtils.isEmpty(profile.displayName)) {
+            sourceName = profile.displayName;
+        } else if (cachedDirectoryUsers != null) {
             for (AppUser user : cachedDirectoryUsers) {
                 if (player.getUserId().equals(user.getUserId())) {
                     sourceName = userDisplayName(user);
@@ -2814,18 +2803,16 @@ public class JoinGameActivity extends AppCompatActivity {
         styleTotalScoreTextView(totalScoreView, player.getTotalScore());
     }
 
-    private java.util.Map<String, PlayerStanding> buildStandingsByPlayerId(
+    private java.util.Map<String, StandingsEngine.Standing> buildStandingsByPlayerId(
             com.example.rummypulse.data.GameData gameData) {
-        java.util.Map<String, PlayerStanding> byPlayerId =
+        java.util.Map<String, StandingsEngine.Standing> byPlayerId =
                 new java.util.LinkedHashMap<>();
         if (gameData == null || gameData.getPlayers() == null) {
             return byPlayerId;
         }
-        java.util.List<PlayerStanding> ranked = calculateStandings(gameData);
-        ranked.sort((left, right) -> Integer.compare(left.totalScore, right.totalScore));
+        java.util.List<StandingsEngine.Standing> ranked = calculateStandings(gameData);
         for (int index = 0; index < ranked.size(); index++) {
-            PlayerStanding standing = ranked.get(index);
-            standing.rank = index + 1;
+            StandingsEngine.Standing standing = ranked.get(index);
             if (standing.player != null && !TextUtils.isEmpty(standing.player.getPlayerId())) {
                 byPlayerId.put(standing.player.getPlayerId(), standing);
             }
@@ -2837,11 +2824,11 @@ public class JoinGameActivity extends AppCompatActivity {
             View playerCard,
             com.example.rummypulse.data.Player player,
             com.example.rummypulse.data.GameData gameData,
-            java.util.Map<String, PlayerStanding> standingsByPlayerId) {
+            java.util.Map<String, StandingsEngine.Standing> standingsByPlayerId) {
         if (playerCard == null || player == null || gameData == null) {
             return;
         }
-        PlayerStanding standing = standingsByPlayerId.get(player.getPlayerId());
+        StandingsEngine.Standing standing = standingsByPlayerId.get(player.getPlayerId());
         TextView position = playerCard.findViewById(R.id.text_player_position);
         TextView total = playerCard.findViewById(R.id.text_player_total_score);
         TextView amount = playerCard.findViewById(R.id.text_net_amount);
@@ -2899,7 +2886,7 @@ public class JoinGameActivity extends AppCompatActivity {
         if (gameData == null || gameData.getPlayers() == null) {
             return;
         }
-        java.util.Map<String, PlayerStanding> standingsByPlayerId =
+        java.util.Map<String, StandingsEngine.Standing> standingsByPlayerId =
                 buildStandingsByPlayerId(gameData);
         int count = Math.min(binding.playersContainer.getChildCount(), gameData.getPlayers().size());
         for (int i = 0; i < count; i++) {
@@ -3899,7 +3886,7 @@ public class JoinGameActivity extends AppCompatActivity {
         netAmountText.setBackground(null);
     }
 
-    private void applyStandingNetAmountDisplay(TextView netAmountText, PlayerStanding standing,
+    private void applyStandingNetAmountDisplay(TextView netAmountText, StandingsEngine.Standing standing,
                                                com.example.rummypulse.data.GameData gameData) {
         if (netAmountText == null) {
             return;
@@ -4170,47 +4157,11 @@ public class JoinGameActivity extends AppCompatActivity {
         // Clear existing standings rows
         binding.standingsTableContainer.removeAllViews();
 
-        // First pass: collect all scores
-        java.util.List<PlayerStanding> standings = new java.util.ArrayList<>();
-        int totalAllScores = 0;
-        
-        for (int i = 0; i < gameData.getPlayers().size(); i++) {
-            com.example.rummypulse.data.Player player = gameData.getPlayers().get(i);
-            int totalScore = player.getTotalScore();
-
-            PlayerStanding standing = new PlayerStanding();
-            standing.player = player;
-            standing.totalScore = totalScore;
-            
-            standings.add(standing);
-            totalAllScores += totalScore;
-        }
-
-        // Second pass: calculate amounts using Rummy formula
-        // Formula: (Total of all scores - Player's score × Number of players) × Point value
-        for (PlayerStanding standing : standings) {
-            double grossAmount = (totalAllScores - standing.totalScore * gameData.getNumPlayers()) * gameData.getPointValue();
-            
-            // Calculate GST (only for winners with positive gross amount)
-            double gstPaid = 0;
-            if (grossAmount > 0) {
-                gstPaid = (grossAmount * gameData.getGstPercent()) / 100.0;
-            }
-            
-            // Calculate net amount
-            double netAmount = grossAmount - gstPaid;
-
-            standing.grossAmount = grossAmount;
-            standing.gstPaid = gstPaid;
-            standing.netAmount = netAmount;
-        }
-
-        // Sort by total score (ascending - lower is better in Rummy)
-        standings.sort((a, b) -> Integer.compare(a.totalScore, b.totalScore));
+        java.util.List<StandingsEngine.Standing> standings = calculateStandings(gameData);
 
         // Add standings rows
         for (int i = 0; i < standings.size(); i++) {
-            PlayerStanding standing = standings.get(i);
+            StandingsEngine.Standing standing = standings.get(i);
             View standingsRowView = LayoutInflater.from(this).inflate(R.layout.item_standings_card, binding.standingsTableContainer, false);
             
             // Check for rank changes and apply animations
@@ -4684,39 +4635,6 @@ public class JoinGameActivity extends AppCompatActivity {
         return Math.round(dp * density);
     }
 
-    private double calculateTotalGST(com.example.rummypulse.data.GameData gameData) {
-        double totalGST = 0.0;
-        
-        // Calculate total GST from all players' standings
-        java.util.List<PlayerStanding> standings = new java.util.ArrayList<>();
-        
-        for (int i = 0; i < gameData.getPlayers().size(); i++) {
-            com.example.rummypulse.data.Player player = gameData.getPlayers().get(i);
-            int totalScore = player.getTotalScore();
-
-            PlayerStanding standing = new PlayerStanding();
-            standing.player = player;
-            standing.totalScore = totalScore;
-            standings.add(standing);
-        }
-        
-        // Calculate gross amounts and GST
-        int totalAllScores = standings.stream().mapToInt(s -> s.totalScore).sum();
-        
-        for (PlayerStanding standing : standings) {
-            standing.grossAmount = (totalAllScores - standing.totalScore * gameData.getPlayers().size()) * gameData.getPointValue();
-            
-            if (standing.grossAmount > 0) {
-                standing.gstPaid = standing.grossAmount * (gameData.getGstPercent() / 100.0);
-                totalGST += standing.gstPaid;
-            } else {
-                standing.gstPaid = 0;
-            }
-        }
-        
-        return totalGST;
-    }
-
     private void updateStandingsInfo(com.example.rummypulse.data.GameData gameData) {
         // Standings info card has been removed - all info now shown in top header
         // This method is kept for compatibility but does nothing
@@ -4850,13 +4768,10 @@ public class JoinGameActivity extends AppCompatActivity {
         if (gameData == null || gameData.getPlayers() == null) {
             return false;
         }
-        for (com.example.rummypulse.data.Player player : gameData.getPlayers()) {
-            if (player.getScores() != null) {
-                for (Integer s : player.getScores()) {
-                    if (s != null && s >= 0) {
-                        return true;
-                    }
-                }
+        com.example.rummypulse.data.ScoreMatrix matrix = gameData.scoreMatrix();
+        for (int round = 1; round <= com.example.rummypulse.data.ScoreMatrix.ROUNDS; round++) {
+            if (matrix.isRoundStarted(round)) {
+                return true;
             }
         }
         return false;
@@ -5251,11 +5166,14 @@ public class JoinGameActivity extends AppCompatActivity {
         
         System.out.println("Setting up real-time listener for game: " + currentGameId);
         
-        // Set up Firestore listener with metadata changes to track cache vs server data
+        // Set up Firestore listener with metadata changes to track cache vs server data. Snapshots
+        // are decoded on the snapshot decoder; only superseding results reach the UI thread.
         com.google.firebase.firestore.FirebaseFirestore db = com.google.firebase.firestore.FirebaseFirestore.getInstance();
+        listenerDecodedRevision.set(-1L);
         gameDataListener = db.collection(FirestoreCollections.GAME_DATA)
             .document(currentGameId)
-            .addSnapshotListener(com.google.firebase.firestore.MetadataChanges.INCLUDE, (documentSnapshot, error) -> {
+            .addSnapshotListener(SnapshotDecodeExecutor.get(),
+                    com.google.firebase.firestore.MetadataChanges.INCLUDE, (documentSnapshot, error) -> {
                 if (error != null) {
                     System.err.println("Error listening to game data: " + error.getMessage());
                     return;
@@ -5267,18 +5185,22 @@ public class JoinGameActivity extends AppCompatActivity {
                         boolean hasPendingWrites = documentSnapshot.getMetadata().hasPendingWrites();
                         String dataSource = documentSnapshot.getMetadata().isFromCache() ? "LOCAL CACHE" : "SERVER";
                         System.out.println("Real-time update received for game: " + currentGameId + " [Source: " + dataSource + "]");
-                        System.out.println("Raw document data keys: " + documentSnapshot.getData().keySet());
                         if (hasPendingWrites) {
                             System.out.println("Skipping local pending write snapshot - waiting for committed data...");
                             return;
                         }
-                        
-                        // If data is from cache and we're online, skip this update and wait for server data
-                        if (documentSnapshot.getMetadata().isFromCache() && isConnected && isNetworkAvailable()) {
-                            System.out.println("Skipping cached data - waiting for server update...");
+                        boolean fromCache = documentSnapshot.getMetadata().isFromCache();
+
+                        Long snapshotRevision = documentSnapshot.getLong("revision");
+                        if (snapshotRevision != null
+                                && snapshotRevision < listenerDecodedRevision.get()) {
+                            System.out.println("Dropping superseded snapshot revision " + snapshotRevision);
                             return;
                         }
-                        
+                        if (snapshotRevision != null) {
+                            listenerDecodedRevision.set(snapshotRevision);
+                        }
+
                         // The actual game data is nested inside the 'data' field
                         Object dataField = documentSnapshot.get("data");
                         if (dataField instanceof java.util.Map) {
@@ -5287,11 +5209,20 @@ public class JoinGameActivity extends AppCompatActivity {
                             
                             com.example.rummypulse.data.GameData gameData =
                                     parseGameDataFromMap(dataMap);
-                            
-                            System.out.println("Players field: " + (gameData.getPlayers() != null ? gameData.getPlayers().size() + " players" : "null"));
+                            long decodeSequence = listenerDecodeSequence.incrementAndGet();
                             
                             // Update UI on main thread
                             runOnUiThread(() -> {
+                                if (decodeSequence != listenerDecodeSequence.get() || isFinishing()) {
+                                    // A newer snapshot finished decoding; it will render instead.
+                                    return;
+                                }
+                                // Connection state belongs to the UI thread. While online, a cached
+                                // snapshot is skipped and the server update renders instead.
+                                if (fromCache && isConnected && isNetworkAvailable()) {
+                                    System.out.println("Skipping cached data - waiting for server update...");
+                                    return;
+                                }
                                 // Validate game data before updating UI
                                 if (gameData.getPlayers() != null && !gameData.getPlayers().isEmpty()) {
                                     // Check if we're in edit mode (though listener should not be active in edit mode)
@@ -5571,6 +5502,7 @@ public class JoinGameActivity extends AppCompatActivity {
                 } else {
                     // Edit mode - validate session then refresh if still valid
                     System.out.println("Network restored in EDIT MODE - validating edit session");
+                    catchUpTrace.markReconnected();
                     checkEditSessionIfNeeded(
                             () -> retryPendingRoundSaves(this::fetchFreshGameData));
                 }
@@ -5580,101 +5512,6 @@ public class JoinGameActivity extends AppCompatActivity {
         }, 1000); // 1 second delay
     }
 
-    private void persistPendingRound(RoundScorePatch patch) {
-        if (currentGameId == null || patch == null) {
-            return;
-        }
-        String key = pendingRoundKey(patch);
-        String existingValue =
-                getSharedPreferences(PENDING_ROUND_PREFERENCES, MODE_PRIVATE)
-                        .getString(key, null);
-        RoundScorePatch valueToStore = patch;
-        if (existingValue != null) {
-            try {
-                valueToStore = RoundScorePatch.deserialize(existingValue).merge(patch);
-            } catch (RuntimeException invalidExisting) {
-                valueToStore = patch;
-            }
-        }
-        getSharedPreferences(PENDING_ROUND_PREFERENCES, MODE_PRIVATE)
-                .edit()
-                .putString(key, valueToStore.serialize())
-                .commit();
-    }
-
-    private void migrateLegacyPendingRoundsToOperationQueue(
-            com.example.rummypulse.data.GameData gameData) {
-        if (legacyPendingRoundsMigrationStarted
-                || operationRepository == null
-                || currentGameId == null
-                || gameData == null) {
-            return;
-        }
-        legacyPendingRoundsMigrationStarted = true;
-        GameDataSchema.normalize(gameData);
-        for (RoundScorePatch patch : loadPendingRounds()) {
-            if (patch.getEditGeneration() != viewModel.getActiveEditGeneration()) {
-                continue;
-            }
-            java.util.Map<String, Integer> scores = new java.util.LinkedHashMap<>();
-            boolean resolved = true;
-            for (RoundScorePatch.Entry entry : patch.getEntries()) {
-                String playerId = resolvePendingIdentity(gameData, entry.getIdentity());
-                if (playerId == null) {
-                    resolved = false;
-                    break;
-                }
-                scores.put(playerId, entry.getScore());
-            }
-            if (!resolved || scores.isEmpty()) {
-                continue;
-            }
-            operationRepository.enqueue(
-                    currentGameId,
-                    patch.getEditGeneration(),
-                    gameData,
-                    GameOperationType.UPDATE_SCORE,
-                    null,
-                    GameOperationPayload.scores(
-                            patch.getRound1Based(), scores, patch.isCorrection()),
-                    new GameOperationRepository.Callback() {
-                        @Override
-                        public void onStored(
-                                com.example.rummypulse.data.GameData projected) {
-                            removePendingRound(patch);
-                            applyingProjectedGameState = true;
-                            viewModel.updateGameData(projected);
-                        }
-
-                        @Override
-                        public void onError(String message) {
-                            ModernToast.warning(
-                                    JoinGameActivity.this,
-                                    "A saved round is still waiting for recovery: " + message);
-                        }
-                    });
-        }
-    }
-
-    private String resolvePendingIdentity(
-            com.example.rummypulse.data.GameData gameData, String identity) {
-        if (identity == null || gameData.getPlayers() == null) {
-            return null;
-        }
-        for (com.example.rummypulse.data.Player player : gameData.getPlayers()) {
-            if (identity.equals("p:" + player.getPlayerId())
-                    || (player.getUserId() != null
-                    && identity.equals("u:" + player.getUserId()))
-                    || (player.getRandomNumber() != null
-                    && identity.equals("r:" + player.getRandomNumber()))
-                    || (player.getName() != null
-                    && identity.equals("n:" + player.getName()))) {
-                return player.getPlayerId();
-            }
-        }
-        return null;
-    }
-
     private void removePendingRound(RoundScorePatch patch) {
         if (currentGameId == null || patch == null) {
             return;
@@ -5724,108 +5561,76 @@ public class JoinGameActivity extends AppCompatActivity {
         return pending;
     }
 
-    private com.example.rummypulse.data.GameData applyPendingRoundsToCopy(
-            com.example.rummypulse.data.GameData source) {
-        com.example.rummypulse.data.GameData result = source;
-        long activeGeneration = viewModel.getActiveEditGeneration();
-        boolean changed = false;
-        for (RoundScorePatch patch : loadPendingRounds()) {
-            if (patch.getEditGeneration() != activeGeneration) {
-                continue;
-            }
-            try {
-                result = patch.applyToLatest(result);
-                changed = true;
-            } catch (RuntimeException conflict) {
-                ModernToast.warning(this, conflict.getMessage());
-            }
-        }
-        return changed ? result : source;
-    }
-
-    private void retryPendingRoundSaves(Runnable afterSync) {
-        if (legacyPendingRoundsMigrationStarted) {
-            if (afterSync != null) {
-                afterSync.run();
-            }
-            return;
-        }
-        if (pendingRoundSyncInProgress) {
-            if (afterSync != null) {
-                pendingRoundAfterSync = afterSync;
-            }
-            return;
-        }
-        if (!isNetworkAvailable() || viewModel == null || currentGameId == null
-                || !Boolean.TRUE.equals(viewModel.getEditAccessGranted().getValue())) {
-            if (afterSync != null) {
-                afterSync.run();
-            }
-            return;
-        }
-        long activeGeneration = viewModel.getActiveEditGeneration();
-        List<RoundScorePatch> currentSession = new ArrayList<>();
-        boolean hasOlderSession = false;
-        for (RoundScorePatch patch : loadPendingRounds()) {
-            if (patch.getEditGeneration() == activeGeneration) {
-                currentSession.add(patch);
-            } else {
-                hasOlderSession = true;
-            }
-        }
-        if (hasOlderSession) {
-            ModernToast.warning(this, getString(R.string.pending_round_edit_access_changed));
-        }
-        if (currentSession.isEmpty()) {
-            if (afterSync != null) {
-                afterSync.run();
-            }
-            return;
-        }
-        pendingRoundSyncInProgress = true;
-        retryPendingRoundAtIndex(currentSession, 0, afterSync);
-    }
-
-    private void retryPendingRoundAtIndex(List<RoundScorePatch> pending, int index,
-            Runnable afterSync) {
-        if (index >= pending.size()) {
-            pendingRoundSyncInProgress = false;
-            Runnable completion = afterSync != null ? afterSync : pendingRoundAfterSync;
-            pendingRoundAfterSync = null;
-            // Pick up rounds completed while this serial batch was uploading.
-            retryPendingRoundSaves(completion);
-            return;
-        }
-        RoundScorePatch patch = pending.get(index);
-        viewModel.saveCompletedRoundAtomically(
-                currentGameId, patch, new JoinGameViewModel.RoundSaveCallback() {
-                    @Override
-                    public void onSuccess() {
-                        removePendingRound(patch);
-                        retryPendingRoundAtIndex(pending, index + 1, afterSync);
-                    }
-
+    /**
+     * Loads the op log and, once per screen, every legacy pending round, and applies them to
+     * one projected copy on the game's lane. The observer renders that copy once; queued
+     * rounds go to the sync worker as a single scheduled run.
+     */
+    private void catchUpPendingWork(
+            com.example.rummypulse.data.GameData gameData, boolean includeLegacyRounds) {
+        List<RoundScorePatch> rounds = includeLegacyRounds && !legacyPendingRoundsCaughtUp
+                ? loadPendingRounds()
+                : new ArrayList<>();
+        legacyPendingRoundsCaughtUp |= includeLegacyRounds;
+        operationRepository.catchUp(
+                currentGameId,
+                viewModel.getActiveEditGeneration(),
+                gameData,
+                rounds,
+                new GameOperationRepository.CatchUpCallback() {
                     @Override
-                    public void onSavedOffline() {
-                        // Keep the durable record; the next connectivity callback retries it.
-                        pendingRoundSyncInProgress = false;
-                        pendingRoundAfterSync = null;
+                    public void onCaughtUp(com.example.rummypulse.data.GameData projected,
+                            PendingRoundCatchUp.Plan plan, long elapsedMillis) {
+                        for (RoundScorePatch patch : plan.accepted) {
+                            removePendingRound(patch);
+                        }
+                        if (!plan.otherSessions.isEmpty()) {
+                            ModernToast.warning(JoinGameActivity.this,
+                                    getString(R.string.pending_round_edit_access_changed));
+                        }
+                        if (!plan.unresolved.isEmpty()) {
+                            ModernToast.warning(JoinGameActivity.this,
+                                    getString(R.string.pending_round_sync_conflict,
+                                            "The player list changed."));
+                        }
+                        projectingPendingGameState = false;
+                        applyingProjectedGameState = true;
+                        catchUpRenderPending = true;
+                        catchUpQueuedRounds = plan.accepted.size();
+                        catchUpLaneMs = elapsedMillis;
+                        viewModel.updateGameData(projected);
                     }
 
                     @Override
                     public void onError(String message) {
-                        pendingRoundSyncInProgress = false;
-                        ModernToast.warning(JoinGameActivity.this,
-                                getString(R.string.pending_round_sync_conflict, message));
-                        Runnable completion =
-                                afterSync != null ? afterSync : pendingRoundAfterSync;
-                        pendingRoundAfterSync = null;
-                        if (completion != null) {
-                            completion.run();
+                        if (!rounds.isEmpty()) {
+                            // The saved rounds stay in preferences; still show the op log.
+                            ModernToast.warning(JoinGameActivity.this,
+                                    getString(R.string.pending_round_sync_conflict, message));
+                            catchUpPendingWork(gameData, false);
+                            return;
                         }
+                        projectingPendingGameState = false;
+                        ModernToast.warning(JoinGameActivity.this, message);
                     }
                 });
     }
+
+    /**
+     * Hands queued operations to the sync worker after reconnecting. Pending rounds are folded
+     * into the outbox by {@link #catchUpPendingWork} when the game loads, so nothing is
+     * uploaded from here.
+     */
+    private void retryPendingRoundSaves(Runnable afterSync) {
+        if (operationRepository != null && currentGameId != null && isNetworkAvailable()
+                && viewModel != null
+                && Boolean.TRUE.equals(viewModel.getEditAccessGranted().getValue())) {
+            operationRepository.resumePendingSync(currentGameId);
+        }
+        if (afterSync != null) {
+            afterSync.run();
+        }
+    }
     
     /**
      * Checks if the player list has changed (players added or removed)
@@ -6063,11 +5868,11 @@ public class JoinGameActivity extends AppCompatActivity {
         // Add game header
         text.append("🎮 *RUMMY PULSE - GAME STANDINGS* 🎮\n");
         // Calculate standings
-        java.util.List<PlayerStanding> standings = calculateStandings(gameData);
+        java.util.List<StandingsEngine.Standing> standings = calculateStandings(gameData);
         
         // Calculate total contribution
         double totalContribution = 0;
-        for (PlayerStanding standing : standings) {
+        for (StandingsEngine.Standing standing : standings) {
             totalContribution += standing.gstPaid;
         }
         
@@ -6083,15 +5888,12 @@ public class JoinGameActivity extends AppCompatActivity {
                 .append("\n");
         text.append("━━━━━━━━━━━━━━━━━━━━━━\n");
         
-        // Sort by total score (ascending - lower is better)
-        standings.sort((a, b) -> Integer.compare(a.totalScore, b.totalScore));
-        
         // Add standings header
         text.append("🏆 *STANDINGS* 🏆\n");
         
         // Add each player's standing (compact format)
         for (int i = 0; i < standings.size(); i++) {
-            PlayerStanding standing = standings.get(i);
+            StandingsEngine.Standing standing = standings.get(i);
             
             // Rank emoji
             String rankEmoji;
@@ -6115,57 +5917,8 @@ public class JoinGameActivity extends AppCompatActivity {
         return text.toString();
     }
     
-    private java.util.List<PlayerStanding> calculateStandings(com.example.rummypulse.data.GameData gameData) {
-        java.util.List<PlayerStanding> standings = new java.util.ArrayList<>();
-        int totalAllScores = 0;
-        
-        // First pass: collect all scores
-        for (com.example.rummypulse.data.Player player : gameData.getPlayers()) {
-            int totalScore = 0;
-            
-            // Get scores from game data
-            if (player.getScores() != null) {
-                for (Integer score : player.getScores()) {
-                    if (score != null && score > 0) {
-                        totalScore += score;
-                    }
-                }
-            }
-            
-            PlayerStanding standing = new PlayerStanding();
-            standing.player = player;
-            standing.totalScore = totalScore;
-            standings.add(standing);
-            totalAllScores += totalScore;
-        }
-        
-        // Second pass: calculate amounts using Rummy formula
-        for (PlayerStanding standing : standings) {
-            double grossAmount = (totalAllScores - standing.totalScore * gameData.getNumPlayers()) * gameData.getPointValue();
-            
-            // Calculate GST (only for winners with positive gross amount)
-            double gstPaid = 0;
-            if (grossAmount > 0) {
-                gstPaid = (grossAmount * gameData.getGstPercent()) / 100.0;
-            }
-            
-            // Calculate net amount
-            double netAmount = grossAmount - gstPaid;
-            
-            standing.grossAmount = grossAmount;
-            standing.gstPaid = gstPaid;
-            standing.netAmount = netAmount;
-        }
-        
-        return standings;
-    }
-    
-    private static class PlayerStanding {
-        com.example.rummypulse.data.Player player;
-        int rank;
-        int totalScore;
-        double grossAmount;
-        double gstPaid;
-        double netAmount;
+    /** Ranked lowest total first; shared by every view of the same game revision. */
+    private java.util.List<StandingsEngine.Standing> calculateStandings(com.example.rummypulse.data.GameData gameData) {
+        return gameData.standings().ranked();
     }
 }
@@ -743,6 +743,7 @@ public class MainActivity extends AppCompatActivity {
             android.widget.TextView textUpdateStatus = dialog.findViewById(R.id.text_update_status);
             View btnClose = dialog.findViewById(R.id.btn_close);
             MaterialButton btnCheckUpdates = dialog.findViewById(R.id.btn_check_updates);
+            MaterialButton btnSyncDiagnostics = dialog.findViewById(R.id.btn_sync_diagnostics);
             
             // Set values
             textVersion.setText(versionName);
@@ -765,6 +766,12 @@ public class MainActivity extends AppCompatActivity {
                     updateChecker.forceCheckForUpdates();
                 }
             });
+
+            btnSyncDiagnostics.setOnClickListener(v -> {
+                dialog.dismiss();
+                applySettingsDialogWidth(
+                        com.example.rummypulse.utils.SyncTelemetryDialog.show(this));
+            });
             
             dialog.show();
             applySettingsDialogWidth(dialog);
@@ -9,6 +9,7 @@ import com.google.firebase.FirebaseApp;
 import com.google.firebase.auth.FirebaseAuth;
 import com.example.rummypulse.data.AppUserRoleSession;
 import com.example.rummypulse.data.GameRepository;
+import com.example.rummypulse.ui.dashboard.DashboardStartupTrace;
 import com.example.rummypulse.utils.AuthStateManager;
 
 /**
@@ -21,6 +22,7 @@ public class RummyPulseApplication extends Application {
     @Override
     public void onCreate() {
         super.onCreate();
+        DashboardStartupTrace.markProcessStart();
         
         // Initialize Firebase
         FirebaseApp.initializeApp(this);
@@ -57,6 +59,7 @@ public class RummyPulseApplication extends Application {
         // GameRepository: load only when a user is signed in (avoids Firestore work while logged out).
         final GameRepository gameRepository = GameRepository.getDashboardInstance();
         gameRepository.setContext(this);
+        gameRepository.enableDashboardSnapshot(this);
         
         // Add a global auth state listener for debugging and backup
         firebaseAuth.addAuthStateListener(new FirebaseAuth.AuthStateListener() {
@@ -7,6 +7,11 @@ public final class ApprovalBatchValidator {
 
     public static final int MAX_GAMES_PER_TRANSACTION = 100;
     public static final int MAX_TRANSACTION_WRITES = 450;
+    /**
+     * Report documents an approval updates: up to two months (when it straddles a month
+     * boundary) and the approved totals.
+     */
+    public static final int REPORT_WRITES = 3;
 
     private ApprovalBatchValidator() {}
 
@@ -22,7 +27,7 @@ public final class ApprovalBatchValidator {
     }
 
     public static void validateWriteCount(int gameCount, int cleanupDocumentCount) {
-        int writes = gameCount * 3 + cleanupDocumentCount;
+        int writes = gameCount * 3 + cleanupDocumentCount + REPORT_WRITES;
         if (writes > MAX_TRANSACTION_WRITES) {
             throw new IllegalArgumentException(
                     "This approval needs " + writes + " writes, exceeding the safe limit of "
@@ -15,6 +15,8 @@ public class ApprovedGameData {
     private String gstAmount;
     private String gameStatus;
     private String creationDateTime;
+    private String approvedMonthKey;
+    private String reportedMonthKey;
 
     public ApprovedGameData() {
         // Default constructor required for Firestore
@@ -117,6 +119,27 @@ public class ApprovedGameData {
         this.creationDateTime = creationDateTime;
     }
 
+    /** Indexed {@code yyyy-MM} month the game is reported under; see {@link ApprovedMonthIndex}. */
+    public String getApprovedMonthKey() {
+        return approvedMonthKey;
+    }
+
+    public void setApprovedMonthKey(String approvedMonthKey) {
+        this.approvedMonthKey = approvedMonthKey;
+    }
+
+    /**
+     * {@code yyyy-MM} of the {@code approvedGamesReport_v2} document whose buckets include this
+     * game, or null when the game has not been counted incrementally.
+     */
+    public String getReportedMonthKey() {
+        return reportedMonthKey;
+    }
+
+    public void setReportedMonthKey(String reportedMonthKey) {
+        this.reportedMonthKey = reportedMonthKey;
+    }
+
     // Helper methods
     public int getTotalGameScore() {
         if (playerScores == null) return 0;
@@ -0,0 +1,130 @@
+package com.example.rummypulse.data;
+
+import com.google.firebase.Timestamp;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Running per-month, per-point-value totals for {@code approvedGamesReport_v2}. Games are folded
+ * in one at a time and not kept, so memory follows the number of month and point value buckets
+ * rather than the number of games. The totals round-trip through {@link #toCheckpoint()} so a
+ * paged rebuild can stop and resume.
+ */
+public final class ApprovedGamesReportAccumulator {
+
+    private final Map<String, Map<String, ApprovedGamesReportMonth.Bucket>> byMonth = new TreeMap<>();
+
+    /** Adds {@code game} to its month; returns false when the month cannot be determined. */
+    public boolean fold(ApprovedGameData game) {
+        String monthKey = ReportAggregator.yearMonthKey(game);
+        if (monthKey == null) {
+            return false;
+        }
+        add(monthKey, game, 1);
+        return true;
+    }
+
+    /** Adds ({@code sign} 1) or removes ({@code sign} -1) one game in {@code monthKey}. */
+    void add(String monthKey, ApprovedGameData game, int sign) {
+        Map<String, ApprovedGamesReportMonth.Bucket> buckets = byMonth.get(monthKey);
+        if (buckets == null) {
+            buckets = new LinkedHashMap<>();
+            byMonth.put(monthKey, buckets);
+        }
+        String key = ApprovedGamesReportMonth.bucketKey(game.getPointValue());
+        ApprovedGamesReportMonth.Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = new ApprovedGamesReportMonth.Bucket(game.getPointValue(), 0, 0, 0.0);
+            buckets.put(key, bucket);
+        }
+        bucket.setTotalGames(bucket.getTotalGames() + sign);
+        bucket.setTotalPlayers(bucket.getTotalPlayers() + (long) sign * game.getNumPlayers());
+        bucket.setTotalGstCollected(bucket.getTotalGstCollected() + sign * game.getGstAmountAsDouble());
+    }
+
+    /** Months folded so far, in key order. */
+    public Set<String> monthKeys() {
+        return Collections.unmodifiableSet(byMonth.keySet());
+    }
+
+    /** Live buckets of {@code monthKey}, keyed by {@link ApprovedGamesReportMonth#bucketKey}. */
+    public Map<String, ApprovedGamesReportMonth.Bucket> buckets(String monthKey) {
+        Map<String, ApprovedGamesReportMonth.Bucket> buckets = byMonth.get(monthKey);
+        return buckets != null ? buckets : Collections.emptyMap();
+    }
+
+    /**
+     * The month document a full rebuild writes. Totals only: unlike a single month rebuild, the
+     * games themselves are not embedded.
+     */
+    public ApprovedGamesReportMonth toReportMonth(String monthKey, Timestamp builtAt) {
+        List<PointValueReport> reports = new ArrayList<>();
+        for (ApprovedGamesReportMonth.Bucket bucket : buckets(monthKey).values()) {
+            reports.add(new PointValueReport(
+                    bucket.getPointValue(),
+                    (int) bucket.getTotalGames(),
+                    bucket.getTotalGstCollected(),
+                    (int) bucket.getTotalPlayers(),
+                    new ArrayList<>()));
+        }
+        reports.sort((r1, r2) -> Double.compare(r1.getPointValue(), r2.getPointValue()));
+        return new ApprovedGamesReportMonth(
+                ReportAggregator.displayMonthForYearMonth(monthKey), reports, builtAt);
+    }
+
+    /** A detached Firestore-ready copy of every bucket: month key to bucket key to fields. */
+    public Map<String, Object> toCheckpoint() {
+        Map<String, Object> months = new HashMap<>();
+        for (Map.Entry<String, Map<String, ApprovedGamesReportMonth.Bucket>> month : byMonth.entrySet()) {
+            Map<String, Object> buckets = new HashMap<>();
+            for (Map.Entry<String, ApprovedGamesReportMonth.Bucket> entry : month.getValue().entrySet()) {
+                ApprovedGamesReportMonth.Bucket bucket = entry.getValue();
+                Map<String, Object> fields = new HashMap<>();
+                fields.put("pointValue", bucket.getPointValue());
+                fields.put("totalGames", bucket.getTotalGames());
+                fields.put("totalPlayers", bucket.getTotalPlayers());
+                fields.put("totalGstCollected", bucket.getTotalGstCollected());
+                buckets.put(entry.getKey(), fields);
+            }
+            months.put(month.getKey(), buckets);
+        }
+        return months;
+    }
+
+    /**
+     * Rebuilds the totals from {@link #toCheckpoint()} output as read back from Firestore, where
+     * numbers may come back as any {@link Number}. Unreadable entries are skipped.
+     */
+    public static ApprovedGamesReportAccumulator fromCheckpoint(Map<String, Object> months) {
+        ApprovedGamesReportAccumulator accumulator = new ApprovedGamesReportAccumulator();
+        if (months == null) {
+            return accumulator;
+        }
+        for (Map.Entry<String, Object> month : months.entrySet()) {
+            if (!(month.getValue() instanceof Map)) continue;
+            Map<String, ApprovedGamesReportMonth.Bucket> buckets = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) month.getValue()).entrySet()) {
+                if (!(entry.getValue() instanceof Map)) continue;
+                Map<?, ?> fields = (Map<?, ?>) entry.getValue();
+                buckets.put(String.valueOf(entry.getKey()), new ApprovedGamesReportMonth.Bucket(
+                        number(fields.get("pointValue")).doubleValue(),
+                        number(fields.get("totalGames")).longValue(),
+                        number(fields.get("totalPlayers")).longValue(),
+                        number(fields.get("totalGstCollected")).doubleValue()));
+            }
+            accumulator.byMonth.put(month.getKey(), buckets);
+        }
+        return accumulator;
+    }
+
+    private static Number number(Object value) {
+        return value instanceof Number ? (Number) value : 0;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.rummypulse.data;
+
+import androidx.annotation.Nullable;
+
+import com.google.firebase.firestore.FieldValue;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * What one approval transaction changes in {@code approvedGamesReport_v2}, per month and point
+ * value. Each approved game carries {@link ApprovedGameData#getReportedMonthKey()} as its
+ * idempotency marker: approving a game that is already counted first takes its stored totals
+ * back out, so a retried or repeated approval never counts a game twice.
+ */
+public final class ApprovedGamesReportDelta {
+
+    private final ApprovedGamesReportAccumulator totals = new ApprovedGamesReportAccumulator();
+
+    /**
+     * Removes a previously counted game. Does nothing for null or for games written before
+     * incremental reporting, which only a rebuild has counted.
+     */
+    public void remove(@Nullable ApprovedGameData previous) {
+        if (previous == null || previous.getReportedMonthKey() == null) {
+            return;
+        }
+        totals.add(previous.getReportedMonthKey(), previous, -1);
+    }
+
+    /**
+     * Counts {@code game} in its month and returns that month's key, which the caller stores as
+     * the game's marker; null when the month cannot be determined and nothing was counted.
+     */
+    @Nullable
+    public String add(ApprovedGameData game) {
+        String monthKey = ReportAggregator.yearMonthKey(game);
+        if (monthKey != null) {
+            totals.add(monthKey, game, 1);
+        }
+        return monthKey;
+    }
+
+    /** Months with a non-zero change, in key order. */
+    public Set<String> monthKeys() {
+        Set<String> changed = new TreeSet<>();
+        for (String monthKey : totals.monthKeys()) {
+            if (!changedBuckets(monthKey).isEmpty()) {
+                changed.add(monthKey);
+            }
+        }
+        return changed;
+    }
+
+    /** The non-zero bucket changes for {@code monthKey}, keyed by bucket key. */
+    public Map<String, ApprovedGamesReportMonth.Bucket> changedBuckets(String monthKey) {
+        Map<String, ApprovedGamesReportMonth.Bucket> out = new LinkedHashMap<>();
+        for (Map.Entry<String, ApprovedGamesReportMonth.Bucket> entry : totals.buckets(monthKey).entrySet()) {
+            ApprovedGamesReportMonth.Bucket bucket = entry.getValue();
+            if (bucket.getTotalGames() != 0 || bucket.getTotalPlayers() != 0
+                    || bucket.getTotalGstCollected() != 0.0) {
+                out.put(entry.getKey(), bucket);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Fields to {@code set} with merge on the month document. Buckets are bumped with
+     * {@link FieldValue#increment}. A document from before buckets existed ({@code current} has
+     * only the list) gets every bucket written outright, seeded from that list, so its earlier
+     * totals are not hidden by the new buckets.
+     */
+    public Map<String, Object> mergeFields(String monthKey, @Nullable ApprovedGamesReportMonth current) {
+        Map<String, ApprovedGamesReportMonth.Bucket> changes = changedBuckets(monthKey);
+        boolean seedFromList = current != null
+                && (current.getBuckets() == null || current.getBuckets().isEmpty())
+                && current.getPointValueReports() != null
+                && !current.getPointValueReports().isEmpty();
+
+        Map<String, Object> buckets = new HashMap<>();
+        if (seedFromList) {
+            Map<String, ApprovedGamesReportMonth.Bucket> seeded =
+                    ApprovedGamesReportMonth.bucketsFor(current.getPointValueReports());
+            for (Map.Entry<String, ApprovedGamesReportMonth.Bucket> change : changes.entrySet()) {
+                ApprovedGamesReportMonth.Bucket base = seeded.get(change.getKey());
+                if (base == null) {
+                    base = new ApprovedGamesReportMonth.Bucket(change.getValue().getPointValue(), 0, 0, 0.0);
+                    seeded.put(change.getKey(), base);
+                }
+                addInto(base, change.getValue(), 1);
+            }
+            for (Map.Entry<String, ApprovedGamesReportMonth.Bucket> entry : seeded.entrySet()) {
+                ApprovedGamesReportMonth.Bucket bucket = entry.getValue();
+                Map<String, Object> fields = new HashMap<>();
+                fields.put("pointValue", bucket.getPointValue());
+                fields.put("totalGames", bucket.getTotalGames());
+                fields.put("totalPlayers", bucket.getTotalPlayers());
+                fields.put("totalGstCollected", bucket.getTotalGstCollected());
+                buckets.put(entry.getKey(), fields);
+            }
+        } else {
+            for (Map.Entry<String, ApprovedGamesReportMonth.Bucket> entry : changes.entrySet()) {
+                ApprovedGamesReportMonth.Bucket change = entry.getValue();
+                Map<String, Object> fields = new HashMap<>();
+                fields.put("pointValue", change.getPointValue());
+                fields.put("totalGames", FieldValue.increment(change.getTotalGames()));
+                fields.put("totalPlayers", FieldValue.increment(change.getTotalPlayers()));
+                fields.put("totalGstCollected", FieldValue.increment(change.getTotalGstCollected()));
+                buckets.put(entry.getKey(), fields);
+            }
+        }
+
+        Map<String, Object> fields = new HashMap<>();
+        fields.put(ApprovedGamesReportMonth.FIELD_MONTH_YEAR,
+                ReportAggregator.displayMonthForYearMonth(monthKey));
+        fields.put(ApprovedGamesReportMonth.FIELD_BUCKETS, buckets);
+        return fields;
+    }
+
+    private static void addInto(ApprovedGamesReportMonth.Bucket target,
+            ApprovedGamesReportMonth.Bucket change, int sign) {
+        target.setTotalGames(target.getTotalGames() + sign * change.getTotalGames());
+        target.setTotalPlayers(target.getTotalPlayers() + sign * change.getTotalPlayers());
+        target.setTotalGstCollected(target.getTotalGstCollected() + sign * change.getTotalGstCollected());
+    }
+}
@@ -2,15 +2,77 @@ package com.example.rummypulse.data;
 
 import com.google.firebase.Timestamp;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * One Firestore document in {@code approvedGamesReport_v2} (document id: {@code yyyy-MM}).
+ *
+ * <p>{@link #getBuckets() buckets} hold the running totals per point value, keyed by
+ * {@link #bucketKey(double)}. Approvals add to them with {@code FieldValue.increment}; rebuilds
+ * overwrite them. Documents written before buckets existed only carry
+ * {@link #getPointValueReports() pointValueReports}.
  */
 public class ApprovedGamesReportMonth {
 
+    public static final String FIELD_MONTH_YEAR = "monthYear";
+    public static final String FIELD_BUCKETS = "buckets";
+
+    /** Totals for one point value within the month. */
+    public static class Bucket {
+        private double pointValue;
+        private long totalGames;
+        private long totalPlayers;
+        private double totalGstCollected;
+
+        public Bucket() {
+        }
+
+        public Bucket(double pointValue, long totalGames, long totalPlayers, double totalGstCollected) {
+            this.pointValue = pointValue;
+            this.totalGames = totalGames;
+            this.totalPlayers = totalPlayers;
+            this.totalGstCollected = totalGstCollected;
+        }
+
+        public double getPointValue() {
+            return pointValue;
+        }
+
+        public void setPointValue(double pointValue) {
+            this.pointValue = pointValue;
+        }
+
+        public long getTotalGames() {
+            return totalGames;
+        }
+
+        public void setTotalGames(long totalGames) {
+            this.totalGames = totalGames;
+        }
+
+        public long getTotalPlayers() {
+            return totalPlayers;
+        }
+
+        public void setTotalPlayers(long totalPlayers) {
+            this.totalPlayers = totalPlayers;
+        }
+
+        public double getTotalGstCollected() {
+            return totalGstCollected;
+        }
+
+        public void setTotalGstCollected(double totalGstCollected) {
+            this.totalGstCollected = totalGstCollected;
+        }
+    }
+
     private String monthYear;
     private List<PointValueReport> pointValueReports;
+    private Map<String, Bucket> buckets;
     private Timestamp lastBuiltAt;
 
     public ApprovedGamesReportMonth() {
@@ -19,9 +81,36 @@ public class ApprovedGamesReportMonth {
     public ApprovedGamesReportMonth(String monthYear, List<PointValueReport> pointValueReports, Timestamp lastBuiltAt) {
         this.monthYear = monthYear;
         this.pointValueReports = pointValueReports;
+        this.buckets = bucketsFor(pointValueReports);
         this.lastBuiltAt = lastBuiltAt;
     }
 
+    /**
+     * Map key for a point value. Field paths cannot contain dots, so {@code 0.25} becomes
+     * {@code pv_0_25}; equal doubles always share a key.
+     */
+    public static String bucketKey(double pointValue) {
+        String plain = new java.math.BigDecimal(Double.toString(pointValue))
+                .stripTrailingZeros()
+                .toPlainString();
+        return "pv_" + plain.replace('.', '_');
+    }
+
+    static Map<String, Bucket> bucketsFor(List<PointValueReport> reports) {
+        Map<String, Bucket> out = new LinkedHashMap<>();
+        if (reports == null) {
+            return out;
+        }
+        for (PointValueReport report : reports) {
+            out.put(bucketKey(report.getPointValue()), new Bucket(
+                    report.getPointValue(),
+                    report.getTotalGames(),
+                    report.getTotalPlayers(),
+                    report.getTotalGstCollected()));
+        }
+        return out;
+    }
+
     public String getMonthYear() {
         return monthYear;
     }
@@ -38,6 +127,14 @@ public class ApprovedGamesReportMonth {
         this.pointValueReports = pointValueReports;
     }
 
+    public Map<String, Bucket> getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(Map<String, Bucket> buckets) {
+        this.buckets = buckets;
+    }
+
     public Timestamp getLastBuiltAt() {
         return lastBuiltAt;
     }
@@ -46,7 +143,38 @@ public class ApprovedGamesReportMonth {
         this.lastBuiltAt = lastBuiltAt;
     }
 
+    /**
+     * Buckets win over the stored list once present, since approvals since the last rebuild only
+     * reach the buckets. Games from the last rebuild stay attached to their point value.
+     */
     public MonthlyPointValueReport toMonthlyPointValueReport() {
-        return new MonthlyPointValueReport(monthYear, pointValueReports != null ? pointValueReports : new java.util.ArrayList<>());
+        if (buckets == null || buckets.isEmpty()) {
+            return new MonthlyPointValueReport(monthYear, pointValueReports != null ? pointValueReports : new ArrayList<>());
+        }
+        List<PointValueReport> reports = new ArrayList<>();
+        for (Bucket bucket : buckets.values()) {
+            if (bucket == null || bucket.getTotalGames() <= 0) {
+                continue;
+            }
+            reports.add(new PointValueReport(
+                    bucket.getPointValue(),
+                    (int) bucket.getTotalGames(),
+                    bucket.getTotalGstCollected(),
+                    (int) bucket.getTotalPlayers(),
+                    builtGamesFor(bucket.getPointValue())));
+        }
+        reports.sort((r1, r2) -> Double.compare(r1.getPointValue(), r2.getPointValue()));
+        return new MonthlyPointValueReport(monthYear, reports);
+    }
+
+    private List<ApprovedGameData> builtGamesFor(double pointValue) {
+        if (pointValueReports != null) {
+            for (PointValueReport report : pointValueReports) {
+                if (Double.compare(report.getPointValue(), pointValue) == 0 && report.getGames() != null) {
+                    return report.getGames();
+                }
+            }
+        }
+        return new ArrayList<>();
     }
 }
@@ -0,0 +1,82 @@
+package com.example.rummypulse.data;
+
+import com.google.firebase.Timestamp;
+
+import java.util.List;
+
+/**
+ * The single {@code approvedGamesTotals_v2/all} document: how many games are approved and the GST
+ * they collected. Approvals keep it current with increments, so the home screen reads one small
+ * document instead of the whole archive.
+ */
+public class ApprovedGamesTotals {
+    public static final String FIELD_APPROVED_GAMES = "approvedGames";
+    public static final String FIELD_TOTAL_GST = "totalGst";
+    public static final String FIELD_UPDATED_AT = "updatedAt";
+    public static final String FIELD_SEEDING = "seeding";
+    public static final String FIELD_SEED_APPROVED_IDS = "seedApprovedIds";
+
+    private long approvedGames;
+    private double totalGst;
+    private Timestamp updatedAt;
+    private boolean seeding;
+    private List<String> seedApprovedIds;
+
+    public ApprovedGamesTotals() {
+        // Default constructor required for Firestore
+    }
+
+    public ApprovedGamesTotals(long approvedGames, double totalGst, Timestamp updatedAt) {
+        this.approvedGames = approvedGames;
+        this.totalGst = totalGst;
+        this.updatedAt = updatedAt;
+    }
+
+    public long getApprovedGames() {
+        return approvedGames;
+    }
+
+    public void setApprovedGames(long approvedGames) {
+        this.approvedGames = approvedGames;
+    }
+
+    public double getTotalGst() {
+        return totalGst;
+    }
+
+    public void setTotalGst(double totalGst) {
+        this.totalGst = totalGst;
+    }
+
+    public Timestamp getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Timestamp updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * True while the seed is still scanning the archive: the counts so far hold only what
+     * approvals added since the document was created, not the archive itself.
+     */
+    public boolean isSeeding() {
+        return seeding;
+    }
+
+    public void setSeeding(boolean seeding) {
+        this.seeding = seeding;
+    }
+
+    /**
+     * Games approved while {@link #isSeeding()}; their current values are already in the counts,
+     * so the seed leaves whatever its scan read for them out.
+     */
+    public List<String> getSeedApprovedIds() {
+        return seedApprovedIds;
+    }
+
+    public void setSeedApprovedIds(List<String> seedApprovedIds) {
+        this.seedApprovedIds = seedApprovedIds;
+    }
+}
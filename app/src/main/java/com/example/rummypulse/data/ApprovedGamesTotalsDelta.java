@@ -0,0 +1,90 @@
+package com.example.rummypulse.data;
+
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * What one approval transaction changes in {@link ApprovedGamesTotals}. Once the document is
+ * seeded every archived game is in its counts, so re-approving a game takes the stored one back
+ * out first. While the seed is still scanning, only games approved since the document was created
+ * are in the counts; the rest are left to the seed.
+ */
+public final class ApprovedGamesTotalsDelta {
+
+    @Nullable
+    private final ApprovedGamesTotals current;
+    private final Set<String> countedDuringSeed;
+    private final List<String> approvedIds = new ArrayList<>();
+    private long approvedGames;
+    private double totalGst;
+
+    /** {@code current} is the totals document as read in the transaction, or null if missing. */
+    public ApprovedGamesTotalsDelta(@Nullable ApprovedGamesTotals current) {
+        this.current = current;
+        this.countedDuringSeed = current != null && current.getSeedApprovedIds() != null
+                ? new HashSet<>(current.getSeedApprovedIds())
+                : Collections.emptySet();
+    }
+
+    /**
+     * Counts approving {@code approved} as {@code gameId} over the stored {@code previous}, if
+     * any. Nothing is counted without a document; the seed's scan finds the game instead.
+     */
+    public void approve(String gameId, @Nullable ApprovedGameData previous, ApprovedGameData approved) {
+        if (current == null) {
+            return;
+        }
+        if (previous != null && (!current.isSeeding() || countedDuringSeed.contains(gameId))) {
+            approvedGames--;
+            totalGst -= previous.getGstAmountAsDouble();
+        }
+        approvedGames++;
+        totalGst += approved.getGstAmountAsDouble();
+        if (current.isSeeding()) {
+            approvedIds.add(gameId);
+        }
+    }
+
+    public long getApprovedGames() {
+        return approvedGames;
+    }
+
+    public double getTotalGst() {
+        return totalGst;
+    }
+
+    /** Game ids to record on the document because it is still seeding. */
+    public List<String> getApprovedIds() {
+        return approvedIds;
+    }
+
+    public boolean isEmpty() {
+        return approvedGames == 0 && totalGst == 0.0 && approvedIds.isEmpty();
+    }
+
+    /**
+     * What the seed adds when it finishes: every scanned game's GST except those in
+     * {@code approvedDuringSeed}, which approvals have counted at their current value.
+     */
+    public static ApprovedGamesTotals seedRemainder(Map<String, Double> scannedGst,
+            @Nullable Collection<String> approvedDuringSeed) {
+        Set<String> skip = approvedDuringSeed != null
+                ? new HashSet<>(approvedDuringSeed)
+                : Collections.emptySet();
+        ApprovedGamesTotals remainder = new ApprovedGamesTotals(0, 0.0, null);
+        for (Map.Entry<String, Double> scanned : scannedGst.entrySet()) {
+            if (!skip.contains(scanned.getKey())) {
+                remainder.setApprovedGames(remainder.getApprovedGames() + 1);
+                remainder.setTotalGst(remainder.getTotalGst() + scanned.getValue());
+            }
+        }
+        return remainder;
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.rummypulse.data;
+
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.Timestamp;
+import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FieldPath;
+import com.google.firebase.firestore.FieldValue;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.FirebaseFirestoreException;
+import com.google.firebase.firestore.Query;
+import com.google.firebase.firestore.SetOptions;
+import com.google.firebase.firestore.Source;
+import com.google.firebase.firestore.Transaction;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Firestore side of {@link ApprovedGamesTotals}: the increment an approval transaction applies,
+ * and the one-time seed that counts the archive into it.
+ *
+ * <p>The seed creates the document first, flagged {@link ApprovedGamesTotals#isSeeding()}, so
+ * approvals made during the scan are counted by their own increments and listed on the
+ * document. When the scan is done, one transaction adds every scanned game that is not listed and
+ * clears the flag. A seed that dies part way leaves the flag set, and the next seed scans again.
+ */
+public final class ApprovedGamesTotalsStore {
+    public static final String DOCUMENT_ID = "all";
+    static final int PAGE_SIZE = 400;
+
+    private static final Object SEED_LOCK = new Object();
+    private static Task<ApprovedGamesTotals> seedInFlight;
+
+    private ApprovedGamesTotalsStore() {}
+
+    public static DocumentReference ref(FirebaseFirestore db) {
+        return db.collection(FirestoreCollections.APPROVED_GAMES_TOTALS).document(DOCUMENT_ID);
+    }
+
+    /**
+     * Applies {@code delta} inside the approval transaction that read {@code current}. Nothing is
+     * written while the document does not exist; the seed's scan counts those games.
+     */
+    public static void applyInTransaction(Transaction transaction, DocumentSnapshot current,
+            ApprovedGamesTotalsDelta delta) {
+        if (!current.exists() || delta.isEmpty()) return;
+        Map<String, Object> fields = new HashMap<>();
+        fields.put(ApprovedGamesTotals.FIELD_APPROVED_GAMES, FieldValue.increment(delta.getApprovedGames()));
+        fields.put(ApprovedGamesTotals.FIELD_TOTAL_GST, FieldValue.increment(delta.getTotalGst()));
+        fields.put(ApprovedGamesTotals.FIELD_UPDATED_AT, Timestamp.now());
+        if (!delta.getApprovedIds().isEmpty()) {
+            fields.put(ApprovedGamesTotals.FIELD_SEED_APPROVED_IDS,
+                    FieldValue.arrayUnion(delta.getApprovedIds().toArray()));
+        }
+        transaction.set(current.getReference(), fields, SetOptions.merge());
+    }
+
+    /**
+     * Creates the document if it is missing and counts the archive into it, or finishes a seed
+     * left unfinished. Returns the stored totals once no seed is pending. Calls made while a seed
+     * is running in this process share it.
+     */
+    public static Task<ApprovedGamesTotals> seed(FirebaseFirestore db) {
+        synchronized (SEED_LOCK) {
+            if (seedInFlight != null) {
+                return seedInFlight;
+            }
+            Task<ApprovedGamesTotals> task = runSeed(db);
+            if (!task.isComplete()) {
+                seedInFlight = task;
+                task.addOnCompleteListener(done -> {
+                    synchronized (SEED_LOCK) {
+                        seedInFlight = null;
+                    }
+                });
+            }
+            return task;
+        }
+    }
+
+    private static Task<ApprovedGamesTotals> runSeed(FirebaseFirestore db) {
+        return db.runTransaction(transaction -> {
+                    DocumentSnapshot current = transaction.get(ref(db));
+                    if (current.exists()) {
+                        return Boolean.TRUE.equals(current.getBoolean(ApprovedGamesTotals.FIELD_SEEDING));
+                    }
+                    ApprovedGamesTotals started = new ApprovedGamesTotals(0, 0.0, Timestamp.now());
+                    started.setSeeding(true);
+                    started.setSeedApprovedIds(new ArrayList<>());
+                    transaction.set(ref(db), started);
+                    return true;
+                })
+                .onSuccessTask(needsScan -> {
+                    if (!needsScan) {
+                        return ref(db).get(Source.SERVER)
+                                .continueWith(read -> read.getResult().toObject(ApprovedGamesTotals.class));
+                    }
+                    return scan(db, null, new HashMap<>())
+                            .onSuccessTask(scanned -> db.runTransaction(transaction -> finish(db, transaction, scanned)));
+                });
+    }
+
+    private static ApprovedGamesTotals finish(FirebaseFirestore db, Transaction transaction,
+            Map<String, Double> scanned) throws FirebaseFirestoreException {
+        DocumentSnapshot current = transaction.get(ref(db));
+        ApprovedGamesTotals totals = current.toObject(ApprovedGamesTotals.class);
+        if (totals == null || !totals.isSeeding()) {
+            return totals;
+        }
+        ApprovedGamesTotals remainder =
+                ApprovedGamesTotalsDelta.seedRemainder(scanned, totals.getSeedApprovedIds());
+        Map<String, Object> fields = new HashMap<>();
+        fields.put(ApprovedGamesTotals.FIELD_APPROVED_GAMES, FieldValue.increment(remainder.getApprovedGames()));
+        fields.put(ApprovedGamesTotals.FIELD_TOTAL_GST, FieldValue.increment(remainder.getTotalGst()));
+        fields.put(ApprovedGamesTotals.FIELD_SEEDING, false);
+        fields.put(ApprovedGamesTotals.FIELD_SEED_APPROVED_IDS, FieldValue.delete());
+        fields.put(ApprovedGamesTotals.FIELD_UPDATED_AT, Timestamp.now());
+        transaction.update(ref(db), fields);
+        totals.setApprovedGames(totals.getApprovedGames() + remainder.getApprovedGames());
+        totals.setTotalGst(totals.getTotalGst() + remainder.getTotalGst());
+        totals.setSeeding(false);
+        totals.setSeedApprovedIds(null);
+        return totals;
+    }
+
+    /** GST per approved game id, paging by document id. */
+    private static Task<Map<String, Double>> scan(FirebaseFirestore db, DocumentSnapshot after,
+            Map<String, Double> scanned) {
+        Query page = db.collection(FirestoreCollections.APPROVED_GAMES)
+                .orderBy(FieldPath.documentId())
+                .limit(PAGE_SIZE);
+        if (after != null) {
+            page = page.startAfter(after);
+        }
+        return page.get(Source.SERVER).onSuccessTask(snapshot -> {
+            List<DocumentSnapshot> documents = snapshot.getDocuments();
+            for (DocumentSnapshot document : documents) {
+                ApprovedGameData game = new ApprovedGameData();
+                Object gstAmount = document.get("gstAmount");
+                game.setGstAmount(gstAmount != null ? String.valueOf(gstAmount) : "0");
+                scanned.put(document.getId(), game.getGstAmountAsDouble());
+            }
+            if (documents.size() < PAGE_SIZE) {
+                return Tasks.forResult(scanned);
+            }
+            return scan(db, documents.get(documents.size() - 1), scanned);
+        });
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.rummypulse.data;
+
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.Timestamp;
+import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FieldPath;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.Query;
+import com.google.firebase.firestore.WriteBatch;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The indexed {@code approvedMonthKey} on {@code approvedGames_v2}: the single-field query a month
+ * rebuild runs, and the one-time backfill that stamps rows approved before the field existed.
+ */
+public final class ApprovedMonthIndex {
+    public static final String FIELD = "approvedMonthKey";
+    public static final String MIGRATION_ID = "approvedMonthKey";
+    static final int PAGE_SIZE = 400;
+
+    private ApprovedMonthIndex() {}
+
+    /** Every approved game reported under {@code yyyyMm}; served by the automatic field index. */
+    public static Query monthQuery(FirebaseFirestore db, String yyyyMm) {
+        return db.collection(FirestoreCollections.APPROVED_GAMES).whereEqualTo(FIELD, yyyyMm);
+    }
+
+    public static DocumentReference migrationRef(FirebaseFirestore db) {
+        return db.collection(FirestoreCollections.APP_MIGRATIONS).document(MIGRATION_ID);
+    }
+
+    /**
+     * Runs {@link #backfill} unless its completion marker exists, so after the first run this
+     * costs one document read. Resolves to the number of rows stamped by this call.
+     */
+    public static Task<Integer> ensureBackfilled(FirebaseFirestore db) {
+        return migrationRef(db).get().onSuccessTask(marker -> marker.exists()
+                ? Tasks.forResult(0)
+                : backfill(db));
+    }
+
+    /**
+     * Stamps {@link #FIELD} on every row that lacks it, from {@code approvedAt} or
+     * {@code creationDateTime} as {@link ReportAggregator#derivedYearMonthKey} reads them. Pages by
+     * document id, holding one page in memory, and writes the completion marker last so an
+     * interrupted run starts over; already stamped rows are skipped without a write. Rows whose
+     * month cannot be determined stay unstamped, as no month report counts them.
+     */
+    public static Task<Integer> backfill(FirebaseFirestore db) {
+        return backfillPage(db, null, 0).onSuccessTask(stamped -> {
+            Map<String, Object> marker = new HashMap<>();
+            marker.put("completedAt", Timestamp.now());
+            marker.put("stamped", stamped);
+            return migrationRef(db).set(marker).continueWith(task -> {
+                if (!task.isSuccessful()) throw task.getException();
+                return stamped;
+            });
+        });
+    }
+
+    private static Task<Integer> backfillPage(FirebaseFirestore db, DocumentSnapshot after,
+            int stampedSoFar) {
+        Query page = db.collection(FirestoreCollections.APPROVED_GAMES)
+                .orderBy(FieldPath.documentId())
+                .limit(PAGE_SIZE);
+        if (after != null) {
+            page = page.startAfter(after);
+        }
+        return page.get().onSuccessTask(snapshot -> {
+            List<DocumentSnapshot> documents = snapshot.getDocuments();
+            WriteBatch batch = db.batch();
+            int stamped = 0;
+            for (DocumentSnapshot document : documents) {
+                if (document.contains(FIELD)) continue;
+                String monthKey = ReportAggregator.derivedYearMonthKey(datesOf(document));
+                if (monthKey == null) continue;
+                batch.update(document.getReference(), FIELD, monthKey);
+                stamped++;
+            }
+            int total = stampedSoFar + stamped;
+            Task<Void> commit = stamped > 0 ? batch.commit() : Tasks.forResult(null);
+            if (documents.size() < PAGE_SIZE) {
+                return commit.continueWith(task -> {
+                    if (!task.isSuccessful()) throw task.getException();
+                    return total;
+                });
+            }
+            DocumentSnapshot last = documents.get(documents.size() - 1);
+            return commit.onSuccessTask(unused -> backfillPage(db, last, total));
+        });
+    }
+
+    /** Only the two fields the month is derived from, without mapping the whole row. */
+    static ApprovedGameData datesOf(DocumentSnapshot document) {
+        ApprovedGameData dates = new ApprovedGameData();
+        dates.setApprovedAt(document.getTimestamp("approvedAt"));
+        dates.setCreationDateTime(document.getString("creationDateTime"));
+        return dates;
+    }
+}
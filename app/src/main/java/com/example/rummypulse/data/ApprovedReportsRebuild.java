@@ -0,0 +1,215 @@
+package com.example.rummypulse.data;
+
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.Timestamp;
+import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FieldPath;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.Query;
+import com.google.firebase.firestore.QuerySnapshot;
+import com.google.firebase.firestore.Source;
+import com.google.firebase.firestore.WriteBatch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rebuilds every {@code approvedGamesReport_v2} month in one streaming pass over
+ * {@code approvedGames_v2}. Pages are read by document id and folded into an
+ * {@link ApprovedGamesReportAccumulator}, so only the current page and the month totals are in
+ * memory. Each page commits one batch that stamps missing {@link ApprovedMonthIndex#FIELD} values
+ * and saves a checkpoint (cursor plus totals); the next page is already loading while it commits.
+ * An interrupted rebuild resumes from the last committed checkpoint unless it is older than
+ * {@link #MAX_CHECKPOINT_AGE_MS}, in which case it starts over.
+ *
+ * <p>Approvals keep incrementing month documents while the scan runs, and the scan may have read
+ * a game before or after its approval. While a checkpoint exists, approvals flag the months they
+ * touch with {@link #FIELD_APPROVED_DURING_REBUILD}. At the end each month is written in its own
+ * transaction: unflagged months get the scanned totals, flagged ones are recounted from
+ * {@link ApprovedMonthIndex#monthQuery}. An approval landing between that recount and its write is
+ * still lost; rebuilding that month again repairs it. {@link ApprovedGamesTotals} is not touched,
+ * since approvals and its own seed keep it exact.
+ */
+public final class ApprovedReportsRebuild {
+    public static final String CHECKPOINT_ID = "approvedReportsRebuild";
+    public static final String FIELD_APPROVED_DURING_REBUILD = "approvedDuringRebuild";
+    static final int PAGE_SIZE = 400;
+    /** A checkpoint started longer ago than this is discarded rather than resumed. */
+    static final long MAX_CHECKPOINT_AGE_MS = TimeUnit.HOURS.toMillis(6);
+
+    private ApprovedReportsRebuild() {}
+
+    public static DocumentReference checkpointRef(FirebaseFirestore db) {
+        return db.collection(FirestoreCollections.APP_MIGRATIONS).document(CHECKPOINT_ID);
+    }
+
+    /** Runs or resumes the rebuild. Resolves to the number of month documents written. */
+    public static Task<Integer> run(FirebaseFirestore db) {
+        return checkpointRef(db).get(Source.SERVER).onSuccessTask(checkpoint -> {
+            Timestamp startedAt = checkpoint.getTimestamp("startedAt");
+            if (!isResumable(startedAt, System.currentTimeMillis())) {
+                Map<String, Object> fresh = new HashMap<>();
+                fresh.put("startedAt", Timestamp.now());
+                fresh.put("updatedAt", Timestamp.now());
+                return checkpointRef(db).set(fresh).onSuccessTask(unused ->
+                        page(db, fresh, new ApprovedGamesReportAccumulator(), null, Tasks.forResult(null)));
+            }
+            Map<String, Object> header = new HashMap<>();
+            header.put("startedAt", startedAt);
+            return page(db, header,
+                    ApprovedGamesReportAccumulator.fromCheckpoint(monthsOf(checkpoint)),
+                    checkpoint.getString("cursor"), Tasks.forResult(null));
+        });
+    }
+
+    /** Whether a checkpoint begun at {@code startedAt} may be resumed at {@code nowMillis}. */
+    static boolean isResumable(Timestamp startedAt, long nowMillis) {
+        if (startedAt == null) return false;
+        long age = nowMillis - startedAt.toDate().getTime();
+        return age >= 0 && age <= MAX_CHECKPOINT_AGE_MS;
+    }
+
+    /**
+     * Starts loading the page after {@code cursor}, then folds it once {@code previousCommit}
+     * has landed, so checkpoints are always written in page order.
+     */
+    private static Task<Integer> page(FirebaseFirestore db, Map<String, Object> header,
+            ApprovedGamesReportAccumulator totals, String cursor, Task<Void> previousCommit) {
+        Query query = db.collection(FirestoreCollections.APPROVED_GAMES)
+                .orderBy(FieldPath.documentId())
+                .limit(PAGE_SIZE);
+        if (cursor != null) {
+            query = query.startAfter(cursor);
+        }
+        Task<QuerySnapshot> load = query.get(Source.SERVER);
+        return previousCommit
+                .continueWithTask(committed -> {
+                    if (!committed.isSuccessful()) throw committed.getException();
+                    return load;
+                })
+                .onSuccessTask(snapshot -> {
+                    List<DocumentSnapshot> documents = snapshot.getDocuments();
+                    if (documents.isEmpty()) {
+                        return finish(db, totals);
+                    }
+                    WriteBatch batch = db.batch();
+                    for (DocumentSnapshot document : documents) {
+                        ApprovedGameData game = reportFieldsOf(document);
+                        if (!totals.fold(game)) continue;
+                        if (!document.contains(ApprovedMonthIndex.FIELD)) {
+                            batch.update(document.getReference(), ApprovedMonthIndex.FIELD,
+                                    ReportAggregator.yearMonthKey(game));
+                        }
+                    }
+                    String last = documents.get(documents.size() - 1).getId();
+                    Map<String, Object> checkpoint = new HashMap<>(header);
+                    checkpoint.put("cursor", last);
+                    checkpoint.put("months", totals.toCheckpoint());
+                    checkpoint.put("updatedAt", Timestamp.now());
+                    batch.set(checkpointRef(db), checkpoint);
+                    Task<Void> commit = batch.commit();
+                    if (documents.size() < PAGE_SIZE) {
+                        return commit.onSuccessTask(unused -> finish(db, totals));
+                    }
+                    return page(db, header, totals, last, commit);
+                });
+    }
+
+    /**
+     * Writes every scanned month, then recounts the months approvals flagged, then commits the
+     * month key backfill marker (every readable row was just stamped) and deletes the checkpoint.
+     */
+    private static Task<Integer> finish(FirebaseFirestore db, ApprovedGamesReportAccumulator totals) {
+        Timestamp builtAt = Timestamp.now();
+        Set<String> flagged = new TreeSet<>();
+        return writeScanned(db, totals, new ArrayList<>(totals.monthKeys()), 0, builtAt, flagged)
+                .onSuccessTask(unused -> db.collection(FirestoreCollections.APPROVED_GAMES_REPORT)
+                        .whereEqualTo(FIELD_APPROVED_DURING_REBUILD, true)
+                        .get(Source.SERVER))
+                .onSuccessTask(snapshot -> {
+                    for (DocumentSnapshot month : snapshot.getDocuments()) {
+                        flagged.add(month.getId());
+                    }
+                    return recount(db, new ArrayList<>(flagged), 0, builtAt);
+                })
+                .onSuccessTask(unused -> {
+                    Map<String, Object> marker = new HashMap<>();
+                    marker.put("completedAt", builtAt);
+                    marker.put("source", CHECKPOINT_ID);
+                    WriteBatch batch = db.batch();
+                    batch.set(ApprovedMonthIndex.migrationRef(db), marker);
+                    batch.delete(checkpointRef(db));
+                    return batch.commit();
+                })
+                .continueWith(task -> {
+                    if (!task.isSuccessful()) throw task.getException();
+                    return totals.monthKeys().size();
+                });
+    }
+
+    /**
+     * Sets each scanned month in a transaction that first checks the approval flag; flagged months
+     * are left for {@link #recount}.
+     */
+    private static Task<Void> writeScanned(FirebaseFirestore db, ApprovedGamesReportAccumulator totals,
+            List<String> monthKeys, int index, Timestamp builtAt, Set<String> flagged) {
+        if (index >= monthKeys.size()) return Tasks.forResult(null);
+        String monthKey = monthKeys.get(index);
+        DocumentReference month = db.collection(FirestoreCollections.APPROVED_GAMES_REPORT).document(monthKey);
+        return db.runTransaction(transaction -> {
+                    DocumentSnapshot current = transaction.get(month);
+                    if (Boolean.TRUE.equals(current.getBoolean(FIELD_APPROVED_DURING_REBUILD))) {
+                        return false;
+                    }
+                    transaction.set(month, totals.toReportMonth(monthKey, builtAt));
+                    return true;
+                })
+                .onSuccessTask(written -> {
+                    if (!written) flagged.add(monthKey);
+                    return writeScanned(db, totals, monthKeys, index + 1, builtAt, flagged);
+                });
+    }
+
+    /** Recounts each flagged month from its games and sets it, which also clears the flag. */
+    private static Task<Void> recount(FirebaseFirestore db, List<String> monthKeys, int index,
+            Timestamp builtAt) {
+        if (index >= monthKeys.size()) return Tasks.forResult(null);
+        String monthKey = monthKeys.get(index);
+        return ApprovedMonthIndex.monthQuery(db, monthKey).get(Source.SERVER)
+                .onSuccessTask(snapshot -> {
+                    ApprovedGamesReportAccumulator month = new ApprovedGamesReportAccumulator();
+                    for (DocumentSnapshot document : snapshot.getDocuments()) {
+                        month.fold(reportFieldsOf(document));
+                    }
+                    return db.collection(FirestoreCollections.APPROVED_GAMES_REPORT).document(monthKey)
+                            .set(month.toReportMonth(monthKey, builtAt));
+                })
+                .onSuccessTask(unused -> recount(db, monthKeys, index + 1, builtAt));
+    }
+
+    /** The fields a report needs, read individually instead of mapping the whole row. */
+    private static ApprovedGameData reportFieldsOf(DocumentSnapshot document) {
+        ApprovedGameData game = ApprovedMonthIndex.datesOf(document);
+        game.setApprovedMonthKey(document.getString(ApprovedMonthIndex.FIELD));
+        Double pointValue = document.getDouble("pointValue");
+        game.setPointValue(pointValue != null ? pointValue : 0.0);
+        Long numPlayers = document.getLong("numPlayers");
+        game.setNumPlayers(numPlayers != null ? numPlayers.intValue() : 0);
+        Object gstAmount = document.get("gstAmount");
+        game.setGstAmount(gstAmount != null ? String.valueOf(gstAmount) : "0");
+        return game;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> monthsOf(DocumentSnapshot checkpoint) {
+        Object months = checkpoint.get("months");
+        return months instanceof Map ? (Map<String, Object>) months : null;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.rummypulse.data;
+
+import androidx.annotation.NonNull;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Folds bursts of publish requests into one snapshot per window. The first request in a window
+ * schedules a flush; later requests in the same window only mark the state dirty and are counted
+ * as coalesced. The snapshot is built once, at flush time, from the latest state.
+ */
+public final class CoalescingPublisher<T> {
+    /** One frame at 60 Hz. */
+    public static final long DEFAULT_WINDOW_MS = 16L;
+
+    private final Object lock = new Object();
+    private final Scheduler scheduler;
+    private final Supplier<T> snapshotBuilder;
+    private final Consumer<T> sink;
+    private long windowMs;
+    private boolean scheduled;
+    private boolean dirty;
+    private long requestedCount;
+    private long coalescedCount;
+    private long publishedCount;
+
+    public CoalescingPublisher(
+            @NonNull Scheduler scheduler,
+            long windowMs,
+            @NonNull Supplier<T> snapshotBuilder,
+            @NonNull Consumer<T> sink) {
+        this.scheduler = scheduler;
+        this.windowMs = Math.max(0L, windowMs);
+        this.snapshotBuilder = snapshotBuilder;
+        this.sink = sink;
+    }
+
+    public void setWindowMs(long windowMs) {
+        synchronized (lock) {
+            this.windowMs = Math.max(0L, windowMs);
+        }
+    }
+
+    /** Marks the state changed; publishes at the end of the current window. */
+    public void requestPublish() {
+        long delayMs;
+        synchronized (lock) {
+            requestedCount++;
+            dirty = true;
+            if (scheduled) {
+                coalescedCount++;
+                return;
+            }
+            scheduled = true;
+            delayMs = windowMs;
+        }
+        scheduler.schedule(this::onWindowElapsed, delayMs);
+    }
+
+    /** Publishes pending changes immediately, e.g. before leaving a screen. */
+    public void publishNow() {
+        synchronized (lock) {
+            dirty = true;
+        }
+        flush();
+    }
+
+    public long getRequestedCount() {
+        synchronized (lock) {
+            return requestedCount;
+        }
+    }
+
+    /** Requests folded into an already scheduled publication. */
+    public long getCoalescedCount() {
+        synchronized (lock) {
+            return coalescedCount;
+        }
+    }
+
+    public long getPublishedCount() {
+        synchronized (lock) {
+            return publishedCount;
+        }
+    }
+
+    private void onWindowElapsed() {
+        synchronized (lock) {
+            scheduled = false;
+        }
+        flush();
+    }
+
+    private void flush() {
+        synchronized (lock) {
+            if (!dirty) {
+                return;
+            }
+            dirty = false;
+            publishedCount++;
+        }
+        sink.accept(snapshotBuilder.get());
+    }
+
+    public interface Scheduler {
+        void schedule(@NonNull Runnable task, long delayMs);
+    }
+}
@@ -0,0 +1,382 @@
+package com.example.rummypulse.data;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FieldPath;
+import com.google.firebase.firestore.FirebaseFirestore;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Process-wide cache of {@code appUser_v2} display names and photos keyed by uid. Entries are
+ * evicted least-recently-used and refreshed after a TTL. Concurrent lookups for one uid share a
+ * single load, and misses raised within a short window are fetched together with
+ * {@code whereIn(documentId)} queries of up to 30 ids instead of one document read per game row.
+ */
+public final class CreatorProfileCache {
+    private static final String TAG = "CreatorProfileCache";
+    /** Firestore limit for {@code whereIn} disjunctions. */
+    public static final int MAX_BATCH_SIZE = 30;
+    static final int DEFAULT_CAPACITY = 256;
+    /** Profiles change rarely; keep them for the length of a typical session. */
+    static final long DEFAULT_TTL_MS = 30L * 60L * 1000L;
+    /** Misses raised by one dashboard snapshot land in the same query. */
+    static final long BATCH_WINDOW_MS = 50L;
+
+    private static volatile CreatorProfileCache instance;
+
+    private final Object lock = new Object();
+    private final Loader loader;
+    private final Scheduler scheduler;
+    private final LongSupplier clock;
+    private final long ttlMs;
+    private final LinkedHashMap<String, Entry> entries;
+    private final Map<String, List<ProfileCallback>> inFlight = new HashMap<>();
+    private final List<String> pending = new ArrayList<>();
+    private boolean flushScheduled;
+    private long hitCount;
+    private long missCount;
+    private long queryCount;
+    private long documentReadCount;
+
+    public static CreatorProfileCache getInstance() {
+        if (instance == null) {
+            synchronized (CreatorProfileCache.class) {
+                if (instance == null) {
+                    Handler mainHandler = new Handler(Looper.getMainLooper());
+                    instance = new CreatorProfileCache(
+                            new FirestoreLoader(FirebaseFirestore.getInstance()),
+                            mainHandler::postDelayed,
+                            System::currentTimeMillis,
+                            DEFAULT_CAPACITY,
+                            DEFAULT_TTL_MS);
+                }
+            }
+        }
+        return instance;
+    }
+
+    CreatorProfileCache(
+            @NonNull Loader loader,
+            @NonNull Scheduler scheduler,
+            @NonNull LongSupplier clock,
+            int capacity,
+            long ttlMs) {
+        this.loader = loader;
+        this.scheduler = scheduler;
+        this.clock = clock;
+        this.ttlMs = ttlMs;
+        int maxEntries = Math.max(1, capacity);
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached profile for immediate rendering. A fresh entry counts as a hit. Otherwise
+     * a load is queued and {@code onLoaded} runs when it completes; the stale entry, if any, is
+     * still returned so the row does not flicker back to a placeholder.
+     */
+    @Nullable
+    public Profile resolve(@Nullable String userId, @Nullable ProfileCallback onLoaded) {
+        if (userId == null || userId.isEmpty()) {
+            return null;
+        }
+        Profile stale;
+        boolean schedule;
+        synchronized (lock) {
+            Entry entry = entries.get(userId);
+            if (entry != null && isFresh(entry)) {
+                hitCount++;
+                return entry.profile;
+            }
+            missCount++;
+            stale = entry != null ? entry.profile : null;
+            schedule = enqueueLocked(userId, onLoaded);
+        }
+        if (schedule) {
+            scheduler.schedule(this::flush, BATCH_WINDOW_MS);
+        }
+        return stale;
+    }
+
+    /** Delivers the profile, immediately on a fresh hit or after the shared load otherwise. */
+    public void get(@Nullable String userId, @NonNull ProfileCallback callback) {
+        if (userId == null || userId.isEmpty()) {
+            callback.onProfile(null);
+            return;
+        }
+        Profile hit = null;
+        boolean schedule = false;
+        synchronized (lock) {
+            Entry entry = entries.get(userId);
+            if (entry != null && isFresh(entry)) {
+                hitCount++;
+                hit = entry.profile;
+            } else {
+                missCount++;
+                schedule = enqueueLocked(userId, callback);
+            }
+        }
+        if (hit != null) {
+            callback.onProfile(hit);
+        } else if (schedule) {
+            scheduler.schedule(this::flush, BATCH_WINDOW_MS);
+        }
+    }
+
+    /** Queues loads for every uid that is neither fresh nor already loading. */
+    public void prefetch(@Nullable Collection<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return;
+        }
+        boolean schedule = false;
+        synchronized (lock) {
+            for (String userId : userIds) {
+                if (userId == null || userId.isEmpty()) {
+                    continue;
+                }
+                Entry entry = entries.get(userId);
+                if (entry != null && isFresh(entry)) {
+                    continue;
+                }
+                schedule |= enqueueLocked(userId, null);
+            }
+        }
+        if (schedule) {
+            scheduler.schedule(this::flush, BATCH_WINDOW_MS);
+        }
+    }
+
+    /** Seeds profiles already read elsewhere, such as the cached user directory. */
+    public void putAll(@Nullable Collection<AppUser> users) {
+        if (users == null) {
+            return;
+        }
+        long now = clock.getAsLong();
+        synchronized (lock) {
+            for (AppUser user : users) {
+                if (user == null || user.getUserId() == null || user.getUserId().isEmpty()) {
+                    continue;
+                }
+                entries.put(user.getUserId(), new Entry(
+                        new Profile(user.getUserId(), user.getDisplayName(), user.getPhotoUrl()),
+                        now));
+            }
+        }
+    }
+
+    public void invalidate(@Nullable String userId) {
+        if (userId == null) {
+            return;
+        }
+        synchronized (lock) {
+            entries.remove(userId);
+        }
+    }
+
+    public long getHitCount() {
+        synchronized (lock) {
+            return hitCount;
+        }
+    }
+
+    public long getMissCount() {
+        synchronized (lock) {
+            return missCount;
+        }
+    }
+
+    /** Number of batched {@code appUser_v2} queries issued. */
+    public long getQueryCount() {
+        synchronized (lock) {
+            return queryCount;
+        }
+    }
+
+    public long getDocumentReadCount() {
+        synchronized (lock) {
+            return documentReadCount;
+        }
+    }
+
+    /** Returns true when a flush must be scheduled for the newly pending uid. */
+    private boolean enqueueLocked(@NonNull String userId, @Nullable ProfileCallback callback) {
+        List<ProfileCallback> waiting = inFlight.get(userId);
+        if (waiting == null) {
+            waiting = new ArrayList<>();
+            inFlight.put(userId, waiting);
+            pending.add(userId);
+        }
+        if (callback != null) {
+            waiting.add(callback);
+        }
+        if (flushScheduled || pending.isEmpty()) {
+            return false;
+        }
+        flushScheduled = true;
+        return true;
+    }
+
+    /** Sends every pending uid in chunks of at most {@link #MAX_BATCH_SIZE}. */
+    void flush() {
+        List<List<String>> batches = new ArrayList<>();
+        synchronized (lock) {
+            flushScheduled = false;
+            for (int start = 0; start < pending.size(); start += MAX_BATCH_SIZE) {
+                batches.add(new ArrayList<>(pending.subList(
+                        start, Math.min(start + MAX_BATCH_SIZE, pending.size()))));
+            }
+            pending.clear();
+            queryCount += batches.size();
+        }
+        for (List<String> batch : batches) {
+            loader.load(batch, new LoadCallback() {
+                @Override
+                public void onLoaded(@NonNull Map<String, Profile> profiles) {
+                    completeBatch(batch, profiles);
+                }
+
+                @Override
+                public void onFailure(@NonNull Exception exception) {
+                    completeBatch(batch, null);
+                }
+            });
+        }
+    }
+
+    private void completeBatch(
+            @NonNull List<String> batch,
+            @Nullable Map<String, Profile> profiles) {
+        Map<String, List<ProfileCallback>> callbacks = new HashMap<>();
+        Map<String, Profile> results = new HashMap<>();
+        long now = clock.getAsLong();
+        synchronized (lock) {
+            if (profiles != null) {
+                documentReadCount += profiles.size();
+            }
+            for (String userId : batch) {
+                Profile profile;
+                if (profiles != null) {
+                    // Missing users are cached as empty profiles so deleted creators are not refetched.
+                    profile = profiles.get(userId);
+                    if (profile == null) {
+                        profile = new Profile(userId, null, null);
+                    }
+                    entries.put(userId, new Entry(profile, now));
+                } else {
+                    Entry stale = entries.get(userId);
+                    profile = stale != null ? stale.profile : null;
+                }
+                results.put(userId, profile);
+                List<ProfileCallback> waiting = inFlight.remove(userId);
+                if (waiting != null && !waiting.isEmpty()) {
+                    callbacks.put(userId, waiting);
+                }
+            }
+        }
+        for (Map.Entry<String, List<ProfileCallback>> entry : callbacks.entrySet()) {
+            Profile profile = results.get(entry.getKey());
+            for (ProfileCallback callback : entry.getValue()) {
+                callback.onProfile(profile);
+            }
+        }
+    }
+
+    private boolean isFresh(@NonNull Entry entry) {
+        return clock.getAsLong() - entry.loadedAtMs < ttlMs;
+    }
+
+    /** Creator identity shown on dashboard cards and game screens. */
+    public static final class Profile {
+        @NonNull public final String userId;
+        @Nullable public final String displayName;
+        @Nullable public final String photoUrl;
+
+        public Profile(@NonNull String userId, @Nullable String displayName, @Nullable String photoUrl) {
+            this.userId = userId;
+            this.displayName = displayName;
+            this.photoUrl = photoUrl;
+        }
+
+        public boolean hasPhoto() {
+            return photoUrl != null && !photoUrl.isEmpty();
+        }
+    }
+
+    public interface ProfileCallback {
+        /** Receives null when the profile could not be loaded and nothing was cached. */
+        void onProfile(@Nullable Profile profile);
+    }
+
+    interface Loader {
+        void load(@NonNull List<String> userIds, @NonNull LoadCallback callback);
+    }
+
+    interface LoadCallback {
+        void onLoaded(@NonNull Map<String, Profile> profiles);
+
+        void onFailure(@NonNull Exception exception);
+    }
+
+    interface Scheduler {
+        void schedule(@NonNull Runnable task, long delayMs);
+    }
+
+    private static final class Entry {
+        final Profile profile;
+        final long loadedAtMs;
+
+        Entry(Profile profile, long loadedAtMs) {
+            this.profile = profile;
+            this.loadedAtMs = loadedAtMs;
+        }
+    }
+
+    private static final class FirestoreLoader implements Loader {
+        private final FirebaseFirestore db;
+
+        FirestoreLoader(FirebaseFirestore db) {
+            this.db = db;
+        }
+
+        @Override
+        public void load(@NonNull List<String> userIds, @NonNull LoadCallback callback) {
+            db.collection(FirestoreCollections.APP_USER)
+                    .whereIn(FieldPath.documentId(), userIds)
+                    .get()
+                    .addOnSuccessListener(snapshot -> {
+                        Map<String, Profile> profiles = new HashMap<>();
+                        for (DocumentSnapshot document : snapshot.getDocuments()) {
+                            profiles.put(document.getId(), new Profile(
+                                    document.getId(),
+                                    document.getString("displayName"),
+                                    document.getString("photoUrl")));
+                        }
+                        Log.d(TAG, "Loaded creator profiles: reads=" + profiles.size()
+                                + " requested=" + userIds.size());
+                        callback.onLoaded(profiles);
+                    })
+                    .addOnFailureListener(exception -> {
+                        Log.w(TAG, "Creator profile batch failed for "
+                                + userIds.size() + " users", exception);
+                        callback.onFailure(exception);
+                    });
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.rummypulse.data;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.rummypulse.ui.home.GameItem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Merges the dashboard list persisted at the end of the last session with live rows by
+ * {@code gameId}. Until the games query has delivered, cached rows fill the list and live rows
+ * overlay them. Afterwards the live list decides membership, and a cached row survives only while
+ * its server version is newer than the live one. Once no cached row is in use the snapshot is
+ * revalidated and can be dropped.
+ */
+public final class DashboardSnapshotReconciler {
+    private final LinkedHashMap<String, CachedRow> cached = new LinkedHashMap<>();
+
+    public DashboardSnapshotReconciler(@Nullable List<CachedRow> rows) {
+        if (rows != null) {
+            for (CachedRow row : rows) {
+                if (row != null && row.item.getGameId() != null) {
+                    cached.put(row.item.getGameId(), row);
+                }
+            }
+        }
+    }
+
+    /** The persisted list in its saved order. */
+    @NonNull
+    public List<GameItem> cachedItems() {
+        List<GameItem> items = new ArrayList<>(cached.size());
+        for (CachedRow row : cached.values()) {
+            items.add(row.item);
+        }
+        return items;
+    }
+
+    /**
+     * Returns the list to render. {@code liveDelivered} is true once the live games query has
+     * produced a snapshot; before that the live list may be incomplete.
+     */
+    @NonNull
+    public List<GameItem> reconcile(
+            @Nullable List<GameItem> live,
+            boolean liveDelivered,
+            @NonNull VersionLookup versions) {
+        List<GameItem> liveItems = live != null ? live : Collections.<GameItem>emptyList();
+        Map<String, GameItem> liveById = new HashMap<>();
+        for (GameItem item : liveItems) {
+            if (item != null && item.getGameId() != null) {
+                liveById.put(item.getGameId(), item);
+            }
+        }
+        if (!liveDelivered) {
+            // New games are listed first, matching the createdAt-descending live order.
+            List<GameItem> merged = new ArrayList<>();
+            for (GameItem item : liveItems) {
+                if (item != null && !cached.containsKey(item.getGameId())) {
+                    merged.add(item);
+                }
+            }
+            for (CachedRow row : cached.values()) {
+                GameItem item = liveById.get(row.item.getGameId());
+                merged.add(item != null && !isCachedNewer(row, versions) ? item : row.item);
+            }
+            return merged;
+        }
+
+        List<GameItem> merged = new ArrayList<>(liveItems.size());
+        Set<String> stillCached = new HashSet<>();
+        for (GameItem item : liveItems) {
+            if (item == null) {
+                continue;
+            }
+            CachedRow row = cached.get(item.getGameId());
+            if (row != null && isCachedNewer(row, versions)) {
+                merged.add(row.item);
+                stillCached.add(item.getGameId());
+            } else {
+                merged.add(item);
+            }
+        }
+        Iterator<String> iterator = cached.keySet().iterator();
+        while (iterator.hasNext()) {
+            if (!stillCached.contains(iterator.next())) {
+                iterator.remove();
+            }
+        }
+        return merged;
+    }
+
+    /** True once every cached row has been replaced or dropped by live data. */
+    public boolean isRevalidated() {
+        return cached.isEmpty();
+    }
+
+    private static boolean isCachedNewer(@NonNull CachedRow row, @NonNull VersionLookup versions) {
+        long liveVersion = versions.versionMs(row.item.getGameId());
+        // Summary-only cards carry no version; the live row is the better guess.
+        return liveVersion > 0L && row.serverVersionMs > liveVersion;
+    }
+
+    public interface VersionLookup {
+        /** Server version of the live row in millis, or 0 when unknown. */
+        long versionMs(@NonNull String gameId);
+    }
+
+    public static final class CachedRow {
+        @NonNull public final GameItem item;
+        public final long serverVersionMs;
+
+        public CachedRow(@NonNull GameItem item, long serverVersionMs) {
+            this.item = item;
+            this.serverVersionMs = serverVersionMs;
+        }
+    }
+}
@@ -10,9 +10,11 @@ public final class FirestoreCollections {
     public static final String GAME_DATA = "gameData_v2";
     public static final String APPROVED_GAMES = "approvedGames_v2";
     public static final String APPROVED_GAMES_REPORT = "approvedGamesReport_v2";
+    public static final String APPROVED_GAMES_TOTALS = "approvedGamesTotals_v2";
     public static final String GAME_DEFAULTS = "gameDefaults_v2";
     public static final String GAME_VIEW_APPROVALS = "gameViewApprovals_v2";
     public static final String GAME_SCORE_HISTORY = "gameScoreHistory_v2";
+    public static final String APP_MIGRATIONS = "appMigrations_v2";
 
     private FirestoreCollections() {
     }
@@ -21,6 +21,11 @@ public class GameData {
     private Integer midGameJoinActiveRound;
     /** Cached backfill score for players joining mid-game during {@link #midGameJoinActiveRound}. */
     private Integer midGameJoinBackfillScore;
+    /** Derived from the players' score lists; never stored or serialized. */
+    private transient ScoreMatrix scoreMatrix;
+    /** Local counter bumped whenever an input of the derived aggregates changes. */
+    private transient int revision;
+    private transient Aggregates aggregates;
 
     public GameData() {
         // Default constructor required for Firestore
@@ -51,6 +56,7 @@ public class GameData {
 
     public void setNumPlayers(int numPlayers) {
         this.numPlayers = numPlayers;
+        revision++;
     }
 
     public double getPointValue() {
@@ -59,6 +65,7 @@ public class GameData {
 
     public void setPointValue(double pointValue) {
         this.pointValue = pointValue;
+        revision++;
     }
 
     public double getGstPercent() {
@@ -67,6 +74,7 @@ public class GameData {
 
     public void setGstPercent(double gstPercent) {
         this.gstPercent = gstPercent;
+        revision++;
     }
 
     public List<Player> getPlayers() {
@@ -93,6 +101,7 @@ public class GameData {
 
     public void setPlayers(List<Player> players) {
         this.players = players;
+        invalidateScoreMatrix();
         if (players != null) {
             Map<String, Player> indexed = new LinkedHashMap<>();
             List<String> order = new ArrayList<>(players.size());
@@ -120,6 +129,7 @@ public class GameData {
     public void setPlayersById(Map<String, Player> playersById) {
         this.playersById = playersById;
         this.players = null;
+        invalidateScoreMatrix();
     }
 
     public List<String> getPlayerOrder() {
@@ -129,6 +139,7 @@ public class GameData {
     public void setPlayerOrder(List<String> playerOrder) {
         this.playerOrder = playerOrder;
         this.players = null;
+        invalidateScoreMatrix();
     }
 
     public Timestamp getLastUpdated() {
@@ -172,108 +183,96 @@ public class GameData {
         this.midGameJoinBackfillScore = midGameJoinBackfillScore;
     }
 
-    // Helper methods
-    public int getTotalScore() {
+    /**
+     * Packed scores of {@link #getPlayers()}, rebuilt when a player or score list is replaced.
+     * Not a bean getter, so Firestore does not map it.
+     */
+    public ScoreMatrix scoreMatrix() {
         List<Player> currentPlayers = getPlayers();
-        if (currentPlayers == null || currentPlayers.isEmpty()) return 0;
-        
-        // Calculate total score as sum of all individual player scores
-        // This represents the total points scored across all players in all rounds
-        // Note: -1 values are treated as 0 (not counted in total)
-        int totalScore = 0;
-        for (Player player : currentPlayers) {
-            if (player.getScores() != null) {
-                for (Integer score : player.getScores()) {
-                    if (score != null && score > 0) { // Only count positive scores, -1 treated as 0
-                        totalScore += score;
-                    }
-                }
-            }
+        ScoreMatrix current = scoreMatrix;
+        if (current == null || !current.isBuiltFrom(currentPlayers)) {
+            current = ScoreMatrix.of(currentPlayers);
+            scoreMatrix = current;
+            revision++;
         }
-        return totalScore;
+        return current;
+    }
+
+    /** Must follow in-place {@code set} calls on a player's score list. */
+    public void invalidateScoreMatrix() {
+        scoreMatrix = null;
+        revision++;
+    }
+
+    /**
+     * Changes whenever the players, their scores, the player count, point value or GST percent
+     * change on this instance. Unrelated to the stored {@link #getVersion()} string.
+     */
+    public int revision() {
+        scoreMatrix();
+        return revision;
+    }
+
+    // Helper methods
+    public int getTotalScore() {
+        // Sum of all individual player scores across all rounds; -1 values are not counted.
+        return scoreMatrix().totalScore();
     }
 
     public double getGstAmount() {
-        List<Player> currentPlayers = getPlayers();
-        if (currentPlayers == null || currentPlayers.isEmpty()) return 0.0;
-        
-        // Calculate total of all scores
-        int totalAllScores = getTotalScore();
-        
-        // Calculate GST only for winning players (those with positive gross amounts)
-        double totalGstCollected = 0.0;
-        
-        for (Player player : currentPlayers) {
-            int playerScore = player.getTotalScore();
-            // Formula: (Total of all scores - Player's score × Number of players) × Point value
-            double grossAmount = (totalAllScores - playerScore * numPlayers) * pointValue;
-            
-            // GST is only paid by winners (those with positive gross amount)
-            if (grossAmount > 0) {
-                double gstPaid = (grossAmount * gstPercent) / 100.0;
-                totalGstCollected += gstPaid;
-            }
-        }
-        
-        return totalGstCollected;
+        return aggregates().standings.totalGst();
+    }
+
+    /**
+     * Totals, ranks and settlement amounts for every player, computed once per {@link #revision()}
+     * and shared by every caller. Not a bean getter, so Firestore does not map it.
+     */
+    public StandingsEngine.Result standings() {
+        return aggregates().standings;
     }
 
     public String getGameStatus() {
         // Use stored status only for administrative statuses (like "Approved")
         if (gameStatus != null && ("Approved".equals(gameStatus) || "Rejected".equals(gameStatus))) {
-            System.out.println("Using administrative gameStatus: " + gameStatus);
             return gameStatus;
         }
-        
         // For game progress, always calculate dynamically from player data
-        List<Player> currentPlayers = getPlayers();
-        if (currentPlayers == null || currentPlayers.isEmpty()) {
-            System.out.println("No players, returning Not Started");
-            return "Not Started";
+        return aggregates().progressStatus;
+    }
+
+    private Aggregates aggregates() {
+        int current = revision();
+        Aggregates cached = aggregates;
+        if (cached == null || cached.revision != current) {
+            cached = new Aggregates(current, scoreMatrix(), getPlayers(), numPlayers, pointValue,
+                    gstPercent);
+            aggregates = cached;
         }
-        
-        // Calculate current round based on completed entries (similar to web app logic)
-        String calculatedStatus = calculateCurrentRound();
-        System.out.println("Calculated gameStatus: " + calculatedStatus + " for "
-                + currentPlayers.size() + " players");
-        return calculatedStatus;
-    }
-    
-    private String calculateCurrentRound() {
-        List<Player> currentPlayers = getPlayers();
-        if (currentPlayers == null || currentPlayers.isEmpty()) {
-            return "Not Started";
+        return cached;
+    }
+
+    /** Values derived from one {@link #revision()}; replaced as a whole so readers never mix two. */
+    private static final class Aggregates {
+        final int revision;
+        final StandingsEngine.Result standings;
+        final String progressStatus;
+
+        Aggregates(int revision, ScoreMatrix matrix, List<Player> players, int numPlayers,
+                double pointValue, double gstPercent) {
+            this.revision = revision;
+            this.standings = StandingsEngine.compute(
+                    matrix, players, numPlayers, pointValue, gstPercent);
+            this.progressStatus = currentRound(matrix);
         }
-        
-        int numPlayers = currentPlayers.size();
-        System.out.println("Calculating round for " + numPlayers + " players");
-        
-        // Check rounds 1-10 (exactly like web app logic)
-        for (int round = 1; round <= 10; round++) {
-            int completedPlayers = 0;
-            
-            // Check if all players have entered scores for this round
-            for (Player player : currentPlayers) {
-                if (player.getScores() != null && player.getScores().size() >= round) {
-                    // Check if this player has a valid score for this round (not null, not -1)
-                    Integer score = player.getScores().get(round - 1);
-                    if (score != null && score != -1) {
-                        completedPlayers++;
-                    }
-                }
-            }
-            
-            System.out.println("Round " + round + ": " + completedPlayers + "/" + numPlayers + " players completed");
-            
-            // If not all players completed this round, this is the current round
-            if (completedPlayers < numPlayers) {
-                System.out.println("Returning R" + round);
-                return "R" + round;
+
+        private static String currentRound(ScoreMatrix matrix) {
+            if (matrix.playerCount() == 0) {
+                return "Not Started";
             }
+
+            // The current round is the first one some player has not entered (web app logic)
+            int round = matrix.firstUnenteredRound();
+            return round == 0 ? "Completed" : "R" + round;
         }
-        
-        // All rounds completed by all players
-        System.out.println("All rounds completed, returning Completed");
-        return "Completed";
     }
 }
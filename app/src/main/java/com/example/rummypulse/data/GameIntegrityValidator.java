@@ -1,9 +1,7 @@
 package com.example.rummypulse.data;
 
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Set;
 
 /** Authoritative validator for game completion and score holes. */
 public final class GameIntegrityValidator {
@@ -17,39 +15,34 @@ public final class GameIntegrityValidator {
             return new GameIntegrityResult(false, 1, new ArrayList<>(),
                     new ArrayList<>(), allRounds(), false);
         }
-        int firstMissing = 0;
-        Set<Integer> missingRounds = new LinkedHashSet<>();
-        for (int round = 1; round <= ROUND_COUNT; round++) {
-            for (Player player : players) {
-                if (!hasValidScore(player, round)) {
-                    missingRounds.add(round);
-                    if (firstMissing == 0) firstMissing = round;
-                }
-            }
-        }
+        // Packed fresh: callers may validate lists they have just edited in place.
+        ScoreMatrix matrix = ScoreMatrix.of(players);
+        int firstMissing = matrix.firstInvalidRound();
         if (firstMissing == 0) {
             return new GameIntegrityResult(true, 0, new ArrayList<>(),
                     new ArrayList<>(), new ArrayList<>(), false);
         }
+        List<Integer> missingRounds = new ArrayList<>();
+        for (int round = firstMissing; round <= ROUND_COUNT; round++) {
+            if (!matrix.isRoundValid(round)) {
+                missingRounds.add(round);
+            }
+        }
         List<String> ids = new ArrayList<>();
         List<String> names = new ArrayList<>();
-        for (Player player : players) {
-            if (!hasValidScore(player, firstMissing)) {
+        for (int p = 0; p < matrix.playerCount(); p++) {
+            if (!matrix.hasValidScore(p, firstMissing)) {
+                Player player = players.get(p);
                 ids.add(player == null ? "" : safe(player.getPlayerId()));
                 names.add(player == null ? "Unknown player" : displayName(player));
             }
         }
         boolean laterConflict = false;
         for (int round = firstMissing + 1; round <= ROUND_COUNT && !laterConflict; round++) {
-            for (Player player : players) {
-                if (hasValidScore(player, round)) {
-                    laterConflict = true;
-                    break;
-                }
-            }
+            laterConflict = matrix.isRoundStarted(round);
         }
         return new GameIntegrityResult(false, firstMissing, ids, names,
-                new ArrayList<>(missingRounds), laterConflict);
+                missingRounds, laterConflict);
     }
 
     public static boolean hasValidScore(Player player, int round1Based) {
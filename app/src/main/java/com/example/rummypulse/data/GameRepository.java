@@ -14,8 +14,10 @@ import com.google.firebase.firestore.DocumentReference;
 import com.google.firebase.firestore.FirebaseFirestore;
 import com.google.firebase.firestore.Query;
 import com.google.firebase.firestore.QuerySnapshot;
+import com.google.firebase.firestore.SetOptions;
 import com.google.firebase.firestore.Source;
 import com.google.firebase.firestore.WriteBatch;
+import com.example.rummypulse.data.sync.DashboardSnapshotStore;
 import com.example.rummypulse.ui.home.GameItem;
 
 import java.util.ArrayList;
@@ -27,8 +29,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 public class GameRepository {
@@ -67,6 +67,31 @@ public class GameRepository {
             new HashMap<>();
     /** Invalidates slow auth/photo callbacks when newer game data has already arrived. */
     private final Map<String, Long> dashboardUpdateTokens = new HashMap<>();
+    /** Latest {@code games_v2} documents delivered by the dashboard query, keyed by game id. */
+    private final Map<String, DocumentSnapshot> dashboardAuthSnapshots =
+            new java.util.concurrent.ConcurrentHashMap<>();
+    /** Highest {@code gameData_v2} revision decoded per game; older snapshots are dropped. */
+    private final Map<String, Long> decodedRevisions = new java.util.concurrent.ConcurrentHashMap<>();
+    /**
+     * Latest decode per game; a row finished after a newer decode started is discarded. Sequences
+     * come from one counter so a row from a detached listener never matches a re-attached one.
+     */
+    private final Map<String, Long> decodeSequences = new java.util.concurrent.ConcurrentHashMap<>();
+    private static final java.util.concurrent.atomic.AtomicLong DECODE_SEQUENCE =
+            new java.util.concurrent.atomic.AtomicLong();
+    private final android.os.Handler mainHandler = new android.os.Handler(android.os.Looper.getMainLooper());
+    private final CoalescingPublisher<List<GameItem>> gameItemsPublisher = new CoalescingPublisher<>(
+            mainHandler::postDelayed,
+            CoalescingPublisher.DEFAULT_WINDOW_MS,
+            this::buildGameItemsSnapshot,
+            this::publishGameItems);
+    /** Latest accepted {@code gameData_v2} body per game, re-joined when its games_v2 doc changes. */
+    private final Map<String, DashboardGameDataEntry> dashboardGameData = new HashMap<>();
+    private final CreatorProfileCache creatorProfiles = CreatorProfileCache.getInstance();
+    /** Persists published dashboard lists; null for repositories that do not back the dashboard. */
+    @Nullable private DashboardSnapshotStore dashboardSnapshotStore;
+    /** True once the realtime games query has delivered, so published lists are complete. */
+    private boolean dashboardQueryDelivered;
     
     // Track seen games
     private Set<String> seenGameIds = new HashSet<>();
@@ -93,6 +118,33 @@ public class GameRepository {
         return gameItemsLiveData;
     }
 
+    /** Saves every complete dashboard publication so the next cold start can render it at once. */
+    public void enableDashboardSnapshot(Context context) {
+        dashboardSnapshotStore = DashboardSnapshotStore.getInstance(context);
+    }
+
+    /**
+     * Loads the list saved for the signed-in user. The callback runs on the main thread and is not
+     * invoked when persistence is disabled or nobody is signed in.
+     */
+    public void loadDashboardSnapshot(@NonNull DashboardSnapshotStore.LoadCallback callback) {
+        String ownerUid = currentUserIdOrNull();
+        if (dashboardSnapshotStore == null || ownerUid == null) {
+            return;
+        }
+        dashboardSnapshotStore.load(ownerUid, callback);
+    }
+
+    public boolean isDashboardQueryDelivered() {
+        return dashboardQueryDelivered;
+    }
+
+    /** {@code gameData_v2.lastUpdated} of the row in millis, or 0 for summary-only cards. */
+    public long getDashboardRowVersionMs(@NonNull String gameId) {
+        com.google.firebase.Timestamp version = latestDashboardVersions.get(gameId);
+        return version != null ? version.toDate().getTime() : 0L;
+    }
+
     public LiveData<String> getError() {
         return errorLiveData;
     }
@@ -134,6 +186,7 @@ public class GameRepository {
                     
                     if (querySnapshot != null) {
                         System.out.println("GameRepository: Real-time update received, found " + querySnapshot.size() + " documents");
+                        dashboardQueryDelivered = true;
 
                         if (querySnapshot.isEmpty()) {
                             System.out.println("GameRepository: No games found in database");
@@ -198,6 +251,7 @@ public class GameRepository {
             gamesListener.remove();
             gamesListener = null;
         }
+        dashboardQueryDelivered = false;
         if (approvedGamesListener != null) {
             approvedGamesListener.remove();
             approvedGamesListener = null;
@@ -224,7 +278,7 @@ public class GameRepository {
         gameItemsMap.clear();
         gameIdsOrder.clear();
         latestDashboardVersions.clear();
-        gameItemsLiveData.setValue(new ArrayList<>());
+        gameItemsPublisher.publishNow();
     }
 
     /**
@@ -238,22 +292,32 @@ public class GameRepository {
             listener.remove();
         }
         gameDataListeners.clear();
+        dashboardAuthSnapshots.clear();
+        decodedRevisions.clear();
+        decodeSequences.clear();
+        dashboardGameData.clear();
         gameItemsMap.clear();
         gameIdsOrder.clear();
         latestDashboardVersions.clear();
-        gameItemsLiveData.setValue(new ArrayList<>());
+        gameItemsPublisher.publishNow();
     }
 
     /**
      * Load game data with real-time listeners (for Dashboard).
-     * Pre-approval behavior: attach a {@code gameData_v2} listener per game; placeholders only on read errors.
+     * Cards come from the {@code games_v2} snapshot itself; a {@code gameData_v2} listener is
+     * attached only for readable games that still lack the dashboard summary fields.
      */
     private void loadGameDataForIdsWithListeners(QuerySnapshot gamesSnapshot) {
         List<String> gameIds = new ArrayList<>();
+        List<DocumentSnapshot> changedAuthDocuments = new ArrayList<>();
         for (DocumentSnapshot document : gamesSnapshot.getDocuments()) {
             if (GameCreationPolicy.isReady(
                     document.getString("initializationStatus"))) {
                 gameIds.add(document.getId());
+                DocumentSnapshot previous = dashboardAuthSnapshots.put(document.getId(), document);
+                if (!document.equals(previous)) {
+                    changedAuthDocuments.add(document);
+                }
             }
         }
 
@@ -268,24 +332,104 @@ public class GameRepository {
                 entry.getValue().remove();
                 iterator.remove();
                 gameItemsMap.remove(entry.getKey());
+                dashboardGameData.remove(entry.getKey());
+                decodedRevisions.remove(entry.getKey());
+                decodeSequences.remove(entry.getKey());
                 latestDashboardVersions.remove(entry.getKey());
                 invalidateDashboardUpdates(entry.getKey());
                 System.out.println("Removed listener and data for gameData: " + entry.getKey());
             }
         }
 
-        for (String gameId : gameIds) {
-            setupGameDataListener(gameId);
+        dashboardAuthSnapshots.keySet().retainAll(currentGameIds);
+        gameItemsMap.keySet().retainAll(currentGameIds);
+        List<String> creatorUserIds = new ArrayList<>();
+        for (DocumentSnapshot document : changedAuthDocuments) {
+            creatorUserIds.add(document.getString("creatorUserId"));
         }
+        creatorProfiles.prefetch(creatorUserIds);
+
+        applySummaryOnlySnapshot(gamesSnapshot, changedAuthDocuments);
+        updateGameItemsList();
+    }
+
+    /**
+     * Renders changed cards from their {@code games_v2} summary. Only games that lack a summary
+     * and are readable keep a {@code gameData_v2} listener, until a row built from game data
+     * repairs the summary.
+     */
+    private void applySummaryOnlySnapshot(
+            QuerySnapshot gamesSnapshot, List<DocumentSnapshot> changedAuthDocuments) {
         for (DocumentSnapshot document : gamesSnapshot.getDocuments()) {
-            if (GameCreationPolicy.isReady(
-                    document.getString("initializationStatus"))) {
-                applyViewApprovalCountsFromGameSnapshot(
-                        document, gameItemsMap.get(document.getId()));
+            String gameId = document.getId();
+            if (!dashboardAuthSnapshots.containsKey(gameId)) {
+                continue;
+            }
+            if (!hasDashboardSummaryFields(document)
+                    && hasGameDataAccess(document.toObject(GameAuth.class), gameId)) {
+                setupGameDataListener(gameId);
+            } else if (gameDataListeners.containsKey(gameId)) {
+                detachGameDataListener(gameId);
+            } else {
+                // A one-shot refresh must not pin an unobserved card to old game data.
+                dashboardGameData.remove(gameId);
             }
         }
+        for (DocumentSnapshot document : changedAuthDocuments) {
+            if (!joinDashboardRow(document.getId(), false)) {
+                applySummaryRow(document);
+            }
+        }
+    }
 
-        updateGameItemsList();
+    private static boolean hasDashboardSummaryFields(@NonNull DocumentSnapshot document) {
+        return document.get("dashboardPointValue") != null
+                && document.get("dashboardNumPlayers") != null
+                && document.get("dashboardGstPercent") != null;
+    }
+
+    /**
+     * Builds a card from the {@code games_v2} summary unless a recent local save is ahead of it.
+     */
+    private void applySummaryRow(@NonNull DocumentSnapshot authDocument) {
+        String gameId = authDocument.getId();
+        GameAuth auth = authDocument.toObject(GameAuth.class);
+        if (auth == null || !gameIdsOrder.contains(gameId)) {
+            return;
+        }
+        GameItem existing = gameItemsMap.get(gameId);
+        if (existing != null && wasRecentlyUpdatedLocally(gameId)) {
+            boolean behindLocal = authDocument.getMetadata().isFromCache()
+                    || DashboardFreshnessPolicy.isProgressRegression(
+                            existing.getGameStatus(),
+                            dashboardStatusForDisplay(auth.getDashboardGameStatus()))
+                    || (existing.getPlayers() != null && auth.getDashboardNumPlayers() != null
+                            && auth.getDashboardNumPlayers() < existing.getPlayers().size());
+            if (behindLocal) {
+                applyViewApprovalCountsFromGameSnapshot(authDocument, existing);
+                return;
+            }
+        }
+        GameItem item = convertToPlaceholderGameItem(
+                gameId, auth, cachedCreatorPhotoUrl(auth.getCreatorUserId()));
+        applyViewApprovalCountsFromGameSnapshot(authDocument, item);
+        gameItemsMap.put(gameId, item);
+        checkAndNotifyNewGame(item);
+    }
+
+    /** Stops a detail listener and falls back to the summary card. */
+    private void detachGameDataListener(@NonNull String gameId) {
+        com.google.firebase.firestore.ListenerRegistration listener = gameDataListeners.remove(gameId);
+        if (listener != null) {
+            listener.remove();
+        }
+        dashboardGameData.remove(gameId);
+        decodedRevisions.remove(gameId);
+        decodeSequences.remove(gameId);
+        DocumentSnapshot authSnapshot = dashboardAuthSnapshots.get(gameId);
+        if (authSnapshot != null) {
+            applySummaryRow(authSnapshot);
+        }
     }
 
     private boolean hasGameDataAccess(@Nullable GameAuth auth, @NonNull String gameId) {
@@ -327,31 +471,8 @@ public class GameRepository {
             return;
         }
 
-        putDashboardPlaceholder(gameId, auth, null);
+        putDashboardPlaceholder(gameId, auth, cachedCreatorPhotoUrl(auth.getCreatorUserId()));
         applyViewApprovalCountsFromGameSnapshot(authDocument, gameItemsMap.get(gameId));
-
-        String creatorUserId = auth.getCreatorUserId();
-        if (creatorUserId != null && !creatorUserId.isEmpty()) {
-            db.collection(FirestoreCollections.APP_USER)
-                    .document(creatorUserId)
-                    .get()
-                    .addOnSuccessListener(userSnapshot -> {
-                        if (!gameIdsOrder.contains(gameId)) {
-                            return;
-                        }
-                        GameItem current = gameItemsMap.get(gameId);
-                        if (current == null || current.getPlayers() != null) {
-                            return;
-                        }
-                        String creatorPhotoUrl = userSnapshot.exists()
-                                ? userSnapshot.getString("photoUrl") : null;
-                        if (creatorPhotoUrl != null) {
-                            current.setCreatorPhotoUrl(creatorPhotoUrl);
-                            applyViewApprovalCountsFromGameSnapshot(authDocument, current);
-                            updateGameItemsList();
-                        }
-                    });
-        }
     }
 
     private void putDashboardPlaceholder(String gameId, GameAuth auth, String creatorPhotoUrl) {
@@ -447,70 +568,7 @@ public class GameRepository {
             System.out.println("Skipping stale dashboard server refresh for " + gameId);
             return;
         }
-        upgradeDashboardItemFromGameData(
-                gameId, wrapper.getData(), wrapper.getLastUpdated(), updateToken);
-    }
-
-    private void upgradeDashboardItemFromGameData(String gameId, GameData gameData,
-                                                  com.google.firebase.Timestamp fallbackCreatedAt,
-                                                  long updateToken) {
-        db.collection(FirestoreCollections.GAMES)
-                .document(gameId)
-                .get()
-                .addOnSuccessListener(authSnapshot -> {
-                    if (!gameIdsOrder.contains(gameId)
-                            || !isDashboardUpdateCurrent(gameId, updateToken)) {
-                        return;
-                    }
-                    GameAuth gameAuth = authSnapshot.toObject(GameAuth.class);
-                    String pin = gameAuth != null ? gameAuth.getPin() : "0000";
-                    String creatorName = gameAuth != null ? gameAuth.getCreatorName() : null;
-                    String creatorUserId = gameAuth != null ? gameAuth.getCreatorUserId() : null;
-                    String gameDisplayName = gameDisplayNameFromAuth(gameAuth);
-                    com.google.firebase.Timestamp createdAt = gameAuth != null && gameAuth.getCreatedAt() != null
-                            ? gameAuth.getCreatedAt() : fallbackCreatedAt;
-
-                    Runnable publish = () -> {
-                        if (!isDashboardUpdateCurrent(gameId, updateToken)) {
-                            return;
-                        }
-                        GameItem gameItem = applyEditorIdentity(
-                                convertToGameItem(gameId, pin, gameData, createdAt,
-                                        creatorName, null, creatorUserId, gameDisplayName),
-                                gameAuth);
-                        if (gameItem != null) {
-                            applyViewApprovalCountsFromGameSnapshot(authSnapshot, gameItem);
-                            gameItemsMap.put(gameId, gameItem);
-                            updateGameItemsList();
-                        }
-                    };
-
-                    if (creatorUserId != null && !creatorUserId.isEmpty()) {
-                        db.collection(FirestoreCollections.APP_USER)
-                                .document(creatorUserId)
-                                .get()
-                                .addOnSuccessListener(userSnapshot -> {
-                                    if (!isDashboardUpdateCurrent(gameId, updateToken)) {
-                                        return;
-                                    }
-                                    String creatorPhotoUrl = userSnapshot.exists()
-                                            ? userSnapshot.getString("photoUrl") : null;
-                                    GameItem gameItem = applyEditorIdentity(
-                                            convertToGameItem(gameId, pin, gameData, createdAt,
-                                                    creatorName, creatorPhotoUrl, creatorUserId,
-                                                    gameDisplayName),
-                                            gameAuth);
-                                    if (gameItem != null) {
-                                        applyViewApprovalCountsFromGameSnapshot(authSnapshot, gameItem);
-                                        gameItemsMap.put(gameId, gameItem);
-                                        updateGameItemsList();
-                                    }
-                                })
-                                .addOnFailureListener(e -> publish.run());
-                    } else {
-                        publish.run();
-                    }
-                });
+        acceptDashboardGameData(gameId, wrapper, updateToken);
     }
 
     private void applyDashboardSummaryFromAuth(@Nullable GameItem item, @Nullable GameAuth auth) {
@@ -540,7 +598,7 @@ public class GameRepository {
      */
     /** Pushes the current in-memory dashboard rows to LiveData observers immediately. */
     public void forcePublishDashboard() {
-        updateGameItemsList();
+        gameItemsPublisher.publishNow();
     }
 
     public void syncDashboardSummaryForGame(@NonNull String gameId, @NonNull GameData gameData) {
@@ -611,6 +669,10 @@ public class GameRepository {
             return;
         }
         for (String gameId : new ArrayList<>(gameIdsOrder)) {
+            if (!gameDataListeners.containsKey(gameId)) {
+                // Summary cards follow the games_v2 listener; only detailed rows need a re-read.
+                continue;
+            }
             refreshDashboardRowFromGameData(gameId, true);
         }
     }
@@ -636,7 +698,18 @@ public class GameRepository {
             @NonNull GameData remote,
             @Nullable com.google.firebase.Timestamp remoteVersion,
             @Nullable DocumentSnapshot snapshot) {
-        if (!shouldApplyRemoteDashboardGameData(gameId, remote, snapshot)) {
+        return beginDashboardRemoteUpdate(
+                gameId, remote.getGameStatus(), resolvePlayerCount(remote), remoteVersion, snapshot);
+    }
+
+    /** Variant for rows whose status and player count were already derived off the main thread. */
+    private long beginDashboardRemoteUpdate(
+            @NonNull String gameId,
+            @Nullable String remoteStatus,
+            int remotePlayers,
+            @Nullable com.google.firebase.Timestamp remoteVersion,
+            @Nullable DocumentSnapshot snapshot) {
+        if (!shouldApplyRemoteDashboardGameData(gameId, remoteStatus, remotePlayers, snapshot)) {
             return -1L;
         }
         com.google.firebase.Timestamp latestVersion =
@@ -674,7 +747,8 @@ public class GameRepository {
      * when the user leaves JoinGame before the async write finishes.
      */
     private boolean shouldApplyRemoteDashboardGameData(@NonNull String gameId,
-                                                       @NonNull GameData remote,
+                                                       @Nullable String remoteStatus,
+                                                       int remotePlayers,
                                                        @Nullable DocumentSnapshot snapshot) {
         GameItem local = gameItemsMap.get(gameId);
         if (local == null || local.getPlayers() == null || local.getPlayers().isEmpty()) {
@@ -685,13 +759,11 @@ public class GameRepository {
         }
 
         int localPlayers = local.getPlayers().size();
-        int remotePlayers = resolvePlayerCount(remote);
         if (remotePlayers < localPlayers) {
             return false;
         }
 
         String localStatus = local.getGameStatus();
-        String remoteStatus = remote.getGameStatus();
         if (DashboardFreshnessPolicy.isProgressRegression(
                 localStatus, remoteStatus)) {
             return false;
@@ -875,45 +947,24 @@ public class GameRepository {
 
         com.google.firebase.Timestamp createdAt = gameAuth != null ? gameAuth.getCreatedAt() : gameDataWrapper.getLastUpdated();
 
-        if (creatorUserId != null && !creatorUserId.isEmpty()) {
-            db.collection(FirestoreCollections.APP_USER)
-                    .document(creatorUserId)
-                    .get()
-                    .addOnSuccessListener(userSnapshot -> {
-                        if (!gameIdsOrder.contains(gameId)) {
-                            return;
-                        }
-                        String creatorPhotoUrl = null;
-                        if (userSnapshot.exists()) {
-                            creatorPhotoUrl = userSnapshot.getString("photoUrl");
-                        }
-                        GameItem gameItem = applyEditorIdentity(
-                                convertToGameItem(gameId, pin, gameData, createdAt,
-                                        creatorName, creatorPhotoUrl, creatorUserId, gameDisplayName),
-                                gameAuth);
-                        putGameItemIfStillInLoad(gameId, gameItem);
-                    })
-                    .addOnFailureListener(e -> {
-                        if (!gameIdsOrder.contains(gameId)) {
-                            return;
-                        }
-                        GameItem gameItem = applyEditorIdentity(
-                                convertToGameItem(gameId, pin, gameData, createdAt,
-                                        creatorName, null, creatorUserId, gameDisplayName),
-                                gameAuth);
-                        putGameItemIfStillInLoad(gameId, gameItem);
-                    });
-        } else {
+        // The review list renders once per load, so wait for the (usually cached) creator profile.
+        creatorProfiles.get(creatorUserId, profile -> {
+            if (!gameIdsOrder.contains(gameId)) {
+                return;
+            }
+            String creatorPhotoUrl = profile != null && profile.hasPhoto() ? profile.photoUrl : null;
             GameItem gameItem = applyEditorIdentity(
                     convertToGameItem(gameId, pin, gameData, createdAt,
-                            creatorName, null, null, gameDisplayName),
+                            creatorName, creatorPhotoUrl, creatorUserId, gameDisplayName),
                     gameAuth);
             putGameItemIfStillInLoad(gameId, gameItem);
-        }
+        });
     }
     
     /**
-     * Setup real-time listener for a specific game (for Dashboard)
+     * Setup real-time listener for a specific game (for Dashboard). Each snapshot is joined with
+     * the {@code games_v2} document already delivered by the dashboard query, so a score update
+     * renders in the same callback without extra document reads.
      */
     private void setupGameDataListener(String gameId) {
         // If listener already exists, don't create duplicate
@@ -924,109 +975,33 @@ public class GameRepository {
         
         System.out.println("Setting up real-time listener for gameData: " + gameId);
         
+        // Decoding and row building run on the snapshot decoder; only the finished row is handed
+        // to the main thread.
         com.google.firebase.firestore.ListenerRegistration listener = db.collection(FirestoreCollections.GAME_DATA)
                 .document(gameId)
-                .addSnapshotListener((documentSnapshot, error) -> {
+                .addSnapshotListener(SnapshotDecodeExecutor.get(), (documentSnapshot, error) -> {
                     if (error != null) {
                         System.out.println("Error listening to gameData for " + gameId + ": " + error.getMessage());
-                        db.collection(FirestoreCollections.GAMES)
-                                .document(gameId)
-                                .get()
-                                .addOnSuccessListener(authSnapshot -> {
-                                    if (hasGameDataAccess(authSnapshot.toObject(GameAuth.class), gameId)) {
-                                        refreshDashboardRowFromGameData(gameId);
-                                    } else {
-                                        ensurePlaceholderForRestrictedUser(authSnapshot);
-                                    }
-                                });
+                        mainHandler.post(() -> {
+                            if (!gameDataListeners.containsKey(gameId)) {
+                                return;
+                            }
+                            withDashboardAuthSnapshot(gameId, authSnapshot -> {
+                                if (hasGameDataAccess(authSnapshot.toObject(GameAuth.class), gameId)) {
+                                    refreshDashboardRowFromGameData(gameId);
+                                } else {
+                                    ensurePlaceholderForRestrictedUser(authSnapshot);
+                                }
+                            });
+                        });
                         return;
                     }
                     
                     if (documentSnapshot != null && documentSnapshot.exists()) {
                         try {
-                            GameDataWrapper gameDataWrapper = documentSnapshot.toObject(GameDataWrapper.class);
-                            if (gameDataWrapper != null && gameDataWrapper.getData() != null) {
-                                GameData gameData = gameDataWrapper.getData();
-                                long updateToken = beginDashboardRemoteUpdate(
-                                        gameId, gameData, gameDataWrapper.getLastUpdated(),
-                                        documentSnapshot);
-                                if (updateToken < 0) {
-                                    System.out.println("Skipping stale dashboard listener snapshot for " + gameId);
-                                    return;
-                                }
-                                // Also get the auth data for PIN
-                                db.collection(FirestoreCollections.GAMES)
-                                        .document(gameId)
-                                        .get()
-                                        .addOnSuccessListener(authSnapshot -> {
-                                            if (!isDashboardUpdateCurrent(gameId, updateToken)) {
-                                                return;
-                                            }
-                                            GameAuth gameAuth = authSnapshot.toObject(GameAuth.class);
-                                            String pin = gameAuth != null ? gameAuth.getPin() : "0000";
-                                            String creatorName = gameAuth != null ? gameAuth.getCreatorName() : null;
-                                            String creatorUserId = gameAuth != null ? gameAuth.getCreatorUserId() : null;
-                                            String gameDisplayName = gameDisplayNameFromAuth(gameAuth);
-                                            repairDashboardSummaryIfStale(
-                                                    gameId, gameAuth, gameData);
-                                            
-                                            // Use createdAt from games collection instead of lastUpdated from gameData collection
-                                            com.google.firebase.Timestamp createdAt = gameAuth != null ? gameAuth.getCreatedAt() : gameDataWrapper.getLastUpdated();
-                                            
-                                            // Fetch creator's photo URL from appUser collection
-                                            if (creatorUserId != null && !creatorUserId.isEmpty()) {
-                                                db.collection(FirestoreCollections.APP_USER)
-                                                        .document(creatorUserId)
-                                                        .get()
-                                                        .addOnSuccessListener(userSnapshot -> {
-                                                            if (!isDashboardUpdateCurrent(gameId, updateToken)) {
-                                                                return;
-                                                            }
-                                                            String creatorPhotoUrl = null;
-                                                            if (userSnapshot.exists()) {
-                                                                creatorPhotoUrl = userSnapshot.getString("photoUrl");
-                                                            }
-                                                            GameItem gameItem = applyEditorIdentity(
-                                                                    convertToGameItem(gameId, pin, gameData, createdAt,
-                                                                            creatorName, creatorPhotoUrl,
-                                                                            creatorUserId, gameDisplayName),
-                                                                    gameAuth);
-                                                            
-                                                            if (gameItem != null && isDashboardUpdateCurrent(gameId, updateToken)) {
-                                                                applyViewApprovalCountsFromGameSnapshot(authSnapshot, gameItem);
-                                                                gameItemsMap.put(gameId, gameItem);
-                                                                checkAndNotifyNewGame(gameItem);
-                                                                updateGameItemsList();
-                                                            }
-                                                        })
-                                                        .addOnFailureListener(e -> {
-                                                            // If fetching photo fails, create game item without photo
-                                                            GameItem gameItem = applyEditorIdentity(
-                                                                    convertToGameItem(gameId, pin, gameData, createdAt,
-                                                                            creatorName, null, creatorUserId,
-                                                                            gameDisplayName),
-                                                                    gameAuth);
-                                                            if (gameItem != null && isDashboardUpdateCurrent(gameId, updateToken)) {
-                                                                applyViewApprovalCountsFromGameSnapshot(authSnapshot, gameItem);
-                                                                gameItemsMap.put(gameId, gameItem);
-                                                                checkAndNotifyNewGame(gameItem);
-                                                                updateGameItemsList();
-                                                            }
-                                                        });
-                                            } else {
-                                                // No creator user ID, create game item without photo
-                                                GameItem gameItem = applyEditorIdentity(
-                                                        convertToGameItem(gameId, pin, gameData, createdAt,
-                                                                creatorName, null, null, gameDisplayName),
-                                                        gameAuth);
-                                                if (gameItem != null && isDashboardUpdateCurrent(gameId, updateToken)) {
-                                                    applyViewApprovalCountsFromGameSnapshot(authSnapshot, gameItem);
-                                                    gameItemsMap.put(gameId, gameItem);
-                                                    checkAndNotifyNewGame(gameItem);
-                                                    updateGameItemsList();
-                                                }
-                                            }
-                                        });
+                            DecodedDashboardRow row = decodeDashboardRow(gameId, documentSnapshot);
+                            if (row != null) {
+                                mainHandler.post(() -> applyDecodedDashboardRow(row));
                             }
                         } catch (Exception e) {
                             System.out.println("Error deserializing game data for " + gameId + ": " + e.getMessage());
@@ -1040,6 +1015,189 @@ public class GameRepository {
         gameDataListeners.put(gameId, listener);
     }
 
+    /**
+     * Runs on the snapshot decoder. Decodes the wrapper, drops revisions older than one already
+     * decoded, and builds the row from the cached {@code games_v2} document when present.
+     */
+    @Nullable
+    private DecodedDashboardRow decodeDashboardRow(
+            @NonNull String gameId, @NonNull DocumentSnapshot documentSnapshot) {
+        Long revision = documentSnapshot.getLong("revision");
+        if (revision != null) {
+            Long decoded = decodedRevisions.get(gameId);
+            if (decoded != null && revision < decoded) {
+                System.out.println("Dropping superseded gameData revision " + revision + " for " + gameId);
+                return null;
+            }
+            decodedRevisions.put(gameId, revision);
+        }
+        GameDataWrapper wrapper = documentSnapshot.toObject(GameDataWrapper.class);
+        if (wrapper == null || wrapper.getData() == null) {
+            return null;
+        }
+        long sequence = DECODE_SEQUENCE.incrementAndGet();
+        decodeSequences.put(gameId, sequence);
+
+        String status = wrapper.getData().getGameStatus();
+        int playerCount = resolvePlayerCount(wrapper.getData());
+        DocumentSnapshot authSnapshot = dashboardAuthSnapshots.get(gameId);
+        GameItem item = null;
+        GameAuth gameAuth = null;
+        if (authSnapshot != null && authSnapshot.exists()) {
+            gameAuth = authSnapshot.toObject(GameAuth.class);
+            item = buildDashboardRow(gameId, gameAuth, wrapper);
+        }
+        return new DecodedDashboardRow(gameId, sequence, documentSnapshot, wrapper, status,
+                playerCount, authSnapshot, gameAuth, item);
+    }
+
+    /** Main thread: gates the decoded row against local saves and newer decodes, then publishes. */
+    private void applyDecodedDashboardRow(@NonNull DecodedDashboardRow row) {
+        String gameId = row.gameId;
+        if (!gameDataListeners.containsKey(gameId)
+                || row.sequence != decodeSequences.getOrDefault(gameId, 0L)) {
+            return;
+        }
+        long updateToken = beginDashboardRemoteUpdate(
+                gameId, row.status, row.playerCount, row.wrapper.getLastUpdated(), row.snapshot);
+        if (updateToken < 0) {
+            System.out.println("Skipping stale dashboard listener snapshot for " + gameId);
+            return;
+        }
+        if (row.item == null || dashboardAuthSnapshots.get(gameId) != row.authSnapshot) {
+            // games_v2 was not cached, or changed while decoding: join against the current one.
+            acceptDashboardGameData(gameId, row.wrapper, updateToken);
+            return;
+        }
+        dashboardGameData.put(gameId, new DashboardGameDataEntry(row.wrapper, updateToken));
+        // Only a snapshot that passed the gates above may rewrite the games_v2 summary.
+        repairDashboardSummaryIfStale(gameId, row.gameAuth, row.wrapper.getData());
+        applyViewApprovalCountsFromGameSnapshot(row.authSnapshot, row.item);
+        gameItemsMap.put(gameId, row.item);
+        checkAndNotifyNewGame(row.item);
+        updateGameItemsList();
+    }
+
+    /**
+     * Remembers the accepted {@code gameData_v2} body and renders its row. The row is joined with
+     * the cached {@code games_v2} document; only a game missing from the dashboard query (e.g. a
+     * view approval arriving first) costs one {@code games_v2} read.
+     */
+    private void acceptDashboardGameData(
+            @NonNull String gameId, @NonNull GameDataWrapper wrapper, long updateToken) {
+        dashboardGameData.put(gameId, new DashboardGameDataEntry(wrapper, updateToken));
+        if (dashboardAuthSnapshots.containsKey(gameId)) {
+            if (joinDashboardRow(gameId, true)) {
+                updateGameItemsList();
+            }
+            return;
+        }
+        db.collection(FirestoreCollections.GAMES)
+                .document(gameId)
+                .get()
+                .addOnSuccessListener(authSnapshot -> {
+                    if (!isDashboardUpdateCurrent(gameId, updateToken)) {
+                        return;
+                    }
+                    if (authSnapshot.exists() && !dashboardAuthSnapshots.containsKey(gameId)) {
+                        dashboardAuthSnapshots.put(gameId, authSnapshot);
+                    }
+                    if (joinDashboardRow(gameId, true)) {
+                        updateGameItemsList();
+                    }
+                });
+    }
+
+    /**
+     * Builds one dashboard row from the latest accepted game data, its {@code games_v2} document and
+     * the creator-photo cache without publishing. Returns false when there is no accepted data or it
+     * was superseded by a local save.
+     */
+    private boolean joinDashboardRow(@NonNull String gameId, boolean repairSummary) {
+        DashboardGameDataEntry entry = dashboardGameData.get(gameId);
+        if (entry == null || !isDashboardUpdateCurrent(gameId, entry.updateToken)) {
+            return false;
+        }
+        DocumentSnapshot authSnapshot = dashboardAuthSnapshots.get(gameId);
+        GameAuth gameAuth = authSnapshot != null && authSnapshot.exists()
+                ? authSnapshot.toObject(GameAuth.class) : null;
+        if (repairSummary) {
+            repairDashboardSummaryIfStale(gameId, gameAuth, entry.wrapper.getData());
+        }
+        GameItem gameItem = buildDashboardRow(gameId, gameAuth, entry.wrapper);
+        applyViewApprovalCountsFromGameSnapshot(authSnapshot, gameItem);
+        gameItemsMap.put(gameId, gameItem);
+        checkAndNotifyNewGame(gameItem);
+        return true;
+    }
+
+    /**
+     * Builds a full dashboard row. Safe on the snapshot decoder: it reads only its arguments and
+     * the thread-safe creator profile cache.
+     */
+    @NonNull
+    private GameItem buildDashboardRow(
+            @NonNull String gameId, @Nullable GameAuth gameAuth, @NonNull GameDataWrapper wrapper) {
+        GameData gameData = wrapper.getData();
+        String pin = gameAuth != null ? gameAuth.getPin() : "0000";
+        String creatorName = gameAuth != null ? gameAuth.getCreatorName() : null;
+        String creatorUserId = gameAuth != null ? gameAuth.getCreatorUserId() : null;
+        String gameDisplayName = gameDisplayNameFromAuth(gameAuth);
+        // Use createdAt from games collection instead of lastUpdated from gameData collection
+        com.google.firebase.Timestamp createdAt = gameAuth != null && gameAuth.getCreatedAt() != null
+                ? gameAuth.getCreatedAt() : wrapper.getLastUpdated();
+        return applyEditorIdentity(
+                convertToGameItem(gameId, pin, gameData, createdAt,
+                        creatorName, cachedCreatorPhotoUrl(creatorUserId),
+                        creatorUserId, gameDisplayName),
+                gameAuth);
+    }
+
+    /** Uses the {@code games_v2} document from the dashboard query, reading it only when absent. */
+    private void withDashboardAuthSnapshot(
+            @NonNull String gameId, @NonNull Consumer<DocumentSnapshot> action) {
+        DocumentSnapshot cached = dashboardAuthSnapshots.get(gameId);
+        if (cached != null) {
+            action.accept(cached);
+            return;
+        }
+        db.collection(FirestoreCollections.GAMES)
+                .document(gameId)
+                .get()
+                .addOnSuccessListener(action::accept);
+    }
+
+    /**
+     * Returns the cached creator photo. On a miss the shared profile cache batches the lookup and
+     * rows created before it finishes are patched in place when it completes.
+     */
+    @Nullable
+    private String cachedCreatorPhotoUrl(@Nullable String creatorUserId) {
+        CreatorProfileCache.Profile profile = creatorProfiles.resolve(creatorUserId, loaded -> {
+            if (loaded != null) {
+                applyCreatorPhotoToRows(loaded.userId, loaded.photoUrl);
+            }
+        });
+        return profile != null && profile.hasPhoto() ? profile.photoUrl : null;
+    }
+
+    private void applyCreatorPhotoToRows(@NonNull String creatorUserId, @Nullable String photoUrl) {
+        if (photoUrl == null || photoUrl.isEmpty()) {
+            return;
+        }
+        boolean changed = false;
+        for (GameItem item : gameItemsMap.values()) {
+            if (item != null && creatorUserId.equals(item.getCreatorUserId())
+                    && !photoUrl.equals(item.getCreatorPhotoUrl())) {
+                item.setCreatorPhotoUrl(photoUrl);
+                changed = true;
+            }
+        }
+        if (changed) {
+            updateGameItemsList();
+        }
+    }
+
     /** Ignores late one-shot fetch callbacks after {@link #gameIdsOrder} no longer includes the id. */
     private void putGameItemIfStillInLoad(String gameId, GameItem gameItem) {
         if (gameItem == null || !gameIdsOrder.contains(gameId)) {
@@ -1124,9 +1282,17 @@ public class GameRepository {
         to.setRejectedViewRequestCount(from.getRejectedViewRequestCount());
     }
     
+    /**
+     * Requests a dashboard publication. Mutations within one publish window are folded into a
+     * single immutable list built by {@link #buildGameItemsSnapshot()}.
+     */
     private void updateGameItemsList() {
+        gameItemsPublisher.requestPublish();
+    }
+
+    private List<GameItem> buildGameItemsSnapshot() {
         applyMyViewAccessStatusToGameItems();
-        List<GameItem> gameItems = new ArrayList<>();
+        List<GameItem> gameItems = new ArrayList<>(gameIdsOrder.size());
         // Maintain the order from gameIdsOrder
         for (String gameId : gameIdsOrder) {
             GameItem item = gameItemsMap.get(gameId);
@@ -1134,12 +1300,42 @@ public class GameRepository {
                 gameItems.add(item);
             }
         }
-        System.out.println("Updating game items list with " + gameItems.size() + " games");
+        return java.util.Collections.unmodifiableList(gameItems);
+    }
+
+    private void publishGameItems(List<GameItem> gameItems) {
+        System.out.println("Publishing " + gameItems.size() + " games (published="
+                + gameItemsPublisher.getPublishedCount() + " coalesced="
+                + gameItemsPublisher.getCoalescedCount() + ")");
         if (android.os.Looper.myLooper() == android.os.Looper.getMainLooper()) {
             gameItemsLiveData.setValue(gameItems);
         } else {
             gameItemsLiveData.postValue(gameItems);
         }
+        String ownerUid = currentUserIdOrNull();
+        if (dashboardSnapshotStore != null && dashboardQueryDelivered && ownerUid != null) {
+            dashboardSnapshotStore.save(ownerUid, gameItems, this::getDashboardRowVersionMs);
+        }
+    }
+
+    @Nullable
+    private static String currentUserIdOrNull() {
+        com.google.firebase.auth.FirebaseUser user = FirebaseAuth.getInstance().getCurrentUser();
+        return user != null ? user.getUid() : null;
+    }
+
+    /** Sets how long list mutations are collected before one publication (default one frame). */
+    public void setPublishWindowMs(long windowMs) {
+        gameItemsPublisher.setWindowMs(windowMs);
+    }
+
+    /** Publish requests folded into an already scheduled publication. */
+    public long getCoalescedPublishCount() {
+        return gameItemsPublisher.getCoalescedCount();
+    }
+
+    public long getPublishedListCount() {
+        return gameItemsPublisher.getPublishedCount();
     }
 
     private void startMyViewApprovalsListener() {
@@ -1168,12 +1364,16 @@ public class GameRepository {
                             if ("approved".equalsIgnoreCase(prior)) {
                                 continue;
                             }
+                            DocumentSnapshot authSnapshot = dashboardAuthSnapshots.get(gameId);
+                            if (authSnapshot == null || hasDashboardSummaryFields(authSnapshot)) {
+                                // Summary cards do not need the newly readable game data.
+                                continue;
+                            }
                             setupGameDataListener(gameId);
                             refreshDashboardRowFromGameData(gameId);
                         }
                     }
-                    applyMyViewAccessStatusToGameItems();
-                    updateGameItemsListWithoutReapply();
+                    updateGameItemsList();
                 });
     }
 
@@ -1194,17 +1394,6 @@ public class GameRepository {
         }
     }
 
-    private void updateGameItemsListWithoutReapply() {
-        List<GameItem> gameItems = new ArrayList<>();
-        for (String gameId : gameIdsOrder) {
-            GameItem item = gameItemsMap.get(gameId);
-            if (item != null) {
-                gameItems.add(item);
-            }
-        }
-        gameItemsLiveData.postValue(gameItems);
-    }
-
     private static String dashboardStatusForDisplay(@Nullable String status) {
         if (status == null || status.trim().isEmpty()
                 || "In Progress".equalsIgnoreCase(status.trim())) {
@@ -1426,7 +1615,8 @@ public class GameRepository {
 
     /**
      * Firestore does not cascade parent-document deletes into subcollections. Remove every
-     * immutable event before removing the game's canonical records.
+     * immutable event before removing the game's canonical records. Games without legacy
+     * per-round events need two queries instead of ten.
      */
     private void deleteScoreHistoryForGames(
             List<String> gameIds, Runnable onSuccess, Consumer<String> onFailure) {
@@ -1456,34 +1646,9 @@ public class GameRepository {
             String gameId,
             Consumer<List<DocumentReference>> onSuccess,
             Consumer<Exception> onFailure) {
-        List<DocumentReference> references =
-                java.util.Collections.synchronizedList(new ArrayList<>());
-        AtomicInteger remaining = new AtomicInteger(10);
-        AtomicBoolean failed = new AtomicBoolean(false);
-        for (int round = 1; round <= 10; round++) {
-            db.collection(FirestoreCollections.GAME_SCORE_HISTORY)
-                    .document(gameId)
-                    .collection("rounds")
-                    .document(String.valueOf(round))
-                    .collection("events")
-                    .get()
-                    .addOnSuccessListener(snapshot -> {
-                        if (failed.get()) {
-                            return;
-                        }
-                        for (DocumentSnapshot event : snapshot.getDocuments()) {
-                            references.add(event.getReference());
-                        }
-                        if (remaining.decrementAndGet() == 0) {
-                            onSuccess.accept(new ArrayList<>(references));
-                        }
-                    })
-                    .addOnFailureListener(error -> {
-                        if (failed.compareAndSet(false, true)) {
-                            onFailure.accept(error);
-                        }
-                    });
-        }
+        ScoreHistoryStore.loadReferences(db, gameId)
+                .addOnSuccessListener(onSuccess::accept)
+                .addOnFailureListener(onFailure::accept);
     }
 
     private void deleteReferencesInChunks(
@@ -1677,15 +1842,28 @@ public class GameRepository {
             List<DocumentReference> cleanupReferences,
             long startedAt,
             Runnable onSuccess) {
+        int[] reportWrites = new int[1];
         db.runTransaction(transaction -> {
                     List<DocumentSnapshot> gameDataSnapshots = new ArrayList<>();
+                    List<DocumentSnapshot> approvedSnapshots = new ArrayList<>();
                     for (String gameId : gameIds) {
                         gameDataSnapshots.add(transaction.get(
                                 db.collection(FirestoreCollections.GAME_DATA)
                                         .document(gameId)));
+                        approvedSnapshots.add(transaction.get(
+                                db.collection(FirestoreCollections.APPROVED_GAMES)
+                                        .document(gameId)));
                     }
 
+                    DocumentSnapshot totalsSnapshot =
+                            transaction.get(ApprovedGamesTotalsStore.ref(db));
+                    boolean rebuildRunning =
+                            transaction.get(ApprovedReportsRebuild.checkpointRef(db)).exists();
+
                     List<ApprovedGameData> approvedGames = new ArrayList<>();
+                    ApprovedGamesReportDelta reportDelta = new ApprovedGamesReportDelta();
+                    ApprovedGamesTotalsDelta totalsDelta = new ApprovedGamesTotalsDelta(
+                            totalsSnapshot.toObject(ApprovedGamesTotals.class));
                     for (int index = 0; index < games.size(); index++) {
                         GameItem gameItem = games.get(index);
                         DocumentSnapshot snapshot = gameDataSnapshots.get(index);
@@ -1697,9 +1875,23 @@ public class GameRepository {
                         GameDataWrapper wrapper = snapshot.toObject(GameDataWrapper.class);
                         GameData gameData = ApprovalBatchValidator.validateGameData(
                                 gameItem.getGameId(), wrapper);
-                        approvedGames.add(buildApprovedGame(gameItem, wrapper, gameData));
+                        ApprovedGameData previous =
+                                approvedSnapshots.get(index).toObject(ApprovedGameData.class);
+                        reportDelta.remove(previous);
+                        ApprovedGameData approvedGame = buildApprovedGame(gameItem, wrapper, gameData);
+                        approvedGame.setReportedMonthKey(reportDelta.add(approvedGame));
+                        totalsDelta.approve(gameIds.get(index), previous, approvedGame);
+                        approvedGames.add(approvedGame);
                     }
 
+                    // Report documents are read before any write so a legacy list-only month
+                    // can be seeded into buckets instead of being shadowed by them.
+                    Map<String, DocumentSnapshot> reportSnapshots = new LinkedHashMap<>();
+                    for (String monthKey : reportDelta.monthKeys()) {
+                        reportSnapshots.put(monthKey, transaction.get(
+                                db.collection(FirestoreCollections.APPROVED_GAMES_REPORT)
+                                        .document(monthKey)));
+                    }
                     for (int index = 0; index < games.size(); index++) {
                         String gameId = gameIds.get(index);
                         transaction.set(
@@ -1714,15 +1906,27 @@ public class GameRepository {
                     for (DocumentReference cleanupReference : cleanupReferences) {
                         transaction.delete(cleanupReference);
                     }
+                    for (Map.Entry<String, DocumentSnapshot> report : reportSnapshots.entrySet()) {
+                        ApprovedGamesReportMonth current = report.getValue().exists()
+                                ? report.getValue().toObject(ApprovedGamesReportMonth.class)
+                                : null;
+                        Map<String, Object> fields = reportDelta.mergeFields(report.getKey(), current);
+                        if (rebuildRunning) {
+                            fields.put(ApprovedReportsRebuild.FIELD_APPROVED_DURING_REBUILD, true);
+                        }
+                        transaction.set(report.getValue().getReference(), fields, SetOptions.merge());
+                    }
+                    ApprovedGamesTotalsStore.applyInTransaction(transaction, totalsSnapshot, totalsDelta);
+                    reportWrites[0] = reportSnapshots.size() + (totalsSnapshot.exists() ? 1 : 0);
                     return games.size();
                 })
                 .addOnSuccessListener(approvedCount -> {
                     long elapsed = android.os.SystemClock.elapsedRealtime() - startedAt;
                     android.util.Log.d("GameRepository",
                             "Atomic approval committed: games=" + approvedCount
-                                    + " reads=" + approvedCount
+                                    + " reads=" + (approvedCount * 2 + reportWrites[0] + 2)
                                     + " writes=" + (approvedCount * 3
-                                    + cleanupReferences.size())
+                                    + cleanupReferences.size() + reportWrites[0])
                                     + " elapsedMs=" + elapsed);
                     loadAllGames();
                     loadApprovedGames();
@@ -1754,7 +1958,7 @@ public class GameRepository {
         if (gstAmount == null || gstAmount.trim().isEmpty()) {
             gstAmount = Double.toString(gameData.getGstAmount());
         }
-        return new ApprovedGameData(
+        ApprovedGameData approved = new ApprovedGameData(
                 gameItem.getGameId(),
                 gameData.getNumPlayers(),
                 gameData.getPointValue(),
@@ -1765,6 +1969,8 @@ public class GameRepository {
                 gstAmount,
                 "Completed",
                 gameItem.getCreationDateTime());
+        approved.setApprovedMonthKey(ReportAggregator.derivedYearMonthKey(approved));
+        return approved;
     }
 
     private void updateGameStatusInOriginal(String gameId, String newStatus) {
@@ -1782,87 +1988,99 @@ public class GameRepository {
     }
 
     /**
-     * Load approved games with real-time listener (for Dashboard)
+     * Live approved totals (for Dashboard). Listens to the single {@link ApprovedGamesTotals}
+     * document rather than the whole {@code approvedGames_v2} collection; seeds it once if it is
+     * missing or a seed was left unfinished, and shows nothing until the seed has counted it all.
      */
     public void loadApprovedGamesWithRealtimeListener() {
-        System.out.println("GameRepository: Setting up real-time listener for approved games collection");
-        
-        // Remove existing listener if any
         if (approvedGamesListener != null) {
             approvedGamesListener.remove();
         }
-        
-        // Set up real-time listener for approved games collection
-        approvedGamesListener = db.collection(FirestoreCollections.APPROVED_GAMES)
-                .addSnapshotListener((querySnapshot, error) -> {
+        long startedAt = android.os.SystemClock.elapsedRealtime();
+        boolean[] first = {true};
+        approvedGamesListener = ApprovedGamesTotalsStore.ref(db)
+                .addSnapshotListener((snapshot, error) -> {
                     if (error != null) {
-                        System.out.println("GameRepository: Error listening to approved games: " + error.getMessage());
                         errorLiveData.setValue("Failed to load approved games: " + error.getMessage());
                         totalApprovedGstLiveData.setValue(0.0);
                         approvedGamesCountLiveData.setValue(0);
                         return;
                     }
-                    
-                    if (querySnapshot != null) {
-                        double totalGst = 0.0;
-                        int approvedCount = 0;
-                        for (DocumentSnapshot document : querySnapshot.getDocuments()) {
-                            try {
-                                ApprovedGameData approvedGame = document.toObject(ApprovedGameData.class);
-                                if (approvedGame != null) {
-                                    totalGst += approvedGame.getGstAmountAsDouble();
-                                    approvedCount++;
-                                }
-                            } catch (Exception e) {
-                                System.out.println("Error parsing approved game: " + e.getMessage());
-                            }
+                    if (snapshot == null) {
+                        return;
+                    }
+                    ApprovedGamesTotals totals = snapshot.toObject(ApprovedGamesTotals.class);
+                    if (totals == null || totals.isSeeding()) {
+                        if (!snapshot.getMetadata().isFromCache()) {
+                            seedApprovedTotals(startedAt);
                         }
-                        totalApprovedGstLiveData.setValue(totalGst);
-                        approvedGamesCountLiveData.setValue(approvedCount);
-                        System.out.println("Total approved GST amount: ₹" + String.format("%.0f", totalGst));
-                        System.out.println("Total approved games count: " + approvedCount);
+                        return;
+                    }
+                    publishApprovedTotals(totals);
+                    if (first[0]) {
+                        first[0] = false;
+                        logApprovedTotals("listener", 1, startedAt);
                     }
                 });
     }
-    
+
     /**
-     * Load approved games with one-time fetch (for Review screen - manual refresh only)
+     * One-time read of the approved totals (for the Review screen's manual refresh): a single
+     * document instead of the whole archive.
      */
     public void loadApprovedGames() {
-        System.out.println("GameRepository: Fetching approved games collection (manual refresh)");
-        
-        // One-time fetch for approved games collection
-        db.collection(FirestoreCollections.APPROVED_GAMES)
+        long startedAt = android.os.SystemClock.elapsedRealtime();
+        ApprovedGamesTotalsStore.ref(db)
                 .get()
-                .addOnSuccessListener(querySnapshot -> {
-                    if (querySnapshot != null) {
-                        double totalGst = 0.0;
-                        int approvedCount = 0;
-                        for (DocumentSnapshot document : querySnapshot.getDocuments()) {
-                            try {
-                                ApprovedGameData approvedGame = document.toObject(ApprovedGameData.class);
-                                if (approvedGame != null) {
-                                    totalGst += approvedGame.getGstAmountAsDouble();
-                                    approvedCount++;
-                                }
-                            } catch (Exception e) {
-                                System.out.println("Error parsing approved game: " + e.getMessage());
-                            }
-                        }
-                        totalApprovedGstLiveData.setValue(totalGst);
-                        approvedGamesCountLiveData.setValue(approvedCount);
-                        System.out.println("Total approved GST amount: ₹" + String.format("%.0f", totalGst));
-                        System.out.println("Total approved games count: " + approvedCount);
+                .addOnSuccessListener(snapshot -> {
+                    ApprovedGamesTotals totals = snapshot.toObject(ApprovedGamesTotals.class);
+                    if (totals == null || totals.isSeeding()) {
+                        seedApprovedTotals(startedAt);
+                        return;
                     }
+                    publishApprovedTotals(totals);
+                    logApprovedTotals("counter", 1, startedAt);
                 })
                 .addOnFailureListener(error -> {
-                    System.out.println("GameRepository: Error fetching approved games: " + error.getMessage());
                     errorLiveData.setValue("Failed to load approved games: " + error.getMessage());
                     totalApprovedGstLiveData.setValue(0.0);
                     approvedGamesCountLiveData.setValue(0);
                 });
     }
 
+    /**
+     * Counts the archive into the totals document, or finishes an earlier seed; later loads read
+     * only that document.
+     */
+    private void seedApprovedTotals(long startedAt) {
+        ApprovedGamesTotalsStore.seed(db)
+                .addOnSuccessListener(totals -> {
+                    publishApprovedTotals(totals);
+                    logApprovedTotals("seed", totals != null ? totals.getApprovedGames() + 1 : 1,
+                            startedAt);
+                })
+                .addOnFailureListener(error -> {
+                    errorLiveData.setValue("Failed to load approved games: " + error.getMessage());
+                    totalApprovedGstLiveData.setValue(0.0);
+                    approvedGamesCountLiveData.setValue(0);
+                });
+    }
+
+    private void publishApprovedTotals(@Nullable ApprovedGamesTotals totals) {
+        totalApprovedGstLiveData.setValue(totals != null ? totals.getTotalGst() : 0.0);
+        approvedGamesCountLiveData.setValue(totals != null ? (int) totals.getApprovedGames() : 0);
+    }
+
+    /**
+     * {@code reads} is documents read: 1 from the totals document, or the archive size plus one
+     * when seeding, which is what every load cost before the totals document existed.
+     */
+    private static void logApprovedTotals(String source, long reads, long startedAt) {
+        android.util.Log.i("ApprovedTotals", "approved_totals source=" + source
+                + " reads=" + reads
+                + " ms=" + (android.os.SystemClock.elapsedRealtime() - startedAt));
+    }
+
     /**
      * Loads pre-aggregated month documents (one read per month doc, no composite indexes).
      */
@@ -1895,10 +2113,11 @@ public class GameRepository {
     }
 
     /**
-     * Rebuilds {@code approvedGamesReport_v2/{yyyy-MM}} for the selected calendar month.
-     * Uses a full collection read without {@code orderBy} (no composite index), then filters in memory
-     * by {@link ReportAggregator#yearMonthKey(ApprovedGameData)} so games without {@code approvedAt}
-     * still align with month grouping.
+     * Rebuilds {@code approvedGamesReport_v2/{yyyy-MM}} for the selected calendar month from a single
+     * {@link ApprovedMonthIndex#monthQuery} read, so the cost follows the month's games rather than
+     * the whole archive. The first rebuild on a database first runs the one-time
+     * {@link ApprovedMonthIndex#ensureBackfilled} pass. Approvals keep the month's buckets current on
+     * their own; a rebuild overwrites them and so repairs any drift.
      */
     public void rebuildApprovedGamesReportForMonth(int year, int monthZeroBased,
                                                    Runnable onSuccess, Consumer<String> onFailure) {
@@ -1909,14 +2128,21 @@ public class GameRepository {
             return;
         }
         final String yyyyMm = String.format(Locale.US, "%04d-%02d", year, monthZeroBased + 1);
-        db.collection(FirestoreCollections.APPROVED_GAMES)
-                .get()
+        long startedAt = android.os.SystemClock.elapsedRealtime();
+        ApprovedMonthIndex.ensureBackfilled(db)
+                .onSuccessTask(stamped -> {
+                    if (stamped > 0) {
+                        android.util.Log.d("GameRepository",
+                                "approvedMonthKey backfill stamped=" + stamped);
+                    }
+                    return ApprovedMonthIndex.monthQuery(db, yyyyMm).get();
+                })
                 .addOnSuccessListener(querySnapshot -> {
                     List<ApprovedGameData> monthGames = new ArrayList<>();
                     for (DocumentSnapshot document : querySnapshot.getDocuments()) {
                         try {
                             ApprovedGameData g = document.toObject(ApprovedGameData.class);
-                            if (g != null && yyyyMm.equals(ReportAggregator.yearMonthKey(g))) {
+                            if (g != null) {
                                 monthGames.add(g);
                             }
                         } catch (Exception e) {
@@ -1932,6 +2158,11 @@ public class GameRepository {
                             .document(yyyyMm)
                             .set(doc)
                             .addOnSuccessListener(aVoid -> {
+                                android.util.Log.d("GameRepository",
+                                        "Month report rebuilt: month=" + yyyyMm
+                                                + " games=" + monthGames.size()
+                                                + " elapsedMs=" + (android.os.SystemClock.elapsedRealtime()
+                                                - startedAt));
                                 if (onSuccess != null) {
                                     onSuccess.run();
                                 }
@@ -1959,40 +2190,22 @@ public class GameRepository {
     }
 
     /**
-     * TODO: Remove this after initial backfill — reads all {@code approvedGames} and writes one summary
-     * document per calendar month (batched, max 450 writes per batch).
+     * Rebuilds every {@code approvedGamesReport_v2} month with {@link ApprovedReportsRebuild}: a
+     * paged, checkpointed pass whose memory does not grow with the archive. Calling it again after
+     * a failure resumes where the last committed page left off, unless that run began more than
+     * {@link ApprovedReportsRebuild#MAX_CHECKPOINT_AGE_MS} ago.
      */
     public void rebuildAllApprovedGamesReports(Runnable onSuccess, Consumer<String> onFailure) {
-        db.collection(FirestoreCollections.APPROVED_GAMES)
-                .get()
-                .addOnSuccessListener(querySnapshot -> {
-                    List<ApprovedGameData> all = new ArrayList<>();
-                    for (DocumentSnapshot document : querySnapshot.getDocuments()) {
-                        try {
-                            ApprovedGameData g = document.toObject(ApprovedGameData.class);
-                            if (g != null) {
-                                all.add(g);
-                            }
-                        } catch (Exception e) {
-                            System.out.println("Error parsing approved game: " + e.getMessage());
-                        }
-                    }
-                    Map<String, List<ApprovedGameData>> byMonth = new HashMap<>();
-                    for (ApprovedGameData g : all) {
-                        String key = ReportAggregator.yearMonthKey(g);
-                        if (key == null) {
-                            continue;
-                        }
-                        byMonth.computeIfAbsent(key, k -> new ArrayList<>()).add(g);
-                    }
-                    if (byMonth.isEmpty()) {
-                        if (onSuccess != null) {
-                            onSuccess.run();
-                        }
-                        return;
+        long startedAt = android.os.SystemClock.elapsedRealtime();
+        ApprovedReportsRebuild.run(db)
+                .addOnSuccessListener(months -> {
+                    android.util.Log.d("GameRepository",
+                            "All month reports rebuilt: months=" + months
+                                    + " elapsedMs=" + (android.os.SystemClock.elapsedRealtime()
+                                    - startedAt));
+                    if (onSuccess != null) {
+                        onSuccess.run();
                     }
-                    List<Map.Entry<String, List<ApprovedGameData>>> entries = new ArrayList<>(byMonth.entrySet());
-                    commitReportsBatch(entries, 0, onSuccess, onFailure);
                 })
                 .addOnFailureListener(e -> {
                     if (onFailure != null) {
@@ -2001,33 +2214,43 @@ public class GameRepository {
                 });
     }
 
-    private void commitReportsBatch(List<Map.Entry<String, List<ApprovedGameData>>> entries, int start,
-            Runnable onSuccess, Consumer<String> onFailure) {
-        if (start >= entries.size()) {
-            if (onSuccess != null) {
-                onSuccess.run();
-            }
-            return;
+    /** A {@code gameData_v2} snapshot decoded off the main thread, with its prebuilt row. */
+    private static final class DecodedDashboardRow {
+        final String gameId;
+        final long sequence;
+        final DocumentSnapshot snapshot;
+        final GameDataWrapper wrapper;
+        final String status;
+        final int playerCount;
+        @Nullable final DocumentSnapshot authSnapshot;
+        @Nullable final GameAuth gameAuth;
+        @Nullable final GameItem item;
+
+        DecodedDashboardRow(String gameId, long sequence, DocumentSnapshot snapshot,
+                            GameDataWrapper wrapper, String status, int playerCount,
+                            @Nullable DocumentSnapshot authSnapshot, @Nullable GameAuth gameAuth,
+                            @Nullable GameItem item) {
+            this.gameId = gameId;
+            this.sequence = sequence;
+            this.snapshot = snapshot;
+            this.wrapper = wrapper;
+            this.status = status;
+            this.playerCount = playerCount;
+            this.authSnapshot = authSnapshot;
+            this.gameAuth = gameAuth;
+            this.item = item;
+        }
+    }
+
+    /** Accepted dashboard game data plus the update token it was accepted under. */
+    private static final class DashboardGameDataEntry {
+        final GameDataWrapper wrapper;
+        final long updateToken;
+
+        DashboardGameDataEntry(GameDataWrapper wrapper, long updateToken) {
+            this.wrapper = wrapper;
+            this.updateToken = updateToken;
         }
-        int end = Math.min(start + 450, entries.size());
-        WriteBatch batch = db.batch();
-        for (int i = start; i < end; i++) {
-            Map.Entry<String, List<ApprovedGameData>> e = entries.get(i);
-            MonthlyPointValueReport report = ReportAggregator.buildMonthlyPointValueReport(e.getKey(), e.getValue());
-            ApprovedGamesReportMonth doc = new ApprovedGamesReportMonth(
-                    report.getMonthYear(),
-                    report.getPointValueReports(),
-                    Timestamp.now());
-            batch.set(db.collection(FirestoreCollections.APPROVED_GAMES_REPORT).document(e.getKey()), doc);
-        }
-        int nextStart = end;
-        batch.commit()
-                .addOnSuccessListener(aVoid -> commitReportsBatch(entries, nextStart, onSuccess, onFailure))
-                .addOnFailureListener(e -> {
-                    if (onFailure != null) {
-                        onFailure.accept(e.getMessage());
-                    }
-                });
     }
 
 }
@@ -83,8 +83,13 @@ public class Player {
     // Helper method to calculate total score
     public int getTotalScore() {
         if (scores == null) return 0;
-        return scores.stream()
-                .mapToInt(score -> score != null && score > 0 ? score : 0)
-                .sum();
+        int total = 0;
+        for (int i = 0; i < scores.size(); i++) {
+            Integer score = scores.get(i);
+            if (score != null && score > 0) {
+                total += score;
+            }
+        }
+        return total;
     }
 }
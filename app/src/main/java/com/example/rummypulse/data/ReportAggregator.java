@@ -3,8 +3,10 @@ package com.example.rummypulse.data;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -12,38 +14,64 @@ import java.util.Map;
 
 /**
  * Groups {@link ApprovedGameData} the same way the Reports UI expects (month, then point value).
+ *
+ * <p>Months are handled as a packed index, {@code year * 12 + zeroBasedMonth} (see
+ * {@link #monthIndex}); the {@code yyyy-MM} key and the display label are only formatted once per
+ * month. Parsers and calendars are created once per call rather than once per game.
  */
 public final class ReportAggregator {
 
+    /** {@link #monthIndex} result when the month cannot be determined. */
+    public static final int NO_MONTH = -1;
+
+    /** Parser result for a stored {@code approvedMonthKey} that is not a plain {@code yyyy-MM}. */
+    private static final int STORED_KEY = -2;
+
     private ReportAggregator() {
     }
 
     /**
-     * Stable key for Firestore document id, e.g. {@code 2026-05}. Uses {@code approvedAt} when set,
-     * otherwise parses {@code creationDateTime}. Returns null if month cannot be determined.
+     * Stable key for Firestore document id, e.g. {@code 2026-05}. Uses the stored
+     * {@code approvedMonthKey} when present, then {@code approvedAt}, otherwise parses
+     * {@code creationDateTime}. Returns null if month cannot be determined.
      */
     public static String yearMonthKey(ApprovedGameData game) {
-        if (game == null) {
+        int monthIndex = new MonthParser().monthIndex(game);
+        return monthIndex == STORED_KEY ? game.getApprovedMonthKey() : monthKey(monthIndex);
+    }
+
+    /**
+     * The month key from {@code approvedAt} or {@code creationDateTime} alone, ignoring any stored
+     * {@code approvedMonthKey}; what {@link ApprovedMonthIndex} stamps on legacy rows.
+     */
+    public static String derivedYearMonthKey(ApprovedGameData game) {
+        return monthKey(new MonthParser().derivedMonthIndex(game));
+    }
+
+    /**
+     * Packed month of {@code game} as {@link #yearMonthKey} resolves it, or {@link #NO_MONTH}
+     * (also for a stored key that is not a {@code yyyy-MM} with a real month).
+     */
+    public static int monthIndex(ApprovedGameData game) {
+        int monthIndex = new MonthParser().monthIndex(game);
+        return monthIndex == STORED_KEY ? NO_MONTH : monthIndex;
+    }
+
+    /** {@code yyyy-MM} for a packed month index; null for {@link #NO_MONTH}. */
+    public static String monthKey(int monthIndex) {
+        if (monthIndex < 0) {
             return null;
         }
-        try {
-            Calendar calendar = Calendar.getInstance();
-            if (game.getApprovedAt() != null) {
-                calendar.setTime(game.getApprovedAt().toDate());
-            } else {
-                String creation = game.getCreationDateTime();
-                if (creation == null || creation.isEmpty()) {
-                    return null;
-                }
-                SimpleDateFormat inputFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.getDefault());
-                calendar.setTime(inputFormat.parse(creation));
-            }
-            return String.format(Locale.US, "%04d-%02d",
-                    calendar.get(Calendar.YEAR),
-                    calendar.get(Calendar.MONTH) + 1);
-        } catch (Exception e) {
-            return null;
+        int year = monthIndex / 12;
+        int month = monthIndex % 12 + 1;
+        if (year > 9999) {
+            return String.format(Locale.US, "%04d-%02d", year, month);
         }
+        char[] key = {
+                (char) ('0' + year / 1000), (char) ('0' + year / 100 % 10),
+                (char) ('0' + year / 10 % 10), (char) ('0' + year % 10), '-',
+                (char) ('0' + month / 10), (char) ('0' + month % 10)};
+        return new String(key);
     }
 
     public static String displayMonthForYearMonth(String yyyyMm) {
@@ -57,19 +85,59 @@ public final class ReportAggregator {
     }
 
     /**
-     * Full aggregation used by "Build all" and for in-memory preview if needed.
+     * Full aggregation used by "Build all" and for in-memory preview if needed. Games are sorted
+     * once by packed month, which both groups them and yields the newest-first order.
      */
     public static List<MonthlyPointValueReport> aggregateAll(List<ApprovedGameData> games) {
+        MonthParser parser = new MonthParser();
+        long[] order = new long[games.size()];
+        int count = 0;
+        for (int position = 0; position < games.size(); position++) {
+            int monthIndex = parser.monthIndex(games.get(position));
+            if (monthIndex == STORED_KEY) {
+                return aggregateByKeyString(games);
+            }
+            if (monthIndex != NO_MONTH) {
+                order[count++] = ((long) monthIndex << 32) | position;
+            }
+        }
+        Arrays.sort(order, 0, count);
+
+        List<MonthlyPointValueReport> monthlyReports = new ArrayList<>();
+        int end = count;
+        while (end > 0) {
+            int monthIndex = (int) (order[end - 1] >>> 32);
+            int start = end - 1;
+            while (start > 0 && (int) (order[start - 1] >>> 32) == monthIndex) {
+                start--;
+            }
+            List<ApprovedGameData> monthGames = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                monthGames.add(games.get((int) order[i]));
+            }
+            monthlyReports.add(buildReport(parser.displayMonth(monthIndex), monthGames));
+            end = start;
+        }
+        return monthlyReports;
+    }
+
+    /**
+     * Grouping by the key string, for archives holding a hand-edited {@code approvedMonthKey}
+     * that has no packed index; such keys group and sort as they always have.
+     */
+    private static List<MonthlyPointValueReport> aggregateByKeyString(List<ApprovedGameData> games) {
         Map<String, List<ApprovedGameData>> byMonth = new HashMap<>();
-        for (ApprovedGameData g : games) {
-            String k = yearMonthKey(g);
-            if (k == null) {
+        for (ApprovedGameData game : games) {
+            String key = yearMonthKey(game);
+            if (key == null) {
                 continue;
             }
-            if (!byMonth.containsKey(k)) {
-                byMonth.put(k, new ArrayList<>());
+            List<ApprovedGameData> monthGames = byMonth.get(key);
+            if (monthGames == null) {
+                monthGames = new ArrayList<>();
+                byMonth.put(key, monthGames);
             }
-            byMonth.get(k).add(g);
+            monthGames.add(game);
         }
         List<MonthlyPointValueReport> monthlyReports = new ArrayList<>();
         for (Map.Entry<String, List<ApprovedGameData>> e : byMonth.entrySet()) {
@@ -83,49 +151,270 @@ public final class ReportAggregator {
      * Build one month's report from games already belonging to that calendar month.
      */
     public static MonthlyPointValueReport buildMonthlyPointValueReport(String yyyyMm, List<ApprovedGameData> monthGames) {
-        String displayMonthYear = displayMonthForYearMonth(yyyyMm);
-        Map<Double, List<ApprovedGameData>> gamesByPointValue = new HashMap<>();
+        return buildReport(displayMonthForYearMonth(yyyyMm), monthGames);
+    }
+
+    /**
+     * Groups by point value with a primitive open-addressing table keyed on the value's bits, so
+     * grouping matches {@link Double#equals} without boxing. Each bucket keeps its games and sums
+     * them in input order.
+     */
+    private static MonthlyPointValueReport buildReport(String displayMonthYear, List<ApprovedGameData> monthGames) {
+        PointValueTable table = new PointValueTable();
         for (ApprovedGameData game : monthGames) {
-            double pointValue = game.getPointValue();
-            if (!gamesByPointValue.containsKey(pointValue)) {
-                gamesByPointValue.put(pointValue, new ArrayList<>());
-            }
-            gamesByPointValue.get(pointValue).add(game);
-        }
-        List<PointValueReport> pointValueReports = new ArrayList<>();
-        for (Map.Entry<Double, List<ApprovedGameData>> pointEntry : gamesByPointValue.entrySet()) {
-            double pointValue = pointEntry.getKey();
-            List<ApprovedGameData> pointValueGames = pointEntry.getValue();
-            int totalGames = pointValueGames.size();
-            double totalGstCollected = 0.0;
-            int totalPlayers = 0;
-            for (ApprovedGameData game : pointValueGames) {
-                totalGstCollected += game.getGstAmountAsDouble();
-                totalPlayers += game.getNumPlayers();
-            }
+            PointValueBucket bucket = table.bucket(game.getPointValue());
+            bucket.games.add(game);
+            bucket.totalGstCollected += game.getGstAmountAsDouble();
+            bucket.totalPlayers += game.getNumPlayers();
+        }
+        List<PointValueBucket> buckets = table.buckets;
+        buckets.sort((b1, b2) -> Double.compare(b1.pointValue, b2.pointValue));
+        List<PointValueReport> pointValueReports = new ArrayList<>(buckets.size());
+        for (PointValueBucket bucket : buckets) {
             pointValueReports.add(new PointValueReport(
-                    pointValue,
-                    totalGames,
-                    totalGstCollected,
-                    totalPlayers,
-                    pointValueGames));
+                    bucket.pointValue,
+                    bucket.games.size(),
+                    bucket.totalGstCollected,
+                    bucket.totalPlayers,
+                    bucket.games));
         }
-        pointValueReports.sort((r1, r2) -> Double.compare(r1.getPointValue(), r2.getPointValue()));
         return new MonthlyPointValueReport(displayMonthYear, pointValueReports);
     }
 
+    /**
+     * Newest month first. Each label is parsed once up front instead of on every comparison;
+     * labels that do not parse fall back to comparing the strings, as before.
+     */
     public static void sortMonthlyReportsDesc(List<MonthlyPointValueReport> monthlyReports) {
         SimpleDateFormat monthYearFormat = new SimpleDateFormat("MMMM yyyy", Locale.getDefault());
-        monthlyReports.sort((r1, r2) -> {
+        int size = monthlyReports.size();
+        long[] millis = new long[size];
+        boolean[] parsed = new boolean[size];
+        Integer[] positions = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            positions[i] = i;
             try {
-                Calendar cal1 = Calendar.getInstance();
-                Calendar cal2 = Calendar.getInstance();
-                cal1.setTime(monthYearFormat.parse(r1.getMonthYear()));
-                cal2.setTime(monthYearFormat.parse(r2.getMonthYear()));
-                return cal2.compareTo(cal1);
+                millis[i] = monthYearFormat.parse(monthlyReports.get(i).getMonthYear()).getTime();
+                parsed[i] = true;
             } catch (Exception e) {
-                return r2.getMonthYear().compareTo(r1.getMonthYear());
+                parsed[i] = false;
             }
+        }
+        Arrays.sort(positions, (p1, p2) -> {
+            if (parsed[p1] && parsed[p2]) {
+                return Long.compare(millis[p2], millis[p1]);
+            }
+            return monthlyReports.get(p2).getMonthYear().compareTo(monthlyReports.get(p1).getMonthYear());
         });
+        List<MonthlyPointValueReport> sorted = new ArrayList<>(size);
+        for (Integer position : positions) {
+            sorted.add(monthlyReports.get(position));
+        }
+        for (int i = 0; i < size; i++) {
+            monthlyReports.set(i, sorted.get(i));
+        }
+    }
+
+    /** Point value bits to bucket, linear probing over a power-of-two table kept under half full. */
+    private static final class PointValueTable {
+        final List<PointValueBucket> buckets = new ArrayList<>();
+        private long[] slotBits = new long[16];
+        private int[] slotBucket = filled(16);
+
+        PointValueBucket bucket(double pointValue) {
+            long bits = Double.doubleToLongBits(pointValue);
+            int slot = find(slotBits, slotBucket, bits);
+            if (slotBucket[slot] != -1) {
+                return buckets.get(slotBucket[slot]);
+            }
+            PointValueBucket bucket = new PointValueBucket(pointValue);
+            slotBits[slot] = bits;
+            slotBucket[slot] = buckets.size();
+            buckets.add(bucket);
+            if (buckets.size() * 2 > slotBits.length) {
+                grow();
+            }
+            return bucket;
+        }
+
+        private void grow() {
+            long[] bits = new long[slotBits.length * 2];
+            int[] indexes = filled(bits.length);
+            for (int i = 0; i < buckets.size(); i++) {
+                long key = Double.doubleToLongBits(buckets.get(i).pointValue);
+                int slot = find(bits, indexes, key);
+                bits[slot] = key;
+                indexes[slot] = i;
+            }
+            slotBits = bits;
+            slotBucket = indexes;
+        }
+
+        private static int find(long[] bits, int[] indexes, long key) {
+            int mask = bits.length - 1;
+            long h = key * 0x9E3779B97F4A7C15L;
+            int slot = (int) (h ^ (h >>> 32)) & mask;
+            while (indexes[slot] != -1 && bits[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private static int[] filled(int length) {
+            int[] indexes = new int[length];
+            Arrays.fill(indexes, -1);
+            return indexes;
+        }
+    }
+
+    private static final class PointValueBucket {
+        final double pointValue;
+        final List<ApprovedGameData> games = new ArrayList<>();
+        double totalGstCollected;
+        int totalPlayers;
+
+        PointValueBucket(double pointValue) {
+            this.pointValue = pointValue;
+        }
+    }
+
+    /**
+     * Per-call month resolution state. {@code creationDateTime} values in the canonical
+     * {@code yyyy-MM-dd HH:mm:ss} shape are read digit by digit when the default calendar is
+     * Gregorian; anything else, including times that lenient parsing could roll into another
+     * month, goes through the same {@link SimpleDateFormat} and default {@link Calendar} as before.
+     */
+    private static final class MonthParser {
+        private final Calendar calendar = Calendar.getInstance();
+        private SimpleDateFormat creationFormat;
+        private boolean gregorian;
+        private SimpleDateFormat displayFormat;
+        private Calendar keyCalendar;
+
+        int monthIndex(ApprovedGameData game) {
+            if (game == null) {
+                return NO_MONTH;
+            }
+            String stored = game.getApprovedMonthKey();
+            if (stored == null || stored.isEmpty()) {
+                return derivedMonthIndex(game);
+            }
+            int monthIndex = parseMonthKey(stored);
+            return monthIndex != NO_MONTH ? monthIndex : STORED_KEY;
+        }
+
+        int derivedMonthIndex(ApprovedGameData game) {
+            if (game == null) {
+                return NO_MONTH;
+            }
+            try {
+                if (game.getApprovedAt() != null) {
+                    calendar.setTime(game.getApprovedAt().toDate());
+                    return calendar.get(Calendar.YEAR) * 12 + calendar.get(Calendar.MONTH);
+                }
+                String creation = game.getCreationDateTime();
+                if (creation == null || creation.isEmpty()) {
+                    return NO_MONTH;
+                }
+                if (creationFormat == null) {
+                    creationFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.getDefault());
+                    gregorian = calendar.getClass() == GregorianCalendar.class
+                            && creationFormat.getCalendar().getClass() == GregorianCalendar.class;
+                }
+                int fast = gregorian ? canonicalCreationMonth(creation) : NO_MONTH;
+                if (fast != NO_MONTH) {
+                    return fast;
+                }
+                calendar.setTime(creationFormat.parse(creation));
+                return calendar.get(Calendar.YEAR) * 12 + calendar.get(Calendar.MONTH);
+            } catch (Exception e) {
+                return NO_MONTH;
+            }
+        }
+
+        /** Same label as {@link #displayMonthForYearMonth} for the index's key. */
+        String displayMonth(int monthIndex) {
+            if (displayFormat == null) {
+                displayFormat = new SimpleDateFormat("MMMM yyyy", Locale.getDefault());
+                keyCalendar = Calendar.getInstance(Locale.US);
+            }
+            if (monthIndex / 12 > 9999) {
+                return displayMonthForYearMonth(monthKey(monthIndex));
+            }
+            keyCalendar.clear();
+            keyCalendar.set(monthIndex / 12, monthIndex % 12, 1);
+            return displayFormat.format(keyCalendar.getTime());
+        }
+
+        /** Index of a strict {@code yyyy-MM} key with a real month, else {@link #NO_MONTH}. */
+        private static int parseMonthKey(String key) {
+            if (key == null || key.length() != 7 || key.charAt(4) != '-') {
+                return NO_MONTH;
+            }
+            int year = digits(key, 0, 4);
+            int month = digits(key, 5, 2);
+            if (year < 1 || month < 1 || month > 12) {
+                return NO_MONTH;
+            }
+            return year * 12 + month - 1;
+        }
+
+        /**
+         * Month of an ASCII {@code yyyy-MM-dd HH:mm:ss} value whose fields are all in range, or
+         * {@link #NO_MONTH} to defer to the lenient parser. The first and last hour of a month
+         * are deferred too, since a daylight saving gap there can move the parsed time across
+         * the month boundary; pre-Gregorian years are deferred for the calendar cutover.
+         */
+        private static int canonicalCreationMonth(String value) {
+            if (value.length() < 19
+                    || (value.length() > 19 && Character.isDigit(value.charAt(19)))
+                    || value.charAt(4) != '-' || value.charAt(7) != '-' || value.charAt(10) != ' '
+                    || value.charAt(13) != ':' || value.charAt(16) != ':') {
+                return NO_MONTH;
+            }
+            int year = digits(value, 0, 4);
+            int month = digits(value, 5, 2);
+            int day = digits(value, 8, 2);
+            int hour = digits(value, 11, 2);
+            int minute = digits(value, 14, 2);
+            int second = digits(value, 17, 2);
+            if (year < 1600 || month < 1 || month > 12 || hour < 0 || hour > 23
+                    || minute < 0 || minute > 59 || second < 0 || second > 59) {
+                return NO_MONTH;
+            }
+            int lastDay = daysInMonth(year, month);
+            if (day < 1 || day > lastDay || (day == 1 && hour == 0) || (day == lastDay && hour == 23)) {
+                return NO_MONTH;
+            }
+            return year * 12 + month - 1;
+        }
+
+        private static int daysInMonth(int year, int month) {
+            switch (month) {
+                case 2:
+                    boolean leap = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+                    return leap ? 29 : 28;
+                case 4:
+                case 6:
+                case 9:
+                case 11:
+                    return 30;
+                default:
+                    return 31;
+            }
+        }
+
+        /** Non-negative value of {@code length} ASCII digits at {@code start}, or -1. */
+        private static int digits(String value, int start, int length) {
+            int result = 0;
+            for (int i = start; i < start + length; i++) {
+                char c = value.charAt(i);
+                if (c < '0' || c > '9') {
+                    return -1;
+                }
+                result = result * 10 + (c - '0');
+            }
+            return result;
+        }
     }
 }
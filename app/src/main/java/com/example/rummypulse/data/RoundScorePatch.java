@@ -139,6 +139,34 @@ public final class RoundScorePatch {
         return patched;
     }
 
+    /**
+     * Maps each entry to the {@code playerId} it names in {@code data}, matching any identity
+     * form a player has, since older patches may have been keyed by user, random number or
+     * name. Returns null when an entry no longer matches a distinct player.
+     */
+    public Map<String, Integer> resolvePlayerIds(GameData data) {
+        if (data == null || data.getPlayers() == null) {
+            return null;
+        }
+        List<Player> players = data.getPlayers();
+        Set<Integer> used = new HashSet<>();
+        Map<String, Integer> scores = new LinkedHashMap<>();
+        for (Entry entry : entries) {
+            int index = -1;
+            for (int i = 0; i < players.size() && index < 0; i++) {
+                if (!used.contains(i) && hasIdentity(players.get(i), entry.identity)) {
+                    index = i;
+                }
+            }
+            if (index < 0 || players.get(index).getPlayerId() == null) {
+                return null;
+            }
+            used.add(index);
+            scores.put(players.get(index).getPlayerId(), entry.score);
+        }
+        return scores;
+    }
+
     public int getRound1Based() {
         return round1Based;
     }
@@ -220,6 +248,15 @@ public final class RoundScorePatch {
         return -1;
     }
 
+    private static boolean hasIdentity(Player player, String identity) {
+        return player != null
+                && ((player.getPlayerId() != null && identity.equals("p:" + player.getPlayerId()))
+                || (player.getUserId() != null && identity.equals("u:" + player.getUserId()))
+                || (player.getRandomNumber() != null
+                        && identity.equals("r:" + player.getRandomNumber()))
+                || (player.getName() != null && identity.equals("n:" + player.getName())));
+    }
+
     private static String identityOf(Player player) {
         if (player != null && player.getPlayerId() != null
                 && !player.getPlayerId().trim().isEmpty()) {
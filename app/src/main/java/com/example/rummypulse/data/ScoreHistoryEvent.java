@@ -2,30 +2,56 @@ package com.example.rummypulse.data;
 
 import com.google.firebase.firestore.FieldValue;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeSet;
 
-/** Builder/parser for append-only round recovery records. */
+/**
+ * Builder/parser for append-only round recovery records.
+ *
+ * <p>Layout 2 keeps one document per operation under {@code {game}/operations/{op}} with every
+ * affected round in its {@code rounds} map, plus one {@code {game}/latest/{round}} index that
+ * points at the newest and newest complete snapshot of each round. Layout 1 wrote one document
+ * per round under {@code {game}/rounds/{round}/events/{op}}; those are still read until a game
+ * is backfilled.
+ */
 public final class ScoreHistoryEvent {
-    public static final int SCHEMA_VERSION = 1;
+    public static final int SCHEMA_VERSION = 2;
+    public static final int LEGACY_SCHEMA_VERSION = 1;
+    public static final String OPERATIONS = "operations";
+    public static final String LATEST = "latest";
+    public static final String LEGACY_ROUNDS = "rounds";
+    public static final String LEGACY_EVENTS = "events";
 
     private ScoreHistoryEvent() {}
 
-    public static Map<String, Object> create(String gameId, int round1Based,
-            GameData committedData, String operationId, String operationType,
-            String editorUserId, long editGeneration, long previousRevision,
-            long committedRevision) {
+    /** Layout 2 record for one operation covering {@code rounds1Based}. */
+    public static Map<String, Object> createOperation(String gameId,
+            Collection<Integer> rounds1Based, GameData committedData, String operationId,
+            String operationType, String editorUserId, long editGeneration,
+            long previousRevision, long committedRevision) {
         if (gameId == null || operationId == null || editorUserId == null) {
             throw new IllegalArgumentException("History identity is required.");
         }
+        if (rounds1Based == null || rounds1Based.isEmpty()) {
+            throw new IllegalArgumentException("History needs at least one round.");
+        }
         GameDataSchema.normalize(committedData);
-        Map<String, Integer> scores = snapshot(committedData, round1Based);
+        Map<String, Object> rounds = new LinkedHashMap<>();
+        List<Integer> roundNumbers = new ArrayList<>(new TreeSet<>(rounds1Based));
+        for (Integer round : roundNumbers) {
+            Map<String, Integer> scores = snapshot(committedData, round);
+            rounds.put(String.valueOf(round), roundEntry(scores));
+        }
         Map<String, Object> event = new LinkedHashMap<>();
         event.put("schemaVersion", SCHEMA_VERSION);
         event.put("gameId", gameId);
-        event.put("round", round1Based);
-        event.put("scoresByPlayerId", scores);
-        event.put("recoveryComplete", isRecoveryComplete(scores));
+        event.put("roundNumbers", roundNumbers);
+        event.put("rounds", rounds);
         event.put("operationId", operationId);
         event.put("operationType", operationType);
         event.put("editorUserId", editorUserId);
@@ -36,6 +62,180 @@ public final class ScoreHistoryEvent {
         return event;
     }
 
+    /**
+     * Merge fields for a round's latest index after an operation. The complete-snapshot fields
+     * are only included when {@code scores} is complete, so merging an incomplete snapshot
+     * keeps pointing recovery at the last complete one.
+     */
+    public static Map<String, Object> latestIndex(String gameId, int round1Based,
+            String operationId, long committedRevision, Map<String, Integer> scores) {
+        Map<String, Object> index = new LinkedHashMap<>();
+        index.put("schemaVersion", SCHEMA_VERSION);
+        index.put("gameId", gameId);
+        index.put("round", round1Based);
+        index.put("latestOperationId", operationId);
+        index.put("latestCommittedRevision", committedRevision);
+        if (isRecoveryComplete(scores)) {
+            index.put("completeOperationId", operationId);
+            index.put("completeCommittedRevision", committedRevision);
+            index.put("completeScoresByPlayerId", new LinkedHashMap<>(scores));
+        }
+        return index;
+    }
+
+    /**
+     * Marker stored at {@code gameScoreHistory_v2/{game}}. Games created with layout 2 mark
+     * {@code legacyEvents=false} so deletion can skip the per-round layout 1 sweep.
+     */
+    public static Map<String, Object> layoutMarker(boolean legacyEvents) {
+        Map<String, Object> marker = new LinkedHashMap<>();
+        marker.put("schemaVersion", SCHEMA_VERSION);
+        marker.put("legacyEvents", legacyEvents);
+        return marker;
+    }
+
+    /** Whether a game's layout 1 round collections may hold events that must be read. */
+    public static boolean mayHaveLegacyEvents(Map<String, Object> marker) {
+        return marker == null || !Boolean.FALSE.equals(marker.get("legacyEvents"));
+    }
+
+    /** Whether recovery must still fall back to layout 1 and copy it into layout 2. */
+    public static boolean needsLegacyBackfill(Map<String, Object> marker) {
+        return mayHaveLegacyEvents(marker)
+                && (marker == null || !Boolean.TRUE.equals(marker.get("legacyBackfilled")));
+    }
+
+    /**
+     * Scores of {@code round1Based} in a stored record of either layout, or an empty map when
+     * the record does not cover that round.
+     */
+    public static Map<String, Integer> roundScores(Map<String, Object> document,
+            int round1Based) {
+        if (document == null) return Collections.emptyMap();
+        Object rounds = document.get("rounds");
+        if (rounds instanceof Map) {
+            Object entry = ((Map<?, ?>) rounds).get(String.valueOf(round1Based));
+            return entry instanceof Map
+                    ? parseScores(((Map<?, ?>) entry).get("scoresByPlayerId"))
+                    : Collections.emptyMap();
+        }
+        Object round = document.get("round");
+        if (round instanceof Number && ((Number) round).intValue() == round1Based) {
+            return parseScores(document.get("scoresByPlayerId"));
+        }
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Layout 2 records rebuilt from layout 1 events, one per operation ID with the rounds of
+     * all its events merged. {@code committedAt} is carried over from the original events.
+     */
+    public static Map<String, Map<String, Object>> backfillOperations(
+            Collection<Map<String, Object>> legacyEvents) {
+        Map<String, Map<String, Object>> operations = new LinkedHashMap<>();
+        for (Map<String, Object> legacy : legacyEvents) {
+            Object operationId = legacy.get("operationId");
+            Object round = legacy.get("round");
+            if (!(operationId instanceof String) || !(round instanceof Number)) {
+                continue;
+            }
+            Map<String, Object> operation = operations.get(operationId);
+            if (operation == null) {
+                operation = new LinkedHashMap<>();
+                operation.put("schemaVersion", SCHEMA_VERSION);
+                operation.put("gameId", legacy.get("gameId"));
+                operation.put("roundNumbers", new ArrayList<Integer>());
+                operation.put("rounds", new LinkedHashMap<String, Object>());
+                for (String field : new String[] {"operationId", "operationType",
+                        "editorUserId", "editGeneration", "previousRevision",
+                        "committedRevision", "committedAt"}) {
+                    operation.put(field, legacy.get(field));
+                }
+                operation.put("backfilled", true);
+                operations.put((String) operationId, operation);
+            }
+            int round1Based = ((Number) round).intValue();
+            @SuppressWarnings("unchecked")
+            List<Integer> roundNumbers = (List<Integer>) operation.get("roundNumbers");
+            @SuppressWarnings("unchecked")
+            Map<String, Object> rounds = (Map<String, Object>) operation.get("rounds");
+            if (!roundNumbers.contains(round1Based)) {
+                roundNumbers.add(round1Based);
+                Collections.sort(roundNumbers);
+            }
+            rounds.put(String.valueOf(round1Based),
+                    roundEntry(parseScores(legacy.get("scoresByPlayerId"))));
+        }
+        return operations;
+    }
+
+    /**
+     * Latest index per round rebuilt from layout 1 events: the highest committed revision
+     * wins, and the complete fields come from the highest complete one.
+     */
+    public static Map<Integer, Map<String, Object>> backfillLatest(String gameId,
+            Collection<Map<String, Object>> legacyEvents) {
+        Map<Integer, Map<String, Object>> newest = new LinkedHashMap<>();
+        Map<Integer, Map<String, Object>> newestComplete = new LinkedHashMap<>();
+        for (Map<String, Object> legacy : legacyEvents) {
+            Object round = legacy.get("round");
+            if (!(round instanceof Number) || !(legacy.get("operationId") instanceof String)) {
+                continue;
+            }
+            int round1Based = ((Number) round).intValue();
+            if (isNewer(legacy, newest.get(round1Based))) {
+                newest.put(round1Based, legacy);
+            }
+            if (isRecoveryComplete(parseScores(legacy.get("scoresByPlayerId")))
+                    && isNewer(legacy, newestComplete.get(round1Based))) {
+                newestComplete.put(round1Based, legacy);
+            }
+        }
+        Map<Integer, Map<String, Object>> indexes = new LinkedHashMap<>();
+        for (Map.Entry<Integer, Map<String, Object>> entry : newest.entrySet()) {
+            Map<String, Object> latest = entry.getValue();
+            Map<String, Object> index = latestIndex(gameId, entry.getKey(),
+                    (String) latest.get("operationId"), revisionOf(latest),
+                    Collections.<String, Integer>emptyMap());
+            Map<String, Object> complete = newestComplete.get(entry.getKey());
+            if (complete != null) {
+                index.put("completeOperationId", complete.get("operationId"));
+                index.put("completeCommittedRevision", revisionOf(complete));
+                index.put("completeScoresByPlayerId",
+                        parseScores(complete.get("scoresByPlayerId")));
+            }
+            indexes.put(entry.getKey(), index);
+        }
+        return indexes;
+    }
+
+    /**
+     * Combines a stored latest index with one rebuilt by a backfill. The latest and complete
+     * pointers are chosen independently, each from whichever side has the higher revision,
+     * so a backfill never hides an operation recorded after it started.
+     */
+    public static Map<String, Object> mergeLatest(Map<String, Object> stored,
+            Map<String, Object> backfilled) {
+        if (stored == null) return new LinkedHashMap<>(backfilled);
+        Map<String, Object> merged = new LinkedHashMap<>(stored);
+        if (longField(backfilled, "latestCommittedRevision")
+                > longField(stored, "latestCommittedRevision")) {
+            merged.put("latestOperationId", backfilled.get("latestOperationId"));
+            merged.put("latestCommittedRevision", backfilled.get("latestCommittedRevision"));
+        }
+        if (backfilled.containsKey("completeOperationId")
+                && (!stored.containsKey("completeOperationId")
+                || longField(backfilled, "completeCommittedRevision")
+                        > longField(stored, "completeCommittedRevision"))) {
+            merged.put("completeOperationId", backfilled.get("completeOperationId"));
+            merged.put("completeCommittedRevision",
+                    backfilled.get("completeCommittedRevision"));
+            merged.put("completeScoresByPlayerId",
+                    backfilled.get("completeScoresByPlayerId"));
+        }
+        return merged;
+    }
+
     public static Map<String, Integer> snapshot(GameData data, int round1Based) {
         if (round1Based < 1 || round1Based > GameIntegrityValidator.ROUND_COUNT) {
             throw new IllegalArgumentException("Round must be between 1 and 10.");
@@ -56,4 +256,35 @@ public final class ScoreHistoryEvent {
         }
         return true;
     }
+
+    public static Map<String, Integer> parseScores(Object raw) {
+        Map<String, Integer> parsed = new LinkedHashMap<>();
+        if (!(raw instanceof Map)) return parsed;
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) raw).entrySet()) {
+            if (entry.getKey() instanceof String && entry.getValue() instanceof Number) {
+                parsed.put((String) entry.getKey(), ((Number) entry.getValue()).intValue());
+            }
+        }
+        return parsed;
+    }
+
+    private static Map<String, Object> roundEntry(Map<String, Integer> scores) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("scoresByPlayerId", scores);
+        entry.put("recoveryComplete", isRecoveryComplete(scores));
+        return entry;
+    }
+
+    private static boolean isNewer(Map<String, Object> candidate, Map<String, Object> current) {
+        return current == null || revisionOf(candidate) > revisionOf(current);
+    }
+
+    private static long revisionOf(Map<String, Object> event) {
+        return longField(event, "committedRevision");
+    }
+
+    private static long longField(Map<String, Object> document, String field) {
+        Object value = document.get(field);
+        return value instanceof Number ? ((Number) value).longValue() : 0L;
+    }
 }
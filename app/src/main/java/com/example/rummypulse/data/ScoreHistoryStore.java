@@ -0,0 +1,208 @@
+package com.example.rummypulse.data;
+
+import androidx.annotation.NonNull;
+
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.firestore.CollectionReference;
+import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.QuerySnapshot;
+import com.google.firebase.firestore.SetOptions;
+import com.google.firebase.firestore.Transaction;
+import com.google.firebase.firestore.WriteBatch;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Firestore side of {@link ScoreHistoryEvent}: where each layout lives, the transactional
+ * write made with every committed score operation, the lazy layout 1 backfill, and the
+ * references a game deletion has to remove.
+ */
+public final class ScoreHistoryStore {
+    /**
+     * Backfilled copies per batch. The rules check each copy with an {@code exists()} on its own
+     * layout 1 event, and a batched write may make at most 20 document access calls; the
+     * {@code games_v2} lookup for the editor check takes one more.
+     */
+    static final int BACKFILL_COPIES_PER_BATCH = 15;
+
+    /** Backfills currently running, so repeated previews of one game share a single run. */
+    private static final Map<String, Task<Void>> BACKFILLS_IN_FLIGHT = new HashMap<>();
+
+    private ScoreHistoryStore() {}
+
+    public static DocumentReference rootRef(FirebaseFirestore db, String gameId) {
+        return db.collection(FirestoreCollections.GAME_SCORE_HISTORY).document(gameId);
+    }
+
+    public static DocumentReference operationRef(FirebaseFirestore db, String gameId,
+            String operationId) {
+        return rootRef(db, gameId).collection(ScoreHistoryEvent.OPERATIONS)
+                .document(operationId);
+    }
+
+    public static DocumentReference latestRef(FirebaseFirestore db, String gameId,
+            int round1Based) {
+        return rootRef(db, gameId).collection(ScoreHistoryEvent.LATEST)
+                .document(String.valueOf(round1Based));
+    }
+
+    public static DocumentReference legacyEventRef(FirebaseFirestore db, String gameId,
+            int round1Based, String operationId) {
+        return rootRef(db, gameId).collection(ScoreHistoryEvent.LEGACY_ROUNDS)
+                .document(String.valueOf(round1Based))
+                .collection(ScoreHistoryEvent.LEGACY_EVENTS).document(operationId);
+    }
+
+    /**
+     * Records one committed operation: a single document covering {@code rounds1Based} and,
+     * when {@code indexLatest} is set, a merge into each round's latest index.
+     */
+    public static void record(Transaction transaction, FirebaseFirestore db, String gameId,
+            Collection<Integer> rounds1Based, GameData committedData, String operationId,
+            String operationType, String editorUserId, long editGeneration,
+            long previousRevision, long committedRevision, boolean indexLatest) {
+        transaction.set(operationRef(db, gameId, operationId),
+                ScoreHistoryEvent.createOperation(gameId, rounds1Based, committedData,
+                        operationId, operationType, editorUserId, editGeneration,
+                        previousRevision, committedRevision));
+        if (!indexLatest) return;
+        for (Integer round : rounds1Based) {
+            transaction.set(latestRef(db, gameId, round),
+                    ScoreHistoryEvent.latestIndex(gameId, round, operationId,
+                            committedRevision,
+                            ScoreHistoryEvent.snapshot(committedData, round)),
+                    SetOptions.merge());
+        }
+    }
+
+    /**
+     * Copies a game's layout 1 events into layout 2. Operation documents that already exist
+     * are skipped, the latest indexes are merged in a transaction so concurrent saves keep
+     * their pointers, and the root marker is written last so an interrupted run is retried.
+     * While a run for {@code gameId} is in flight, later calls return that run.
+     */
+    public static Task<Void> backfillLegacy(FirebaseFirestore db, String gameId) {
+        synchronized (BACKFILLS_IN_FLIGHT) {
+            Task<Void> running = BACKFILLS_IN_FLIGHT.get(gameId);
+            if (running != null) return running;
+            Task<Void> started = runBackfill(db, gameId);
+            if (!started.isComplete()) {
+                BACKFILLS_IN_FLIGHT.put(gameId, started);
+                started.addOnCompleteListener(done -> {
+                    synchronized (BACKFILLS_IN_FLIGHT) {
+                        BACKFILLS_IN_FLIGHT.remove(gameId);
+                    }
+                });
+            }
+            return started;
+        }
+    }
+
+    private static Task<Void> runBackfill(FirebaseFirestore db, String gameId) {
+        List<Task<QuerySnapshot>> reads = new ArrayList<>();
+        reads.add(rootRef(db, gameId).collection(ScoreHistoryEvent.OPERATIONS).get());
+        for (int round = 1; round <= GameIntegrityValidator.ROUND_COUNT; round++) {
+            reads.add(legacyEvents(db, gameId, round).get());
+        }
+        return Tasks.whenAllSuccess(reads).onSuccessTask(results -> {
+            Set<String> existing = new HashSet<>();
+            for (DocumentSnapshot operation : ((QuerySnapshot) results.get(0)).getDocuments()) {
+                existing.add(operation.getId());
+            }
+            List<Map<String, Object>> legacy = new ArrayList<>();
+            for (int index = 1; index < results.size(); index++) {
+                for (DocumentSnapshot event : ((QuerySnapshot) results.get(index)).getDocuments()) {
+                    if (event.getData() != null) legacy.add(event.getData());
+                }
+            }
+            List<WriteBatch> batches = new ArrayList<>();
+            WriteBatch batch = null;
+            int writes = 0;
+            for (Map.Entry<String, Map<String, Object>> operation
+                    : ScoreHistoryEvent.backfillOperations(legacy).entrySet()) {
+                if (existing.contains(operation.getKey())) continue;
+                if (batch == null || writes == BACKFILL_COPIES_PER_BATCH) {
+                    batch = db.batch();
+                    batches.add(batch);
+                    writes = 0;
+                }
+                batch.set(operationRef(db, gameId, operation.getKey()), operation.getValue());
+                writes++;
+            }
+            Map<Integer, Map<String, Object>> latest =
+                    ScoreHistoryEvent.backfillLatest(gameId, legacy);
+            return commitSequentially(batches, 0)
+                    .onSuccessTask(unused -> db.<Void>runTransaction(transaction -> {
+                        List<DocumentSnapshot> stored = new ArrayList<>();
+                        for (Integer round : latest.keySet()) {
+                            stored.add(transaction.get(latestRef(db, gameId, round)));
+                        }
+                        int index = 0;
+                        for (Map.Entry<Integer, Map<String, Object>> entry : latest.entrySet()) {
+                            DocumentSnapshot current = stored.get(index++);
+                            transaction.set(latestRef(db, gameId, entry.getKey()),
+                                    ScoreHistoryEvent.mergeLatest(
+                                            current.exists() ? current.getData() : null,
+                                            entry.getValue()));
+                        }
+                        Map<String, Object> marker = ScoreHistoryEvent.layoutMarker(true);
+                        marker.put("legacyBackfilled", true);
+                        transaction.set(rootRef(db, gameId), marker);
+                        return null;
+                    }));
+        });
+    }
+
+    /**
+     * Every history document of a game, the root marker last. The ten per-round layout 1
+     * queries are only issued when the marker says the game may still have such events.
+     */
+    public static Task<List<DocumentReference>> loadReferences(FirebaseFirestore db,
+            String gameId) {
+        DocumentReference root = rootRef(db, gameId);
+        return root.get().onSuccessTask(marker -> {
+            List<Task<QuerySnapshot>> reads = new ArrayList<>();
+            reads.add(root.collection(ScoreHistoryEvent.OPERATIONS).get());
+            reads.add(root.collection(ScoreHistoryEvent.LATEST).get());
+            if (ScoreHistoryEvent.mayHaveLegacyEvents(
+                    marker.exists() ? marker.getData() : null)) {
+                for (int round = 1; round <= GameIntegrityValidator.ROUND_COUNT; round++) {
+                    reads.add(legacyEvents(db, gameId, round).get());
+                }
+            }
+            return Tasks.whenAllSuccess(reads).continueWith(task -> {
+                List<DocumentReference> references = new ArrayList<>();
+                for (Object result : task.getResult()) {
+                    for (DocumentSnapshot document : ((QuerySnapshot) result).getDocuments()) {
+                        references.add(document.getReference());
+                    }
+                }
+                if (marker.exists()) references.add(root);
+                return references;
+            });
+        });
+    }
+
+    @NonNull
+    public static CollectionReference legacyEvents(FirebaseFirestore db, String gameId,
+            int round1Based) {
+        return rootRef(db, gameId).collection(ScoreHistoryEvent.LEGACY_ROUNDS)
+                .document(String.valueOf(round1Based))
+                .collection(ScoreHistoryEvent.LEGACY_EVENTS);
+    }
+
+    private static Task<Void> commitSequentially(List<WriteBatch> batches, int index) {
+        if (index >= batches.size()) return Tasks.forResult(null);
+        return batches.get(index).commit()
+                .onSuccessTask(unused -> commitSequentially(batches, index + 1));
+    }
+}
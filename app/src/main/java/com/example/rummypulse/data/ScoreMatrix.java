@@ -0,0 +1,215 @@
+package com.example.rummypulse.data;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.List;
+
+/**
+ * Primitive copy of every player's round scores, packed row-major into one {@code int[]} of
+ * {@code players * ROUNDS}. Missing ({@code null}) entries are stored as {@link #MISSING}. Totals
+ * and per-round completion bits are computed once at build time, so readers never unbox or
+ * allocate.
+ *
+ * <p>The Firestore-mapped {@link Player#getScores()} lists stay the source of truth. A matrix
+ * remembers which lists it was built from and {@link GameData#scoreMatrix()} rebuilds it when a
+ * list is replaced or resized; in-place {@code set} calls must be followed by
+ * {@link GameData#invalidateScoreMatrix()}.
+ */
+public final class ScoreMatrix {
+    public static final int ROUNDS = GameIntegrityValidator.ROUND_COUNT;
+    /** Stored for rounds without a score; matches the {@code -1} sentinel used in Firestore. */
+    public static final int MISSING = -1;
+
+    private static final ScoreMatrix EMPTY = new ScoreMatrix(
+            null, new int[0], new int[0], new String[0], new Object[0], new int[0], 0, 0, 0);
+
+    @Nullable private final List<Player> sourcePlayers;
+    private final int[] scores;
+    private final int[] playerTotals;
+    private final String[] playerIds;
+    private final Object[] sourceLists;
+    private final int[] sourceSizes;
+    private final int totalScore;
+    /** Bit {@code r - 1} is set when no player is missing round {@code r}. */
+    private final int enteredRoundMask;
+    /** Bit {@code r - 1} is set when every player has a non-negative score for round {@code r}. */
+    private final int validRoundMask;
+
+    private ScoreMatrix(
+            @Nullable List<Player> sourcePlayers,
+            int[] scores,
+            int[] playerTotals,
+            String[] playerIds,
+            Object[] sourceLists,
+            int[] sourceSizes,
+            int totalScore,
+            int enteredRoundMask,
+            int validRoundMask) {
+        this.sourcePlayers = sourcePlayers;
+        this.scores = scores;
+        this.playerTotals = playerTotals;
+        this.playerIds = playerIds;
+        this.sourceLists = sourceLists;
+        this.sourceSizes = sourceSizes;
+        this.totalScore = totalScore;
+        this.enteredRoundMask = enteredRoundMask;
+        this.validRoundMask = validRoundMask;
+    }
+
+    @NonNull
+    public static ScoreMatrix of(@Nullable List<Player> players) {
+        if (players == null || players.isEmpty()) {
+            return EMPTY;
+        }
+        int count = players.size();
+        int[] scores = new int[count * ROUNDS];
+        int[] playerTotals = new int[count];
+        String[] playerIds = new String[count];
+        Object[] sourceLists = new Object[count];
+        int[] sourceSizes = new int[count];
+        int totalScore = 0;
+        int enteredMask = (1 << ROUNDS) - 1;
+        int validMask = enteredMask;
+        for (int p = 0; p < count; p++) {
+            Player player = players.get(p);
+            List<Integer> values = player != null ? player.getScores() : null;
+            playerIds[p] = player != null ? player.getPlayerId() : null;
+            sourceLists[p] = values;
+            sourceSizes[p] = values != null ? values.size() : -1;
+            int size = values != null ? values.size() : 0;
+            int playerTotal = 0;
+            for (int i = 0; i < size; i++) {
+                Integer boxed = values.get(i);
+                int value = boxed != null ? boxed : MISSING;
+                // Totals keep counting past round 10, as the list-based sums always did.
+                if (value > 0) {
+                    playerTotal += value;
+                }
+                if (i < ROUNDS) {
+                    scores[p * ROUNDS + i] = value;
+                }
+            }
+            for (int round = 0; round < ROUNDS; round++) {
+                if (round >= size) {
+                    scores[p * ROUNDS + round] = MISSING;
+                }
+                int value = scores[p * ROUNDS + round];
+                if (value == MISSING) {
+                    enteredMask &= ~(1 << round);
+                }
+                if (value < 0) {
+                    validMask &= ~(1 << round);
+                }
+            }
+            playerTotals[p] = playerTotal;
+            totalScore += playerTotal;
+        }
+        return new ScoreMatrix(players, scores, playerTotals, playerIds, sourceLists, sourceSizes,
+                totalScore, enteredMask, validMask);
+    }
+
+    /** True while the players and their score lists are the same objects, at the same sizes. */
+    boolean isBuiltFrom(@Nullable List<Player> players) {
+        if (players == null || players.isEmpty()) {
+            return this == EMPTY;
+        }
+        if (players != sourcePlayers || players.size() != playerIds.length) {
+            return false;
+        }
+        for (int p = 0; p < playerIds.length; p++) {
+            Player player = players.get(p);
+            List<Integer> values = player != null ? player.getScores() : null;
+            if (values != sourceLists[p] || (values != null ? values.size() : -1) != sourceSizes[p]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int playerCount() {
+        return playerIds.length;
+    }
+
+    @Nullable
+    public String playerIdAt(int playerIndex) {
+        return playerIds[playerIndex];
+    }
+
+    /** Row of the player with this id, or -1. */
+    public int indexOf(@Nullable String playerId) {
+        if (playerId == null) {
+            return -1;
+        }
+        for (int p = 0; p < playerIds.length; p++) {
+            if (playerId.equals(playerIds[p])) {
+                return p;
+            }
+        }
+        return -1;
+    }
+
+    /** Raw stored score, {@link #MISSING} for absent entries. */
+    public int score(int playerIndex, int round1Based) {
+        if (round1Based < 1 || round1Based > ROUNDS) {
+            return MISSING;
+        }
+        return scores[playerIndex * ROUNDS + round1Based - 1];
+    }
+
+    public boolean hasValidScore(int playerIndex, int round1Based) {
+        return score(playerIndex, round1Based) >= 0;
+    }
+
+    /** Sum of the player's positive scores. */
+    public int playerTotal(int playerIndex) {
+        return playerTotals[playerIndex];
+    }
+
+    /** Sum of every player's positive scores. */
+    public int totalScore() {
+        return totalScore;
+    }
+
+    /** True when no player is missing this round (the {@code -1} sentinel or null). */
+    public boolean isRoundEntered(int round1Based) {
+        return round1Based >= 1 && round1Based <= ROUNDS
+                && (enteredRoundMask & (1 << (round1Based - 1))) != 0;
+    }
+
+    /** True when every player has a non-negative score for this round. */
+    public boolean isRoundValid(int round1Based) {
+        return round1Based >= 1 && round1Based <= ROUNDS
+                && (validRoundMask & (1 << (round1Based - 1))) != 0;
+    }
+
+    /** First round some player has not entered, or 0 when all rounds are entered. */
+    public int firstUnenteredRound() {
+        for (int round = 1; round <= ROUNDS; round++) {
+            if (!isRoundEntered(round)) {
+                return round;
+            }
+        }
+        return 0;
+    }
+
+    /** First round with an invalid score, or 0 when the game is complete. */
+    public int firstInvalidRound() {
+        for (int round = 1; round <= ROUNDS; round++) {
+            if (!isRoundValid(round)) {
+                return round;
+            }
+        }
+        return 0;
+    }
+
+    /** True when any player has a valid score in this round. */
+    public boolean isRoundStarted(int round1Based) {
+        for (int p = 0; p < playerIds.length; p++) {
+            if (hasValidScore(p, round1Based)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
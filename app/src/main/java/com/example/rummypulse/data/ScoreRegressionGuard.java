@@ -1,7 +1,9 @@
 package com.example.rummypulse.data;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /** Rejects writes that could erase or unexpectedly mutate committed scores. */
@@ -9,7 +11,7 @@ public final class ScoreRegressionGuard {
     private ScoreRegressionGuard() {}
 
     public static void requireMetadataPreservesScores(GameData before, GameData after) {
-        compare(before, after, 0, null);
+        compare(before, after, Collections.<Integer, Set<String>>emptyMap());
     }
 
     public static void requireOnlyRoundChanged(GameData before, GameData after,
@@ -17,23 +19,47 @@ public final class ScoreRegressionGuard {
         if (round1Based < 1 || round1Based > GameIntegrityValidator.ROUND_COUNT) {
             throw new IllegalStateException("Invalid target round.");
         }
-        compare(before, after, round1Based,
-                allowedPlayerIds == null ? new HashSet<>() : allowedPlayerIds);
+        Map<Integer, Set<String>> allowed = new HashMap<>();
+        allowed.put(round1Based, allowedPlayerIds == null ? new HashSet<>() : allowedPlayerIds);
+        compare(before, after, allowed);
     }
 
-    private static void compare(GameData before, GameData after, int allowedRound,
-            Set<String> allowedPlayerIds) {
+    /**
+     * Set form of {@link #requireOnlyRoundChanged}: each round may change only for its own
+     * players, and no committed score may be erased anywhere.
+     */
+    public static void requireOnlyRoundsChanged(GameData before, GameData after,
+            Map<Integer, Set<String>> allowedPlayerIdsByRound) {
+        Map<Integer, Set<String>> allowed = new HashMap<>();
+        if (allowedPlayerIdsByRound != null) {
+            for (Map.Entry<Integer, Set<String>> entry : allowedPlayerIdsByRound.entrySet()) {
+                Integer round = entry.getKey();
+                if (round == null || round < 1 || round > GameIntegrityValidator.ROUND_COUNT) {
+                    throw new IllegalStateException("Invalid target round.");
+                }
+                allowed.put(round, entry.getValue() == null
+                        ? new HashSet<>() : entry.getValue());
+            }
+        }
+        compare(before, after, allowed);
+    }
+
+    private static void compare(GameData before, GameData after,
+            Map<Integer, Set<String>> allowedPlayerIdsByRound) {
         if (before == null || after == null) throw new IllegalStateException("Game data is missing.");
         GameDataSchema.normalize(before);
         GameDataSchema.normalize(after);
+        ScoreMatrix oldScores = ScoreMatrix.of(before.getPlayers());
+        ScoreMatrix newScores = ScoreMatrix.of(after.getPlayers());
         for (String playerId : before.getPlayerOrder()) {
-            Player oldPlayer = GameDataSchema.findPlayer(before, playerId);
-            Player newPlayer = GameDataSchema.findPlayer(after, playerId);
-            if (newPlayer == null) throw new IllegalStateException("A metadata write removed a player.");
+            int oldIndex = oldScores.indexOf(playerId);
+            int newIndex = newScores.indexOf(playerId);
+            if (newIndex < 0) throw new IllegalStateException("A metadata write removed a player.");
             for (int round = 1; round <= GameIntegrityValidator.ROUND_COUNT; round++) {
-                Integer oldScore = score(oldPlayer, round);
-                Integer newScore = score(newPlayer, round);
-                boolean permitted = round == allowedRound && allowedPlayerIds.contains(playerId);
+                int oldScore = oldIndex < 0 ? ScoreMatrix.MISSING : oldScores.score(oldIndex, round);
+                int newScore = newScores.score(newIndex, round);
+                Set<String> allowedPlayerIds = allowedPlayerIdsByRound.get(round);
+                boolean permitted = allowedPlayerIds != null && allowedPlayerIds.contains(playerId);
                 if (!permitted && !equal(oldScore, newScore)) {
                     throw new IllegalStateException("Write attempted to change an unrelated score.");
                 }
@@ -44,14 +70,8 @@ public final class ScoreRegressionGuard {
         }
     }
 
-    private static Integer score(Player player, int round) {
-        List<Integer> values = player == null ? null : player.getScores();
-        return values == null || values.size() < round ? null : values.get(round - 1);
-    }
-
-    private static boolean valid(Integer value) { return value != null && value >= 0; }
-    private static boolean equal(Integer left, Integer right) {
-        if (!valid(left) && !valid(right)) return true;
-        return left == null ? right == null : left.equals(right);
+    private static boolean valid(int value) { return value >= 0; }
+    private static boolean equal(int left, int right) {
+        return (!valid(left) && !valid(right)) || left == right;
     }
 }
@@ -0,0 +1,24 @@
+package com.example.rummypulse.data;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Single background thread for Firestore snapshot listeners that decode documents and build UI
+ * rows. One thread keeps each listener's snapshots in delivery order.
+ */
+public final class SnapshotDecodeExecutor {
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "snapshot-decode");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private SnapshotDecodeExecutor() {
+    }
+
+    public static Executor get() {
+        return EXECUTOR;
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.rummypulse.data;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Computes every player's total, rank, gross amount, GST contribution and net amount in one pass
+ * over a {@link ScoreMatrix}. Results are immutable so one computation can be shared by every
+ * view of the same snapshot; {@link GameData#standings()} memoizes it per {@link
+ * GameData#revision()}.
+ *
+ * <p>Gross is {@code (total of all scores - player total * players) * point value}. Only players
+ * with a positive gross pay GST. Amounts are not rounded.
+ */
+public final class StandingsEngine {
+
+    private StandingsEngine() {
+    }
+
+    @NonNull
+    public static Result compute(@Nullable List<Player> players, int numPlayers,
+            double pointValue, double gstPercent) {
+        return compute(ScoreMatrix.of(players), players, numPlayers, pointValue, gstPercent);
+    }
+
+    @NonNull
+    static Result compute(@NonNull ScoreMatrix matrix, @Nullable List<Player> players,
+            int numPlayers, double pointValue, double gstPercent) {
+        int count = matrix.playerCount();
+        if (count == 0 || players == null || players.size() != count) {
+            return new Result(matrix, numPlayers, pointValue, gstPercent,
+                    Collections.emptyList(), Collections.emptyList(), 0.0);
+        }
+        int totalAllScores = matrix.totalScore();
+        Integer[] order = new Integer[count];
+        for (int p = 0; p < count; p++) {
+            order[p] = p;
+        }
+        // Lower totals rank first; ties keep player order, as List.sort did in the activity.
+        Arrays.sort(order, (left, right) ->
+                Integer.compare(matrix.playerTotal(left), matrix.playerTotal(right)));
+        int[] ranks = new int[count];
+        for (int position = 0; position < count; position++) {
+            ranks[order[position]] = position + 1;
+        }
+        Standing[] byIndex = new Standing[count];
+        Standing[] ranked = new Standing[count];
+        double totalGst = 0.0;
+        for (int p = 0; p < count; p++) {
+            int playerTotal = matrix.playerTotal(p);
+            double grossAmount = gross(totalAllScores, playerTotal, numPlayers, pointValue);
+            double gstPaid = gst(grossAmount, gstPercent);
+            totalGst += gstPaid;
+            byIndex[p] = new Standing(players.get(p), p, ranks[p], playerTotal, grossAmount, gstPaid);
+            ranked[ranks[p] - 1] = byIndex[p];
+        }
+        return new Result(matrix, numPlayers, pointValue, gstPercent,
+                Collections.unmodifiableList(Arrays.asList(byIndex)),
+                Collections.unmodifiableList(Arrays.asList(ranked)), totalGst);
+    }
+
+    static double gross(int totalAllScores, int playerTotal, int numPlayers, double pointValue) {
+        return (totalAllScores - playerTotal * numPlayers) * pointValue;
+    }
+
+    static double gst(double grossAmount, double gstPercent) {
+        return grossAmount > 0 ? (grossAmount * gstPercent) / 100.0 : 0.0;
+    }
+
+    /** Standings of one game snapshot. */
+    public static final class Result {
+        private final ScoreMatrix matrix;
+        private final int numPlayers;
+        private final double pointValue;
+        private final double gstPercent;
+        private final List<Standing> inPlayerOrder;
+        private final List<Standing> ranked;
+        private final double totalGst;
+
+        Result(ScoreMatrix matrix, int numPlayers, double pointValue, double gstPercent,
+                List<Standing> inPlayerOrder, List<Standing> ranked, double totalGst) {
+            this.matrix = matrix;
+            this.numPlayers = numPlayers;
+            this.pointValue = pointValue;
+            this.gstPercent = gstPercent;
+            this.inPlayerOrder = inPlayerOrder;
+            this.ranked = ranked;
+            this.totalGst = totalGst;
+        }
+
+        /** Unmodifiable, in the game's player order. */
+        @NonNull
+        public List<Standing> inPlayerOrder() {
+            return inPlayerOrder;
+        }
+
+        /** Unmodifiable, lowest total first. */
+        @NonNull
+        public List<Standing> ranked() {
+            return ranked;
+        }
+
+        public int totalScore() {
+            return matrix.totalScore();
+        }
+
+        /** Sum of every winner's GST contribution. */
+        public double totalGst() {
+            return totalGst;
+        }
+
+        @Nullable
+        public Standing forPlayerId(@Nullable String playerId) {
+            int index = matrix.indexOf(playerId);
+            return index < 0 ? null : inPlayerOrder.get(index);
+        }
+
+        /** Looks the player up by identity, as the settlement screens pass list entries back. */
+        @Nullable
+        public Standing forPlayer(@Nullable Player player) {
+            for (Standing standing : inPlayerOrder) {
+                if (standing.player == player) {
+                    return standing;
+                }
+            }
+            return null;
+        }
+
+        /** Gross amount for a total that is not part of this game, e.g. a detached player. */
+        public double grossFor(int playerTotal) {
+            return gross(matrix.totalScore(), playerTotal, numPlayers, pointValue);
+        }
+
+        public double gstFor(double grossAmount) {
+            return gst(grossAmount, gstPercent);
+        }
+
+        /** True when this result was computed from exactly these lists and settings. */
+        public boolean isFor(@Nullable List<Player> players, int numPlayers, double pointValue,
+                double gstPercent) {
+            return this.numPlayers == numPlayers
+                    && Double.compare(this.pointValue, pointValue) == 0
+                    && Double.compare(this.gstPercent, gstPercent) == 0
+                    && matrix.isBuiltFrom(players);
+        }
+    }
+
+    public static final class Standing {
+        @Nullable public final Player player;
+        /** Position in the game's player order. */
+        public final int playerIndex;
+        /** 1-based, lowest total first; ties are broken by player order. */
+        public final int rank;
+        public final int totalScore;
+        public final double grossAmount;
+        /** GST contribution; zero unless {@link #grossAmount} is positive. */
+        public final double gstPaid;
+        public final double netAmount;
+
+        Standing(@Nullable Player player, int playerIndex, int rank, int totalScore,
+                double grossAmount, double gstPaid) {
+            this.player = player;
+            this.playerIndex = playerIndex;
+            this.rank = rank;
+            this.totalScore = totalScore;
+            this.grossAmount = grossAmount;
+            this.gstPaid = gstPaid;
+            this.netAmount = grossAmount - gstPaid;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.rummypulse.data.sync;
+
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+
+/** Last published dashboard card for one signed-in user, replayed on cold start. */
+@Entity(
+        tableName = "dashboard_rows",
+        primaryKeys = {"ownerUid", "gameId"})
+public class DashboardRowEntity {
+    @NonNull
+    public String ownerUid;
+    @NonNull
+    public String gameId;
+    public int position;
+    @NonNull
+    public String rowJson;
+    /** {@code gameData_v2.lastUpdated} of the row in millis, or 0 for summary-only cards. */
+    public long serverUpdatedAt;
+    public long savedAt;
+
+    public DashboardRowEntity(
+            @NonNull String ownerUid,
+            @NonNull String gameId,
+            int position,
+            @NonNull String rowJson,
+            long serverUpdatedAt,
+            long savedAt) {
+        this.ownerUid = ownerUid;
+        this.gameId = gameId;
+        this.position = position;
+        this.rowJson = rowJson;
+        this.serverUpdatedAt = serverUpdatedAt;
+        this.savedAt = savedAt;
+    }
+}
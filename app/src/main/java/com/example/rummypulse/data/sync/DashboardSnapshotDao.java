@@ -0,0 +1,20 @@
+package com.example.rummypulse.data.sync;
+
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.OnConflictStrategy;
+import androidx.room.Query;
+
+import java.util.List;
+
+@Dao
+public interface DashboardSnapshotDao {
+    @Query("SELECT * FROM dashboard_rows WHERE ownerUid = :ownerUid ORDER BY position")
+    List<DashboardRowEntity> getRows(String ownerUid);
+
+    @Query("DELETE FROM dashboard_rows WHERE ownerUid = :ownerUid")
+    void deleteRows(String ownerUid);
+
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void insertRows(List<DashboardRowEntity> rows);
+}
@@ -0,0 +1,180 @@
+package com.example.rummypulse.data.sync;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import com.example.rummypulse.data.DashboardSnapshotReconciler;
+import com.example.rummypulse.ui.home.GameItem;
+import com.google.gson.ExclusionStrategy;
+import com.google.gson.FieldAttributes;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persists the last published dashboard list per signed-in user so a cold start can render cards
+ * before Firestore answers. Writes are throttled: bursts of live updates collapse into one Room
+ * transaction holding the latest list.
+ */
+public final class DashboardSnapshotStore {
+    private static final String TAG = "DashboardSnapshotStore";
+    /** Live score updates can publish every frame; the snapshot only needs to be roughly current. */
+    static final long SAVE_DELAY_MS = 2_000L;
+    /** Players and PINs are not shown on dashboard cards and are not written to disk. */
+    private static final Gson GSON = new GsonBuilder()
+            .setExclusionStrategies(new ExclusionStrategy() {
+                @Override
+                public boolean shouldSkipField(FieldAttributes field) {
+                    return field.getDeclaringClass() == GameItem.class
+                            && ("players".equals(field.getName())
+                                    || "gamePin".equals(field.getName()));
+                }
+
+                @Override
+                public boolean shouldSkipClass(Class<?> type) {
+                    return false;
+                }
+            })
+            .create();
+    private static volatile DashboardSnapshotStore instance;
+
+    private final GameOperationDatabase database;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final Object lock = new Object();
+    private PendingSave pendingSave;
+    private boolean saveScheduled;
+
+    public interface LoadCallback {
+        /** Runs on the main thread; the list is empty when nothing was saved for the user. */
+        void onLoaded(@NonNull List<DashboardSnapshotReconciler.CachedRow> rows, long loadMs);
+    }
+
+    private DashboardSnapshotStore(Context context) {
+        database = GameOperationDatabase.getInstance(context.getApplicationContext());
+    }
+
+    public static DashboardSnapshotStore getInstance(Context context) {
+        DashboardSnapshotStore current = instance;
+        if (current == null) {
+            synchronized (DashboardSnapshotStore.class) {
+                current = instance;
+                if (current == null) {
+                    current = new DashboardSnapshotStore(context);
+                    instance = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    public void load(@NonNull String ownerUid, @NonNull LoadCallback callback) {
+        long startedAt = SystemClock.elapsedRealtime();
+        executor.execute(() -> {
+            List<DashboardSnapshotReconciler.CachedRow> rows = new ArrayList<>();
+            try {
+                for (DashboardRowEntity entity : database.dashboardRows().getRows(ownerUid)) {
+                    GameItem item = GSON.fromJson(entity.rowJson, GameItem.class);
+                    if (item != null && item.getGameId() != null) {
+                        rows.add(new DashboardSnapshotReconciler.CachedRow(item, entity.serverUpdatedAt));
+                    }
+                }
+            } catch (RuntimeException e) {
+                // A row written by an older build is not worth failing the cold start for.
+                Log.w(TAG, "Discarding unreadable dashboard snapshot", e);
+                rows.clear();
+            }
+            long loadMs = SystemClock.elapsedRealtime() - startedAt;
+            mainHandler.post(() -> callback.onLoaded(rows, loadMs));
+        });
+    }
+
+    /**
+     * Queues the list for persistence. Items are copied on the caller's thread, because the
+     * repository keeps mutating them in place; the copies are serialized on the store's executor.
+     */
+    public void save(
+            @NonNull String ownerUid,
+            @NonNull List<GameItem> items,
+            @NonNull DashboardSnapshotReconciler.VersionLookup versions) {
+        List<PendingRow> rows = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            GameItem item = items.get(i);
+            if (item == null || item.getGameId() == null) {
+                continue;
+            }
+            rows.add(new PendingRow(item.copy(), i, versions.versionMs(item.getGameId())));
+        }
+        boolean schedule;
+        synchronized (lock) {
+            pendingSave = new PendingSave(ownerUid, rows, System.currentTimeMillis());
+            schedule = !saveScheduled;
+            saveScheduled = true;
+        }
+        if (schedule) {
+            executor.schedule(this::flushPendingSave, SAVE_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flushPendingSave() {
+        PendingSave save;
+        synchronized (lock) {
+            save = pendingSave;
+            pendingSave = null;
+            saveScheduled = false;
+        }
+        if (save == null) {
+            return;
+        }
+        List<DashboardRowEntity> entities = new ArrayList<>(save.rows.size());
+        for (PendingRow row : save.rows) {
+            entities.add(new DashboardRowEntity(
+                    save.ownerUid,
+                    row.item.getGameId(),
+                    row.position,
+                    GSON.toJson(row.item),
+                    row.versionMs,
+                    save.savedAt));
+        }
+        database.runInTransaction(() -> {
+            database.dashboardRows().deleteRows(save.ownerUid);
+            database.dashboardRows().insertRows(entities);
+        });
+        Log.d(TAG, "Saved dashboard snapshot: rows=" + entities.size());
+    }
+
+    /** A row copied at {@link #save} time, with its list position and server version. */
+    private static final class PendingRow {
+        final GameItem item;
+        final int position;
+        final long versionMs;
+
+        PendingRow(GameItem item, int position, long versionMs) {
+            this.item = item;
+            this.position = position;
+            this.versionMs = versionMs;
+        }
+    }
+
+    private static final class PendingSave {
+        final String ownerUid;
+        final List<PendingRow> rows;
+        final long savedAt;
+
+        PendingSave(String ownerUid, List<PendingRow> rows, long savedAt) {
+            this.ownerUid = ownerUid;
+            this.rows = rows;
+            this.savedAt = savedAt;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.rummypulse.data.sync;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.rummypulse.data.GameData;
+import com.example.rummypulse.data.GameDataSchema;
+import com.example.rummypulse.data.Player;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Field paths that differ between two normalized games, relative to the {@code data} map of a
+ * gameData document. Values are what {@link GameDataSchema#toFirestoreData} would store, so
+ * applying the changes to the old document yields the new one. A player that is new or
+ * removed is written or deleted whole; an existing player only gets its changed fields.
+ */
+final class GameDataDelta {
+    static final class Change {
+        /** Path segments under {@code data}, e.g. {@code [playersById, <id>, scores]}. */
+        final List<String> path;
+        /** New value; ignored when {@link #delete} is set. */
+        final Object value;
+        final boolean delete;
+
+        Change(List<String> path, Object value, boolean delete) {
+            this.path = Collections.unmodifiableList(path);
+            this.value = value;
+            this.delete = delete;
+        }
+    }
+
+    private static final String PLAYERS_BY_ID = "playersById";
+
+    private GameDataDelta() {
+    }
+
+    @NonNull
+    static List<Change> between(@NonNull GameData before, @NonNull GameData after) {
+        Map<String, Object> oldData = GameDataSchema.toFirestoreData(before);
+        Map<String, Object> newData = GameDataSchema.toFirestoreData(after);
+        List<Change> changes = new ArrayList<>();
+        for (String key : union(oldData.keySet(), newData.keySet())) {
+            if (PLAYERS_BY_ID.equals(key)) {
+                diffPlayers(before.getPlayersById(), after.getPlayersById(), changes);
+            } else if (!newData.containsKey(key)) {
+                changes.add(new Change(path(key), null, true));
+            } else if (!oldData.containsKey(key)
+                    || !Objects.equals(oldData.get(key), newData.get(key))) {
+                changes.add(new Change(path(key), newData.get(key), false));
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Player properties as Firestore's bean mapper stores them, including the derived
+     * {@code totalScore}.
+     */
+    @NonNull
+    static Map<String, Object> playerFields(@NonNull Player player) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("playerId", player.getPlayerId());
+        fields.put("name", player.getName());
+        fields.put("scores", player.getScores());
+        fields.put("randomNumber", player.getRandomNumber());
+        fields.put("userId", player.getUserId());
+        fields.put("isCreator", player.getIsCreator());
+        fields.put("midGameJoinActiveRound", player.getMidGameJoinActiveRound());
+        fields.put("totalScore", player.getTotalScore());
+        return fields;
+    }
+
+    /**
+     * Approximate stored size in Firestore's accounting: strings are UTF-8 plus one byte,
+     * numbers eight, booleans and nulls one, and map keys count like strings.
+     */
+    static long estimateBytes(@Nullable Object value) {
+        if (value == null || value instanceof Boolean) {
+            return 1L;
+        }
+        if (value instanceof Number) {
+            return 8L;
+        }
+        if (value instanceof String) {
+            return ((String) value).getBytes(StandardCharsets.UTF_8).length + 1L;
+        }
+        if (value instanceof Player) {
+            return estimateBytes(playerFields((Player) value));
+        }
+        if (value instanceof Map) {
+            long bytes = 0L;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                bytes += estimateBytes(String.valueOf(entry.getKey()))
+                        + estimateBytes(entry.getValue());
+            }
+            return bytes;
+        }
+        if (value instanceof List) {
+            long bytes = 0L;
+            for (Object item : (List<?>) value) {
+                bytes += estimateBytes(item);
+            }
+            return bytes;
+        }
+        // Timestamps and server sentinels.
+        return 8L;
+    }
+
+    /** Size of the changed paths and their values, as written by an update. */
+    static long estimateBytes(@NonNull List<Change> changes) {
+        long bytes = 0L;
+        for (Change change : changes) {
+            bytes += estimateBytes("data");
+            for (String segment : change.path) {
+                bytes += estimateBytes(segment);
+            }
+            bytes += change.delete ? 0L : estimateBytes(change.value);
+        }
+        return bytes;
+    }
+
+    private static void diffPlayers(Map<String, Player> before, Map<String, Player> after,
+            List<Change> changes) {
+        Map<String, Player> oldPlayers = before == null ? Collections.emptyMap() : before;
+        Map<String, Player> newPlayers = after == null ? Collections.emptyMap() : after;
+        for (String playerId : union(oldPlayers.keySet(), newPlayers.keySet())) {
+            Player oldPlayer = oldPlayers.get(playerId);
+            Player newPlayer = newPlayers.get(playerId);
+            if (newPlayer == null) {
+                changes.add(new Change(path(PLAYERS_BY_ID, playerId), null, true));
+            } else if (oldPlayer == null) {
+                changes.add(new Change(path(PLAYERS_BY_ID, playerId), newPlayer, false));
+            } else {
+                Map<String, Object> oldFields = playerFields(oldPlayer);
+                for (Map.Entry<String, Object> field : playerFields(newPlayer).entrySet()) {
+                    if (!Objects.equals(oldFields.get(field.getKey()), field.getValue())) {
+                        changes.add(new Change(
+                                path(PLAYERS_BY_ID, playerId, field.getKey()),
+                                field.getValue(),
+                                false));
+                    }
+                }
+            }
+        }
+    }
+
+    private static Set<String> union(Set<String> first, Set<String> second) {
+        Set<String> keys = new LinkedHashSet<>(first);
+        keys.addAll(second);
+        return keys;
+    }
+
+    private static List<String> path(String... segments) {
+        List<String> path = new ArrayList<>(segments.length);
+        Collections.addAll(path, segments);
+        return path;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.rummypulse.data.sync;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.rummypulse.data.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * View-approval changes the remote applier writes alongside an operation, in order. Kept pure
+ * so outbox compaction can be checked against the same effects it has to preserve.
+ */
+final class GameOperationApprovals {
+    static final class Change {
+        final String userId;
+        final boolean approve;
+        /** Display name for an approval; null for revocations. */
+        final String displayName;
+
+        Change(String userId, boolean approve, String displayName) {
+            this.userId = userId;
+            this.approve = approve;
+            this.displayName = displayName;
+        }
+    }
+
+    private GameOperationApprovals() {
+    }
+
+    /**
+     * @param previousTargetUserId user mapped to the operation's player before it ran
+     * @param deletedBefore        the removed player, for {@code DELETE_PLAYER}
+     */
+    @NonNull
+    static List<Change> changes(@NonNull GameOperationType type,
+            @Nullable GameOperationPayload payload, @Nullable String previousTargetUserId,
+            @Nullable Player deletedBefore) {
+        GameOperationPayload safePayload =
+                payload == null ? new GameOperationPayload() : payload;
+        List<Change> changes = new ArrayList<>();
+        if (safePayload.revokeUserIds != null) {
+            for (String userId : safePayload.revokeUserIds) {
+                if (!isEmpty(userId)) changes.add(new Change(userId, false, null));
+            }
+        }
+        if (type == GameOperationType.MAP_USER) {
+            if (!isEmpty(previousTargetUserId)
+                    && !previousTargetUserId.equals(safePayload.userId)) {
+                changes.add(new Change(previousTargetUserId, false, null));
+            }
+            changes.add(new Change(safePayload.userId, true, safePayload.userDisplayName));
+        } else if (type == GameOperationType.UNMAP_USER && !isEmpty(previousTargetUserId)) {
+            changes.add(new Change(previousTargetUserId, false, null));
+        } else if (type == GameOperationType.DELETE_PLAYER
+                && deletedBefore != null
+                && !isEmpty(deletedBefore.getUserId())) {
+            changes.add(new Change(deletedBefore.getUserId(), false, null));
+        } else if (type == GameOperationType.TRANSFER_MAPPING) {
+            // The same user keeps view approval; only the owning playerId changes.
+            changes.add(new Change(safePayload.userId, true, safePayload.userDisplayName));
+        }
+        return changes;
+    }
+
+    private static boolean isEmpty(String value) {
+        return value == null || value.isEmpty();
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.rummypulse.data.sync;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.rummypulse.data.GameData;
+import com.example.rummypulse.data.GameDataSchema;
+import com.example.rummypulse.data.Player;
+import com.example.rummypulse.data.ScoreRegressionGuard;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Plan for committing a run of consecutive outbox operations in one Firestore transaction.
+ * Operations are projected one after another on top of the latest server document, and each
+ * one keeps its own revision: the k-th applied operation commits {@code storedRevision + k}.
+ * The document ends at the last operation's revision and {@code lastOperationId}.
+ *
+ * <p>Operations up to and including the stored {@code lastOperationId} were already
+ * committed by an earlier attempt whose result never reached the device. They are skipped,
+ * which keeps the single-operation idempotency rule intact for batches.
+ */
+final class GameOperationBatch {
+    /**
+     * Upper bound accepted by firestore.rules for {@code operationCount}. The limit is the rules
+     * access-call budget of 20 documents per commit, not the write count: each operation's
+     * {@code latest/{round}} write calls {@code existsAfter} on that operation's own history
+     * document, and the {@code games_v2}, {@code gameData_v2} (get and getAfter) and
+     * {@code appUser_v2} lookups are shared by the whole batch.
+     */
+    static final int MAX_SIZE = 15;
+
+    static final class Step {
+        final PendingGameOperation operation;
+        final GameOperationPayload payload;
+        final GameData before;
+        final GameData after;
+        final long previousRevision;
+        final long committedRevision;
+
+        Step(PendingGameOperation operation, GameOperationPayload payload, GameData before,
+                GameData after, long previousRevision, long committedRevision) {
+            this.operation = operation;
+            this.payload = payload;
+            this.before = before;
+            this.after = after;
+            this.previousRevision = previousRevision;
+            this.committedRevision = committedRevision;
+        }
+    }
+
+    final List<PendingGameOperation> operations;
+    final List<Step> steps;
+    final GameData result;
+    final long revision;
+
+    private GameOperationBatch(List<PendingGameOperation> operations, List<Step> steps,
+            GameData result, long revision) {
+        this.operations = operations;
+        this.steps = steps;
+        this.result = result;
+        this.revision = revision;
+    }
+
+    @NonNull
+    static GameOperationBatch plan(@NonNull GameData latest, long storedRevision,
+            @Nullable String lastOperationId,
+            @NonNull List<PendingGameOperation> operations) {
+        if (operations.isEmpty() || operations.size() > MAX_SIZE) {
+            throw new IllegalArgumentException(
+                    "A sync batch must hold between 1 and " + MAX_SIZE + " operations.");
+        }
+        long generation = operations.get(0).editGeneration;
+        int firstUnapplied = 0;
+        for (int index = 0; index < operations.size(); index++) {
+            PendingGameOperation operation = operations.get(index);
+            if (operation.editGeneration != generation
+                    || !operation.gameId.equals(operations.get(0).gameId)) {
+                throw new IllegalArgumentException(
+                        "A sync batch must belong to one game and edit session.");
+            }
+            if (operation.operationId.equals(lastOperationId)) {
+                firstUnapplied = index + 1;
+            }
+        }
+        List<Step> steps = new ArrayList<>(operations.size() - firstUnapplied);
+        GameData state = latest;
+        long revision = storedRevision;
+        for (int index = firstUnapplied; index < operations.size(); index++) {
+            PendingGameOperation operation = operations.get(index);
+            GameOperationPayload payload =
+                    GameOperationCodec.decodePayload(operation.payloadBlob);
+            GameData next = GameOperationProjector.apply(
+                    state, operation.operationType(), operation.playerId, payload);
+            validateScoreMutation(state, next, operation.operationType(), payload);
+            steps.add(new Step(operation, payload, state, next, revision, revision + 1L));
+            state = next;
+            revision++;
+        }
+        return new GameOperationBatch(
+                Collections.unmodifiableList(new ArrayList<>(operations)),
+                Collections.unmodifiableList(steps), state, revision);
+    }
+
+    /** True when every operation was already committed and nothing should be written. */
+    boolean isAlreadyApplied() {
+        return steps.isEmpty();
+    }
+
+    @NonNull
+    String lastOperationId() {
+        return operations.get(operations.size() - 1).operationId;
+    }
+
+    long editGeneration() {
+        return operations.get(0).editGeneration;
+    }
+
+    /** Player as it was before {@code step}, or null when the step has no target. */
+    @Nullable
+    static Player targetBefore(@NonNull Step step) {
+        return step.operation.playerId == null
+                ? null
+                : GameDataSchema.findPlayer(step.before, step.operation.playerId);
+    }
+
+    private static void validateScoreMutation(GameData latest, GameData patched,
+            GameOperationType type, GameOperationPayload payload) {
+        if (type == GameOperationType.UPDATE_SCORE) {
+            if (payload == null || payload.round1Based == null
+                    || payload.scoresByPlayerId == null
+                    || payload.scoresByPlayerId.isEmpty()) {
+                throw new IllegalStateException("A round score operation is incomplete.");
+            }
+            ScoreRegressionGuard.requireOnlyRoundChanged(latest, patched,
+                    payload.round1Based, new HashSet<>(payload.scoresByPlayerId.keySet()));
+        } else if (type != GameOperationType.ADD_PLAYER
+                && type != GameOperationType.DELETE_PLAYER) {
+            ScoreRegressionGuard.requireMetadataPreservesScores(latest, patched);
+        }
+    }
+}
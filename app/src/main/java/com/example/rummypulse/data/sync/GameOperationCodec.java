@@ -0,0 +1,470 @@
+package com.example.rummypulse.data.sync;
+
+import androidx.annotation.NonNull;
+
+import com.example.rummypulse.data.GameData;
+import com.example.rummypulse.data.Player;
+import com.google.firebase.Timestamp;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Versioned binary form of the outbox's {@link GameData} snapshots and
+ * {@link GameOperationPayload}s. Integers are zigzag varints, player IDs are written once to a
+ * table and referenced by index, and each record starts with a bitmap of the optional fields it
+ * carries.
+ *
+ * <p>Only the player list of a game is stored; {@code playersById} and {@code playerOrder} are
+ * rebuilt from it on decode, as {@code GameDataSchema.normalize} would. Stored snapshots are
+ * always normalized, so nothing is lost.
+ */
+public final class GameOperationCodec {
+    static final int GAME_FORMAT = 1;
+    static final int PAYLOAD_FORMAT = 1;
+
+    private static final int GAME_SCHEMA_VERSION = 1;
+    private static final int GAME_LAST_UPDATED = 1 << 1;
+    private static final int GAME_VERSION = 1 << 2;
+    private static final int GAME_STATUS = 1 << 3;
+    private static final int GAME_JOIN_ROUND = 1 << 4;
+    private static final int GAME_JOIN_BACKFILL = 1 << 5;
+
+    private static final int PLAYER_ID = 1;
+    private static final int PLAYER_NAME = 1 << 1;
+    private static final int PLAYER_SCORES = 1 << 2;
+    private static final int PLAYER_RANDOM = 1 << 3;
+    private static final int PLAYER_USER_ID = 1 << 4;
+    private static final int PLAYER_CREATOR = 1 << 5;
+    private static final int PLAYER_CREATOR_TRUE = 1 << 6;
+    private static final int PLAYER_JOIN_ROUND = 1 << 7;
+
+    private static final int PAYLOAD_NAME = 1;
+    private static final int PAYLOAD_USER_ID = 1 << 1;
+    private static final int PAYLOAD_USER_NAME = 1 << 2;
+    private static final int PAYLOAD_FROM_PLAYER = 1 << 3;
+    private static final int PAYLOAD_ROUND = 1 << 4;
+    private static final int PAYLOAD_CORRECTION = 1 << 5;
+    private static final int PAYLOAD_CORRECTION_TRUE = 1 << 6;
+    private static final int PAYLOAD_SCORES = 1 << 7;
+    private static final int PAYLOAD_ORDER = 1 << 8;
+    private static final int PAYLOAD_PLAYER = 1 << 9;
+    private static final int PAYLOAD_REVOKE = 1 << 10;
+
+    private GameOperationCodec() {
+    }
+
+    @NonNull
+    public static byte[] encodeGame(@NonNull GameData data) {
+        Writer out = new Writer(256);
+        out.writeByte(GAME_FORMAT);
+        int bits = 0;
+        if (data.getSchemaVersion() != null) bits |= GAME_SCHEMA_VERSION;
+        if (data.getLastUpdated() != null) bits |= GAME_LAST_UPDATED;
+        if (data.getVersion() != null) bits |= GAME_VERSION;
+        if (data.getStoredGameStatus() != null) bits |= GAME_STATUS;
+        if (data.getMidGameJoinActiveRound() != null) bits |= GAME_JOIN_ROUND;
+        if (data.getMidGameJoinBackfillScore() != null) bits |= GAME_JOIN_BACKFILL;
+        out.writeVarint(bits);
+        out.writeSigned(data.getNumPlayers());
+        out.writeDouble(data.getPointValue());
+        out.writeDouble(data.getGstPercent());
+        if ((bits & GAME_SCHEMA_VERSION) != 0) out.writeSigned(data.getSchemaVersion());
+        if ((bits & GAME_LAST_UPDATED) != 0) {
+            out.writeSignedLong(data.getLastUpdated().getSeconds());
+            out.writeVarint(data.getLastUpdated().getNanoseconds());
+        }
+        if ((bits & GAME_VERSION) != 0) out.writeString(data.getVersion());
+        if ((bits & GAME_STATUS) != 0) out.writeString(data.getStoredGameStatus());
+        if ((bits & GAME_JOIN_ROUND) != 0) out.writeSigned(data.getMidGameJoinActiveRound());
+        if ((bits & GAME_JOIN_BACKFILL) != 0) {
+            out.writeSigned(data.getMidGameJoinBackfillScore());
+        }
+        List<Player> players = data.getPlayers() == null
+                ? new ArrayList<>() : data.getPlayers();
+        IdTable ids = new IdTable();
+        for (Player player : players) {
+            if (player != null) ids.add(player.getPlayerId());
+        }
+        ids.write(out);
+        out.writeVarint(players.size());
+        for (Player player : players) {
+            writePlayer(out, ids, player);
+        }
+        return out.toByteArray();
+    }
+
+    @NonNull
+    public static GameData decodeGame(@NonNull byte[] bytes) {
+        Reader in = new Reader(bytes);
+        int format = in.readByte();
+        if (format != GAME_FORMAT) {
+            throw new IllegalStateException("Unsupported game snapshot format: " + format);
+        }
+        GameData data = new GameData();
+        int bits = in.readVarint();
+        data.setNumPlayers(in.readSigned());
+        data.setPointValue(in.readDouble());
+        data.setGstPercent(in.readDouble());
+        if ((bits & GAME_SCHEMA_VERSION) != 0) data.setSchemaVersion(in.readSigned());
+        if ((bits & GAME_LAST_UPDATED) != 0) {
+            long seconds = in.readSignedLong();
+            data.setLastUpdated(new Timestamp(seconds, in.readVarint()));
+        }
+        if ((bits & GAME_VERSION) != 0) data.setVersion(in.readString());
+        if ((bits & GAME_STATUS) != 0) data.setGameStatus(in.readString());
+        if ((bits & GAME_JOIN_ROUND) != 0) data.setMidGameJoinActiveRound(in.readSigned());
+        if ((bits & GAME_JOIN_BACKFILL) != 0) data.setMidGameJoinBackfillScore(in.readSigned());
+        String[] ids = IdTable.read(in);
+        int count = in.readVarint();
+        List<Player> players = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            players.add(readPlayer(in, ids));
+        }
+        data.setPlayers(players);
+        in.requireEnd();
+        return data;
+    }
+
+    @NonNull
+    public static byte[] encodePayload(@NonNull GameOperationPayload payload) {
+        Writer out = new Writer(64);
+        out.writeByte(PAYLOAD_FORMAT);
+        int bits = 0;
+        if (payload.name != null) bits |= PAYLOAD_NAME;
+        if (payload.userId != null) bits |= PAYLOAD_USER_ID;
+        if (payload.userDisplayName != null) bits |= PAYLOAD_USER_NAME;
+        if (payload.fromPlayerId != null) bits |= PAYLOAD_FROM_PLAYER;
+        if (payload.round1Based != null) bits |= PAYLOAD_ROUND;
+        if (payload.correction != null) {
+            bits |= PAYLOAD_CORRECTION;
+            if (payload.correction) bits |= PAYLOAD_CORRECTION_TRUE;
+        }
+        if (payload.scoresByPlayerId != null) bits |= PAYLOAD_SCORES;
+        if (payload.playerOrder != null) bits |= PAYLOAD_ORDER;
+        if (payload.player != null) bits |= PAYLOAD_PLAYER;
+        if (payload.revokeUserIds != null) bits |= PAYLOAD_REVOKE;
+        out.writeVarint(bits);
+
+        IdTable ids = new IdTable();
+        ids.add(payload.fromPlayerId);
+        if (payload.scoresByPlayerId != null) {
+            for (String playerId : payload.scoresByPlayerId.keySet()) ids.add(playerId);
+        }
+        if (payload.playerOrder != null) {
+            for (String playerId : payload.playerOrder) ids.add(playerId);
+        }
+        if (payload.player != null) ids.add(payload.player.getPlayerId());
+        ids.write(out);
+
+        if ((bits & PAYLOAD_NAME) != 0) out.writeString(payload.name);
+        if ((bits & PAYLOAD_USER_ID) != 0) out.writeString(payload.userId);
+        if ((bits & PAYLOAD_USER_NAME) != 0) out.writeString(payload.userDisplayName);
+        if ((bits & PAYLOAD_FROM_PLAYER) != 0) out.writeVarint(ids.indexOf(payload.fromPlayerId));
+        if ((bits & PAYLOAD_ROUND) != 0) out.writeSigned(payload.round1Based);
+        if ((bits & PAYLOAD_SCORES) != 0) {
+            out.writeVarint(payload.scoresByPlayerId.size());
+            for (Map.Entry<String, Integer> entry : payload.scoresByPlayerId.entrySet()) {
+                out.writeVarint(ids.indexOf(entry.getKey()));
+                out.writeNullableInt(entry.getValue());
+            }
+        }
+        if ((bits & PAYLOAD_ORDER) != 0) {
+            out.writeVarint(payload.playerOrder.size());
+            for (String playerId : payload.playerOrder) out.writeVarint(ids.indexOf(playerId));
+        }
+        if ((bits & PAYLOAD_PLAYER) != 0) writePlayer(out, ids, payload.player);
+        if ((bits & PAYLOAD_REVOKE) != 0) {
+            out.writeVarint(payload.revokeUserIds.size());
+            for (String userId : payload.revokeUserIds) out.writeString(userId);
+        }
+        return out.toByteArray();
+    }
+
+    @NonNull
+    public static GameOperationPayload decodePayload(@NonNull byte[] bytes) {
+        Reader in = new Reader(bytes);
+        int format = in.readByte();
+        if (format != PAYLOAD_FORMAT) {
+            throw new IllegalStateException("Unsupported operation payload format: " + format);
+        }
+        GameOperationPayload payload = new GameOperationPayload();
+        int bits = in.readVarint();
+        String[] ids = IdTable.read(in);
+        if ((bits & PAYLOAD_NAME) != 0) payload.name = in.readString();
+        if ((bits & PAYLOAD_USER_ID) != 0) payload.userId = in.readString();
+        if ((bits & PAYLOAD_USER_NAME) != 0) payload.userDisplayName = in.readString();
+        if ((bits & PAYLOAD_FROM_PLAYER) != 0) payload.fromPlayerId = ids[in.readIndex(ids)];
+        if ((bits & PAYLOAD_ROUND) != 0) payload.round1Based = in.readSigned();
+        if ((bits & PAYLOAD_CORRECTION) != 0) {
+            payload.correction = (bits & PAYLOAD_CORRECTION_TRUE) != 0;
+        }
+        if ((bits & PAYLOAD_SCORES) != 0) {
+            int count = in.readVarint();
+            Map<String, Integer> scores = new LinkedHashMap<>();
+            for (int index = 0; index < count; index++) {
+                String playerId = ids[in.readIndex(ids)];
+                scores.put(playerId, in.readNullableInt());
+            }
+            payload.scoresByPlayerId = scores;
+        }
+        if ((bits & PAYLOAD_ORDER) != 0) {
+            int count = in.readVarint();
+            List<String> order = new ArrayList<>(count);
+            for (int index = 0; index < count; index++) order.add(ids[in.readIndex(ids)]);
+            payload.playerOrder = order;
+        }
+        if ((bits & PAYLOAD_PLAYER) != 0) payload.player = readPlayer(in, ids);
+        if ((bits & PAYLOAD_REVOKE) != 0) {
+            int count = in.readVarint();
+            List<String> revoked = new ArrayList<>(count);
+            for (int index = 0; index < count; index++) revoked.add(in.readString());
+            payload.revokeUserIds = revoked;
+        }
+        in.requireEnd();
+        return payload;
+    }
+
+    private static void writePlayer(Writer out, IdTable ids, Player player) {
+        if (player == null) {
+            throw new IllegalStateException("The player list contains an empty player.");
+        }
+        int bits = 0;
+        if (player.getPlayerId() != null) bits |= PLAYER_ID;
+        if (player.getName() != null) bits |= PLAYER_NAME;
+        if (player.getScores() != null) bits |= PLAYER_SCORES;
+        if (player.getRandomNumber() != null) bits |= PLAYER_RANDOM;
+        if (player.getUserId() != null) bits |= PLAYER_USER_ID;
+        if (player.getIsCreator() != null) {
+            bits |= PLAYER_CREATOR;
+            if (player.getIsCreator()) bits |= PLAYER_CREATOR_TRUE;
+        }
+        if (player.getMidGameJoinActiveRound() != null) bits |= PLAYER_JOIN_ROUND;
+        out.writeVarint(bits);
+        if ((bits & PLAYER_ID) != 0) out.writeVarint(ids.indexOf(player.getPlayerId()));
+        if ((bits & PLAYER_NAME) != 0) out.writeString(player.getName());
+        if ((bits & PLAYER_SCORES) != 0) {
+            List<Integer> scores = player.getScores();
+            out.writeVarint(scores.size());
+            for (int index = 0; index < scores.size(); index++) {
+                out.writeNullableInt(scores.get(index));
+            }
+        }
+        if ((bits & PLAYER_RANDOM) != 0) out.writeSigned(player.getRandomNumber());
+        if ((bits & PLAYER_USER_ID) != 0) out.writeString(player.getUserId());
+        if ((bits & PLAYER_JOIN_ROUND) != 0) out.writeSigned(player.getMidGameJoinActiveRound());
+    }
+
+    private static Player readPlayer(Reader in, String[] ids) {
+        Player player = new Player();
+        int bits = in.readVarint();
+        if ((bits & PLAYER_ID) != 0) player.setPlayerId(ids[in.readIndex(ids)]);
+        if ((bits & PLAYER_NAME) != 0) player.setName(in.readString());
+        if ((bits & PLAYER_SCORES) != 0) {
+            int count = in.readVarint();
+            List<Integer> scores = new ArrayList<>(count);
+            for (int index = 0; index < count; index++) scores.add(in.readNullableInt());
+            player.setScores(scores);
+        }
+        if ((bits & PLAYER_RANDOM) != 0) player.setRandomNumber(in.readSigned());
+        if ((bits & PLAYER_USER_ID) != 0) player.setUserId(in.readString());
+        if ((bits & PLAYER_CREATOR) != 0) {
+            player.setIsCreator((bits & PLAYER_CREATOR_TRUE) != 0);
+        }
+        if ((bits & PLAYER_JOIN_ROUND) != 0) player.setMidGameJoinActiveRound(in.readSigned());
+        return player;
+    }
+
+    /** Player IDs in first-seen order; records refer to them by position. */
+    private static final class IdTable {
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        void add(String id) {
+            if (id != null && !indexes.containsKey(id)) {
+                indexes.put(id, values.size());
+                values.add(id);
+            }
+        }
+
+        int indexOf(String id) {
+            Integer index = indexes.get(id);
+            if (index == null) {
+                throw new IllegalStateException("Player ID missing from the codec table.");
+            }
+            return index;
+        }
+
+        void write(Writer out) {
+            out.writeVarint(values.size());
+            for (String value : values) out.writeString(value);
+        }
+
+        static String[] read(Reader in) {
+            String[] ids = new String[in.readVarint()];
+            for (int index = 0; index < ids.length; index++) ids[index] = in.readString();
+            return ids;
+        }
+    }
+
+    private static final class Writer {
+        private byte[] buffer;
+        private int size;
+
+        Writer(int capacity) {
+            buffer = new byte[capacity];
+        }
+
+        void writeByte(int value) {
+            ensure(1);
+            buffer[size++] = (byte) value;
+        }
+
+        void writeVarint(int value) {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        void writeSigned(int value) {
+            writeVarint((value << 1) ^ (value >> 31));
+        }
+
+        void writeSignedLong(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        /** 0 for null, otherwise the zigzag value plus one; {@code -1} takes one byte. */
+        void writeNullableInt(Integer value) {
+            writeVarLong(value == null ? 0L : (((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL) + 1L);
+        }
+
+        void writeDouble(double value) {
+            long bits = Double.doubleToLongBits(value);
+            ensure(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[size++] = (byte) (bits >>> shift);
+            }
+        }
+
+        void writeString(String value) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(utf8.length);
+            ensure(utf8.length);
+            System.arraycopy(utf8, 0, buffer, size, utf8.length);
+            size += utf8.length;
+        }
+
+        private void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        int readByte() {
+            require(1);
+            return bytes[position++] & 0xFF;
+        }
+
+        int readVarint() {
+            long value = readVarLong();
+            if (value > 0xFFFFFFFFL) {
+                throw new IllegalStateException("Corrupt operation record.");
+            }
+            return (int) value;
+        }
+
+        int readSigned() {
+            int raw = readVarint();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        long readSignedLong() {
+            long raw = readVarLong();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        Integer readNullableInt() {
+            long raw = readVarLong();
+            if (raw == 0L) {
+                return null;
+            }
+            int zigzag = (int) (raw - 1L);
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+
+        int readIndex(String[] table) {
+            int index = readVarint();
+            if (index >= table.length) {
+                throw new IllegalStateException("Corrupt operation record.");
+            }
+            return index;
+        }
+
+        double readDouble() {
+            require(8);
+            long bits = 0;
+            for (int index = 0; index < 8; index++) {
+                bits = (bits << 8) | (bytes[position++] & 0xFFL);
+            }
+            return Double.longBitsToDouble(bits);
+        }
+
+        String readString() {
+            int length = readVarint();
+            require(length);
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        void requireEnd() {
+            if (position != bytes.length) {
+                throw new IllegalStateException("Corrupt operation record.");
+            }
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int next = readByte();
+                value |= (long) (next & 0x7F) << shift;
+                if ((next & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalStateException("Corrupt operation record.");
+        }
+
+        private void require(int count) {
+            if (count < 0 || position + count > bytes.length) {
+                throw new IllegalStateException("Corrupt operation record.");
+            }
+        }
+    }
+}
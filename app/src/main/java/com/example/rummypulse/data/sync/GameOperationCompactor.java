@@ -0,0 +1,465 @@
+package com.example.rummypulse.data.sync;
+
+import androidx.annotation.NonNull;
+
+import com.example.rummypulse.data.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Rewrites the pending tail of a game's outbox into fewer operations with the same effect on
+ * the projected game and on view approvals.
+ *
+ * <p>Compaction is driven by {@link #RULES}: each rule names an earlier and a later operation
+ * type and says how the pair collapses when both target the same player (or round). A pair
+ * need not be adjacent; every operation between them must commute with the one that moves,
+ * judged from the fields each operation reads and writes ({@link Footprint}). Rules are
+ * applied until none matches, so chains such as rename, rename, map fold step by step.
+ *
+ * <p>Equivalence holds for any base state on which the original tail applies without error.
+ * A compacted tail may skip a validation an absorbed operation would have failed, never the
+ * other way round. {@code ADD_PLAYER} IDs are generated fresh on this device, so a pending add
+ * always creates its player and cancels exactly against a later delete.
+ */
+final class GameOperationCompactor {
+    /** Rows to change so the outbox holds the compacted tail. */
+    static final class Plan {
+        /** The compacted tail in sequence order; rewritten rows are copies. */
+        final List<PendingGameOperation> operations;
+        final List<String> deletedOperationIds;
+        /** Surviving operations whose payload changed, carrying the new payload. */
+        final List<PendingGameOperation> rewritten;
+
+        Plan(List<PendingGameOperation> operations, List<String> deletedOperationIds,
+                List<PendingGameOperation> rewritten) {
+            this.operations = Collections.unmodifiableList(operations);
+            this.deletedOperationIds = Collections.unmodifiableList(deletedOperationIds);
+            this.rewritten = Collections.unmodifiableList(rewritten);
+        }
+
+        boolean isEmpty() {
+            return deletedOperationIds.isEmpty() && rewritten.isEmpty();
+        }
+    }
+
+    private enum Kind {
+        /** Both operations disappear. */
+        CANCEL,
+        /** The earlier operation takes the merged payload; the later one is dropped. */
+        KEEP_EARLIER,
+        /** The later operation takes the merged payload; the earlier one is dropped. */
+        KEEP_LATER
+    }
+
+    private static final class Outcome {
+        final Kind kind;
+        final GameOperationPayload payload;
+
+        Outcome(Kind kind, GameOperationPayload payload) {
+            this.kind = kind;
+            this.payload = payload;
+        }
+    }
+
+    private interface Merge {
+        /** The collapsed pair, or null when the two operations do not combine. */
+        Outcome merge(Op earlier, Op later);
+    }
+
+    private static final class Rule {
+        final GameOperationType earlier;
+        final GameOperationType later;
+        final Merge merge;
+
+        Rule(GameOperationType earlier, GameOperationType later, Merge merge) {
+            this.earlier = earlier;
+            this.later = later;
+            this.merge = merge;
+        }
+    }
+
+    private static final List<Rule> RULES = Arrays.asList(
+            // A player added and removed before either synced never existed remotely.
+            new Rule(GameOperationType.ADD_PLAYER, GameOperationType.DELETE_PLAYER,
+                    (a, b) -> addedPlayerId(a) != null
+                            && addedPlayerId(a).equals(b.playerId)
+                            && isEmpty(a.payload.player.getUserId())
+                            && isEmpty(b.payload.revokeUserIds)
+                            ? new Outcome(Kind.CANCEL, null) : null),
+            new Rule(GameOperationType.ADD_PLAYER, GameOperationType.RENAME_PLAYER,
+                    (a, b) -> addedPlayerId(a) != null
+                            && addedPlayerId(a).equals(b.playerId)
+                            && !isEmpty(b.payload.name)
+                            ? keepEarlier(renamedPlayer(a.payload, b.payload.name)) : null),
+            // Mappings and deletes overwrite the name, so an earlier rename is redundant.
+            new Rule(GameOperationType.RENAME_PLAYER, GameOperationType.RENAME_PLAYER,
+                    (a, b) -> sameTarget(a, b) ? keepLater(b.payload) : null),
+            new Rule(GameOperationType.RENAME_PLAYER, GameOperationType.MAP_USER,
+                    (a, b) -> sameTarget(a, b) ? keepLater(b.payload) : null),
+            new Rule(GameOperationType.RENAME_PLAYER, GameOperationType.TRANSFER_MAPPING,
+                    (a, b) -> sameTarget(a, b) ? keepLater(b.payload) : null),
+            new Rule(GameOperationType.RENAME_PLAYER, GameOperationType.DELETE_PLAYER,
+                    (a, b) -> sameTarget(a, b) ? keepLater(b.payload) : null),
+            // The dropped mapping approved a user that the later operation revokes or
+            // replaces; that revocation is carried in revokeUserIds.
+            new Rule(GameOperationType.MAP_USER, GameOperationType.MAP_USER,
+                    (a, b) -> sameTarget(a, b)
+                            ? keepLater(withRevoked(b.payload, a.payload.revokeUserIds,
+                                    a.payload.userId == null
+                                            || a.payload.userId.equals(b.payload.userId)
+                                            ? null : a.payload.userId))
+                            : null),
+            new Rule(GameOperationType.MAP_USER, GameOperationType.UNMAP_USER,
+                    (a, b) -> {
+                        if (!sameTarget(a, b)) return null;
+                        GameOperationPayload unmap = withRevoked(b.payload,
+                                a.payload.revokeUserIds, a.payload.userId);
+                        if (isEmpty(unmap.name)) unmap.name = a.payload.name;
+                        return keepLater(unmap);
+                    }),
+            new Rule(GameOperationType.MAP_USER, GameOperationType.DELETE_PLAYER,
+                    (a, b) -> sameTarget(a, b)
+                            ? keepLater(withRevoked(b.payload, a.payload.revokeUserIds,
+                                    a.payload.userId))
+                            : null),
+            new Rule(GameOperationType.UNMAP_USER, GameOperationType.UNMAP_USER,
+                    (a, b) -> {
+                        if (!sameTarget(a, b)) return null;
+                        GameOperationPayload unmap =
+                                withRevoked(b.payload, a.payload.revokeUserIds, null);
+                        if (isEmpty(unmap.name)) unmap.name = a.payload.name;
+                        return keepLater(unmap);
+                    }),
+            new Rule(GameOperationType.UNMAP_USER, GameOperationType.MAP_USER,
+                    (a, b) -> sameTarget(a, b)
+                            ? keepLater(withRevoked(b.payload, a.payload.revokeUserIds, null))
+                            : null),
+            new Rule(GameOperationType.UNMAP_USER, GameOperationType.DELETE_PLAYER,
+                    (a, b) -> sameTarget(a, b)
+                            ? keepLater(withRevoked(b.payload, a.payload.revokeUserIds, null))
+                            : null),
+            new Rule(GameOperationType.SET_PLAYER_ORDER, GameOperationType.SET_PLAYER_ORDER,
+                    (a, b) -> keepLater(b.payload)),
+            // Same-round saves merge into the earlier slot; later values win per player.
+            new Rule(GameOperationType.UPDATE_SCORE, GameOperationType.UPDATE_SCORE,
+                    (a, b) -> a.payload.round1Based != null
+                            && a.payload.round1Based.equals(b.payload.round1Based)
+                            && a.payload.scoresByPlayerId != null
+                            && b.payload.scoresByPlayerId != null
+                            ? keepEarlier(mergedScores(a.payload, b.payload)) : null));
+
+    private GameOperationCompactor() {
+    }
+
+    /**
+     * The operations of {@code activeOperations} that may be compacted: the PENDING ones after
+     * the last operation that is in flight, blocked, or was attempted before. An attempted
+     * operation may have committed remotely with only the acknowledgement lost, and the
+     * remote applier recognizes it by its ID and payload position, so it is never rewritten.
+     */
+    @NonNull
+    static List<PendingGameOperation> pendingTail(
+            @NonNull List<PendingGameOperation> activeOperations) {
+        int start = activeOperations.size();
+        while (start > 0) {
+            PendingGameOperation previous = activeOperations.get(start - 1);
+            if (!GameOperationStatus.PENDING.name().equals(previous.status)
+                    || previous.attemptCount > 0) {
+                break;
+            }
+            start--;
+        }
+        return activeOperations.subList(start, activeOperations.size());
+    }
+
+    /**
+     * Compacts {@code pendingTail}, a {@link #pendingTail} of one game in sequence order.
+     * The input rows are not modified.
+     */
+    @NonNull
+    static Plan compact(@NonNull List<PendingGameOperation> pendingTail) {
+        List<Op> ops = new ArrayList<>(pendingTail.size());
+        for (PendingGameOperation row : pendingTail) {
+            ops.add(new Op(row, GameOperationCodec.decodePayload(row.payloadBlob)));
+        }
+        List<String> deleted = new ArrayList<>();
+        while (compactOnce(ops, deleted)) {
+            // Each step removes at least one operation, so this terminates.
+        }
+        List<PendingGameOperation> operations = new ArrayList<>(ops.size());
+        List<PendingGameOperation> rewritten = new ArrayList<>();
+        for (Op op : ops) {
+            if (op.rewritten) {
+                PendingGameOperation copy = copyWithPayload(op.row, op.payload);
+                operations.add(copy);
+                rewritten.add(copy);
+            } else {
+                operations.add(op.row);
+            }
+        }
+        return new Plan(operations, deleted, rewritten);
+    }
+
+    private static boolean compactOnce(List<Op> ops, List<String> deleted) {
+        for (int later = 1; later < ops.size(); later++) {
+            for (int earlier = later - 1; earlier >= 0; earlier--) {
+                Outcome outcome = match(ops.get(earlier), ops.get(later));
+                if (outcome == null || !canMove(ops, earlier, later, outcome.kind)) {
+                    continue;
+                }
+                Op a = ops.get(earlier);
+                Op b = ops.get(later);
+                switch (outcome.kind) {
+                    case CANCEL:
+                        ops.remove(later);
+                        ops.remove(earlier);
+                        deleted.add(a.row.operationId);
+                        deleted.add(b.row.operationId);
+                        break;
+                    case KEEP_EARLIER:
+                        a.replacePayload(outcome.payload);
+                        ops.remove(later);
+                        deleted.add(b.row.operationId);
+                        break;
+                    case KEEP_LATER:
+                        b.replacePayload(outcome.payload);
+                        ops.remove(earlier);
+                        deleted.add(a.row.operationId);
+                        break;
+                    default:
+                        throw new IllegalStateException("Unknown compaction outcome.");
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Outcome match(Op earlier, Op later) {
+        if (earlier.row.editGeneration != later.row.editGeneration) {
+            return null;
+        }
+        for (Rule rule : RULES) {
+            if (rule.earlier == earlier.type && rule.later == later.type) {
+                return rule.merge.merge(earlier, later);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Whether the operations strictly between the pair commute with the one whose effect
+     * moves: the later one for {@link Kind#KEEP_EARLIER}, otherwise the earlier one.
+     */
+    private static boolean canMove(List<Op> ops, int earlier, int later, Kind kind) {
+        Footprint moved = (kind == Kind.KEEP_EARLIER ? ops.get(later) : ops.get(earlier))
+                .footprint;
+        for (int index = earlier + 1; index < later; index++) {
+            if (!moved.commutesWith(ops.get(index).footprint)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Op {
+        final PendingGameOperation row;
+        final GameOperationType type;
+        final String playerId;
+        GameOperationPayload payload;
+        Footprint footprint;
+        boolean rewritten;
+
+        Op(PendingGameOperation row, GameOperationPayload payload) {
+            this.row = row;
+            this.type = row.operationType();
+            this.playerId = row.playerId;
+            this.payload = payload;
+            this.footprint = Footprint.of(type, playerId, payload);
+        }
+
+        void replacePayload(GameOperationPayload replacement) {
+            payload = replacement;
+            footprint = Footprint.of(type, playerId, replacement);
+            rewritten = true;
+        }
+    }
+
+    /**
+     * Fields an operation reads and writes. Keys are {@code p:<playerId>:<field>} for player
+     * fields ({@code p:<playerId>:*} covers the whole player), {@code users} for the set of
+     * mapped users that mapping validation scans, {@code members} for the roster, {@code order}
+     * for the list position of players, and {@code approvals} for view-approval side effects.
+     */
+    static final class Footprint {
+        /** Concurrent writes to these keys commute: roster adds and removes of distinct IDs. */
+        private static final Set<String> COMMUTATIVE =
+                Collections.singleton("members");
+
+        final Set<String> reads = new LinkedHashSet<>();
+        final Set<String> writes = new LinkedHashSet<>();
+
+        static Footprint of(GameOperationType type, String playerId,
+                GameOperationPayload payload) {
+            Footprint footprint = new Footprint();
+            String target = "p:" + playerId + ":";
+            switch (type) {
+                case UPDATE_SCORE:
+                    if (payload.scoresByPlayerId != null) {
+                        for (String scored : payload.scoresByPlayerId.keySet()) {
+                            footprint.reads.add("p:" + scored + ":exists");
+                            footprint.writes.add(
+                                    "p:" + scored + ":score:" + payload.round1Based);
+                        }
+                    }
+                    break;
+                case RENAME_PLAYER:
+                    footprint.reads.add(target + "exists");
+                    footprint.writes.add(target + "name");
+                    break;
+                case MAP_USER:
+                    footprint.reads.addAll(Arrays.asList(target + "exists", target + "user",
+                            "users"));
+                    footprint.writes.addAll(Arrays.asList(target + "user", target + "name",
+                            "users", "approvals"));
+                    break;
+                case UNMAP_USER:
+                    footprint.reads.addAll(Arrays.asList(target + "exists", target + "user"));
+                    footprint.writes.addAll(Arrays.asList(target + "user", "users",
+                            "approvals"));
+                    if (!isEmpty(payload.name)) footprint.writes.add(target + "name");
+                    break;
+                case TRANSFER_MAPPING:
+                    String source = "p:" + payload.fromPlayerId + ":";
+                    footprint.reads.addAll(Arrays.asList(target + "exists", source + "exists",
+                            source + "user", "users"));
+                    footprint.writes.addAll(Arrays.asList(source + "user", target + "user",
+                            target + "name", "users", "approvals"));
+                    break;
+                case SET_PLAYER_ORDER:
+                    footprint.reads.add("members");
+                    footprint.writes.add("order");
+                    break;
+                case ADD_PLAYER:
+                    String added = "p:" + (payload.player == null
+                            ? null : payload.player.getPlayerId()) + ":*";
+                    footprint.reads.add(added);
+                    footprint.writes.addAll(Arrays.asList(added, "members", "order"));
+                    if (payload.player != null && !isEmpty(payload.player.getUserId())) {
+                        footprint.writes.add("users");
+                    }
+                    break;
+                case DELETE_PLAYER:
+                    footprint.reads.add(target + "*");
+                    footprint.writes.addAll(Arrays.asList(target + "*", "members", "users",
+                            "approvals"));
+                    break;
+                default:
+                    // Unknown operations conflict with everything.
+                    footprint.reads.add("*");
+                    footprint.writes.add("*");
+            }
+            if (!isEmpty(payload.revokeUserIds)) {
+                footprint.writes.add("approvals");
+            }
+            return footprint;
+        }
+
+        boolean commutesWith(Footprint other) {
+            return !overlaps(writes, other.reads, false)
+                    && !overlaps(reads, other.writes, false)
+                    && !overlaps(writes, other.writes, true);
+        }
+
+        private static boolean overlaps(Set<String> left, Set<String> right,
+                boolean skipCommutative) {
+            for (String first : left) {
+                if (skipCommutative && COMMUTATIVE.contains(first)) continue;
+                for (String second : right) {
+                    if (covers(first, second) || covers(second, first)) return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean covers(String pattern, String key) {
+            if (pattern.equals(key)) return true;
+            return pattern.endsWith("*")
+                    && key.startsWith(pattern.substring(0, pattern.length() - 1));
+        }
+    }
+
+    private static Outcome keepEarlier(GameOperationPayload payload) {
+        return new Outcome(Kind.KEEP_EARLIER, payload);
+    }
+
+    private static Outcome keepLater(GameOperationPayload payload) {
+        return new Outcome(Kind.KEEP_LATER, payload);
+    }
+
+    private static boolean sameTarget(Op earlier, Op later) {
+        return earlier.playerId != null && earlier.playerId.equals(later.playerId);
+    }
+
+    private static String addedPlayerId(Op add) {
+        Player player = add.payload.player;
+        return player == null || isEmpty(player.getPlayerId()) ? null : player.getPlayerId();
+    }
+
+    private static GameOperationPayload renamedPlayer(GameOperationPayload add, String name) {
+        GameOperationPayload copy = copy(add);
+        copy.player = GameDataCopies.copyPlayer(add.player);
+        copy.player.setName(name.trim());
+        return copy;
+    }
+
+    private static GameOperationPayload mergedScores(GameOperationPayload earlier,
+            GameOperationPayload later) {
+        GameOperationPayload merged = copy(earlier);
+        Map<String, Integer> scores = new LinkedHashMap<>(earlier.scoresByPlayerId);
+        scores.putAll(later.scoresByPlayerId);
+        merged.scoresByPlayerId = scores;
+        merged.correction = Boolean.TRUE.equals(earlier.correction)
+                || Boolean.TRUE.equals(later.correction);
+        return merged;
+    }
+
+    /** {@code payload} with the revocations of an absorbed operation prepended. */
+    private static GameOperationPayload withRevoked(GameOperationPayload payload,
+            List<String> absorbed, String absorbedUserId) {
+        GameOperationPayload copy = copy(payload);
+        Set<String> revoked = new LinkedHashSet<>();
+        if (absorbed != null) revoked.addAll(absorbed);
+        if (!isEmpty(absorbedUserId)) revoked.add(absorbedUserId);
+        if (payload.revokeUserIds != null) revoked.addAll(payload.revokeUserIds);
+        copy.revokeUserIds = revoked.isEmpty() ? null : new ArrayList<>(revoked);
+        return copy;
+    }
+
+    private static GameOperationPayload copy(GameOperationPayload payload) {
+        return GameOperationCodec.decodePayload(GameOperationCodec.encodePayload(payload));
+    }
+
+    private static PendingGameOperation copyWithPayload(PendingGameOperation row,
+            GameOperationPayload payload) {
+        return new PendingGameOperation(row.operationId, row.gameId, row.editGeneration,
+                row.playerId, row.sequence, row.type,
+                GameOperationCodec.encodePayload(payload), row.status, row.attemptCount,
+                row.lastError, row.createdAt);
+    }
+
+    private static boolean isEmpty(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    private static boolean isEmpty(List<String> values) {
+        return values == null || values.isEmpty();
+    }
+}
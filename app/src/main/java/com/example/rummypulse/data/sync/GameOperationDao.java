@@ -4,6 +4,7 @@ import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 
 import java.util.List;
 
@@ -40,22 +41,28 @@ public interface GameOperationDao {
             + " AND status = 'PENDING' ORDER BY sequence LIMIT 1")
     PendingGameOperation getNextPending(String gameId);
 
-    @Query("UPDATE pending_game_operations SET status = 'PENDING'"
-            + " WHERE gameId = :gameId AND status = 'IN_FLIGHT'")
-    void resetInterruptedOperations(String gameId);
-
     @Query("SELECT * FROM pending_game_operations WHERE gameId = :gameId"
-            + " AND status = 'PENDING' AND type = :type"
-            + " AND ((:playerId IS NULL AND playerId IS NULL) OR playerId = :playerId)"
-            + " ORDER BY sequence DESC LIMIT 1")
-    PendingGameOperation getLatestPending(String gameId, String type, String playerId);
+            + " AND status = 'PENDING' ORDER BY sequence LIMIT :limit")
+    List<PendingGameOperation> getNextPendingBatch(String gameId, int limit);
+
+    @Query("UPDATE pending_game_operations SET status = 'PENDING' WHERE status = 'IN_FLIGHT'")
+    void resetAllInterruptedOperations();
+
+    /** Games with operations still to send, the one waiting longest first. */
+    @Query("SELECT gameId FROM pending_game_operations"
+            + " WHERE status IN ('PENDING', 'IN_FLIGHT')"
+            + " GROUP BY gameId ORDER BY MIN(createdAt)")
+    List<String> getSyncableGameIds();
 
     @Query("DELETE FROM pending_game_operations WHERE operationId = :operationId")
     void deleteOperation(String operationId);
 
-    @Query("UPDATE pending_game_operations SET payloadJson = :payloadJson"
+    @Query("DELETE FROM pending_game_operations WHERE operationId IN (:operationIds)")
+    void deleteOperations(List<String> operationIds);
+
+    @Query("UPDATE pending_game_operations SET payloadBlob = :payloadBlob"
             + " WHERE operationId = :operationId AND status = 'PENDING'")
-    int replacePendingPayload(String operationId, String payloadJson);
+    int replacePendingPayload(String operationId, byte[] payloadBlob);
 
     @Query("UPDATE pending_game_operations SET status = :status,"
             + " attemptCount = attemptCount + :attemptIncrement, lastError = :lastError"
@@ -63,6 +70,12 @@ public interface GameOperationDao {
     void updateOperationState(
             String operationId, String status, int attemptIncrement, String lastError);
 
+    @Query("UPDATE pending_game_operations SET status = :status,"
+            + " attemptCount = attemptCount + :attemptIncrement, lastError = :lastError"
+            + " WHERE operationId IN (:operationIds)")
+    void updateOperationsState(
+            List<String> operationIds, String status, int attemptIncrement, String lastError);
+
     @Query("UPDATE pending_game_operations SET status = 'BLOCKED', lastError = :reason"
             + " WHERE gameId = :gameId AND status IN ('PENDING', 'IN_FLIGHT')")
     void blockActiveOperations(String gameId, String reason);
@@ -74,4 +87,22 @@ public interface GameOperationDao {
     @Query("SELECT COUNT(*) FROM pending_game_operations WHERE gameId = :gameId"
             + " AND status IN ('PENDING', 'IN_FLIGHT')")
     int syncableOperationCount(String gameId);
+
+    /**
+     * Compacts the never-sent operations at the end of the game's outbox.
+     *
+     * @return IDs of the operations removed
+     */
+    @Transaction
+    default List<String> compactPendingTail(String gameId) {
+        GameOperationCompactor.Plan plan = GameOperationCompactor.compact(
+                GameOperationCompactor.pendingTail(getActiveOperations(gameId)));
+        for (PendingGameOperation rewritten : plan.rewritten) {
+            replacePendingPayload(rewritten.operationId, rewritten.payloadBlob);
+        }
+        if (!plan.deletedOperationIds.isEmpty()) {
+            deleteOperations(plan.deletedOperationIds);
+        }
+        return plan.deletedOperationIds;
+    }
 }
@@ -1,24 +1,131 @@
 package com.example.rummypulse.data.sync;
 
 import android.content.Context;
+import android.database.Cursor;
 
 import androidx.room.Database;
 import androidx.room.Room;
 import androidx.room.RoomDatabase;
+import androidx.room.migration.Migration;
+import androidx.sqlite.db.SupportSQLiteDatabase;
 
 @Database(
         entities = {
                 GameSnapshotEntity.class,
                 PendingGameOperation.class,
-                RoundScoreDraftEntity.class
+                RoundScoreDraftEntity.class,
+                DashboardRowEntity.class,
+                SyncTelemetryEntity.class
         },
-        version = 1,
+        version = 4,
         exportSchema = false)
 public abstract class GameOperationDatabase extends RoomDatabase {
     private static volatile GameOperationDatabase instance;
 
+    /** Adds the persisted dashboard list; pending operations are kept. */
+    static final Migration MIGRATION_1_2 = new Migration(1, 2) {
+        @Override
+        public void migrate(SupportSQLiteDatabase db) {
+            db.execSQL("CREATE TABLE IF NOT EXISTS `dashboard_rows` ("
+                    + "`ownerUid` TEXT NOT NULL, `gameId` TEXT NOT NULL,"
+                    + " `position` INTEGER NOT NULL, `rowJson` TEXT NOT NULL,"
+                    + " `serverUpdatedAt` INTEGER NOT NULL, `savedAt` INTEGER NOT NULL,"
+                    + " PRIMARY KEY(`ownerUid`, `gameId`))");
+        }
+    };
+
+    /**
+     * Re-encodes snapshot and payload JSON with {@link GameOperationCodec}. An unreadable
+     * snapshot is dropped, as it is only a cache of the server game; an unreadable payload keeps
+     * its row but is blocked so the editor can recover it.
+     */
+    static final Migration MIGRATION_2_3 = new Migration(2, 3) {
+        @Override
+        public void migrate(SupportSQLiteDatabase db) {
+            db.execSQL("CREATE TABLE `game_snapshots_new` ("
+                    + "`gameId` TEXT NOT NULL, `snapshotBlob` BLOB NOT NULL,"
+                    + " `revision` INTEGER NOT NULL, `editGeneration` INTEGER NOT NULL,"
+                    + " `updatedAt` INTEGER NOT NULL, PRIMARY KEY(`gameId`))");
+            try (Cursor rows = db.query("SELECT `gameId`, `snapshotJson`, `revision`,"
+                    + " `editGeneration`, `updatedAt` FROM `game_snapshots`")) {
+                while (rows.moveToNext()) {
+                    byte[] blob = LegacyJsonRecords.snapshot(rows.getString(1));
+                    if (blob == null) {
+                        continue;
+                    }
+                    db.execSQL("INSERT INTO `game_snapshots_new` VALUES (?, ?, ?, ?, ?)",
+                            new Object[] {rows.getString(0), blob, rows.getLong(2),
+                                    rows.getLong(3), rows.getLong(4)});
+                }
+            }
+            db.execSQL("DROP TABLE `game_snapshots`");
+            db.execSQL("ALTER TABLE `game_snapshots_new` RENAME TO `game_snapshots`");
+
+            db.execSQL("CREATE TABLE `pending_game_operations_new` ("
+                    + "`operationId` TEXT NOT NULL, `gameId` TEXT NOT NULL,"
+                    + " `editGeneration` INTEGER NOT NULL, `playerId` TEXT,"
+                    + " `sequence` INTEGER NOT NULL, `type` TEXT NOT NULL,"
+                    + " `payloadBlob` BLOB NOT NULL, `status` TEXT NOT NULL,"
+                    + " `attemptCount` INTEGER NOT NULL, `lastError` TEXT,"
+                    + " `createdAt` INTEGER NOT NULL, PRIMARY KEY(`operationId`))");
+            try (Cursor rows = db.query("SELECT `operationId`, `gameId`, `editGeneration`,"
+                    + " `playerId`, `sequence`, `type`, `payloadJson`, `status`,"
+                    + " `attemptCount`, `lastError`, `createdAt`"
+                    + " FROM `pending_game_operations`")) {
+                while (rows.moveToNext()) {
+                    byte[] blob = LegacyJsonRecords.payload(rows.getString(6));
+                    String status = rows.getString(7);
+                    String lastError = rows.isNull(9) ? null : rows.getString(9);
+                    if (blob == null) {
+                        blob = GameOperationCodec.encodePayload(new GameOperationPayload());
+                        status = GameOperationStatus.BLOCKED.name();
+                        lastError = "This pending change could not be converted.";
+                    }
+                    db.execSQL("INSERT INTO `pending_game_operations_new`"
+                                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                            new Object[] {rows.getString(0), rows.getString(1),
+                                    rows.getLong(2),
+                                    rows.isNull(3) ? null : rows.getString(3),
+                                    rows.getLong(4), rows.getString(5), blob, status,
+                                    rows.getInt(8), lastError, rows.getLong(10)});
+                }
+            }
+            db.execSQL("DROP TABLE `pending_game_operations`");
+            db.execSQL("ALTER TABLE `pending_game_operations_new`"
+                    + " RENAME TO `pending_game_operations`");
+            db.execSQL("CREATE UNIQUE INDEX IF NOT EXISTS"
+                    + " `index_pending_game_operations_gameId_sequence`"
+                    + " ON `pending_game_operations` (`gameId`, `sequence`)");
+            db.execSQL("CREATE INDEX IF NOT EXISTS"
+                    + " `index_pending_game_operations_gameId_status`"
+                    + " ON `pending_game_operations` (`gameId`, `status`)");
+        }
+    };
+
+    /** Adds outbox sync telemetry; existing tables are untouched. */
+    static final Migration MIGRATION_3_4 = new Migration(3, 4) {
+        @Override
+        public void migrate(SupportSQLiteDatabase db) {
+            db.execSQL("CREATE TABLE IF NOT EXISTS `sync_telemetry` ("
+                    + "`operationId` TEXT NOT NULL, `gameId` TEXT NOT NULL,"
+                    + " `type` TEXT NOT NULL, `enqueuedAt` INTEGER NOT NULL,"
+                    + " `queueDepth` INTEGER NOT NULL, `firstAttemptAt` INTEGER NOT NULL,"
+                    + " `committedAt` INTEGER NOT NULL, `attemptCount` INTEGER NOT NULL,"
+                    + " `lastErrorCode` TEXT, `errorCount` INTEGER NOT NULL,"
+                    + " `outcome` TEXT NOT NULL, PRIMARY KEY(`operationId`))");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_sync_telemetry_enqueuedAt`"
+                    + " ON `sync_telemetry` (`enqueuedAt`)");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_sync_telemetry_outcome`"
+                    + " ON `sync_telemetry` (`outcome`)");
+        }
+    };
+
     public abstract GameOperationDao operations();
 
+    public abstract DashboardSnapshotDao dashboardRows();
+
+    public abstract SyncTelemetryDao syncTelemetry();
+
     public static GameOperationDatabase getInstance(Context context) {
         GameOperationDatabase current = instance;
         if (current == null) {
@@ -29,6 +136,7 @@ public abstract class GameOperationDatabase extends RoomDatabase {
                                     context.getApplicationContext(),
                                     GameOperationDatabase.class,
                                     "rummy-pulse-operations.db")
+                            .addMigrations(MIGRATION_1_2, MIGRATION_2_3, MIGRATION_3_4)
                             .build();
                     instance = current;
                 }
@@ -15,6 +15,11 @@ public final class GameOperationPayload {
     public Map<String, Integer> scoresByPlayerId;
     public List<String> playerOrder;
     public Player player;
+    /**
+     * Users whose view approval an operation absorbed by outbox compaction would have revoked.
+     * They are revoked before the operation's own approval changes.
+     */
+    public List<String> revokeUserIds;
 
     public static GameOperationPayload rename(String name) {
         GameOperationPayload payload = new GameOperationPayload();
@@ -3,7 +3,6 @@ package com.example.rummypulse.data.sync;
 import com.example.rummypulse.data.GameData;
 import com.example.rummypulse.data.GameDataSchema;
 import com.example.rummypulse.data.Player;
-import com.google.gson.Gson;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -15,8 +14,6 @@ import java.util.Set;
  * Pure operation reducer shared by optimistic UI projection and Firestore transactions.
  */
 public final class GameOperationProjector {
-    private static final Gson GSON = new Gson();
-
     private GameOperationProjector() {
     }
 
@@ -28,7 +25,7 @@ public final class GameOperationProjector {
                 source,
                 operation.operationType(),
                 operation.playerId,
-                GSON.fromJson(operation.payloadJson, GameOperationPayload.class));
+                GameOperationCodec.decodePayload(operation.payloadBlob));
     }
 
     public static GameData apply(
@@ -36,11 +33,11 @@ public final class GameOperationProjector {
             GameOperationType type,
             String playerId,
             GameOperationPayload payload) {
+        // deepCopy already normalizes the copy.
         GameData result = GameDataCopies.deepCopy(source);
         if (result == null) {
             throw new IllegalArgumentException("Game data is required.");
         }
-        GameDataSchema.normalize(result);
         GameOperationPayload safePayload =
                 payload == null ? new GameOperationPayload() : payload;
         switch (type) {
@@ -51,7 +48,12 @@ public final class GameOperationProjector {
                 applyMapping(result, playerId, safePayload, false);
                 break;
             case UNMAP_USER:
-                requirePlayer(result, playerId).setUserId(null);
+                Player unmapped = requirePlayer(result, playerId);
+                unmapped.setUserId(null);
+                // Set when compaction folded the name of an earlier mapping into the unmap.
+                if (clean(safePayload.name) != null) {
+                    unmapped.setName(clean(safePayload.name));
+                }
                 break;
             case TRANSFER_MAPPING:
                 applyTransfer(result, playerId, safePayload);
@@ -120,6 +122,7 @@ public final class GameOperationProjector {
             }
             scores.set(payload.round1Based - 1, entry.getValue());
         }
+        data.invalidateScoreMatrix();
     }
 
     private static void applyMapping(
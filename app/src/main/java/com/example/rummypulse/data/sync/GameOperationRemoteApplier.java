@@ -9,8 +9,7 @@ import com.example.rummypulse.data.GameDataSchema;
 import com.example.rummypulse.data.GameDataWrapper;
 import com.example.rummypulse.data.GameViewApprovalRepository;
 import com.example.rummypulse.data.Player;
-import com.example.rummypulse.data.ScoreHistoryEvent;
-import com.example.rummypulse.data.ScoreRegressionGuard;
+import com.example.rummypulse.data.ScoreHistoryStore;
 import com.google.android.gms.tasks.Task;
 import com.google.firebase.firestore.DocumentReference;
 import com.google.firebase.firestore.DocumentSnapshot;
@@ -18,10 +17,11 @@ import com.google.firebase.firestore.FieldPath;
 import com.google.firebase.firestore.FieldValue;
 import com.google.firebase.firestore.FirebaseFirestore;
 import com.google.firebase.firestore.Transaction;
-import com.google.gson.Gson;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -29,96 +29,94 @@ final class GameOperationRemoteApplier {
     static final class Result {
         final GameData gameData;
         final long revision;
+        /** Estimated bytes of the gameData write; 0 when nothing was written. */
+        final long writtenBytes;
+        /** Estimated bytes a full-document set would have written. */
+        final long fullDocumentBytes;
 
-        Result(GameData gameData, long revision) {
+        Result(GameData gameData, long revision, long writtenBytes, long fullDocumentBytes) {
             this.gameData = gameData;
             this.revision = revision;
+            this.writtenBytes = writtenBytes;
+            this.fullDocumentBytes = fullDocumentBytes;
         }
     }
 
-    private static final Gson GSON = new Gson();
-
     private GameOperationRemoteApplier() {
     }
 
+    /**
+     * Commits {@code operations}, consecutive pending operations of one game and edit session,
+     * in a single transaction. See {@link GameOperationBatch} for revision numbering and the
+     * {@code lastOperationId} replay rule.
+     */
     static Task<Result> apply(
-            FirebaseFirestore db, String editorUserId, PendingGameOperation operation) {
-        DocumentReference gameRef =
-                db.collection(FirestoreCollections.GAMES).document(operation.gameId);
+            FirebaseFirestore db, String editorUserId, List<PendingGameOperation> operations) {
+        String gameId = operations.get(0).gameId;
+        DocumentReference gameRef = db.collection(FirestoreCollections.GAMES).document(gameId);
         DocumentReference dataRef =
-                db.collection(FirestoreCollections.GAME_DATA).document(operation.gameId);
+                db.collection(FirestoreCollections.GAME_DATA).document(gameId);
         return db.runTransaction(transaction -> {
             DocumentSnapshot authSnapshot = transaction.get(gameRef);
             DocumentSnapshot dataSnapshot = transaction.get(dataRef);
-            validateEditor(authSnapshot, dataSnapshot, editorUserId, operation.editGeneration);
+            validateEditor(authSnapshot, dataSnapshot, editorUserId,
+                    operations.get(0).editGeneration);
 
             GameDataWrapper wrapper = dataSnapshot.toObject(GameDataWrapper.class);
             GameData latest = wrapper != null ? wrapper.getData() : null;
             if (latest == null) {
                 throw new IllegalStateException("Game data is unavailable.");
             }
-            GameDataSchema.normalize(latest);
+            boolean schemaUpgraded = GameDataSchema.normalize(latest);
             Long storedRevision = dataSnapshot.getLong("revision");
-            long previousRevision = storedRevision == null ? 0L : storedRevision;
-            if (operation.operationId.equals(dataSnapshot.getString("lastOperationId"))) {
-                return new Result(latest, previousRevision);
+            GameOperationBatch batch = GameOperationBatch.plan(
+                    latest,
+                    storedRevision == null ? 0L : storedRevision,
+                    dataSnapshot.getString("lastOperationId"),
+                    operations);
+            if (batch.isAlreadyApplied()) {
+                return new Result(batch.result, batch.revision, 0L, 0L);
             }
-            GameOperationPayload payload =
-                    GSON.fromJson(operation.payloadJson, GameOperationPayload.class);
-            Player targetBefore = operation.playerId == null
-                    ? null
-                    : GameDataSchema.findPlayer(latest, operation.playerId);
-            String previousTargetUserId =
-                    targetBefore == null ? null : targetBefore.getUserId();
-            Player deletedBefore = operation.operationType() == GameOperationType.DELETE_PLAYER
-                    && targetBefore != null
-                    ? GameDataCopies.copyPlayer(targetBefore)
-                    : null;
-
-            GameData patched = GameOperationProjector.apply(
-                    latest, operation.operationType(), operation.playerId, payload);
-            long nextRevision = previousRevision + 1L;
-            validateScoreMutation(latest, patched, operation.operationType(), payload);
-            transaction.set(
-                    dataRef,
-                    buildGameDataDocument(
-                            patched,
-                            operation.editGeneration,
-                            nextRevision,
-                            operation.operationId));
-
-            writeScoreHistory(transaction, db, operation, payload, latest, patched,
-                    editorUserId, previousRevision, nextRevision);
-
-            applyApprovalSideEffects(
-                    transaction,
-                    db,
-                    gameRef,
-                    operation,
-                    payload,
-                    previousTargetUserId,
-                    deletedBefore);
-            if (affectsDashboard(operation.operationType())) {
-                transaction.update(gameRef, buildDashboardSummary(patched));
+            Map<String, Object> fullDocument = buildGameDataDocument(
+                    batch.result,
+                    batch.editGeneration(),
+                    batch.revision,
+                    batch.lastOperationId(),
+                    batch.steps.size());
+            long fullDocumentBytes = GameDataDelta.estimateBytes(fullDocument);
+            long writtenBytes;
+            if (schemaUpgraded) {
+                // The stored document predates the current schema; rewrite it whole.
+                transaction.set(dataRef, fullDocument);
+                writtenBytes = fullDocumentBytes;
+            } else {
+                writtenBytes = writeDelta(transaction, dataRef, fullDocument,
+                        GameDataDelta.between(latest, batch.result));
             }
-            return new Result(patched, nextRevision);
-        });
-    }
 
-    private static void validateScoreMutation(GameData latest, GameData patched,
-            GameOperationType type, GameOperationPayload payload) {
-        if (type == GameOperationType.UPDATE_SCORE) {
-            if (payload == null || payload.round1Based == null
-                    || payload.scoresByPlayerId == null
-                    || payload.scoresByPlayerId.isEmpty()) {
-                throw new IllegalStateException("A round score operation is incomplete.");
+            boolean dashboardChanged = false;
+            for (GameOperationBatch.Step step : batch.steps) {
+                Player targetBefore = GameOperationBatch.targetBefore(step);
+                writeScoreHistory(transaction, db, step.operation, step.payload, step.before,
+                        step.after, editorUserId, step.previousRevision,
+                        step.committedRevision);
+                applyApprovalSideEffects(
+                        transaction,
+                        db,
+                        gameRef,
+                        step.operation,
+                        step.payload,
+                        targetBefore == null ? null : targetBefore.getUserId(),
+                        step.operation.operationType() == GameOperationType.DELETE_PLAYER
+                                ? targetBefore
+                                : null);
+                dashboardChanged |= affectsDashboard(step.operation.operationType());
             }
-            ScoreRegressionGuard.requireOnlyRoundChanged(latest, patched,
-                    payload.round1Based, new HashSet<>(payload.scoresByPlayerId.keySet()));
-        } else if (type != GameOperationType.ADD_PLAYER
-                && type != GameOperationType.DELETE_PLAYER) {
-            ScoreRegressionGuard.requireMetadataPreservesScores(latest, patched);
-        }
+            if (dashboardChanged) {
+                transaction.update(gameRef, buildDashboardSummary(batch.result));
+            }
+            return new Result(batch.result, batch.revision, writtenBytes, fullDocumentBytes);
+        });
     }
 
     private static void writeScoreHistory(Transaction transaction, FirebaseFirestore db,
@@ -144,25 +142,22 @@ final class GameOperationRemoteApplier {
             snapshotSource = latest;
             for (int round = 1; round <= 10; round++) rounds.add(round);
         }
-        for (Integer round : rounds) {
-            Map<String, Object> event = ScoreHistoryEvent.create(
-                    operation.gameId, round, snapshotSource, operation.operationId,
-                    operation.operationType() == GameOperationType.ADD_PLAYER
-                            ? "MID_GAME_BACKFILL"
-                            : operation.operationType() == GameOperationType.DELETE_PLAYER
-                                    ? "PLAYER_REMOVAL_SNAPSHOT"
-                            : Boolean.TRUE.equals(payload.correction)
-                                    ? "ROUND_CORRECTION" : "ROUND_SAVE",
-                    editorUserId, operation.editGeneration, previousRevision,
-                    committedRevision);
-            DocumentReference eventRef = db.collection(FirestoreCollections.GAME_SCORE_HISTORY)
-                    .document(operation.gameId)
-                    .collection("rounds")
-                    .document(String.valueOf(round))
-                    .collection("events")
-                    .document(operation.operationId);
-            transaction.set(eventRef, event);
+        if (rounds.isEmpty()) {
+            return;
         }
+        // A removal snapshot holds the removed player's scores, so it must not become the
+        // latest recovery source for any round.
+        ScoreHistoryStore.record(transaction, db, operation.gameId, rounds, snapshotSource,
+                operation.operationId,
+                operation.operationType() == GameOperationType.ADD_PLAYER
+                        ? "MID_GAME_BACKFILL"
+                        : operation.operationType() == GameOperationType.DELETE_PLAYER
+                                ? "PLAYER_REMOVAL_SNAPSHOT"
+                        : Boolean.TRUE.equals(payload.correction)
+                                ? "ROUND_CORRECTION" : "ROUND_SAVE",
+                editorUserId, operation.editGeneration, previousRevision,
+                committedRevision,
+                operation.operationType() != GameOperationType.DELETE_PLAYER);
     }
 
     private static void applyApprovalSideEffects(
@@ -173,38 +168,14 @@ final class GameOperationRemoteApplier {
             GameOperationPayload payload,
             String previousTargetUserId,
             Player deletedBefore) {
-        GameOperationType type = operation.operationType();
-        if (type == GameOperationType.MAP_USER) {
-            if (!TextUtils.isEmpty(previousTargetUserId)
-                    && !previousTargetUserId.equals(payload.userId)) {
-                revokeApproval(
-                        transaction, db, gameRef, operation.gameId, previousTargetUserId);
+        for (GameOperationApprovals.Change change : GameOperationApprovals.changes(
+                operation.operationType(), payload, previousTargetUserId, deletedBefore)) {
+            if (change.approve) {
+                approve(transaction, db, gameRef, operation.gameId, change.userId,
+                        change.displayName);
+            } else {
+                revokeApproval(transaction, db, gameRef, operation.gameId, change.userId);
             }
-            approve(
-                    transaction,
-                    db,
-                    gameRef,
-                    operation.gameId,
-                    payload.userId,
-                    payload.userDisplayName);
-        } else if (type == GameOperationType.UNMAP_USER
-                && !TextUtils.isEmpty(previousTargetUserId)) {
-            revokeApproval(
-                    transaction, db, gameRef, operation.gameId, previousTargetUserId);
-        } else if (type == GameOperationType.DELETE_PLAYER
-                && deletedBefore != null
-                && !TextUtils.isEmpty(deletedBefore.getUserId())) {
-            revokeApproval(
-                    transaction, db, gameRef, operation.gameId, deletedBefore.getUserId());
-        } else if (type == GameOperationType.TRANSFER_MAPPING) {
-            // The same user keeps view approval; only the owning playerId changes.
-            approve(
-                    transaction,
-                    db,
-                    gameRef,
-                    operation.gameId,
-                    payload.userId,
-                    payload.userDisplayName);
         }
     }
 
@@ -285,7 +256,8 @@ final class GameOperationRemoteApplier {
             GameData gameData,
             long editGeneration,
             long revision,
-            String operationId) {
+            String operationId,
+            int operationCount) {
         Map<String, Object> document = new HashMap<>();
         document.put("data", GameDataSchema.toFirestoreData(gameData));
         document.put("lastUpdated", FieldValue.serverTimestamp());
@@ -293,9 +265,42 @@ final class GameOperationRemoteApplier {
         document.put("editGeneration", editGeneration);
         document.put("revision", revision);
         document.put("lastOperationId", operationId);
+        document.put("operationCount", operationCount);
         return document;
     }
 
+    /**
+     * Updates only the changed {@code data} paths plus the top-level bookkeeping fields of
+     * {@code fullDocument}. Paths are built segment by segment because player IDs are not
+     * guaranteed to be valid dotted field names.
+     */
+    private static long writeDelta(Transaction transaction, DocumentReference dataRef,
+            Map<String, Object> fullDocument, List<GameDataDelta.Change> changes) {
+        List<Object> moreFieldsAndValues = new ArrayList<>();
+        long bytes = 0L;
+        for (Map.Entry<String, Object> field : fullDocument.entrySet()) {
+            if ("data".equals(field.getKey())) {
+                continue;
+            }
+            moreFieldsAndValues.add(FieldPath.of(field.getKey()));
+            moreFieldsAndValues.add(field.getValue());
+            bytes += GameDataDelta.estimateBytes(field.getKey())
+                    + GameDataDelta.estimateBytes(field.getValue());
+        }
+        for (GameDataDelta.Change change : changes) {
+            List<String> segments = new ArrayList<>(change.path.size() + 1);
+            segments.add("data");
+            segments.addAll(change.path);
+            moreFieldsAndValues.add(FieldPath.of(segments.toArray(new String[0])));
+            moreFieldsAndValues.add(change.delete ? FieldValue.delete() : change.value);
+        }
+        bytes += GameDataDelta.estimateBytes(changes);
+        FieldPath first = (FieldPath) moreFieldsAndValues.remove(0);
+        Object firstValue = moreFieldsAndValues.remove(0);
+        transaction.update(dataRef, first, firstValue, moreFieldsAndValues.toArray());
+        return bytes;
+    }
+
     private static boolean affectsDashboard(GameOperationType type) {
         return type == GameOperationType.UPDATE_SCORE
                 || type == GameOperationType.ADD_PLAYER
@@ -3,6 +3,7 @@ package com.example.rummypulse.data.sync;
 import android.content.Context;
 import android.os.Handler;
 import android.os.Looper;
+import android.os.SystemClock;
 
 import androidx.annotation.NonNull;
 import androidx.room.RoomDatabase;
@@ -11,18 +12,20 @@ import androidx.work.Data;
 import androidx.work.ExistingWorkPolicy;
 import androidx.work.NetworkType;
 import androidx.work.OneTimeWorkRequest;
+import androidx.work.WorkInfo;
 import androidx.work.WorkManager;
 
 import com.example.rummypulse.data.GameData;
 import com.example.rummypulse.data.GameDataSchema;
-import com.google.gson.Gson;
+import com.example.rummypulse.data.RoundScorePatch;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Durable local operation log and optimistic state projector.
@@ -42,13 +45,32 @@ public final class GameOperationRepository {
         void onLoaded(Set<String> playerIds);
     }
 
-    private static final Gson GSON = new Gson();
+    public interface CatchUpCallback {
+        /**
+         * Runs on the main thread with the server game plus every queued operation applied.
+         *
+         * @param elapsedMillis time spent on the game's lane, from load to projection
+         */
+        void onCaughtUp(GameData projected, PendingRoundCatchUp.Plan plan, long elapsedMillis);
+
+        void onError(String message);
+    }
+
+    private static final int EXECUTOR_THREADS = 3;
+
     private static volatile GameOperationRepository instance;
 
     private final Context appContext;
     private final GameOperationDatabase database;
-    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    /**
+     * Serial per game, so one game's operations, snapshots and drafts stay in order while
+     * other games run on the rest of the pool.
+     */
+    private final KeyedSerialExecutor executor = new KeyedSerialExecutor(
+            KeyedSerialExecutor.newPool(EXECUTOR_THREADS, "game-operations"));
     private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final GameProjectionCache projectionCache = new GameProjectionCache();
+    private volatile int syncBatchSize = GameOperationSyncWorker.DEFAULT_BATCH_SIZE;
 
     private GameOperationRepository(Context context) {
         appContext = context.getApplicationContext();
@@ -69,17 +91,35 @@ public final class GameOperationRepository {
         return current;
     }
 
+    /** Queue depth and wait times of {@code gameId}'s local work. */
+    @NonNull
+    public KeyedSerialExecutor.LaneStats getQueueStats(String gameId) {
+        return executor.stats(gameId);
+    }
+
+    /**
+     * Sets how many consecutive operations a sync run commits per Firestore transaction.
+     * Applies to runs scheduled afterwards; 1 restores one transaction per operation.
+     */
+    public void setSyncBatchSize(int batchSize) {
+        syncBatchSize = GameOperationSyncWorker.clampBatchSize(batchSize);
+    }
+
     /**
-     * Restarts a previously backed-off queue when the game returns to the foreground.
-     * The operation records remain in Room, so replacing only the scheduler job is safe.
+     * Makes sure a game's queued operations sync soon after it returns to the foreground. Work
+     * waiting out a retry backoff is replaced so the queue drains now rather than when the backoff
+     * ends; the operation records remain in Room, so replacing only the scheduler job is safe. A
+     * run in progress, or one still waiting for the network, is kept.
      */
     public void resumePendingSync(String gameId) {
         if (gameId == null) {
             return;
         }
-        executor.execute(() -> {
+        executor.execute(gameId, () -> {
             if (database.operations().getNextPending(gameId) != null) {
-                schedule(gameId, ExistingWorkPolicy.REPLACE);
+                schedule(isSyncBackingOff()
+                        ? ExistingWorkPolicy.REPLACE
+                        : ExistingWorkPolicy.KEEP);
             }
         });
     }
@@ -90,13 +130,14 @@ public final class GameOperationRepository {
             return;
         }
         GameData normalized = GameDataCopies.deepCopy(gameData);
-        executor.execute(() -> database.runInTransaction(() -> {
+        executor.execute(gameId, () -> database.runInTransaction(() -> {
             GameSnapshotEntity existing = database.operations().getSnapshot(gameId);
             if (existing == null || revision >= existing.revision) {
+                projectionCache.invalidate(gameId);
                 database.operations().upsertSnapshot(
                         new GameSnapshotEntity(
                                 gameId,
-                                GSON.toJson(normalized),
+                                GameOperationCodec.encodeGame(normalized),
                                 revision,
                                 editGeneration,
                                 System.currentTimeMillis()));
@@ -109,7 +150,7 @@ public final class GameOperationRepository {
         if (gameId == null || serializedDraft == null) {
             return;
         }
-        executor.execute(() -> database.operations().upsertRoundDraft(
+        executor.execute(gameId, () -> database.operations().upsertRoundDraft(
                 new RoundScoreDraftEntity(
                         gameId,
                         editGeneration,
@@ -122,7 +163,7 @@ public final class GameOperationRepository {
         if (gameId == null || callback == null) {
             return;
         }
-        executor.execute(() -> {
+        executor.execute(gameId, () -> {
             RoundScoreDraftEntity draft =
                     database.operations().getRoundDraft(gameId, editGeneration);
             mainHandler.post(() -> callback.onLoaded(
@@ -134,7 +175,7 @@ public final class GameOperationRepository {
         if (gameId == null) {
             return;
         }
-        executor.execute(() ->
+        executor.execute(gameId, () ->
                 database.operations().deleteRoundDraft(gameId, editGeneration));
     }
 
@@ -143,7 +184,7 @@ public final class GameOperationRepository {
         if (gameId == null || callback == null) {
             return;
         }
-        executor.execute(() -> {
+        executor.execute(gameId, () -> {
             Set<String> playerIds = new HashSet<>();
             for (PendingGameOperation operation
                     : database.operations().getActiveOperations(gameId)) {
@@ -151,7 +192,7 @@ public final class GameOperationRepository {
                     playerIds.add(operation.playerId);
                 }
                 GameOperationPayload payload =
-                        GSON.fromJson(operation.payloadJson, GameOperationPayload.class);
+                        GameOperationCodec.decodePayload(operation.payloadBlob);
                 if (payload.playerOrder != null) {
                     playerIds.addAll(payload.playerOrder);
                 }
@@ -166,22 +207,75 @@ public final class GameOperationRepository {
         });
     }
 
-    public void projectPending(String gameId, GameData serverData, Callback callback) {
-        executor.execute(() -> {
+    /**
+     * Catch-up after reopening or reconnecting: loads the op log once, turns
+     * {@code pendingRounds} into score operations planned as one set against that projection,
+     * inserts them in one Room transaction with a single compaction, and posts one projected
+     * copy. The new operations reach the sync worker as one scheduled run, where consecutive
+     * operations share Firestore transactions.
+     */
+    public void catchUp(
+            String gameId,
+            long editGeneration,
+            GameData serverData,
+            List<RoundScorePatch> pendingRounds,
+            CatchUpCallback callback) {
+        List<RoundScorePatch> rounds = pendingRounds == null
+                ? Collections.<RoundScorePatch>emptyList()
+                : new ArrayList<>(pendingRounds);
+        executor.execute(gameId, () -> {
+            long startedAt = SystemClock.elapsedRealtime();
             try {
-                GameSnapshotEntity snapshot =
-                        database.operations().getSnapshot(gameId);
-                GameData projected = snapshot == null
-                        ? GameDataCopies.deepCopy(serverData)
-                        : GSON.fromJson(snapshot.snapshotJson, GameData.class);
-                GameDataSchema.normalize(projected);
-                for (PendingGameOperation operation
-                        : database.operations().getActiveOperations(gameId)) {
-                    projected = GameOperationProjector.apply(projected, operation);
+                if (gameId == null || serverData == null) {
+                    throw new IllegalArgumentException("Game state is unavailable.");
                 }
-                postStored(callback, projected);
+                GameOperationDao dao = database.operations();
+                boolean[] shouldSchedule = {false};
+                PendingRoundCatchUp.Plan[] plan = {null};
+                GameData projected = database.runInTransaction(
+                        (java.util.concurrent.Callable<GameData>) () -> {
+                            GameSnapshotEntity snapshot = dao.getSnapshot(gameId);
+                            List<PendingGameOperation> active = dao.getActiveOperations(gameId);
+                            GameData base = project(snapshot, active, serverData);
+                            plan[0] = PendingRoundCatchUp.plan(base, rounds, editGeneration);
+                            if (plan[0].accepted.isEmpty()) {
+                                return base;
+                            }
+                            for (PendingGameOperation existing : active) {
+                                if (existing.editGeneration != editGeneration) {
+                                    throw new IllegalStateException(
+                                            "Pending edits belong to an earlier edit session"
+                                                    + " and must be recovered first.");
+                                }
+                            }
+                            if (snapshot == null) {
+                                GameData fallback = GameDataCopies.deepCopy(serverData);
+                                GameDataSchema.normalize(fallback);
+                                snapshot = new GameSnapshotEntity(
+                                        gameId,
+                                        GameOperationCodec.encodeGame(fallback),
+                                        0L,
+                                        editGeneration,
+                                        System.currentTimeMillis());
+                                dao.upsertSnapshot(snapshot);
+                            }
+                            shouldSchedule[0] = dao.syncableOperationCount(gameId) == 0;
+                            for (GameOperationPayload payload : plan[0].payloads) {
+                                insertOperation(gameId, editGeneration,
+                                        GameOperationType.UPDATE_SCORE, null, payload);
+                            }
+                            compactTail(gameId);
+                            return GameDataCopies.deepCopy(projectionCache.project(
+                                    snapshot, dao.getActiveOperations(gameId)));
+                        });
+                if (shouldSchedule[0] && dao.syncableOperationCount(gameId) > 0) {
+                    schedule(ExistingWorkPolicy.APPEND_OR_REPLACE);
+                }
+                long elapsed = SystemClock.elapsedRealtime() - startedAt;
+                PendingRoundCatchUp.Plan result = plan[0];
+                mainHandler.post(() -> callback.onCaughtUp(projected, result, elapsed));
             } catch (RuntimeException error) {
-                postError(callback, message(error));
+                mainHandler.post(() -> callback.onError(message(error)));
             }
         });
     }
@@ -192,7 +286,7 @@ public final class GameOperationRepository {
      */
     public void loadOfflineProjectedSnapshot(
             String gameId, long editGeneration, Callback callback) {
-        executor.execute(() -> {
+        executor.execute(gameId, () -> {
             try {
                 GameSnapshotEntity snapshot = database.operations().getSnapshot(gameId);
                 if (snapshot == null) {
@@ -203,17 +297,16 @@ public final class GameOperationRepository {
                     throw new IllegalStateException(
                             "The offline game belongs to a different edit session.");
                 }
-                GameData projected = GSON.fromJson(snapshot.snapshotJson, GameData.class);
-                GameDataSchema.normalize(projected);
-                for (PendingGameOperation operation
-                        : database.operations().getActiveOperations(gameId)) {
+                List<PendingGameOperation> active =
+                        database.operations().getActiveOperations(gameId);
+                for (PendingGameOperation operation : active) {
                     if (operation.editGeneration != editGeneration) {
                         throw new IllegalStateException(
                                 "Pending edits belong to a different edit session.");
                     }
-                    projected = GameOperationProjector.apply(projected, operation);
                 }
-                postStored(callback, projected);
+                postStored(callback, GameDataCopies.deepCopy(
+                        projectionCache.project(snapshot, active)));
             } catch (RuntimeException error) {
                 postError(callback, message(error));
             }
@@ -228,7 +321,7 @@ public final class GameOperationRepository {
             String playerId,
             GameOperationPayload payload,
             Callback callback) {
-        executor.execute(() -> {
+        executor.execute(gameId, () -> {
             try {
                 if (gameId == null || gameId.trim().isEmpty()
                         || acknowledgedOrProjectedState == null) {
@@ -244,7 +337,7 @@ public final class GameOperationRepository {
                             if (snapshot == null) {
                                 snapshot = new GameSnapshotEntity(
                                         gameId,
-                                        GSON.toJson(fallback),
+                                        GameOperationCodec.encodeGame(fallback),
                                         0L,
                                         editGeneration,
                                         System.currentTimeMillis());
@@ -260,24 +353,20 @@ public final class GameOperationRepository {
                             }
                             shouldSchedule[0] =
                                     database.operations().syncableOperationCount(gameId) == 0;
-                            insertOrCoalesce(
+                            insertOperation(
                                     gameId,
                                     editGeneration,
                                     type,
                                     playerId,
                                     payload);
-                            GameData value =
-                                    GSON.fromJson(snapshot.snapshotJson, GameData.class);
-                            GameDataSchema.normalize(value);
-                            for (PendingGameOperation operation
-                                    : database.operations().getActiveOperations(gameId)) {
-                                value = GameOperationProjector.apply(value, operation);
-                            }
-                            return value;
+                            compactTail(gameId);
+                            return GameDataCopies.deepCopy(projectionCache.project(
+                                    snapshot,
+                                    database.operations().getActiveOperations(gameId)));
                         });
                 if (shouldSchedule[0]
                         && database.operations().syncableOperationCount(gameId) > 0) {
-                    schedule(gameId, ExistingWorkPolicy.APPEND_OR_REPLACE);
+                    schedule(ExistingWorkPolicy.APPEND_OR_REPLACE);
                 }
                 postStored(callback, projected);
             } catch (Exception error) {
@@ -290,94 +379,102 @@ public final class GameOperationRepository {
         return database.operations().activeOperationCount(gameId);
     }
 
-    private PendingGameOperation insertOrCoalesce(
+    /** Projects {@code active} over the acknowledged snapshot, or over the server copy. */
+    private GameData project(
+            GameSnapshotEntity snapshot,
+            List<PendingGameOperation> active,
+            GameData serverData) {
+        if (snapshot != null) {
+            return GameDataCopies.deepCopy(projectionCache.project(snapshot, active));
+        }
+        GameData projected = GameDataCopies.deepCopy(serverData);
+        for (PendingGameOperation operation : active) {
+            projected = GameOperationProjector.apply(projected, operation);
+        }
+        return projected;
+    }
+
+    /** Appends one pending operation and records its enqueue in telemetry. */
+    private void insertOperation(
             String gameId,
             long editGeneration,
             GameOperationType type,
             String playerId,
             GameOperationPayload payload) {
         GameOperationDao dao = database.operations();
-        String payloadJson = GSON.toJson(payload == null
-                ? new GameOperationPayload()
-                : payload);
-
-        if (type == GameOperationType.DELETE_PLAYER) {
-            PendingGameOperation pendingAdd = dao.getLatestPending(
-                    gameId, GameOperationType.ADD_PLAYER.name(), playerId);
-            if (pendingAdd != null) {
-                dao.deleteOperation(pendingAdd.operationId);
-                return null;
-            }
-        }
-
-        if (isReplaceable(type)) {
-            PendingGameOperation existing =
-                    dao.getLatestPending(gameId, type.name(), playerId);
-            if (existing != null
-                    && dao.replacePendingPayload(existing.operationId, payloadJson) == 1) {
-                existing.payloadJson = payloadJson;
-                return existing;
-            }
-        }
-
-        if (type == GameOperationType.UPDATE_SCORE) {
-            PendingGameOperation existing =
-                    dao.getLatestPending(gameId, type.name(), null);
-            if (existing != null) {
-                GameOperationPayload previous =
-                        GSON.fromJson(existing.payloadJson, GameOperationPayload.class);
-                GameOperationPayload incoming =
-                        GSON.fromJson(payloadJson, GameOperationPayload.class);
-                if (previous.round1Based != null
-                        && previous.round1Based.equals(incoming.round1Based)) {
-                    previous.scoresByPlayerId.putAll(incoming.scoresByPlayerId);
-                    String merged = GSON.toJson(previous);
-                    if (dao.replacePendingPayload(existing.operationId, merged) == 1) {
-                        existing.payloadJson = merged;
-                        return existing;
-                    }
-                }
-            }
-        }
-
-        PendingGameOperation operation = new PendingGameOperation(
-                UUID.randomUUID().toString(),
+        SyncTelemetryDao telemetry = database.syncTelemetry();
+        GameOperationPayload safePayload =
+                payload == null ? new GameOperationPayload() : payload;
+        String operationId = UUID.randomUUID().toString();
+        long now = System.currentTimeMillis();
+        int queueDepth = dao.activeOperationCount(gameId);
+        dao.insertOperation(new PendingGameOperation(
+                operationId,
                 gameId,
                 editGeneration,
                 playerId,
                 dao.nextSequence(gameId),
                 type.name(),
-                payloadJson,
+                GameOperationCodec.encodePayload(safePayload),
                 GameOperationStatus.PENDING.name(),
                 0,
                 null,
-                System.currentTimeMillis());
-        dao.insertOperation(operation);
-        return operation;
+                now));
+        SyncTelemetryStore.record("enqueue", () -> telemetry.insert(new SyncTelemetryEntity(
+                operationId, gameId, type.name(), now, queueDepth, 0L, 0L, 0, null, 0,
+                SyncTelemetryEntity.QUEUED)));
     }
 
-    private static boolean isReplaceable(GameOperationType type) {
-        return type == GameOperationType.RENAME_PLAYER
-                || type == GameOperationType.MAP_USER
-                || type == GameOperationType.UNMAP_USER
-                || type == GameOperationType.SET_PLAYER_ORDER;
+    /**
+     * Compacts the pending tail, so a sequence such as add, rename, map is stored as the fewest
+     * operations with the same effect, and marks the folded operations in telemetry.
+     */
+    private void compactTail(String gameId) {
+        List<String> compacted = database.operations().compactPendingTail(gameId);
+        if (!compacted.isEmpty()) {
+            SyncTelemetryStore.record("compact",
+                    () -> database.syncTelemetry().markCompacted(compacted));
+        }
+    }
+
+    /** True when the sync work is enqueued again after a failed attempt, i.e. in backoff. */
+    private boolean isSyncBackingOff() {
+        try {
+            for (WorkInfo workInfo : WorkManager.getInstance(appContext)
+                    .getWorkInfosForUniqueWork(GameOperationSyncWorker.UNIQUE_WORK_NAME)
+                    .get()) {
+                if (workInfo.getState() == WorkInfo.State.ENQUEUED
+                        && workInfo.getRunAttemptCount() > 0) {
+                    return true;
+                }
+            }
+        } catch (ExecutionException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return false;
     }
 
-    private void schedule(String gameId, ExistingWorkPolicy policy) {
+    /**
+     * Queues the cross-game sync coordinator. It discovers every game with syncable operations
+     * itself, so one unique work covers all of them.
+     */
+    private void schedule(ExistingWorkPolicy policy) {
         Constraints constraints = new Constraints.Builder()
                 .setRequiredNetworkType(NetworkType.CONNECTED)
                 .build();
         Data input = new Data.Builder()
-                .putString(GameOperationSyncWorker.INPUT_GAME_ID, gameId)
+                .putInt(GameOperationSyncWorker.INPUT_BATCH_SIZE, syncBatchSize)
                 .build();
         OneTimeWorkRequest work = new OneTimeWorkRequest.Builder(GameOperationSyncWorker.class)
                 .setConstraints(constraints)
                 .setInputData(input)
-                .addTag("game-operation-sync")
-                .addTag("game-operation-sync-" + gameId)
+                .addTag(GameOperationSyncWorker.UNIQUE_WORK_NAME)
                 .build();
         WorkManager.getInstance(appContext).enqueueUniqueWork(
-                "game-operation-sync-" + gameId,
+                GameOperationSyncWorker.UNIQUE_WORK_NAME,
                 policy,
                 work);
     }
@@ -1,9 +1,11 @@
 package com.example.rummypulse.data.sync;
 
 import android.content.Context;
+import android.os.SystemClock;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
+import androidx.work.Data;
 import androidx.work.Worker;
 import androidx.work.WorkerParameters;
 
@@ -12,17 +14,61 @@ import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseUser;
 import com.google.firebase.firestore.FirebaseFirestore;
 import com.google.firebase.firestore.FirebaseFirestoreException;
-import com.google.gson.Gson;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+/**
+ * Single sync coordinator for every game with queued operations. Each round it picks up
+ * newly queued games, gives up to {@link #MAX_CONCURRENT_GAMES} of them a turn of at most
+ * {@link #TURN_TRANSACTIONS} transactions in parallel, and sends games with work left to the
+ * back of the queue. Transient Firestore failures feed one {@link SyncCircuitBreaker} shared by
+ * all games, so a dead network pauses the whole queue instead of every game retrying alone.
+ */
 public class GameOperationSyncWorker extends Worker {
-    public static final String INPUT_GAME_ID = "gameId";
+    /** Maximum consecutive operations committed per Firestore transaction. */
+    public static final String INPUT_BATCH_SIZE = "batchSize";
+    public static final int DEFAULT_BATCH_SIZE = 10;
+    /** Progress key listing the games this run has fully drained so far. */
+    public static final String PROGRESS_DRAINED_GAME_IDS = "drainedGameIds";
+    public static final String UNIQUE_WORK_NAME = "game-operation-sync";
     private static final String TAG = "GameOperationSync";
     private static final long REMOTE_TIMEOUT_SECONDS = 30L;
-    private static final Gson GSON = new Gson();
+    private static final int MAX_CONCURRENT_GAMES = 2;
+    private static final int TURN_TRANSACTIONS = 2;
+    private static final SyncCircuitBreaker BREAKER =
+            new SyncCircuitBreaker(3, 2_000L, 5L * 60_000L);
+
+    private enum TurnOutcome {
+        DRAINED,
+        MORE,
+        SKIPPED,
+        TRANSIENT,
+        BLOCKED,
+        INTERRUPTED,
+        LOCAL_FAILURE
+    }
+
+    /** Per-game state for one coordinator run; only touched by that game's turn. */
+    private static final class GameDrain {
+        final String gameId;
+        final long startedAt = SystemClock.elapsedRealtime();
+        int batchLimit;
+        int synchronizedCount;
+        int transactionCount;
+
+        GameDrain(String gameId, int batchLimit) {
+            this.gameId = gameId;
+            this.batchLimit = batchLimit;
+        }
+    }
 
     public GameOperationSyncWorker(
             @NonNull Context appContext, @NonNull WorkerParameters workerParams) {
@@ -32,82 +78,283 @@ public class GameOperationSyncWorker extends Worker {
     @NonNull
     @Override
     public Result doWork() {
-        String gameId = getInputData().getString(INPUT_GAME_ID);
         FirebaseUser editor = FirebaseAuth.getInstance().getCurrentUser();
-        if (gameId == null) {
-            return Result.failure();
-        }
         if (editor == null) {
             return Result.retry();
         }
+        long startedAt = System.currentTimeMillis();
+        if (BREAKER.state(startedAt) == SyncCircuitBreaker.State.OPEN) {
+            Log.w(TAG, "Cloud sync paused for "
+                    + BREAKER.remainingOpenMillis(startedAt) + " ms");
+            return Result.retry();
+        }
+        int batchSize = clampBatchSize(
+                getInputData().getInt(INPUT_BATCH_SIZE, DEFAULT_BATCH_SIZE));
         GameOperationDatabase database =
                 GameOperationDatabase.getInstance(getApplicationContext());
         GameOperationDao dao = database.operations();
-        dao.resetInterruptedOperations(gameId);
-        while (!isStopped()) {
-            PendingGameOperation operation = dao.getNextPending(gameId);
-            if (operation == null) {
-                return Result.success();
+        dao.resetAllInterruptedOperations();
+        SyncTelemetryStore.prune(database.syncTelemetry(), startedAt);
+
+        SyncRoundRobin order = new SyncRoundRobin();
+        Map<String, GameDrain> drains = new HashMap<>();
+        List<String> drainedGameIds = new ArrayList<>();
+        ExecutorService pool = KeyedSerialExecutor.newPool(MAX_CONCURRENT_GAMES, "game-sync");
+        try {
+            while (!isStopped()) {
+                order.offer(dao.getSyncableGameIds());
+                List<String> turn = order.nextTurn(MAX_CONCURRENT_GAMES);
+                if (turn.isEmpty()) {
+                    return Result.success();
+                }
+                List<Future<TurnOutcome>> outcomes = new ArrayList<>(turn.size());
+                for (String gameId : turn) {
+                    GameDrain drain = drains.get(gameId);
+                    if (drain == null) {
+                        drain = new GameDrain(gameId, batchSize);
+                        drains.put(gameId, drain);
+                    }
+                    GameDrain turnDrain = drain;
+                    outcomes.add(pool.submit(
+                            () -> runTurn(database, editor.getUid(), turnDrain)));
+                }
+                boolean transientFailure = false;
+                for (int index = 0; index < turn.size(); index++) {
+                    String gameId = turn.get(index);
+                    TurnOutcome outcome = awaitTurn(outcomes.get(index), gameId);
+                    if (outcome == TurnOutcome.INTERRUPTED
+                            || outcome == TurnOutcome.LOCAL_FAILURE) {
+                        return Result.retry();
+                    }
+                    transientFailure |= outcome == TurnOutcome.TRANSIENT;
+                    boolean finished = outcome == TurnOutcome.DRAINED
+                            || outcome == TurnOutcome.BLOCKED;
+                    order.finishTurn(gameId, !finished);
+                    if (outcome == TurnOutcome.DRAINED) {
+                        drainedGameIds.add(gameId);
+                        setProgressAsync(new Data.Builder()
+                                .putStringArray(PROGRESS_DRAINED_GAME_IDS,
+                                        drainedGameIds.toArray(new String[0]))
+                                .build());
+                    }
+                }
+                long now = System.currentTimeMillis();
+                if (BREAKER.state(now) == SyncCircuitBreaker.State.OPEN) {
+                    Log.w(TAG, "Cloud sync circuit opened; " + order.waitingCount()
+                            + " games wait " + BREAKER.remainingOpenMillis(now) + " ms");
+                    return Result.retry();
+                }
+                if (transientFailure) {
+                    Thread.sleep(BREAKER.backoffMillis());
+                }
+            }
+            return Result.retry();
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            return Result.retry();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private TurnOutcome awaitTurn(Future<TurnOutcome> outcome, String gameId)
+            throws InterruptedException {
+        try {
+            return outcome.get();
+        } catch (ExecutionException failure) {
+            // Local storage failed; end the run and let WorkManager back off.
+            Log.e(TAG, "Sync turn failed for game " + gameId, rootCause(failure));
+            return TurnOutcome.LOCAL_FAILURE;
+        }
+    }
+
+    /** Up to {@link #TURN_TRANSACTIONS} transactions for one game. */
+    private TurnOutcome runTurn(
+            GameOperationDatabase database, String editorUserId, GameDrain drain) {
+        GameOperationDao dao = database.operations();
+        SyncTelemetryDao telemetry = database.syncTelemetry();
+        String gameId = drain.gameId;
+        for (int transaction = 0; transaction < TURN_TRANSACTIONS; transaction++) {
+            if (isStopped()) {
+                return TurnOutcome.INTERRUPTED;
+            }
+            if (!BREAKER.allowRequest(System.currentTimeMillis())) {
+                return TurnOutcome.SKIPPED;
             }
-            dao.updateOperationState(
-                    operation.operationId,
-                    GameOperationStatus.IN_FLIGHT.name(),
-                    1,
-                    null);
-            Log.i(TAG, "Synchronizing " + operation.type + " for game " + gameId);
+            List<PendingGameOperation> batch = claimBatch(database, gameId, drain.batchLimit);
+            if (batch.isEmpty()) {
+                BREAKER.releaseTrial();
+                logDrained(drain);
+                return TurnOutcome.DRAINED;
+            }
+            List<String> operationIds = operationIds(batch);
+            Log.i(TAG, "Synchronizing " + batch.size() + " operations for game " + gameId);
             try {
                 GameOperationRemoteApplier.Result remote = Tasks.await(
                         GameOperationRemoteApplier.apply(
                                 FirebaseFirestore.getInstance(),
-                                editor.getUid(),
-                                operation),
+                                editorUserId,
+                                batch),
                         REMOTE_TIMEOUT_SECONDS,
                         TimeUnit.SECONDS);
                 database.runInTransaction(() -> {
                     dao.upsertSnapshot(new GameSnapshotEntity(
                             gameId,
-                            GSON.toJson(remote.gameData),
+                            GameOperationCodec.encodeGame(remote.gameData),
                             remote.revision,
-                            operation.editGeneration,
+                            batch.get(0).editGeneration,
                             System.currentTimeMillis()));
-                    dao.deleteOperation(operation.operationId);
+                    dao.deleteOperations(operationIds);
+                    SyncTelemetryStore.record("commit", () -> telemetry.markCommitted(
+                            operationIds, System.currentTimeMillis()));
                 });
-                Log.i(TAG, "Synchronized " + operation.type + " for game " + gameId);
+                BREAKER.recordSuccess();
+                Log.i(TAG, "Synchronized " + batch.size() + " operations for game " + gameId
+                        + ": ~" + remote.writtenBytes / batch.size() + " bytes written per"
+                        + " operation (full document ~" + remote.fullDocumentBytes + " bytes)");
+                drain.synchronizedCount += batch.size();
+                drain.transactionCount++;
             } catch (TimeoutException timeout) {
-                dao.updateOperationState(
-                        operation.operationId,
+                dao.updateOperationsState(
+                        operationIds,
                         GameOperationStatus.PENDING.name(),
                         0,
                         "Cloud sync timed out. Waiting to retry.");
+                recordFailure(telemetry, operationIds, "TIMEOUT");
+                BREAKER.recordTransientFailure(System.currentTimeMillis());
                 Log.w(TAG, "Cloud sync timed out for game " + gameId);
-                return Result.retry();
+                return TurnOutcome.TRANSIENT;
             } catch (InterruptedException interrupted) {
                 Thread.currentThread().interrupt();
-                dao.updateOperationState(
-                        operation.operationId,
+                dao.updateOperationsState(
+                        operationIds,
                         GameOperationStatus.PENDING.name(),
                         0,
                         "Synchronization was interrupted.");
-                return Result.retry();
+                recordFailure(telemetry, operationIds, "INTERRUPTED");
+                BREAKER.releaseTrial();
+                return TurnOutcome.INTERRUPTED;
             } catch (ExecutionException failure) {
                 Throwable cause = rootCause(failure);
                 String message = message(cause);
+                String errorCode = errorCode(cause);
+                recordFailure(telemetry, operationIds, errorCode);
                 if (isTransient(cause)) {
-                    dao.updateOperationState(
-                            operation.operationId,
+                    dao.updateOperationsState(
+                            operationIds,
                             GameOperationStatus.PENDING.name(),
                             0,
                             message);
-                    return Result.retry();
+                    BREAKER.recordTransientFailure(System.currentTimeMillis());
+                    return TurnOutcome.TRANSIENT;
+                }
+                BREAKER.releaseTrial();
+                if (isolateFailure(dao, batch, operationIds)) {
+                    drain.batchLimit = 1;
+                    continue;
                 }
                 dao.blockActiveOperations(gameId, message);
-                return Result.failure();
+                recordBlocked(telemetry, gameId, errorCode);
+                return TurnOutcome.BLOCKED;
             } catch (RuntimeException failure) {
+                String errorCode = errorCode(failure);
+                recordFailure(telemetry, operationIds, errorCode);
+                BREAKER.releaseTrial();
+                if (isolateFailure(dao, batch, operationIds)) {
+                    drain.batchLimit = 1;
+                    continue;
+                }
                 dao.blockActiveOperations(gameId, message(failure));
-                return Result.failure();
+                recordBlocked(telemetry, gameId, errorCode);
+                return TurnOutcome.BLOCKED;
             }
         }
-        return Result.retry();
+        if (dao.syncableOperationCount(gameId) > 0) {
+            return TurnOutcome.MORE;
+        }
+        logDrained(drain);
+        return TurnOutcome.DRAINED;
+    }
+
+    private static void logDrained(GameDrain drain) {
+        if (drain.synchronizedCount > 0) {
+            Log.i(TAG, "Drained " + drain.synchronizedCount + " operations for game "
+                    + drain.gameId + " in " + drain.transactionCount + " transactions (batch size "
+                    + drain.batchLimit + ") in "
+                    + (SystemClock.elapsedRealtime() - drain.startedAt) + " ms");
+        }
+    }
+
+    /**
+     * Compacts the pending tail once more, then marks the next run of pending operations in
+     * flight and records the attempt in telemetry. Reading and marking share a Room
+     * transaction so compaction at enqueue cannot change a payload that is already being sent.
+     * The run stops at an edit generation change because one transaction validates one
+     * editor session.
+     */
+    private static List<PendingGameOperation> claimBatch(
+            GameOperationDatabase database, String gameId, int limit) {
+        GameOperationDao dao = database.operations();
+        SyncTelemetryDao telemetry = database.syncTelemetry();
+        return database.runInTransaction(() -> {
+            List<String> compacted = dao.compactPendingTail(gameId);
+            if (!compacted.isEmpty()) {
+                SyncTelemetryStore.record("compact", () -> telemetry.markCompacted(compacted));
+                Log.i(TAG, "Compacted " + compacted.size() + " pending operations for game "
+                        + gameId);
+            }
+            List<PendingGameOperation> pending = dao.getNextPendingBatch(gameId, limit);
+            List<PendingGameOperation> batch = new ArrayList<>(pending.size());
+            for (PendingGameOperation operation : pending) {
+                if (!batch.isEmpty()
+                        && operation.editGeneration != batch.get(0).editGeneration) {
+                    break;
+                }
+                batch.add(operation);
+            }
+            if (!batch.isEmpty()) {
+                List<String> operationIds = operationIds(batch);
+                dao.updateOperationsState(
+                        operationIds, GameOperationStatus.IN_FLIGHT.name(), 1, null);
+                SyncTelemetryStore.record("attempt", () -> telemetry.markAttempted(
+                        operationIds, System.currentTimeMillis()));
+            }
+            return batch;
+        });
+    }
+
+    /**
+     * A rejected batch is retried one operation at a time, so the operations ahead of the
+     * offending one still commit and the block lands on the operation that caused it.
+     */
+    private static boolean isolateFailure(
+            GameOperationDao dao, List<PendingGameOperation> batch, List<String> operationIds) {
+        if (batch.size() <= 1) {
+            return false;
+        }
+        dao.updateOperationsState(operationIds, GameOperationStatus.PENDING.name(), 0, null);
+        return true;
+    }
+
+    private static void recordFailure(
+            SyncTelemetryDao telemetry, List<String> operationIds, String errorCode) {
+        SyncTelemetryStore.record("failure", () -> telemetry.markFailed(operationIds, errorCode));
+    }
+
+    private static void recordBlocked(SyncTelemetryDao telemetry, String gameId, String errorCode) {
+        SyncTelemetryStore.record("block", () -> telemetry.markBlocked(gameId, errorCode));
+    }
+
+    private static List<String> operationIds(List<PendingGameOperation> operations) {
+        List<String> ids = new ArrayList<>(operations.size());
+        for (PendingGameOperation operation : operations) {
+            ids.add(operation.operationId);
+        }
+        return ids;
+    }
+
+    static int clampBatchSize(int requested) {
+        return Math.max(1, Math.min(GameOperationBatch.MAX_SIZE, requested));
     }
 
     private static boolean isTransient(Throwable error) {
@@ -122,6 +369,17 @@ public class GameOperationSyncWorker extends Worker {
                 || code == FirebaseFirestoreException.Code.RESOURCE_EXHAUSTED;
     }
 
+    /** Firestore code name when there is one, so telemetry groups retries by cause. */
+    private static String errorCode(Throwable error) {
+        if (error instanceof FirebaseFirestoreException) {
+            return ((FirebaseFirestoreException) error).getCode().name();
+        }
+        if (error instanceof TimeoutException) {
+            return "TIMEOUT";
+        }
+        return error.getClass().getSimpleName();
+    }
+
     private static Throwable rootCause(Throwable error) {
         Throwable result = error;
         while (result.getCause() != null && result.getCause() != result) {
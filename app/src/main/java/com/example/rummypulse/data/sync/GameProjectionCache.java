@@ -0,0 +1,170 @@
+package com.example.rummypulse.data.sync;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.rummypulse.data.GameData;
+import com.example.rummypulse.data.GameDataSchema;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-game projection of the acknowledged snapshot plus the active outbox. The decoded base and
+ * the state after the last applied operation are kept between calls, so a newly queued operation
+ * is applied on top of the previous projection instead of replaying the whole queue.
+ *
+ * <p>An entry is rebuilt when the stored snapshot is replaced (acknowledgement, resync) or its
+ * edit generation changes. A payload replaced by compaction on the newest operation rewinds one
+ * step; any other divergence from the cached operation list replays from the base.
+ *
+ * <p>The entry table is shared across threads, but an entry is only advanced by calls for its
+ * own game, which the repository serializes per game.
+ */
+final class GameProjectionCache {
+    interface Projector {
+        GameData apply(GameData state, PendingGameOperation operation);
+    }
+
+    static final int DEFAULT_CAPACITY = 4;
+
+    private final Projector projector;
+    /** Guarded by itself. */
+    private final Map<String, Entry> entries;
+    private final AtomicLong appliedCount = new AtomicLong();
+
+    GameProjectionCache() {
+        this(DEFAULT_CAPACITY, GameOperationProjector::apply);
+    }
+
+    GameProjectionCache(int capacity, @NonNull Projector projector) {
+        this.projector = projector;
+        int limit = Math.max(1, capacity);
+        this.entries = new LinkedHashMap<String, Entry>(limit, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > limit;
+            }
+        };
+    }
+
+    /**
+     * Returns the projection of {@code snapshot} plus {@code activeOperations}, in sequence
+     * order. The result is shared with the cache; callers that hand it out must copy it.
+     */
+    @NonNull
+    GameData project(@NonNull GameSnapshotEntity snapshot,
+            @NonNull List<PendingGameOperation> activeOperations) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(snapshot.gameId);
+        }
+        if (entry == null || !entry.isFor(snapshot)) {
+            GameData base = GameOperationCodec.decodeGame(snapshot.snapshotBlob);
+            GameDataSchema.normalize(base);
+            entry = new Entry(snapshot, base);
+            synchronized (entries) {
+                entries.put(snapshot.gameId, entry);
+            }
+        }
+        int common = entry.commonPrefix(activeOperations);
+        if (common < entry.applied.size()) {
+            if (common == entry.applied.size() - 1 && entry.beforeLast != null) {
+                entry.rewindLast();
+            } else {
+                entry.reset();
+            }
+        }
+        for (int index = entry.applied.size(); index < activeOperations.size(); index++) {
+            PendingGameOperation operation = activeOperations.get(index);
+            entry.push(operation, projector.apply(entry.projected, operation));
+            appliedCount.incrementAndGet();
+        }
+        return entry.projected;
+    }
+
+    void invalidate(@Nullable String gameId) {
+        synchronized (entries) {
+            entries.remove(gameId);
+        }
+    }
+
+    /** Operations applied since creation; replays show up as jumps. */
+    long getAppliedCount() {
+        return appliedCount.get();
+    }
+
+    private static final class Entry {
+        private final byte[] snapshotBlob;
+        private final long revision;
+        private final long editGeneration;
+        private final long updatedAt;
+        private final GameData base;
+        private final List<AppliedOperation> applied = new ArrayList<>();
+        private GameData projected;
+        /** State before the newest applied operation, or null after a rewind or reset. */
+        private GameData beforeLast;
+
+        Entry(GameSnapshotEntity snapshot, GameData base) {
+            this.snapshotBlob = snapshot.snapshotBlob;
+            this.revision = snapshot.revision;
+            this.editGeneration = snapshot.editGeneration;
+            this.updatedAt = snapshot.updatedAt;
+            this.base = base;
+            this.projected = base;
+        }
+
+        boolean isFor(GameSnapshotEntity snapshot) {
+            return revision == snapshot.revision
+                    && editGeneration == snapshot.editGeneration
+                    && updatedAt == snapshot.updatedAt
+                    && Arrays.equals(snapshotBlob, snapshot.snapshotBlob);
+        }
+
+        int commonPrefix(List<PendingGameOperation> operations) {
+            int limit = Math.min(applied.size(), operations.size());
+            int index = 0;
+            while (index < limit && applied.get(index).matches(operations.get(index))) {
+                index++;
+            }
+            return index;
+        }
+
+        void push(PendingGameOperation operation, GameData next) {
+            applied.add(new AppliedOperation(operation));
+            beforeLast = projected;
+            projected = next;
+        }
+
+        void rewindLast() {
+            applied.remove(applied.size() - 1);
+            projected = beforeLast;
+            beforeLast = null;
+        }
+
+        void reset() {
+            applied.clear();
+            projected = base;
+            beforeLast = null;
+        }
+    }
+
+    private static final class AppliedOperation {
+        private final String operationId;
+        private final byte[] payloadBlob;
+
+        AppliedOperation(PendingGameOperation operation) {
+            this.operationId = operation.operationId;
+            this.payloadBlob = operation.payloadBlob;
+        }
+
+        boolean matches(PendingGameOperation operation) {
+            return operationId.equals(operation.operationId)
+                    && Arrays.equals(payloadBlob, operation.payloadBlob);
+        }
+    }
+}
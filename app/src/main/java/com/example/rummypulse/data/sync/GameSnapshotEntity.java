@@ -9,20 +9,21 @@ public class GameSnapshotEntity {
     @PrimaryKey
     @NonNull
     public String gameId;
+    /** {@link GameOperationCodec#encodeGame} form of the acknowledged game. */
     @NonNull
-    public String snapshotJson;
+    public byte[] snapshotBlob;
     public long revision;
     public long editGeneration;
     public long updatedAt;
 
     public GameSnapshotEntity(
             @NonNull String gameId,
-            @NonNull String snapshotJson,
+            @NonNull byte[] snapshotBlob,
             long revision,
             long editGeneration,
             long updatedAt) {
         this.gameId = gameId;
-        this.snapshotJson = snapshotJson;
+        this.snapshotBlob = snapshotBlob;
         this.revision = revision;
         this.editGeneration = editGeneration;
         this.updatedAt = updatedAt;
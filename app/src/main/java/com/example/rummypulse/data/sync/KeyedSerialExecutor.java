@@ -0,0 +1,173 @@
+package com.example.rummypulse.data.sync;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Runs tasks in submission order per key while different keys share a bounded pool. A lane
+ * holds at most one pool slot at a time and hands it back after every task, so a key with a
+ * long queue cannot keep other keys waiting for a thread.
+ */
+public final class KeyedSerialExecutor {
+    /** Point-in-time view of one key's lane. */
+    public static final class LaneStats {
+        public final String key;
+        /** Tasks waiting, including the one currently running. */
+        public final int queueDepth;
+        public final long completedCount;
+        public final long lastWaitMillis;
+        public final long maxWaitMillis;
+        public final long totalWaitMillis;
+
+        LaneStats(String key, int queueDepth, long completedCount, long lastWaitMillis,
+                long maxWaitMillis, long totalWaitMillis) {
+            this.key = key;
+            this.queueDepth = queueDepth;
+            this.completedCount = completedCount;
+            this.lastWaitMillis = lastWaitMillis;
+            this.maxWaitMillis = maxWaitMillis;
+            this.totalWaitMillis = totalWaitMillis;
+        }
+
+        public double averageWaitMillis() {
+            return completedCount == 0 ? 0.0 : (double) totalWaitMillis / completedCount;
+        }
+    }
+
+    private static final String NULL_KEY = "";
+
+    private final Executor pool;
+    private final LongSupplier nanoClock;
+    /** Guarded by itself, together with every lane's queue and counters. */
+    private final Map<String, Lane> lanes = new HashMap<>();
+
+    public KeyedSerialExecutor(@NonNull Executor pool) {
+        this(pool, System::nanoTime);
+    }
+
+    KeyedSerialExecutor(@NonNull Executor pool, @NonNull LongSupplier nanoClock) {
+        this.pool = pool;
+        this.nanoClock = nanoClock;
+    }
+
+    /** Fixed pool of daemon threads named {@code namePrefix-N}. */
+    @NonNull
+    public static ExecutorService newPool(int threads, @NonNull String namePrefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void execute(@Nullable String key, @NonNull Runnable task) {
+        String laneKey = key == null ? NULL_KEY : key;
+        Lane toStart = null;
+        synchronized (lanes) {
+            Lane lane = lanes.get(laneKey);
+            if (lane == null) {
+                lane = new Lane(laneKey);
+                lanes.put(laneKey, lane);
+            }
+            lane.queue.add(new QueuedTask(task, nanoClock.getAsLong()));
+            if (!lane.scheduled) {
+                lane.scheduled = true;
+                toStart = lane;
+            }
+        }
+        if (toStart != null) {
+            submit(toStart);
+        }
+    }
+
+    @NonNull
+    public LaneStats stats(@Nullable String key) {
+        String laneKey = key == null ? NULL_KEY : key;
+        synchronized (lanes) {
+            Lane lane = lanes.get(laneKey);
+            return lane == null ? new LaneStats(laneKey, 0, 0, 0, 0, 0) : lane.stats();
+        }
+    }
+
+    /** Stats for every key seen so far, in no particular order. */
+    @NonNull
+    public Map<String, LaneStats> allStats() {
+        Map<String, LaneStats> result = new LinkedHashMap<>();
+        synchronized (lanes) {
+            for (Lane lane : lanes.values()) {
+                result.put(lane.key, lane.stats());
+            }
+        }
+        return result;
+    }
+
+    private void submit(Lane lane) {
+        pool.execute(() -> runNext(lane));
+    }
+
+    private void runNext(Lane lane) {
+        QueuedTask next;
+        synchronized (lanes) {
+            next = lane.queue.peek();
+            long waitMillis = (nanoClock.getAsLong() - next.enqueuedAtNanos) / 1_000_000L;
+            lane.lastWaitMillis = waitMillis;
+            lane.maxWaitMillis = Math.max(lane.maxWaitMillis, waitMillis);
+            lane.totalWaitMillis += waitMillis;
+        }
+        try {
+            next.task.run();
+        } finally {
+            boolean more;
+            synchronized (lanes) {
+                lane.queue.poll();
+                lane.completedCount++;
+                more = !lane.queue.isEmpty();
+                lane.scheduled = more;
+            }
+            if (more) {
+                submit(lane);
+            }
+        }
+    }
+
+    private static final class Lane {
+        final String key;
+        /** The head stays queued while it runs so queue depth counts it. */
+        final ArrayDeque<QueuedTask> queue = new ArrayDeque<>();
+        boolean scheduled;
+        long completedCount;
+        long lastWaitMillis;
+        long maxWaitMillis;
+        long totalWaitMillis;
+
+        Lane(String key) {
+            this.key = key;
+        }
+
+        LaneStats stats() {
+            return new LaneStats(key, queue.size(), completedCount, lastWaitMillis,
+                    maxWaitMillis, totalWaitMillis);
+        }
+    }
+
+    private static final class QueuedTask {
+        final Runnable task;
+        final long enqueuedAtNanos;
+
+        QueuedTask(Runnable task, long enqueuedAtNanos) {
+            this.task = task;
+            this.enqueuedAtNanos = enqueuedAtNanos;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.rummypulse.data.sync;
+
+import androidx.annotation.Nullable;
+
+import com.example.rummypulse.data.GameData;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+/**
+ * Converts outbox rows written as Gson JSON (database version 2 and earlier) into
+ * {@link GameOperationCodec} records. Used only by the 2 to 3 migration.
+ */
+final class LegacyJsonRecords {
+    private static final Gson GSON = new Gson();
+
+    private LegacyJsonRecords() {
+    }
+
+    /** Returns null when the stored JSON cannot be read. */
+    @Nullable
+    static byte[] snapshot(@Nullable String snapshotJson) {
+        try {
+            GameData data = GSON.fromJson(snapshotJson, GameData.class);
+            return data == null ? null : GameOperationCodec.encodeGame(data);
+        } catch (JsonParseException | IllegalStateException error) {
+            return null;
+        }
+    }
+
+    /** Returns null when the stored JSON cannot be read. */
+    @Nullable
+    static byte[] payload(@Nullable String payloadJson) {
+        try {
+            GameOperationPayload payload =
+                    GSON.fromJson(payloadJson, GameOperationPayload.class);
+            return payload == null ? null : GameOperationCodec.encodePayload(payload);
+        } catch (JsonParseException | IllegalStateException error) {
+            return null;
+        }
+    }
+}
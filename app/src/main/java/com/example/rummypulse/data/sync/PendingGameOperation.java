@@ -22,8 +22,9 @@ public class PendingGameOperation {
     public long sequence;
     @NonNull
     public String type;
+    /** {@link GameOperationCodec#encodePayload} form of the operation's payload. */
     @NonNull
-    public String payloadJson;
+    public byte[] payloadBlob;
     @NonNull
     public String status;
     public int attemptCount;
@@ -37,7 +38,7 @@ public class PendingGameOperation {
             String playerId,
             long sequence,
             @NonNull String type,
-            @NonNull String payloadJson,
+            @NonNull byte[] payloadBlob,
             @NonNull String status,
             int attemptCount,
             String lastError,
@@ -48,7 +49,7 @@ public class PendingGameOperation {
         this.playerId = playerId;
         this.sequence = sequence;
         this.type = type;
-        this.payloadJson = payloadJson;
+        this.payloadBlob = payloadBlob;
         this.status = status;
         this.attemptCount = attemptCount;
         this.lastError = lastError;
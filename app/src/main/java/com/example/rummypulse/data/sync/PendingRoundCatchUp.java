@@ -0,0 +1,113 @@
+package com.example.rummypulse.data.sync;
+
+import androidx.annotation.NonNull;
+
+import com.example.rummypulse.data.GameData;
+import com.example.rummypulse.data.GameDataSchema;
+import com.example.rummypulse.data.GameIntegrityValidator;
+import com.example.rummypulse.data.Player;
+import com.example.rummypulse.data.RoundScorePatch;
+import com.example.rummypulse.data.ScoreRegressionGuard;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Turns every pending round saved by older app versions into outbox operations in one pass.
+ * The rounds are resolved against a single projected copy of the game and checked together
+ * with {@link ScoreRegressionGuard}, so a long offline session costs one copy and one render
+ * instead of one per round.
+ */
+public final class PendingRoundCatchUp {
+    /** Outcome of planning; {@link #payloads} line up with {@link #accepted}. */
+    public static final class Plan {
+        public final List<RoundScorePatch> accepted;
+        public final List<GameOperationPayload> payloads;
+        /** Rounds saved under another edit session; they cannot be replayed by this editor. */
+        public final List<RoundScorePatch> otherSessions;
+        /** Rounds naming a player the game no longer has. */
+        public final List<RoundScorePatch> unresolved;
+        /** The base game with every accepted round applied. */
+        public final GameData projected;
+
+        Plan(List<RoundScorePatch> accepted, List<GameOperationPayload> payloads,
+                List<RoundScorePatch> otherSessions, List<RoundScorePatch> unresolved,
+                GameData projected) {
+            this.accepted = Collections.unmodifiableList(accepted);
+            this.payloads = Collections.unmodifiableList(payloads);
+            this.otherSessions = Collections.unmodifiableList(otherSessions);
+            this.unresolved = Collections.unmodifiableList(unresolved);
+            this.projected = projected;
+        }
+    }
+
+    private PendingRoundCatchUp() {
+    }
+
+    /**
+     * Plans the catch-up of {@code pending} on top of {@code base}, which is not modified.
+     *
+     * @throws IllegalStateException when the accepted rounds together would change a score
+     *                               outside their own round and players, or erase one
+     */
+    @NonNull
+    public static Plan plan(@NonNull GameData base, @NonNull List<RoundScorePatch> pending,
+            long activeGeneration) {
+        GameData before = GameDataCopies.deepCopy(base);
+        GameDataSchema.normalize(before);
+        GameData projected = GameDataCopies.deepCopy(before);
+        List<RoundScorePatch> ordered = new ArrayList<>(pending);
+        Collections.sort(ordered, Comparator.comparingInt(RoundScorePatch::getRound1Based));
+
+        List<RoundScorePatch> accepted = new ArrayList<>();
+        List<GameOperationPayload> payloads = new ArrayList<>();
+        List<RoundScorePatch> otherSessions = new ArrayList<>();
+        List<RoundScorePatch> unresolved = new ArrayList<>();
+        Map<Integer, Set<String>> changedByRound = new LinkedHashMap<>();
+        for (RoundScorePatch patch : ordered) {
+            if (patch.getEditGeneration() != activeGeneration) {
+                otherSessions.add(patch);
+                continue;
+            }
+            Map<String, Integer> scores = patch.resolvePlayerIds(projected);
+            if (scores == null || scores.isEmpty()) {
+                unresolved.add(patch);
+                continue;
+            }
+            for (Map.Entry<String, Integer> score : scores.entrySet()) {
+                setScore(GameDataSchema.findPlayer(projected, score.getKey()),
+                        patch.getRound1Based(), score.getValue());
+            }
+            Set<String> changed = changedByRound.get(patch.getRound1Based());
+            if (changed == null) {
+                changed = new HashSet<>();
+                changedByRound.put(patch.getRound1Based(), changed);
+            }
+            changed.addAll(scores.keySet());
+            accepted.add(patch);
+            payloads.add(GameOperationPayload.scores(
+                    patch.getRound1Based(), scores, patch.isCorrection()));
+        }
+        projected.invalidateScoreMatrix();
+        ScoreRegressionGuard.requireOnlyRoundsChanged(before, projected, changedByRound);
+        return new Plan(accepted, payloads, otherSessions, unresolved, projected);
+    }
+
+    private static void setScore(Player player, int round1Based, int score) {
+        List<Integer> scores = player.getScores();
+        if (scores == null) {
+            scores = new ArrayList<>();
+            player.setScores(scores);
+        }
+        while (scores.size() < GameIntegrityValidator.ROUND_COUNT) {
+            scores.add(-1);
+        }
+        scores.set(round1Based - 1, score);
+    }
+}
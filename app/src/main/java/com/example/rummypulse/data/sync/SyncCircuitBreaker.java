@@ -0,0 +1,88 @@
+package com.example.rummypulse.data.sync;
+
+/**
+ * Shared guard for transient Firestore failures across every game the coordinator syncs.
+ * Each consecutive transient failure doubles the shared pause; reaching the threshold opens
+ * the circuit for that pause, during which no game is sent. After it expires a single trial
+ * is let through: success closes the circuit, another failure reopens it for longer.
+ */
+final class SyncCircuitBreaker {
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openUntilMillis;
+    private boolean trialInFlight;
+
+    SyncCircuitBreaker(int failureThreshold, long baseBackoffMillis, long maxBackoffMillis) {
+        if (failureThreshold < 1 || baseBackoffMillis < 1 || maxBackoffMillis < baseBackoffMillis) {
+            throw new IllegalArgumentException("Invalid circuit breaker limits.");
+        }
+        this.failureThreshold = failureThreshold;
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    /** Whether a game may be sent now. In half-open state only one caller gets true. */
+    synchronized boolean allowRequest(long nowMillis) {
+        if (state == State.OPEN) {
+            if (nowMillis < openUntilMillis) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    synchronized void recordSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    synchronized void recordTransientFailure(long nowMillis) {
+        consecutiveFailures++;
+        trialInFlight = false;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openUntilMillis = nowMillis + backoffMillis();
+        }
+    }
+
+    /** Releases a half-open trial that ended without reaching Firestore. */
+    synchronized void releaseTrial() {
+        trialInFlight = false;
+    }
+
+    /** Pause before the next attempt: base, doubled per consecutive failure, capped. */
+    synchronized long backoffMillis() {
+        if (consecutiveFailures == 0) {
+            return 0L;
+        }
+        int shift = Math.min(consecutiveFailures - 1, 30);
+        return Math.min(maxBackoffMillis, baseBackoffMillis << shift);
+    }
+
+    synchronized State state(long nowMillis) {
+        return state == State.OPEN && nowMillis >= openUntilMillis ? State.HALF_OPEN : state;
+    }
+
+    synchronized long remainingOpenMillis(long nowMillis) {
+        return state == State.OPEN ? Math.max(0L, openUntilMillis - nowMillis) : 0L;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.rummypulse.data.sync;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Turn order for the sync coordinator. Every game with syncable operations waits in one queue;
+ * a turn takes games from the front and a game that still has work after its turn goes to the
+ * back, so one long backlog cannot hold the others until it is empty.
+ *
+ * <p>Not thread safe; the coordinator only touches it between turns.
+ */
+final class SyncRoundRobin {
+    private final ArrayDeque<String> waiting = new ArrayDeque<>();
+    private final Set<String> known = new HashSet<>();
+    private final Set<String> inTurn = new HashSet<>();
+
+    /** Adds games that are neither waiting nor in a turn, at the back, in the given order. */
+    void offer(@NonNull Collection<String> gameIds) {
+        for (String gameId : gameIds) {
+            if (gameId != null && known.add(gameId)) {
+                waiting.addLast(gameId);
+            }
+        }
+    }
+
+    /** Takes up to {@code limit} games for the next turn. */
+    @NonNull
+    List<String> nextTurn(int limit) {
+        List<String> turn = new ArrayList<>(Math.min(limit, waiting.size()));
+        while (turn.size() < limit && !waiting.isEmpty()) {
+            String gameId = waiting.pollFirst();
+            inTurn.add(gameId);
+            turn.add(gameId);
+        }
+        return turn;
+    }
+
+    /** Ends {@code gameId}'s turn; it rejoins the back of the queue when it has more work. */
+    void finishTurn(@NonNull String gameId, boolean hasMoreWork) {
+        if (!inTurn.remove(gameId)) {
+            return;
+        }
+        if (hasMoreWork) {
+            waiting.addLast(gameId);
+        } else {
+            known.remove(gameId);
+        }
+    }
+
+    boolean isEmpty() {
+        return waiting.isEmpty() && inTurn.isEmpty();
+    }
+
+    int waitingCount() {
+        return waiting.size();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.rummypulse.data.sync;
+
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.OnConflictStrategy;
+import androidx.room.Query;
+
+import java.util.List;
+
+@Dao
+public interface SyncTelemetryDao {
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void insert(SyncTelemetryEntity row);
+
+    @Query("UPDATE sync_telemetry SET attemptCount = attemptCount + 1,"
+            + " firstAttemptAt = CASE WHEN firstAttemptAt = 0 THEN :now ELSE firstAttemptAt END"
+            + " WHERE operationId IN (:operationIds)")
+    void markAttempted(List<String> operationIds, long now);
+
+    @Query("UPDATE sync_telemetry SET lastErrorCode = :errorCode, errorCount = errorCount + 1"
+            + " WHERE operationId IN (:operationIds)")
+    void markFailed(List<String> operationIds, String errorCode);
+
+    @Query("UPDATE sync_telemetry SET outcome = 'COMMITTED', committedAt = :now"
+            + " WHERE operationId IN (:operationIds)")
+    void markCommitted(List<String> operationIds, long now);
+
+    @Query("UPDATE sync_telemetry SET outcome = 'COMPACTED'"
+            + " WHERE operationId IN (:operationIds)")
+    void markCompacted(List<String> operationIds);
+
+    @Query("UPDATE sync_telemetry SET outcome = 'BLOCKED', lastErrorCode = :errorCode"
+            + " WHERE gameId = :gameId AND outcome = 'QUEUED'")
+    void markBlocked(String gameId, String errorCode);
+
+    /** Newest first, so a limit keeps the most recent window. */
+    @Query("SELECT * FROM sync_telemetry ORDER BY enqueuedAt DESC LIMIT :limit")
+    List<SyncTelemetryEntity> getRecent(int limit);
+
+    @Query("DELETE FROM sync_telemetry WHERE enqueuedAt < :cutoff AND outcome != 'QUEUED'")
+    int deleteFinishedBefore(long cutoff);
+
+    /** Drops everything but the newest {@code keep} rows. */
+    @Query("DELETE FROM sync_telemetry WHERE operationId NOT IN"
+            + " (SELECT operationId FROM sync_telemetry ORDER BY enqueuedAt DESC LIMIT :keep)")
+    int trimTo(int keep);
+}
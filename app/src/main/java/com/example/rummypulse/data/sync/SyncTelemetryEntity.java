@@ -0,0 +1,71 @@
+package com.example.rummypulse.data.sync;
+
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+import androidx.room.Index;
+import androidx.room.PrimaryKey;
+
+/**
+ * Sync timeline of one outbox operation. Rows outlive the operation they describe, so the
+ * debug screen can still show latency after the operation is committed and deleted.
+ */
+@Entity(
+        tableName = "sync_telemetry",
+        indices = {
+                @Index(value = {"enqueuedAt"}),
+                @Index(value = {"outcome"})
+        })
+public class SyncTelemetryEntity {
+    /** Operation is still in the outbox. */
+    public static final String QUEUED = "QUEUED";
+    public static final String COMMITTED = "COMMITTED";
+    /** Folded into another operation before it was ever sent. */
+    public static final String COMPACTED = "COMPACTED";
+    public static final String BLOCKED = "BLOCKED";
+
+    @PrimaryKey
+    @NonNull
+    public String operationId;
+    @NonNull
+    public String gameId;
+    @NonNull
+    public String type;
+    public long enqueuedAt;
+    /** Active operations the game already had queued when this one was added. */
+    public int queueDepth;
+    /** 0 until the operation is first claimed by the sync worker. */
+    public long firstAttemptAt;
+    /** 0 until the operation is committed. */
+    public long committedAt;
+    public int attemptCount;
+    /** Firestore error code name, or TIMEOUT/INTERRUPTED/exception class, of the last failure. */
+    public String lastErrorCode;
+    public int errorCount;
+    @NonNull
+    public String outcome;
+
+    public SyncTelemetryEntity(
+            @NonNull String operationId,
+            @NonNull String gameId,
+            @NonNull String type,
+            long enqueuedAt,
+            int queueDepth,
+            long firstAttemptAt,
+            long committedAt,
+            int attemptCount,
+            String lastErrorCode,
+            int errorCount,
+            @NonNull String outcome) {
+        this.operationId = operationId;
+        this.gameId = gameId;
+        this.type = type;
+        this.enqueuedAt = enqueuedAt;
+        this.queueDepth = queueDepth;
+        this.firstAttemptAt = firstAttemptAt;
+        this.committedAt = committedAt;
+        this.attemptCount = attemptCount;
+        this.lastErrorCode = lastErrorCode;
+        this.errorCount = errorCount;
+        this.outcome = outcome;
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.rummypulse.data.sync;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Rolling summary of {@link SyncTelemetryEntity} rows for the sync diagnostics screen. Latency
+ * and attempt percentiles cover operations enqueued within {@link #WINDOW_MILLIS}; queued
+ * operations are counted whatever their age, since those are what an editor is waiting on.
+ */
+public final class SyncTelemetryReport {
+    public static final long WINDOW_MILLIS = 24L * 60L * 60L * 1000L;
+    /** Finished rows older than this are pruned; queued rows are kept until they finish. */
+    public static final long RETENTION_MILLIS = 14L * WINDOW_MILLIS;
+    /** Hard cap on stored rows, newest kept. */
+    public static final int RETENTION_ROWS = 2_000;
+
+    /** Nearest-rank percentiles of one measurement; all zero when there are no samples. */
+    public static final class Percentiles {
+        public final int count;
+        public final long p50;
+        public final long p90;
+        public final long p99;
+        public final long max;
+
+        Percentiles(int count, long p50, long p90, long p99, long max) {
+            this.count = count;
+            this.p50 = p50;
+            this.p90 = p90;
+            this.p99 = p99;
+            this.max = max;
+        }
+    }
+
+    public final long generatedAt;
+    public final int windowCount;
+    public final int committedCount;
+    public final int compactedCount;
+    public final int blockedCount;
+    public final int queuedCount;
+    /** Age of the oldest queued operation, or 0 when the outbox is empty. */
+    public final long oldestQueuedMillis;
+    /** Enqueue to commit, committed operations only. */
+    public final Percentiles commitLatency;
+    /** Enqueue to first claim by the sync worker. */
+    public final Percentiles firstAttemptDelay;
+    /** Attempts per committed operation; above 1 means it was retried. */
+    public final Percentiles attempts;
+    /** Operations already queued for the game when one was added. */
+    public final Percentiles queueDepth;
+    /** Operations per last error code, most frequent first. */
+    public final Map<String, Integer> errorCodes;
+
+    private SyncTelemetryReport(long generatedAt, int windowCount, int committedCount,
+            int compactedCount, int blockedCount, int queuedCount, long oldestQueuedMillis,
+            Percentiles commitLatency, Percentiles firstAttemptDelay, Percentiles attempts,
+            Percentiles queueDepth, Map<String, Integer> errorCodes) {
+        this.generatedAt = generatedAt;
+        this.windowCount = windowCount;
+        this.committedCount = committedCount;
+        this.compactedCount = compactedCount;
+        this.blockedCount = blockedCount;
+        this.queuedCount = queuedCount;
+        this.oldestQueuedMillis = oldestQueuedMillis;
+        this.commitLatency = commitLatency;
+        this.firstAttemptDelay = firstAttemptDelay;
+        this.attempts = attempts;
+        this.queueDepth = queueDepth;
+        this.errorCodes = errorCodes;
+    }
+
+    @NonNull
+    static SyncTelemetryReport build(@NonNull List<SyncTelemetryEntity> rows, long now) {
+        long windowStart = now - WINDOW_MILLIS;
+        List<Long> latencies = new ArrayList<>();
+        List<Long> delays = new ArrayList<>();
+        List<Long> attemptCounts = new ArrayList<>();
+        List<Long> depths = new ArrayList<>();
+        Map<String, Integer> errors = new LinkedHashMap<>();
+        int windowCount = 0;
+        int committed = 0;
+        int compacted = 0;
+        int blocked = 0;
+        int queued = 0;
+        long oldestQueued = 0L;
+        for (SyncTelemetryEntity row : rows) {
+            if (SyncTelemetryEntity.QUEUED.equals(row.outcome)) {
+                queued++;
+                oldestQueued = Math.max(oldestQueued, Math.max(0L, now - row.enqueuedAt));
+            }
+            if (row.enqueuedAt < windowStart) {
+                continue;
+            }
+            windowCount++;
+            depths.add((long) row.queueDepth);
+            if (row.firstAttemptAt > 0L) {
+                delays.add(Math.max(0L, row.firstAttemptAt - row.enqueuedAt));
+            }
+            if (row.lastErrorCode != null) {
+                Integer count = errors.get(row.lastErrorCode);
+                errors.put(row.lastErrorCode, count == null ? 1 : count + 1);
+            }
+            if (SyncTelemetryEntity.COMMITTED.equals(row.outcome)) {
+                committed++;
+                latencies.add(Math.max(0L, row.committedAt - row.enqueuedAt));
+                attemptCounts.add((long) row.attemptCount);
+            } else if (SyncTelemetryEntity.COMPACTED.equals(row.outcome)) {
+                compacted++;
+            } else if (SyncTelemetryEntity.BLOCKED.equals(row.outcome)) {
+                blocked++;
+            }
+        }
+        return new SyncTelemetryReport(now, windowCount, committed, compacted, blocked, queued,
+                oldestQueued, percentiles(latencies), percentiles(delays),
+                percentiles(attemptCounts), percentiles(depths), byCountDescending(errors));
+    }
+
+    @NonNull
+    static Percentiles percentiles(@NonNull List<Long> samples) {
+        if (samples.isEmpty()) {
+            return new Percentiles(0, 0L, 0L, 0L, 0L);
+        }
+        long[] sorted = new long[samples.size()];
+        for (int index = 0; index < sorted.length; index++) {
+            sorted[index] = samples.get(index);
+        }
+        Arrays.sort(sorted);
+        return new Percentiles(sorted.length, rank(sorted, 50), rank(sorted, 90),
+                rank(sorted, 99), sorted[sorted.length - 1]);
+    }
+
+    /** Plain-text summary shown on the diagnostics screen and at the top of an export. */
+    @NonNull
+    public String summary() {
+        StringBuilder text = new StringBuilder();
+        text.append("Outbox: ").append(queuedCount).append(" queued");
+        if (queuedCount > 0) {
+            text.append(", oldest ").append(duration(oldestQueuedMillis));
+        }
+        text.append('\n');
+        text.append("Last 24 h: ").append(windowCount).append(" operations, ")
+                .append(committedCount).append(" committed, ")
+                .append(compactedCount).append(" compacted, ")
+                .append(blockedCount).append(" blocked\n");
+        appendTimes(text, "Enqueue to commit", commitLatency);
+        appendTimes(text, "Enqueue to first try", firstAttemptDelay);
+        text.append(String.format(Locale.US, "Attempts: p50 %d, p90 %d, p99 %d, max %d\n",
+                attempts.p50, attempts.p90, attempts.p99, attempts.max));
+        text.append(String.format(Locale.US, "Queue depth at enqueue: p50 %d, p90 %d, max %d\n",
+                queueDepth.p50, queueDepth.p90, queueDepth.max));
+        if (errorCodes.isEmpty()) {
+            text.append("Errors: none");
+        } else {
+            text.append("Errors:");
+            for (Map.Entry<String, Integer> error : errorCodes.entrySet()) {
+                text.append("\n  ").append(error.getKey()).append(" x").append(error.getValue());
+            }
+        }
+        return text.toString();
+    }
+
+    /** One CSV line per row, oldest first, for the share export. */
+    @NonNull
+    public static String toCsv(@NonNull List<SyncTelemetryEntity> rows) {
+        List<SyncTelemetryEntity> ordered = new ArrayList<>(rows);
+        Collections.sort(ordered, (left, right) -> Long.compare(left.enqueuedAt, right.enqueuedAt));
+        StringBuilder csv = new StringBuilder("operationId,gameId,type,outcome,enqueuedAt,"
+                + "queueDepth,firstAttemptAt,committedAt,attemptCount,errorCount,lastErrorCode\n");
+        for (SyncTelemetryEntity row : ordered) {
+            csv.append(csvField(row.operationId)).append(',')
+                    .append(csvField(row.gameId)).append(',')
+                    .append(csvField(row.type)).append(',')
+                    .append(csvField(row.outcome)).append(',')
+                    .append(row.enqueuedAt).append(',')
+                    .append(row.queueDepth).append(',')
+                    .append(row.firstAttemptAt).append(',')
+                    .append(row.committedAt).append(',')
+                    .append(row.attemptCount).append(',')
+                    .append(row.errorCount).append(',')
+                    .append(csvField(row.lastErrorCode)).append('\n');
+        }
+        return csv.toString();
+    }
+
+    private static void appendTimes(StringBuilder text, String label, Percentiles times) {
+        text.append(label).append(": ");
+        if (times.count == 0) {
+            text.append("no samples\n");
+            return;
+        }
+        text.append("p50 ").append(duration(times.p50))
+                .append(", p90 ").append(duration(times.p90))
+                .append(", p99 ").append(duration(times.p99))
+                .append(", max ").append(duration(times.max))
+                .append(" (n=").append(times.count).append(")\n");
+    }
+
+    static String duration(long millis) {
+        if (millis < 1_000L) {
+            return millis + " ms";
+        }
+        if (millis < 60_000L) {
+            return String.format(Locale.US, "%.1f s", millis / 1_000.0);
+        }
+        if (millis < 3_600_000L) {
+            return String.format(Locale.US, "%.1f min", millis / 60_000.0);
+        }
+        return String.format(Locale.US, "%.1f h", millis / 3_600_000.0);
+    }
+
+    private static long rank(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static Map<String, Integer> byCountDescending(Map<String, Integer> counts) {
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>(counts.entrySet());
+        Collections.sort(entries, (left, right) -> {
+            int byCount = Integer.compare(right.getValue(), left.getValue());
+            return byCount != 0 ? byCount : left.getKey().compareTo(right.getKey());
+        });
+        Map<String, Integer> sorted = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> entry : entries) {
+            sorted.put(entry.getKey(), entry.getValue());
+        }
+        return sorted;
+    }
+
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
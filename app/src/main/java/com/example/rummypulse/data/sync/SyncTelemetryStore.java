@@ -0,0 +1,83 @@
+package com.example.rummypulse.data.sync;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Reads and prunes the local sync telemetry for the diagnostics screen. Everything is in Room,
+ * so the screen and its export work without a connection.
+ */
+public final class SyncTelemetryStore {
+    private static final String TAG = "SyncTelemetry";
+    private static volatile SyncTelemetryStore instance;
+
+    private final GameOperationDatabase database;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    public interface LoadCallback {
+        /** Runs on the main thread; {@code csv} holds every retained row for sharing. */
+        void onLoaded(@NonNull SyncTelemetryReport report, @NonNull String csv);
+    }
+
+    private SyncTelemetryStore(Context context) {
+        database = GameOperationDatabase.getInstance(context.getApplicationContext());
+    }
+
+    public static SyncTelemetryStore getInstance(Context context) {
+        SyncTelemetryStore current = instance;
+        if (current == null) {
+            synchronized (SyncTelemetryStore.class) {
+                current = instance;
+                if (current == null) {
+                    current = new SyncTelemetryStore(context);
+                    instance = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    public void load(@NonNull LoadCallback callback) {
+        executor.execute(() -> {
+            long now = System.currentTimeMillis();
+            SyncTelemetryDao dao = database.syncTelemetry();
+            prune(dao, now);
+            List<SyncTelemetryEntity> rows = dao.getRecent(SyncTelemetryReport.RETENTION_ROWS);
+            SyncTelemetryReport report = SyncTelemetryReport.build(rows, now);
+            String csv = SyncTelemetryReport.toCsv(rows);
+            mainHandler.post(() -> callback.onLoaded(report, csv));
+        });
+    }
+
+    /** Applies the age and row-count retention limits. */
+    static void prune(@NonNull SyncTelemetryDao dao, long now) {
+        record("prune", () -> {
+            int expired = dao.deleteFinishedBefore(now - SyncTelemetryReport.RETENTION_MILLIS);
+            int trimmed = dao.trimTo(SyncTelemetryReport.RETENTION_ROWS);
+            if (expired + trimmed > 0) {
+                Log.i(TAG, "Pruned " + (expired + trimmed) + " telemetry rows");
+            }
+        });
+    }
+
+    /**
+     * Runs a telemetry write without letting it fail the sync work around it; losing a sample
+     * is preferable to blocking an edit.
+     */
+    static void record(@NonNull String action, @NonNull Runnable write) {
+        try {
+            write.run();
+        } catch (RuntimeException failure) {
+            Log.w(TAG, "Could not record sync telemetry (" + action + ")", failure);
+        }
+    }
+}
@@ -131,8 +131,10 @@ public class DashboardFragment extends Fragment implements DashboardGameAdapter.
         // Observe in-progress games
         dashboardViewModel.getInProgressGames().observe(getViewLifecycleOwner(), games -> {
             gameAdapter.setGameItems(games);
-            hasRealtimeData = true;
+            // Snapshot cards keep the chip on "syncing" until live data revalidates them.
+            hasRealtimeData = !dashboardViewModel.isShowingDashboardSnapshot();
             int activeCount = games != null ? games.size() : 0;
+            markFirstCards(activeCount);
             binding.textActiveGamesCount.setText(String.valueOf(activeCount));
             binding.textMetricActive.setText(String.valueOf(activeCount));
             binding.textActiveEmpty.setVisibility(activeCount == 0 ? View.VISIBLE : View.GONE);
@@ -145,8 +147,9 @@ public class DashboardFragment extends Fragment implements DashboardGameAdapter.
         // Observe completed games
         dashboardViewModel.getCompletedGames().observe(getViewLifecycleOwner(), completedGames -> {
             completedGameAdapter.setGameItems(completedGames);
-            hasRealtimeData = true;
+            hasRealtimeData = !dashboardViewModel.isShowingDashboardSnapshot();
             int completedCount = completedGames != null ? completedGames.size() : 0;
+            markFirstCards(completedCount);
             binding.textCompletedGamesCount.setText(String.valueOf(completedCount));
             binding.textMetricCompleted.setText(String.valueOf(completedCount));
             binding.textCompletedEmpty.setVisibility(completedCount == 0 ? View.VISIBLE : View.GONE);
@@ -182,9 +185,17 @@ public class DashboardFragment extends Fragment implements DashboardGameAdapter.
         });
     }
 
+    private void markFirstCards(int cards) {
+        DashboardStartupTrace.markCardsRendered(
+                dashboardViewModel.isShowingDashboardSnapshot()
+                        ? DashboardStartupTrace.SOURCE_SNAPSHOT
+                        : DashboardStartupTrace.SOURCE_LIVE,
+                cards);
+    }
+
     private void updateEmptyStateVisibility() {
-        boolean hasActiveGames = gameAdapter.getItemCount() > 0;
-        boolean hasCompletedGames = completedGameAdapter.getItemCount() > 0;
+        boolean hasActiveGames = gameAdapter.getSubmittedCount() > 0;
+        boolean hasCompletedGames = completedGameAdapter.getSubmittedCount() > 0;
         
         if (!hasActiveGames && !hasCompletedGames) {
             binding.emptyState.setVisibility(View.VISIBLE);
@@ -206,8 +217,8 @@ public class DashboardFragment extends Fragment implements DashboardGameAdapter.
     }
 
     private void updateOverviewTotal() {
-        int active = gameAdapter != null ? gameAdapter.getItemCount() : 0;
-        int completed = completedGameAdapter != null ? completedGameAdapter.getItemCount() : 0;
+        int active = gameAdapter != null ? gameAdapter.getSubmittedCount() : 0;
+        int completed = completedGameAdapter != null ? completedGameAdapter.getSubmittedCount() : 0;
         binding.textMetricTotal.setText(String.valueOf(active + completed));
     }
 
@@ -672,10 +683,10 @@ public class DashboardFragment extends Fragment implements DashboardGameAdapter.
                     return;
                 }
                 if (gameAdapter != null) {
-                    gameAdapter.notifyDataSetChanged();
+                    gameAdapter.rebindViewRequestCounts();
                 }
                 if (completedGameAdapter != null) {
-                    completedGameAdapter.notifyDataSetChanged();
+                    completedGameAdapter.rebindViewRequestCounts();
                 }
             });
         }
@@ -22,37 +22,76 @@ import com.google.zxing.WriterException;
 import com.journeyapps.barcodescanner.BarcodeEncoder;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.rummypulse.R;
+import com.example.rummypulse.data.CreatorProfileCache;
 import com.example.rummypulse.data.GameDefaultsRepository;
 import com.example.rummypulse.ui.home.GameItem;
+import com.example.rummypulse.ui.home.GameItemDiffCallback;
+import com.example.rummypulse.ui.home.GameItemSnapshot;
+import com.example.rummypulse.ui.home.GameItemStableIds;
 import com.example.rummypulse.utils.GameAttributionFormatter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
-public class DashboardGameAdapter extends RecyclerView.Adapter<DashboardGameAdapter.GameViewHolder> {
+public class DashboardGameAdapter extends ListAdapter<GameItemSnapshot, DashboardGameAdapter.GameViewHolder> {
 
-    private List<GameItem> gameItems = new ArrayList<>();
+    private static final long TIME_UPDATE_INTERVAL_MS = 60000L;
+    /** Rebinds only the view-request count chips, e.g. after the admin toggle changes. */
+    private static final String PAYLOAD_VIEW_COUNTS_SETTING = "view_counts_setting";
+
+    private final GameItemStableIds stableIds = new GameItemStableIds();
     private OnGameJoinListener joinListener;
     private boolean isCompletedGamesAdapter = false;
     private android.os.Handler updateHandler = new android.os.Handler(android.os.Looper.getMainLooper());
     private Runnable updateRunnable;
+    private RecyclerView attachedRecyclerView;
+    private int submittedCount;
 
     public interface OnGameJoinListener {
         void onJoinGame(GameItem game, int position, String joinType);
     }
 
+    public DashboardGameAdapter() {
+        super(GameItemDiffCallback.INSTANCE);
+        setHasStableIds(true);
+    }
+
     public void setOnGameJoinListener(OnGameJoinListener listener) {
         this.joinListener = listener;
     }
 
+    /**
+     * Submits the rows for an off-main-thread diff. Unchanged games are not rebound; changed games
+     * get a partial bind limited to the fields that moved.
+     */
     public void setGameItems(List<GameItem> gameItems) {
-        this.gameItems = gameItems != null ? gameItems : new ArrayList<>();
-        notifyDataSetChanged();
+        List<GameItemSnapshot> snapshots = new ArrayList<>();
+        if (gameItems != null) {
+            for (GameItem item : gameItems) {
+                if (item != null) {
+                    snapshots.add(new GameItemSnapshot(item));
+                }
+            }
+        }
+        submittedCount = snapshots.size();
+        submitList(snapshots);
         startTimeUpdates();
     }
+
+    /** Size of the last submitted list; {@link #getItemCount()} lags until the diff commits. */
+    public int getSubmittedCount() {
+        return submittedCount;
+    }
+
+    /** Rebinds the approval-count chips of every row after the dashboard setting changes. */
+    public void rebindViewRequestCounts() {
+        notifyItemRangeChanged(0, getItemCount(), PAYLOAD_VIEW_COUNTS_SETTING);
+    }
     
     private void startTimeUpdates() {
         // Cancel any existing updates
@@ -64,15 +103,35 @@ public class DashboardGameAdapter extends RecyclerView.Adapter<DashboardGameAdap
         updateRunnable = new Runnable() {
             @Override
             public void run() {
-                // Update only the time text for all visible items
-                notifyItemRangeChanged(0, gameItems.size(), "time_update");
+                updateVisibleTimes();
                 // Schedule next update in 60 seconds
-                updateHandler.postDelayed(this, 60000);
+                updateHandler.postDelayed(this, TIME_UPDATE_INTERVAL_MS);
             }
         };
         
         // Start updates after 60 seconds
-        updateHandler.postDelayed(updateRunnable, 60000);
+        updateHandler.postDelayed(updateRunnable, TIME_UPDATE_INTERVAL_MS);
+    }
+
+    /**
+     * Refreshes the relative start time of attached rows only. Off-screen rows pick up the current
+     * time when they are next bound.
+     */
+    private void updateVisibleTimes() {
+        RecyclerView recyclerView = attachedRecyclerView;
+        if (recyclerView == null) {
+            return;
+        }
+        for (int i = 0; i < recyclerView.getChildCount(); i++) {
+            RecyclerView.ViewHolder child = recyclerView.getChildViewHolder(recyclerView.getChildAt(i));
+            if (!(child instanceof GameViewHolder)) {
+                continue;
+            }
+            GameItem item = itemAt(child);
+            if (item != null) {
+                bindTime((GameViewHolder) child, item);
+            }
+        }
     }
     
     public void stopTimeUpdates() {
@@ -85,33 +144,101 @@ public class DashboardGameAdapter extends RecyclerView.Adapter<DashboardGameAdap
         this.isCompletedGamesAdapter = isCompletedGamesAdapter;
     }
 
+    @Override
+    public void onAttachedToRecyclerView(@NonNull RecyclerView recyclerView) {
+        super.onAttachedToRecyclerView(recyclerView);
+        attachedRecyclerView = recyclerView;
+    }
+
+    @Override
+    public void onDetachedFromRecyclerView(@NonNull RecyclerView recyclerView) {
+        super.onDetachedFromRecyclerView(recyclerView);
+        if (attachedRecyclerView == recyclerView) {
+            attachedRecyclerView = null;
+        }
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return stableIds.idFor(getItem(position).gameId);
+    }
+
     @NonNull
     @Override
     public GameViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
         View view = LayoutInflater.from(parent.getContext())
                 .inflate(R.layout.item_dashboard_game, parent, false);
-        return new GameViewHolder(view);
+        GameViewHolder holder = new GameViewHolder(view);
+
+        // Listeners resolve the row at click time so partial binds never leave a stale item behind.
+        holder.itemView.setOnClickListener(v -> {
+            GameItem item = itemAt(holder);
+            if (joinListener != null && item != null) {
+                String joinType = (isCompletedGamesAdapter || item.isCompleted()) ? "view" : "player";
+                joinListener.onJoinGame(item, holder.getBindingAdapterPosition(), joinType);
+            }
+        });
+
+        // Set QR code icon click listener
+        holder.qrCodeIcon.setOnClickListener(v -> {
+            GameItem item = itemAt(holder);
+            if (item != null) {
+                showQrCodeDialog(v.getContext(), item);
+            }
+        });
+        return holder;
     }
 
     @Override
     public void onBindViewHolder(@NonNull GameViewHolder holder, int position) {
-        onBindViewHolder(holder, position, new ArrayList<>());
+        GameItem item = getItem(position).item;
+
+        // Title: display name when set, else "Game #" + id
+        holder.gameIdText.setText(item.getDashboardPrimaryLabel());
+        bindStatus(holder, item);
+        bindViewRequestCounts(holder, item);
+        bindEconomics(holder, item);
+        bindTime(holder, item);
+        bindCreator(holder, item);
     }
     
     @Override
     public void onBindViewHolder(@NonNull GameViewHolder holder, int position, @NonNull List<Object> payloads) {
-        GameItem item = gameItems.get(position);
-        
-        // If this is a partial update for time only
-        if (!payloads.isEmpty() && payloads.contains("time_update")) {
-            holder.createdTimeText.setText("Started " + formatDateTime(item.getCreationDateTime()));
+        if (payloads.isEmpty()) {
+            onBindViewHolder(holder, position);
             return;
         }
-        
-        // Full bind
-        // Title: display name when set, else "Game #" + id
-        holder.gameIdText.setText(item.getDashboardPrimaryLabel());
-        
+        GameItem item = getItem(position).item;
+        for (Object payload : payloads) {
+            if (PAYLOAD_VIEW_COUNTS_SETTING.equals(payload)) {
+                bindViewRequestCounts(holder, item);
+            } else if (payload instanceof Set) {
+                Set<?> changed = (Set<?>) payload;
+                if (changed.contains(GameItemSnapshot.PAYLOAD_STATUS)) {
+                    bindStatus(holder, item);
+                }
+                if (changed.contains(GameItemSnapshot.PAYLOAD_VIEW_COUNTS)) {
+                    bindViewRequestCounts(holder, item);
+                }
+                if (changed.contains(GameItemSnapshot.PAYLOAD_SCORES)) {
+                    bindEconomics(holder, item);
+                }
+                if (changed.contains(GameItemSnapshot.PAYLOAD_TIME)) {
+                    bindTime(holder, item);
+                }
+            }
+        }
+    }
+
+    private GameItem itemAt(@NonNull RecyclerView.ViewHolder holder) {
+        int position = holder.getBindingAdapterPosition();
+        if (position == RecyclerView.NO_POSITION || position >= getItemCount()) {
+            return null;
+        }
+        return getItem(position).item;
+    }
+
+    private void bindStatus(@NonNull GameViewHolder holder, @NonNull GameItem item) {
         // Set game status
         String status = item.getGameStatus();
         if (status == null || status.isEmpty()) {
@@ -143,7 +270,9 @@ public class DashboardGameAdapter extends RecyclerView.Adapter<DashboardGameAdap
         } else {
             holder.viewAccessStatusText.setVisibility(View.GONE);
         }
+    }
 
+    private void bindViewRequestCounts(@NonNull GameViewHolder holder, @NonNull GameItem item) {
         Context context = holder.itemView.getContext();
         boolean showApprovalCounts = GameDefaultsRepository.getInstance(context)
                 .isShowDashboardApprovalCountsEnabled();
@@ -161,7 +290,9 @@ public class DashboardGameAdapter extends RecyclerView.Adapter<DashboardGameAdap
         } else {
             holder.viewRequestCountsSection.setVisibility(View.GONE);
         }
-        
+    }
+
+    private void bindEconomics(@NonNull GameViewHolder holder, @NonNull GameItem item) {
         // Set players count
         holder.playersText.setText(String.valueOf(item.getNumberOfPlayers()));
         
@@ -201,16 +332,21 @@ public class DashboardGameAdapter extends RecyclerView.Adapter<DashboardGameAdap
         
         // Set GST percentage
         holder.gstText.setText(item.getGstPercentage());
-        
-        // Set created time
+    }
+
+    private void bindTime(@NonNull GameViewHolder holder, @NonNull GameItem item) {
         holder.createdTimeText.setText("Started " + formatDateTime(item.getCreationDateTime()));
-        
+    }
+
+    private void bindCreator(@NonNull GameViewHolder holder, @NonNull GameItem row) {
+        Context context = holder.itemView.getContext();
         // Creator ownership and current/last editor are separate identities.
         holder.creatorSection.setVisibility(View.VISIBLE);
+        GameItem item = withCreatorFromProfileCache(row);
         
         if (item.getCreatorName() != null && !item.getCreatorName().trim().isEmpty()) {
             if (item.getCreatorPhotoUrl() != null && !item.getCreatorPhotoUrl().isEmpty()) {
-                Glide.with(holder.itemView.getContext())
+                Glide.with(context)
                     .load(item.getCreatorPhotoUrl())
                     .apply(new RequestOptions()
                         .centerCrop()
@@ -231,25 +367,66 @@ public class DashboardGameAdapter extends RecyclerView.Adapter<DashboardGameAdap
         }
         holder.creatorEditorLineText.setText(
                 GameAttributionFormatter.formatCreatorEditorLine(context, item));
-        
-        // Set card click behavior based on game status
-        final String finalStatus = status;
-        holder.itemView.setOnClickListener(v -> {
-            if (joinListener != null) {
-                String joinType = (isCompletedGamesAdapter || "Completed".equals(finalStatus)) ? "view" : "player";
-                joinListener.onJoinGame(item, position, joinType);
-            }
-        });
-        
-        // Set QR code icon click listener
-        holder.qrCodeIcon.setOnClickListener(v -> {
-            showQrCodeDialog(v.getContext(), item);
-        });
     }
 
-    @Override
-    public int getItemCount() {
-        return gameItems.size();
+    /**
+     * Returns {@code item}, or a copy with a missing creator name or photo filled from the shared
+     * profile cache; the repository's row is left as loaded. On a miss the row is rebound once the
+     * batched profile lookup completes.
+     */
+    private GameItem withCreatorFromProfileCache(GameItem item) {
+        String creatorUserId = item.getCreatorUserId();
+        if (creatorUserId == null || creatorUserId.isEmpty() || !isMissingCreatorDetails(item)) {
+            return item;
+        }
+        String gameId = item.getGameId();
+        CreatorProfileCache.Profile profile = CreatorProfileCache.getInstance().resolve(
+                creatorUserId, loaded -> {
+                    if (loaded == null) {
+                        return;
+                    }
+                    List<GameItemSnapshot> rows = getCurrentList();
+                    for (int i = 0; i < rows.size(); i++) {
+                        GameItem current = rows.get(i).item;
+                        if (current.getGameId() != null && current.getGameId().equals(gameId)) {
+                            if (fillsCreatorDetails(current, loaded)) {
+                                notifyItemChanged(i);
+                            }
+                            return;
+                        }
+                    }
+                });
+        if (profile == null) {
+            return item;
+        }
+        GameItem filled = item.copy();
+        applyCreatorProfile(filled, profile);
+        return filled;
+    }
+
+    private static boolean isMissingCreatorDetails(GameItem item) {
+        return isBlank(item.getCreatorName())
+                || item.getCreatorPhotoUrl() == null || item.getCreatorPhotoUrl().isEmpty();
+    }
+
+    private static boolean fillsCreatorDetails(GameItem item, CreatorProfileCache.Profile profile) {
+        return (isBlank(item.getCreatorName()) && !isBlank(profile.displayName))
+                || ((item.getCreatorPhotoUrl() == null || item.getCreatorPhotoUrl().isEmpty())
+                        && profile.hasPhoto());
+    }
+
+    private static void applyCreatorProfile(GameItem item, CreatorProfileCache.Profile profile) {
+        if (isBlank(item.getCreatorName()) && !isBlank(profile.displayName)) {
+            item.setCreatorName(profile.displayName);
+        }
+        if ((item.getCreatorPhotoUrl() == null || item.getCreatorPhotoUrl().isEmpty())
+                && profile.hasPhoto()) {
+            item.setCreatorPhotoUrl(profile.photoUrl);
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
     }
 
     private String formatDateTime(String dateTime) {
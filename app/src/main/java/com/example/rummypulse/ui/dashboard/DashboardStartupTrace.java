@@ -0,0 +1,69 @@
+package com.example.rummypulse.ui.dashboard;
+
+import android.os.SystemClock;
+import android.util.Log;
+
+/**
+ * Measures time-to-first-card from process start, and whether the first card came from the
+ * persisted snapshot or from Firestore. Each value is logged once per process.
+ */
+public final class DashboardStartupTrace {
+    private static final String TAG = "DashboardStartup";
+
+    public static final String SOURCE_SNAPSHOT = "snapshot";
+    public static final String SOURCE_LIVE = "live";
+
+    private static long processStartMs = -1L;
+    private static long firstCardMs = -1L;
+    private static long firstLiveCardMs = -1L;
+    private static String firstCardSource;
+
+    private DashboardStartupTrace() {
+    }
+
+    /** Called from {@code Application.onCreate}. */
+    public static synchronized void markProcessStart() {
+        if (processStartMs < 0L) {
+            processStartMs = SystemClock.elapsedRealtime();
+        }
+    }
+
+    public static synchronized void markSnapshotLoaded(int rows, long loadMs) {
+        Log.i(TAG, "Dashboard snapshot loaded: rows=" + rows + " loadMs=" + loadMs
+                + " sinceStartMs=" + sinceStart());
+    }
+
+    /** Records the first non-empty list rendered from {@code source}. */
+    public static synchronized void markCardsRendered(String source, int cards) {
+        if (cards <= 0 || processStartMs < 0L) {
+            return;
+        }
+        long elapsed = sinceStart();
+        if (firstCardMs < 0L) {
+            firstCardMs = elapsed;
+            firstCardSource = source;
+            Log.i(TAG, "time_to_first_card ms=" + elapsed + " source=" + source + " cards=" + cards);
+        }
+        if (SOURCE_LIVE.equals(source) && firstLiveCardMs < 0L) {
+            firstLiveCardMs = elapsed;
+            Log.i(TAG, "time_to_first_live_card ms=" + elapsed + " cards=" + cards);
+        }
+    }
+
+    /** Milliseconds from process start to the first rendered card, or -1 before it. */
+    public static synchronized long getTimeToFirstCardMs() {
+        return firstCardMs;
+    }
+
+    public static synchronized long getTimeToFirstLiveCardMs() {
+        return firstLiveCardMs;
+    }
+
+    public static synchronized String getFirstCardSource() {
+        return firstCardSource;
+    }
+
+    private static long sinceStart() {
+        return processStartMs < 0L ? -1L : SystemClock.elapsedRealtime() - processStartMs;
+    }
+}
@@ -7,11 +7,14 @@ import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 import androidx.lifecycle.ViewModel;
 
+import com.example.rummypulse.data.DashboardSnapshotReconciler;
 import com.example.rummypulse.data.FirestoreCollections;
 import com.example.rummypulse.utils.DisplayNameUtils;
 import com.example.rummypulse.data.GameRepository;
 import com.example.rummypulse.data.GameViewApprovalRepository;
 import com.example.rummypulse.data.GameCreationPolicy;
+import com.example.rummypulse.data.ScoreHistoryEvent;
+import com.example.rummypulse.data.ScoreHistoryStore;
 import com.example.rummypulse.ui.home.GameItem;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseUser;
@@ -37,6 +40,10 @@ public class DashboardViewModel extends ViewModel {
     private final MutableLiveData<GameCreationData> gameCreationEvent;
     private final MutableLiveData<GameCreationState> gameCreationState;
     private final java.util.Set<String> seenGameIds = new java.util.HashSet<>();
+    /** Cached rows still shown in place of, or before, live rows; null once revalidated. */
+    private DashboardSnapshotReconciler snapshotReconciler;
+    private boolean liveRevalidated;
+    private boolean showingSnapshot;
     private final Handler creationHandler = new Handler(Looper.getMainLooper());
     private CreationRequest activeCreationRequest;
     private Runnable creationSlowNotice;
@@ -117,98 +124,153 @@ public class DashboardViewModel extends ViewModel {
                 new GameCreationState(GameCreationStatus.IDLE, null));
         
         // Observe all games and filter for in-progress and completed ones
-        gameRepository.getGameItems().observeForever(allGames -> {
-            if (allGames != null) {
-                List<GameItem> inProgressGames = new ArrayList<>();
-                List<GameItem> completedGames = new ArrayList<>();
-                
-                // Get current user ID
-                String currentUserId = FirebaseAuth.getInstance().getCurrentUser() != null 
-                    ? FirebaseAuth.getInstance().getCurrentUser().getUid() 
-                    : null;
-                
-                for (GameItem game : allGames) {
-                    if (game.isCompleted() || "Completed".equals(game.getGameStatus())) {
-                        completedGames.add(game);
-                    } else {
-                        inProgressGames.add(game);
+        gameRepository.getGameItems().observeForever(this::onLiveGames);
+
+        // Render last session's cards while the live query revalidates them
+        loadDashboardSnapshot();
+        
+        // Load games initially
+        loadGames();
+    }
+
+    private void loadDashboardSnapshot() {
+        gameRepository.loadDashboardSnapshot((rows, loadMs) -> {
+            DashboardStartupTrace.markSnapshotLoaded(rows.size(), loadMs);
+            if (rows.isEmpty() || liveRevalidated) {
+                return;
+            }
+            snapshotReconciler = new DashboardSnapshotReconciler(rows);
+            List<GameItem> live = gameRepository.getGameItems().getValue();
+            applyGames(snapshotReconciler.reconcile(
+                    live,
+                    gameRepository.isDashboardQueryDelivered(),
+                    gameRepository::getDashboardRowVersionMs), true);
+            if (snapshotReconciler.isRevalidated()) {
+                snapshotReconciler = null;
+                liveRevalidated = true;
+            }
+        });
+    }
+
+    /** Reconciles live rows with the persisted snapshot by gameId until the snapshot is revalidated. */
+    private void onLiveGames(List<GameItem> allGames) {
+        if (snapshotReconciler == null) {
+            if (gameRepository.isDashboardQueryDelivered()) {
+                liveRevalidated = true;
+            }
+            applyGames(allGames, false);
+            return;
+        }
+        List<GameItem> merged = snapshotReconciler.reconcile(
+                allGames,
+                gameRepository.isDashboardQueryDelivered(),
+                gameRepository::getDashboardRowVersionMs);
+        boolean revalidated = snapshotReconciler.isRevalidated();
+        if (revalidated) {
+            snapshotReconciler = null;
+            liveRevalidated = true;
+        }
+        applyGames(merged, !revalidated);
+    }
+
+    /** True while some rendered cards still come from the persisted snapshot. */
+    public boolean isShowingDashboardSnapshot() {
+        return showingSnapshot;
+    }
+
+    /**
+     * Splits rows into in-progress and completed lists. Snapshot rows do not raise new-game
+     * events; those are reserved for games seen live.
+     */
+    private void applyGames(List<GameItem> allGames, boolean fromSnapshot) {
+        showingSnapshot = fromSnapshot;
+        if (allGames != null) {
+            List<GameItem> inProgressGames = new ArrayList<>();
+            List<GameItem> completedGames = new ArrayList<>();
+            
+            // Get current user ID
+            String currentUserId = FirebaseAuth.getInstance().getCurrentUser() != null 
+                ? FirebaseAuth.getInstance().getCurrentUser().getUid() 
+                : null;
+            
+            for (GameItem game : allGames) {
+                if (game.isCompleted() || "Completed".equals(game.getGameStatus())) {
+                    completedGames.add(game);
+                } else {
+                    inProgressGames.add(game);
+                    
+                    // Check if this is a new game that the current user did NOT create
+                    if (!fromSnapshot && !seenGameIds.contains(game.getGameId())) {
+                        android.util.Log.d("DashboardViewModel", "New game detected: " + game.getGameId() + 
+                            " created by: " + game.getCreatorName() + " (ID: " + game.getCreatorUserId() + ")");
                         
-                        // Check if this is a new game that the current user did NOT create
-                        if (!seenGameIds.contains(game.getGameId())) {
-                            android.util.Log.d("DashboardViewModel", "New game detected: " + game.getGameId() + 
-                                " created by: " + game.getCreatorName() + " (ID: " + game.getCreatorUserId() + ")");
-                            
-                            // Mark as seen
-                            seenGameIds.add(game.getGameId());
-                            
-                            // Check if this is from a different user
-                            boolean isDifferentUser = false;
-                            String reason = "";
+                        // Mark as seen
+                        seenGameIds.add(game.getGameId());
+                        
+                        // Check if this is from a different user
+                        boolean isDifferentUser = false;
+                        String reason = "";
+                        
+                        if (game.getCreatorUserId() == null) {
+                            isDifferentUser = true;
+                            reason = "creator ID is missing";
+                        } else if (currentUserId != null && !currentUserId.equals(game.getCreatorUserId())) {
+                            isDifferentUser = true;
+                            reason = "different user";
+                        } else {
+                            reason = "user is creator";
+                        }
+                        
+                        if (isDifferentUser) {
+                            String creatorName = game.getCreatorName() != null ? game.getCreatorName() : "Someone";
+                            double pointValue = parsePointValue(game.getPointValue());
                             
-                            if (game.getCreatorUserId() == null) {
-                                isDifferentUser = true;
-                                reason = "creator ID is missing";
-                            } else if (currentUserId != null && !currentUserId.equals(game.getCreatorUserId())) {
-                                isDifferentUser = true;
-                                reason = "different user";
-                            } else {
-                                reason = "user is creator";
-                            }
+                            android.util.Log.d("DashboardViewModel", "New game from another user: " + game.getGameId() + 
+                                " created by " + creatorName + " (Reason: " + reason + ")");
                             
-                            if (isDifferentUser) {
-                                String creatorName = game.getCreatorName() != null ? game.getCreatorName() : "Someone";
-                                double pointValue = parsePointValue(game.getPointValue());
-                                
-                                android.util.Log.d("DashboardViewModel", "New game from another user: " + game.getGameId() + 
-                                    " created by " + creatorName + " (Reason: " + reason + ")");
-                                
-                                gameCreationEvent.setValue(new GameCreationData(
-                                    game.getGameId(), 
-                                    creatorName, 
-                                    pointValue
-                                ));
-                            } else {
-                                android.util.Log.d("DashboardViewModel", "Game created by current user - " + reason + ". " +
-                                    "Current user: " + currentUserId + ", Creator: " + game.getCreatorUserId());
-                            }
+                            gameCreationEvent.setValue(new GameCreationData(
+                                game.getGameId(), 
+                                creatorName, 
+                                pointValue
+                            ));
+                        } else {
+                            android.util.Log.d("DashboardViewModel", "Game created by current user - " + reason + ". " +
+                                "Current user: " + currentUserId + ", Creator: " + game.getCreatorUserId());
                         }
                     }
                 }
-                
-                mInProgressGames.setValue(inProgressGames);
-                mCompletedGames.setValue(completedGames);
-                
-                // Update separate counts
-                int activeCount = inProgressGames.size();
-                int completedCount = completedGames.size();
-                
-                // Set active games count
-                if (activeCount == 0) {
-                    mActiveGamesCount.setValue("Active Games");
-                } else if (activeCount == 1) {
-                    mActiveGamesCount.setValue("Active Games (1)");
-                } else {
-                    mActiveGamesCount.setValue("Active Games (" + activeCount + ")");
-                }
-                
-                // Set completed games count
-                if (completedCount == 0) {
-                    mCompletedGamesCount.setValue("Completed Games");
-                } else if (completedCount == 1) {
-                    mCompletedGamesCount.setValue("Completed Games (1)");
-                } else {
-                    mCompletedGamesCount.setValue("Completed Games (" + completedCount + ")");
-                }
-            } else {
-                mInProgressGames.setValue(new ArrayList<>());
-                mCompletedGames.setValue(new ArrayList<>());
+            }
+            
+            mInProgressGames.setValue(inProgressGames);
+            mCompletedGames.setValue(completedGames);
+            
+            // Update separate counts
+            int activeCount = inProgressGames.size();
+            int completedCount = completedGames.size();
+            
+            // Set active games count
+            if (activeCount == 0) {
                 mActiveGamesCount.setValue("Active Games");
+            } else if (activeCount == 1) {
+                mActiveGamesCount.setValue("Active Games (1)");
+            } else {
+                mActiveGamesCount.setValue("Active Games (" + activeCount + ")");
+            }
+            
+            // Set completed games count
+            if (completedCount == 0) {
                 mCompletedGamesCount.setValue("Completed Games");
+            } else if (completedCount == 1) {
+                mCompletedGamesCount.setValue("Completed Games (1)");
+            } else {
+                mCompletedGamesCount.setValue("Completed Games (" + completedCount + ")");
             }
-        });
-        
-        // Load games initially
-        loadGames();
+        } else {
+            mInProgressGames.setValue(new ArrayList<>());
+            mCompletedGames.setValue(new ArrayList<>());
+            mActiveGamesCount.setValue("Active Games");
+            mCompletedGamesCount.setValue("Completed Games");
+        }
     }
 
     public LiveData<List<GameItem>> getInProgressGames() {
@@ -460,6 +522,12 @@ public class DashboardViewModel extends ViewModel {
                     }
                     transaction.set(dataRef, gameDataDoc);
                     transaction.set(approvalRef, creatorApproval);
+                    // New games only ever get per-operation history, so deletion and
+                    // recovery can skip the legacy per-round collections.
+                    transaction.set(
+                            ScoreHistoryStore.rootRef(
+                                    FirebaseFirestore.getInstance(), request.gameId),
+                            ScoreHistoryEvent.layoutMarker(false));
                     transaction.update(authRef, "initializationStatus",
                             GameCreationPolicy.INITIALIZATION_READY);
                     return request.gameId;
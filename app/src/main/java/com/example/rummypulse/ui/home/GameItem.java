@@ -92,6 +92,36 @@ public class GameItem {
         this.age = calculateAge(creationDateTime);
     }
 
+    /**
+     * A copy of every field, for a consumer that must not see later in-place updates. The
+     * {@link #getPlayers()} list is shared, not copied.
+     */
+    public GameItem copy() {
+        GameItem copy = new GameItem();
+        copy.gameId = gameId;
+        copy.gamePin = gamePin;
+        copy.totalScore = totalScore;
+        copy.pointValue = pointValue;
+        copy.creationDateTime = creationDateTime;
+        copy.gameStatus = gameStatus;
+        copy.numberOfPlayers = numberOfPlayers;
+        copy.gstPercentage = gstPercentage;
+        copy.gstAmount = gstAmount;
+        copy.age = age;
+        copy.creatorName = creatorName;
+        copy.creatorPhotoUrl = creatorPhotoUrl;
+        copy.creatorUserId = creatorUserId;
+        copy.editorName = editorName;
+        copy.editorUserId = editorUserId;
+        copy.gameDisplayName = gameDisplayName;
+        copy.myViewAccessStatus = myViewAccessStatus;
+        copy.pendingViewRequestCount = pendingViewRequestCount;
+        copy.approvedViewRequestCount = approvedViewRequestCount;
+        copy.rejectedViewRequestCount = rejectedViewRequestCount;
+        copy.players = players;
+        return copy;
+    }
+
     // Getters
     public String getGameId() { return gameId; }
     public String getGamePin() { return gamePin; }
@@ -0,0 +1,33 @@
+package com.example.rummypulse.ui.home;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
+
+import java.util.Set;
+
+/** Diffs game rows by {@code gameId} and reports field-level payloads for partial binds. */
+public final class GameItemDiffCallback extends DiffUtil.ItemCallback<GameItemSnapshot> {
+    public static final GameItemDiffCallback INSTANCE = new GameItemDiffCallback();
+
+    private GameItemDiffCallback() {
+    }
+
+    @Override
+    public boolean areItemsTheSame(@NonNull GameItemSnapshot oldItem, @NonNull GameItemSnapshot newItem) {
+        return oldItem.isSameGame(newItem);
+    }
+
+    @Override
+    public boolean areContentsTheSame(@NonNull GameItemSnapshot oldItem, @NonNull GameItemSnapshot newItem) {
+        return oldItem.equals(newItem);
+    }
+
+    /** A null payload asks RecyclerView for a full bind. */
+    @Nullable
+    @Override
+    public Object getChangePayload(@NonNull GameItemSnapshot oldItem, @NonNull GameItemSnapshot newItem) {
+        Set<String> payloads = GameItemSnapshot.changePayloads(oldItem, newItem);
+        return payloads == null || payloads.isEmpty() ? null : payloads;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.rummypulse.ui.home;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Display fields of a {@link GameItem} captured when a list is submitted. Repository rows are
+ * mutable and may be updated in place, so adapters diff these captures rather than the items.
+ */
+public final class GameItemSnapshot {
+    /** Round badge and the current user's view-access status. */
+    public static final String PAYLOAD_STATUS = "status";
+    /** Totals, point value, GST and player count. */
+    public static final String PAYLOAD_SCORES = "scores";
+    public static final String PAYLOAD_VIEW_COUNTS = "view_counts";
+    /** Start time text; also posted by the dashboard once a minute. */
+    public static final String PAYLOAD_TIME = "time_update";
+
+    @NonNull public final GameItem item;
+    @Nullable public final String gameId;
+    private final String title;
+    private final String gamePin;
+    private final String gameStatus;
+    private final String myViewAccessStatus;
+    private final String totalScore;
+    private final String pointValue;
+    private final String numberOfPlayers;
+    private final String gstPercentage;
+    private final String gstAmount;
+    private final String creationDateTime;
+    private final String age;
+    private final String creatorName;
+    private final String creatorPhotoUrl;
+    private final String creatorUserId;
+    private final String editorName;
+    private final String editorUserId;
+    private final int pendingViewRequestCount;
+    private final int approvedViewRequestCount;
+    private final int rejectedViewRequestCount;
+
+    public GameItemSnapshot(@NonNull GameItem item) {
+        this.item = item;
+        this.gameId = item.getGameId();
+        this.title = item.getGameDisplayName();
+        this.gamePin = item.getGamePin();
+        this.gameStatus = item.getGameStatus();
+        this.myViewAccessStatus = item.getMyViewAccessStatus();
+        this.totalScore = item.getTotalScore();
+        this.pointValue = item.getPointValue();
+        this.numberOfPlayers = item.getNumberOfPlayers();
+        this.gstPercentage = item.getGstPercentage();
+        this.gstAmount = item.getGstAmount();
+        this.creationDateTime = item.getCreationDateTime();
+        this.age = item.getAge();
+        this.creatorName = item.getCreatorName();
+        this.creatorPhotoUrl = item.getCreatorPhotoUrl();
+        this.creatorUserId = item.getCreatorUserId();
+        this.editorName = item.getEditorName();
+        this.editorUserId = item.getEditorUserId();
+        this.pendingViewRequestCount = item.getPendingViewRequestCount();
+        this.approvedViewRequestCount = item.getApprovedViewRequestCount();
+        this.rejectedViewRequestCount = item.getRejectedViewRequestCount();
+    }
+
+    public boolean isSameGame(@NonNull GameItemSnapshot other) {
+        return gameId != null && gameId.equals(other.gameId);
+    }
+
+    /**
+     * Returns the partial-bind payloads that turn {@code before} into {@code after}, or null when
+     * an identity field (title, PIN, creator, editor) changed and the row needs a full bind.
+     */
+    @Nullable
+    public static Set<String> changePayloads(
+            @NonNull GameItemSnapshot before, @NonNull GameItemSnapshot after) {
+        if (!Objects.equals(before.title, after.title)
+                || !Objects.equals(before.gamePin, after.gamePin)
+                || !Objects.equals(before.creatorName, after.creatorName)
+                || !Objects.equals(before.creatorPhotoUrl, after.creatorPhotoUrl)
+                || !Objects.equals(before.creatorUserId, after.creatorUserId)
+                || !Objects.equals(before.editorName, after.editorName)
+                || !Objects.equals(before.editorUserId, after.editorUserId)) {
+            return null;
+        }
+        Set<String> payloads = new HashSet<>();
+        if (!Objects.equals(before.gameStatus, after.gameStatus)
+                || !Objects.equals(before.myViewAccessStatus, after.myViewAccessStatus)) {
+            payloads.add(PAYLOAD_STATUS);
+        }
+        if (!Objects.equals(before.totalScore, after.totalScore)
+                || !Objects.equals(before.pointValue, after.pointValue)
+                || !Objects.equals(before.numberOfPlayers, after.numberOfPlayers)
+                || !Objects.equals(before.gstPercentage, after.gstPercentage)
+                || !Objects.equals(before.gstAmount, after.gstAmount)) {
+            payloads.add(PAYLOAD_SCORES);
+        }
+        if (before.pendingViewRequestCount != after.pendingViewRequestCount
+                || before.approvedViewRequestCount != after.approvedViewRequestCount
+                || before.rejectedViewRequestCount != after.rejectedViewRequestCount) {
+            payloads.add(PAYLOAD_VIEW_COUNTS);
+        }
+        if (!Objects.equals(before.creationDateTime, after.creationDateTime)
+                || !Objects.equals(before.age, after.age)) {
+            payloads.add(PAYLOAD_TIME);
+        }
+        return payloads;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof GameItemSnapshot)) {
+            return false;
+        }
+        GameItemSnapshot that = (GameItemSnapshot) other;
+        Set<String> payloads = changePayloads(this, that);
+        return Objects.equals(gameId, that.gameId) && payloads != null && payloads.isEmpty();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(gameId, gameStatus, totalScore, pendingViewRequestCount);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.rummypulse.ui.home;
+
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hands out a stable RecyclerView item id per {@code gameId} so rows keep their view holders
+ * (and running animations) across list submissions.
+ */
+public final class GameItemStableIds {
+    private final Map<String, Long> ids = new HashMap<>();
+    private long nextId = 1L;
+
+    public long idFor(@Nullable String gameId) {
+        if (gameId == null) {
+            return RecyclerView.NO_ID;
+        }
+        Long id = ids.get(gameId);
+        if (id == null) {
+            id = nextId++;
+            ids.put(gameId, id);
+        }
+        return id;
+    }
+}
@@ -109,8 +109,9 @@ public class HomeFragment extends Fragment implements TableAdapter.OnGameActionL
             } else {
                 tableAdapter.submitItems(gameItems);
             }
+            // The adapter diffs asynchronously, so size the controls from the submitted list.
             binding.reviewBulkActions.setVisibility(
-                    tableAdapter.getItemCount() > 0 ? View.VISIBLE : View.GONE);
+                    gameItems != null && !gameItems.isEmpty() ? View.VISIBLE : View.GONE);
         });
 
         homeViewModel.getCompletedGames().observe(getViewLifecycleOwner(), completedGames -> {
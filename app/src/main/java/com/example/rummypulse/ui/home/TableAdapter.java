@@ -19,6 +19,7 @@ import com.google.zxing.WriterException;
 import com.journeyapps.barcodescanner.BarcodeEncoder;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.rummypulse.R;
@@ -28,9 +29,13 @@ import com.google.android.material.checkbox.MaterialCheckBox;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
-public class TableAdapter extends RecyclerView.Adapter<TableAdapter.TableViewHolder> {
-    private List<GameItem> gameItems;
+public class TableAdapter extends ListAdapter<GameItemSnapshot, TableAdapter.TableViewHolder> {
+    private static final String PAYLOAD_SELECTION = "selection";
+    private static final String PAYLOAD_ACTIONS = "actions";
+
+    private final GameItemStableIds stableIds = new GameItemStableIds();
     private OnGameActionListener actionListener;
     private OnSelectionChangedListener selectionChangedListener;
     private final ReviewSelectionModel selection = new ReviewSelectionModel();
@@ -47,7 +52,9 @@ public class TableAdapter extends RecyclerView.Adapter<TableAdapter.TableViewHol
     }
 
     public TableAdapter(List<GameItem> gameItems) {
-        this.gameItems = gameItems;
+        super(GameItemDiffCallback.INSTANCE);
+        setHasStableIds(true);
+        submitItems(gameItems);
     }
 
     public void setOnGameActionListener(OnGameActionListener listener) {
@@ -59,11 +66,23 @@ public class TableAdapter extends RecyclerView.Adapter<TableAdapter.TableViewHol
         notifySelectionChanged();
     }
 
+    /**
+     * Diffs the rows off the main thread; only games whose displayed fields changed are rebound.
+     * Selection is pruned once the new list is committed.
+     */
     public void submitItems(List<GameItem> items) {
-        gameItems = items != null ? items : new ArrayList<>();
-        selection.retainAvailable(availableGameIds());
-        notifyDataSetChanged();
-        notifySelectionChanged();
+        List<GameItemSnapshot> snapshots = new ArrayList<>();
+        if (items != null) {
+            for (GameItem item : items) {
+                if (item != null) {
+                    snapshots.add(new GameItemSnapshot(item));
+                }
+            }
+        }
+        submitList(snapshots, () -> {
+            selection.retainAvailable(availableGameIds());
+            notifySelectionChanged();
+        });
     }
 
     public void selectAll(boolean select) {
@@ -72,7 +91,7 @@ public class TableAdapter extends RecyclerView.Adapter<TableAdapter.TableViewHol
         } else {
             selection.clear();
         }
-        notifyDataSetChanged();
+        notifyItemRangeChanged(0, getItemCount(), PAYLOAD_SELECTION);
         notifySelectionChanged();
     }
 
@@ -89,7 +108,12 @@ public class TableAdapter extends RecyclerView.Adapter<TableAdapter.TableViewHol
             return;
         }
         actionsEnabled = enabled;
-        notifyDataSetChanged();
+        notifyItemRangeChanged(0, getItemCount(), PAYLOAD_ACTIONS);
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return stableIds.idFor(getItem(position).gameId);
     }
 
     @NonNull
@@ -97,160 +121,198 @@ public class TableAdapter extends RecyclerView.Adapter<TableAdapter.TableViewHol
     public TableViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
         View view = LayoutInflater.from(parent.getContext())
                 .inflate(R.layout.table_row_item, parent, false);
-        return new TableViewHolder(view);
+        TableViewHolder holder = new TableViewHolder(view);
+        bindClickListeners(holder);
+        return holder;
     }
 
-        @Override
-        public void onBindViewHolder(@NonNull TableViewHolder holder, int position) {
-            GameItem item = gameItems.get(position);
-            String gameId = item.getGameId();
-
-            holder.selectGameCheckBox.setOnCheckedChangeListener(null);
-            holder.selectGameCheckBox.setEnabled(actionsEnabled);
-            holder.selectGameCheckBox.setChecked(selection.isSelected(gameId));
-            holder.selectGameCheckBox.setOnCheckedChangeListener((buttonView, isChecked) -> {
-                if (!actionsEnabled) {
-                    return;
+    @Override
+    public void onBindViewHolder(@NonNull TableViewHolder holder, int position,
+                                 @NonNull List<Object> payloads) {
+        if (payloads.isEmpty()) {
+            onBindViewHolder(holder, position);
+            return;
+        }
+        GameItem item = getItem(position).item;
+        for (Object payload : payloads) {
+            if (PAYLOAD_SELECTION.equals(payload)) {
+                bindSelection(holder, item);
+            } else if (PAYLOAD_ACTIONS.equals(payload)) {
+                bindSelection(holder, item);
+                bindActions(holder, item);
+            } else if (payload instanceof Set) {
+                Set<?> changed = (Set<?>) payload;
+                if (changed.contains(GameItemSnapshot.PAYLOAD_STATUS)) {
+                    bindStatus(holder, item);
+                    bindActions(holder, item);
+                }
+                if (changed.contains(GameItemSnapshot.PAYLOAD_SCORES)) {
+                    bindEconomics(holder, item);
                 }
-                selection.setSelected(gameId, isChecked);
-                notifySelectionChanged();
-            });
+                if (changed.contains(GameItemSnapshot.PAYLOAD_TIME)) {
+                    bindTime(holder, item);
+                }
+            }
+        }
+    }
 
-            String rowTitle = titleForGameRow(item);
+    @Override
+    public void onBindViewHolder(@NonNull TableViewHolder holder, int position) {
+        GameItem item = getItem(position).item;
 
-            holder.gameIdHeaderText.setText(rowTitle);
-            holder.gameCreatedSummaryText.setText(buildGameCreatedSummary(item));
+        holder.gameIdHeaderText.setText(titleForGameRow(item));
 
-            // Set Game PIN (initially masked)
-            holder.gamePinText.setText("****");
-            holder.gamePinText.setTag(item.getGamePin()); // Store actual PIN in tag
+        // Set Game PIN (initially masked)
+        holder.gamePinText.setText("****");
+        holder.gamePinText.setTag(item.getGamePin()); // Store actual PIN in tag
 
-            // Set up PIN visibility toggle
-            holder.iconViewPin.setOnClickListener(v -> {
-                String actualPin = (String) holder.gamePinText.getTag();
-                holder.gamePinText.setText(actualPin);
-                
-                // Hide PIN after 10 seconds
-                holder.gamePinText.postDelayed(() -> {
-                    holder.gamePinText.setText("****");
-                }, 10000);
-            });
-
-            // Set up Game ID click to copy to clipboard
-            holder.gameIdHeaderText.setOnClickListener(v -> {
-                copyToClipboard(holder.itemView.getContext(), item.getGameId(), "Game ID");
-            });
-            
-            holder.gameCreatedSummaryText.setOnClickListener(v -> {
-                copyToClipboard(holder.itemView.getContext(), item.getGameId(), "Game ID");
-            });
+        bindSelection(holder, item);
+        bindEconomics(holder, item);
+        bindTime(holder, item);
+        bindStatus(holder, item);
+        bindActions(holder, item);
+    }
 
-            // Set Point Value with currency formatting and null checking
-            String pointValue = item.getPointValue();
-            if (pointValue == null || pointValue.isEmpty()) {
-                holder.pointValueText.setText("₹0.00");
-                System.out.println("Point value is null/empty for game " + item.getGameId() + ", setting to ₹0.00");
-            } else {
-                holder.pointValueText.setText("₹" + pointValue);
-                System.out.println("Setting point value for game " + item.getGameId() + ": ₹" + pointValue);
+    /** Listeners resolve the row at click time so partial binds never leave a stale item behind. */
+    private void bindClickListeners(@NonNull TableViewHolder holder) {
+        holder.selectGameCheckBox.setOnCheckedChangeListener((buttonView, isChecked) -> {
+            GameItem item = itemAt(holder);
+            if (holder.suppressSelectionCallback || !actionsEnabled || item == null) {
+                return;
             }
+            selection.setSelected(item.getGameId(), isChecked);
+            notifySelectionChanged();
+        });
+
+        // Set up PIN visibility toggle
+        holder.iconViewPin.setOnClickListener(v -> {
+            String actualPin = (String) holder.gamePinText.getTag();
+            holder.gamePinText.setText(actualPin);
+
+            // Hide PIN after 10 seconds
+            holder.gamePinText.postDelayed(() -> {
+                holder.gamePinText.setText("****");
+            }, 10000);
+        });
+
+        // Set up Game ID click to copy to clipboard
+        View.OnClickListener copyGameId = v -> {
+            GameItem item = itemAt(holder);
+            if (item != null) {
+                copyToClipboard(holder.itemView.getContext(), item.getGameId(), "Game ID");
+            }
+        };
+        holder.gameIdHeaderText.setOnClickListener(copyGameId);
+        holder.gameCreatedSummaryText.setOnClickListener(copyGameId);
+
+        View.OnClickListener editEconomics = v -> {
+            GameItem item = itemAt(holder);
+            if (actionListener != null && item != null) {
+                actionListener.onEditGameEconomics(item, holder.getBindingAdapterPosition());
+            }
+        };
+        holder.pointValueText.setOnClickListener(editEconomics);
+        holder.gstPercentageText.setOnClickListener(editEconomics);
 
-            holder.pointValueText.setOnClickListener(v -> {
-                if (actionListener != null) {
-                    actionListener.onEditGameEconomics(item, position);
-                }
-            });
-        
-        // Set Number of Players
-        holder.playersText.setText(item.getNumberOfPlayers());
-        
         // Make players text clickable to show players dialog
         holder.playersText.setOnClickListener(v -> {
-            showPlayersDialog(holder.itemView.getContext(), item);
+            GameItem item = itemAt(holder);
+            if (item != null) {
+                showPlayersDialog(holder.itemView.getContext(), item);
+            }
         });
-        
-        // Set GST Percentage
-        holder.gstPercentageText.setText(item.getGstPercentage());
-        holder.gstPercentageText.setOnClickListener(v -> {
-            if (actionListener != null) {
-                actionListener.onEditGameEconomics(item, position);
+
+        holder.btnApproveGst.setOnClickListener(v -> {
+            GameItem item = itemAt(holder);
+            if (actionListener != null && actionsEnabled && item != null && item.isCompleted()) {
+                actionListener.onApproveGst(item, holder.getBindingAdapterPosition());
             }
         });
-        
+
+        holder.btnDeleteGame.setOnClickListener(v -> {
+            GameItem item = itemAt(holder);
+            if (actionListener != null && actionsEnabled && item != null) {
+                actionListener.onDeleteGame(item, holder.getBindingAdapterPosition());
+            }
+        });
+    }
+
+    private GameItem itemAt(@NonNull TableViewHolder holder) {
+        int position = holder.getBindingAdapterPosition();
+        if (position == RecyclerView.NO_POSITION || position >= getItemCount()) {
+            return null;
+        }
+        return getItem(position).item;
+    }
+
+    private void bindSelection(@NonNull TableViewHolder holder, @NonNull GameItem item) {
+        holder.selectGameCheckBox.setEnabled(actionsEnabled);
+        holder.suppressSelectionCallback = true;
+        holder.selectGameCheckBox.setChecked(selection.isSelected(item.getGameId()));
+        holder.suppressSelectionCallback = false;
+    }
+
+    private void bindEconomics(@NonNull TableViewHolder holder, @NonNull GameItem item) {
+        // Set Point Value with currency formatting and null checking
+        String pointValue = item.getPointValue();
+        if (pointValue == null || pointValue.isEmpty()) {
+            holder.pointValueText.setText("₹0.00");
+        } else {
+            holder.pointValueText.setText("₹" + pointValue);
+        }
+
+        holder.playersText.setText(item.getNumberOfPlayers());
+        holder.gstPercentageText.setText(item.getGstPercentage());
+
         // Set GST Amount with currency symbol and null handling
         String gstAmount = item.getGstAmount();
-        System.out.println("TableAdapter: Game " + item.getGameId() + " - gstAmount = '" + gstAmount + "'");
-        System.out.println("TableAdapter: holder.gstAmountText is " + (holder.gstAmountText == null ? "NULL" : "NOT NULL"));
-        
         if (holder.gstAmountText != null) {
             if (gstAmount == null || gstAmount.isEmpty()) {
-                System.out.println("TableAdapter: gstAmount is null or empty, setting to ₹0");
                 holder.gstAmountText.setText("₹0");
-                holder.gstAmountText.setVisibility(android.view.View.VISIBLE);
             } else {
-                System.out.println("TableAdapter: Setting gstAmount to ₹" + gstAmount);
                 holder.gstAmountText.setText("₹" + gstAmount);
-                holder.gstAmountText.setVisibility(android.view.View.VISIBLE);
             }
-        } else {
-            System.out.println("TableAdapter: ERROR - gstAmountText TextView is NULL!");
+            holder.gstAmountText.setVisibility(View.VISIBLE);
         }
+    }
 
-            // Set Age
-            String age = item.getAge();
-            if (age == null) {
-                age = "Unknown";
-            }
-            holder.ageText.setText(age);
-
-            String status = item.getGameStatus();
-            if (status == null || status.isEmpty()) {
-                status = "Unknown";
-            }
-            holder.statusText.setText(status);
-            holder.statusText.setTextColor(holder.itemView.getContext().getColor(R.color.white));
-            if ("Completed".equals(status)) {
-                holder.statusText.setBackgroundResource(R.drawable.status_background_green);
-            } else if (status.startsWith("R")) {
-                holder.statusText.setBackgroundResource(R.drawable.status_background_orange);
-            } else {
-                holder.statusText.setBackgroundResource(R.drawable.bg_dashboard_status_offline);
-            }
-
-            // Enable/disable approve button based on game status
-            String gameStatus = item.getGameStatus();
-            boolean isGameCompleted = "Completed".equals(gameStatus);
-            
-            
-            holder.btnApproveGst.setEnabled(actionsEnabled && isGameCompleted);
-            holder.btnDeleteGame.setEnabled(actionsEnabled);
-            
-            // Set up button click listeners
-            holder.btnApproveGst.setOnClickListener(v -> {
-                if (actionListener != null && actionsEnabled && isGameCompleted) {
-                    actionListener.onApproveGst(item, position);
-                }
-            });
-
+    private void bindTime(@NonNull TableViewHolder holder, @NonNull GameItem item) {
+        holder.gameCreatedSummaryText.setText(buildGameCreatedSummary(item));
+        String age = item.getAge();
+        if (age == null) {
+            age = "Unknown";
+        }
+        holder.ageText.setText(age);
+    }
 
-            holder.btnDeleteGame.setOnClickListener(v -> {
-                if (actionListener != null && actionsEnabled) {
-                    actionListener.onDeleteGame(item, position);
-                }
-            });
-            
+    private void bindStatus(@NonNull TableViewHolder holder, @NonNull GameItem item) {
+        String status = item.getGameStatus();
+        if (status == null || status.isEmpty()) {
+            status = "Unknown";
         }
+        holder.statusText.setText(status);
+        holder.statusText.setTextColor(holder.itemView.getContext().getColor(R.color.white));
+        if ("Completed".equals(status)) {
+            holder.statusText.setBackgroundResource(R.drawable.status_background_green);
+        } else if (status.startsWith("R")) {
+            holder.statusText.setBackgroundResource(R.drawable.status_background_orange);
+        } else {
+            holder.statusText.setBackgroundResource(R.drawable.bg_dashboard_status_offline);
+        }
+    }
 
-    @Override
-    public int getItemCount() {
-        return gameItems.size();
+    /** Approve is only offered for completed games. */
+    private void bindActions(@NonNull TableViewHolder holder, @NonNull GameItem item) {
+        holder.btnApproveGst.setEnabled(actionsEnabled && item.isCompleted());
+        holder.btnDeleteGame.setEnabled(actionsEnabled);
     }
 
     private List<String> availableGameIds() {
         List<String> ids = new ArrayList<>();
-        for (GameItem item : gameItems) {
-            if (item != null && item.getGameId() != null && !item.getGameId().trim().isEmpty()) {
-                ids.add(item.getGameId());
+        for (GameItemSnapshot snapshot : getCurrentList()) {
+            String gameId = snapshot.gameId;
+            if (gameId != null && !gameId.trim().isEmpty()) {
+                ids.add(gameId);
             }
         }
         return ids;
@@ -512,6 +574,7 @@ public class TableAdapter extends RecyclerView.Adapter<TableAdapter.TableViewHol
             ImageView iconViewPin;
             View btnApproveGst, btnDeleteGame;
             MaterialCheckBox selectGameCheckBox;
+            boolean suppressSelectionCallback;
 
             public TableViewHolder(@NonNull View itemView) {
                 super(itemView);
@@ -19,10 +19,11 @@ import com.example.rummypulse.data.GameRepository;
 import com.example.rummypulse.data.GameViewApprovalRepository;
 import com.example.rummypulse.data.RoundScorePatch;
 import com.example.rummypulse.data.ScoreHistoryEvent;
-import com.example.rummypulse.data.ScoreRegressionGuard;
+import com.example.rummypulse.data.ScoreHistoryStore;
 import com.example.rummypulse.data.ScoreRecoveryPatch;
 import com.example.rummypulse.data.sync.GameOperationRepository;
 import com.example.rummypulse.utils.PinUtils;
+import com.google.android.gms.tasks.Tasks;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseUser;
 import com.google.firebase.firestore.DocumentReference;
@@ -34,10 +35,10 @@ import com.google.firebase.firestore.Query;
 import com.google.firebase.firestore.Source;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.UUID;
 
@@ -64,10 +65,6 @@ public class JoinGameViewModel extends AndroidViewModel {
     public interface RoundSaveCallback {
         void onSuccess();
 
-        default void onSavedOffline() {
-            onError("Round saved locally and is waiting for a connection.");
-        }
-
         void onError(String message);
     }
 
@@ -79,13 +76,15 @@ public class JoinGameViewModel extends AndroidViewModel {
     public static final class RecoveryPreview {
         private final int round1Based;
         private final String eventId;
+        private final String sourcePath;
         private final long expectedRevision;
         private final Map<String, Integer> scoresByPlayerId;
 
-        RecoveryPreview(int round1Based, String eventId, long expectedRevision,
-                Map<String, Integer> scoresByPlayerId) {
+        RecoveryPreview(int round1Based, String eventId, String sourcePath,
+                long expectedRevision, Map<String, Integer> scoresByPlayerId) {
             this.round1Based = round1Based;
             this.eventId = eventId;
+            this.sourcePath = sourcePath;
             this.expectedRevision = expectedRevision;
             this.scoresByPlayerId = new LinkedHashMap<>(scoresByPlayerId);
         }
@@ -127,7 +126,6 @@ public class JoinGameViewModel extends AndroidViewModel {
     /** {@code pinGeneration} held when edit access was last claimed on this device. */
     private long activeEditGeneration;
     private long latestGameRevision;
-    private boolean roundSaveInProgress;
 
     public JoinGameViewModel(@NonNull Application application) {
         super(application);
@@ -969,90 +967,6 @@ public class JoinGameViewModel extends AndroidViewModel {
         });
     }
 
-    /**
-     * Commits a completed round and its dashboard summary together. The transaction
-     * verifies that this user still owns the same edit generation before writing.
-     */
-    public void saveCompletedRoundAtomically(String gameId, RoundScorePatch patch,
-            RoundSaveCallback callback) {
-        if (TextUtils.isEmpty(gameId) || patch == null) {
-            callback.onError("Invalid game data.");
-            return;
-        }
-        if (roundSaveInProgress) {
-            callback.onError("This round is already being saved.");
-            return;
-        }
-        FirebaseUser user = FirebaseAuth.getInstance().getCurrentUser();
-        if (!canSaveGameData() || user == null) {
-            callback.onError("Only the active editor can save round scores.");
-            return;
-        }
-
-        final long expectedGeneration = getActiveEditGeneration();
-        if (patch.getEditGeneration() != expectedGeneration) {
-            callback.onError("Edit access changed. Reopen the game before saving.");
-            return;
-        }
-        final String expectedEditorUserId = user.getUid();
-        final DocumentReference gameRef =
-                db.collection(FirestoreCollections.GAMES).document(gameId);
-        final DocumentReference gameDataRef =
-                db.collection(FirestoreCollections.GAME_DATA).document(gameId);
-        roundSaveInProgress = true;
-        db.runTransaction(transaction -> {
-            DocumentSnapshot authSnapshot = transaction.get(gameRef);
-            DocumentSnapshot dataSnapshot = transaction.get(gameDataRef);
-            validateEditorSnapshot(
-                    authSnapshot, dataSnapshot, expectedEditorUserId, expectedGeneration);
-            GameDataWrapper latestWrapper = dataSnapshot.toObject(GameDataWrapper.class);
-            GameData latest = latestWrapper != null ? latestWrapper.getData() : null;
-            GameDataSchema.normalize(latest);
-            GameData patched = patch.applyToLatest(latest);
-            GameDataSchema.normalize(patched);
-            long previousRevision = revisionOf(dataSnapshot);
-            long nextRevision = previousRevision + 1L;
-            HashSet<String> changedPlayers = new HashSet<>(latest.getPlayerOrder());
-            ScoreRegressionGuard.requireOnlyRoundChanged(latest, patched,
-                    patch.getRound1Based(), changedPlayers);
-            Map<String, Object> gameDocument =
-                    buildGameDataDocument(patched, expectedGeneration, nextRevision);
-            gameDocument.put("lastOperationId", patch.getOperationId());
-            transaction.set(gameDataRef, gameDocument);
-            DocumentReference historyRef = db
-                    .collection(FirestoreCollections.GAME_SCORE_HISTORY)
-                    .document(gameId)
-                    .collection("rounds")
-                    .document(String.valueOf(patch.getRound1Based()))
-                    .collection("events")
-                    .document(patch.getOperationId());
-            transaction.set(historyRef, ScoreHistoryEvent.create(
-                    gameId, patch.getRound1Based(), patched, patch.getOperationId(),
-                    patch.isCorrection() ? "ROUND_CORRECTION" : "ROUND_SAVE",
-                    expectedEditorUserId, expectedGeneration, previousRevision, nextRevision));
-            transaction.update(gameRef, buildDashboardSummary(patched));
-            return new SavedGameData(patched, nextRevision);
-        }).addOnSuccessListener(saved -> {
-            roundSaveInProgress = false;
-            latestGameRevision = saved.revision;
-            gameData.setValue(saved.gameData);
-            gameRepository.updateLocalDashboardFromGameData(gameId, saved.gameData);
-            callback.onSuccess();
-        }).addOnFailureListener(error -> {
-            roundSaveInProgress = false;
-            if (error instanceof FirebaseFirestoreException
-                    && ((FirebaseFirestoreException) error).getCode()
-                    == FirebaseFirestoreException.Code.UNAVAILABLE) {
-                callback.onSavedOffline();
-                return;
-            }
-            String message = error.getMessage();
-            callback.onError(message == null || message.trim().isEmpty()
-                    ? "Could not save this round. Check your connection and retry."
-                    : message);
-        });
-    }
-
     public void loadRecoveryPreview(String gameId, int round1Based,
             RecoveryPreviewCallback callback) {
         FirebaseUser user = FirebaseAuth.getInstance().getCurrentUser();
@@ -1060,15 +974,52 @@ public class JoinGameViewModel extends AndroidViewModel {
             callback.onUnavailable("Only the active editor can restore score history.");
             return;
         }
-        db.collection(FirestoreCollections.GAME_SCORE_HISTORY)
-                .document(gameId)
-                .collection("rounds")
-                .document(String.valueOf(round1Based))
-                .collection("events")
+        Tasks.whenAllSuccess(
+                        ScoreHistoryStore.rootRef(db, gameId).get(Source.SERVER),
+                        ScoreHistoryStore.latestRef(db, gameId, round1Based).get(Source.SERVER))
+                .addOnSuccessListener(results -> {
+                    DocumentSnapshot marker = (DocumentSnapshot) results.get(0);
+                    DocumentSnapshot latest = (DocumentSnapshot) results.get(1);
+                    String operationId = latest.getString("completeOperationId");
+                    Map<String, Integer> scores = ScoreHistoryEvent.parseScores(
+                            latest.get("completeScoresByPlayerId"));
+                    if (operationId != null && ScoreHistoryEvent.isRecoveryComplete(scores)) {
+                        callback.onAvailable(new RecoveryPreview(round1Based, operationId,
+                                ScoreHistoryStore.operationRef(db, gameId, operationId)
+                                        .getPath(),
+                                latestGameRevision, scores));
+                        return;
+                    }
+                    if (ScoreHistoryEvent.needsLegacyBackfill(
+                            marker.exists() ? marker.getData() : null)) {
+                        loadLegacyRecoveryPreview(gameId, round1Based, callback);
+                        return;
+                    }
+                    callback.onUnavailable(latest.exists()
+                            ? "No complete recovery record exists for Round "
+                                    + round1Based + ". Enter the missing scores manually."
+                            : "No immutable history exists for Round "
+                                    + round1Based + ". Enter the missing scores manually.");
+                })
+                .addOnFailureListener(error -> callback.onUnavailable(
+                        "Could not load score history: " + error.getMessage()));
+    }
+
+    /**
+     * Games recorded before the per-operation layout keep their events under
+     * {@code rounds/{round}/events}. Serve the preview from there once and copy the game into
+     * the new layout in the background so later lookups are a single read.
+     */
+    private void loadLegacyRecoveryPreview(String gameId, int round1Based,
+            RecoveryPreviewCallback callback) {
+        ScoreHistoryStore.legacyEvents(db, gameId, round1Based)
                 .orderBy("committedRevision", Query.Direction.DESCENDING)
                 .limit(25)
                 .get(Source.SERVER)
                 .addOnSuccessListener(result -> {
+                    ScoreHistoryStore.backfillLegacy(db, gameId)
+                            .addOnFailureListener(error -> android.util.Log.w(
+                                    "ScoreHistory", "Backfill failed for " + gameId, error));
                     if (result.isEmpty()) {
                         callback.onUnavailable("No immutable history exists for Round "
                                 + round1Based + ". Enter the missing scores manually.");
@@ -1077,15 +1028,12 @@ public class JoinGameViewModel extends AndroidViewModel {
                     DocumentSnapshot event = null;
                     Map<String, Integer> scores = null;
                     for (DocumentSnapshot candidate : result.getDocuments()) {
-                        Object rawScores = candidate.get("scoresByPlayerId");
-                        if (rawScores instanceof Map) {
-                            Map<String, Integer> candidateScores =
-                                    parseHistoryScores((Map<?, ?>) rawScores);
-                            if (ScoreHistoryEvent.isRecoveryComplete(candidateScores)) {
-                                event = candidate;
-                                scores = candidateScores;
-                                break;
-                            }
+                        Map<String, Integer> candidateScores = ScoreHistoryEvent.roundScores(
+                                candidate.getData(), round1Based);
+                        if (ScoreHistoryEvent.isRecoveryComplete(candidateScores)) {
+                            event = candidate;
+                            scores = candidateScores;
+                            break;
                         }
                     }
                     if (event == null || scores == null) {
@@ -1094,7 +1042,7 @@ public class JoinGameViewModel extends AndroidViewModel {
                         return;
                     }
                     callback.onAvailable(new RecoveryPreview(round1Based, event.getId(),
-                            latestGameRevision, scores));
+                            event.getReference().getPath(), latestGameRevision, scores));
                 })
                 .addOnFailureListener(error -> callback.onUnavailable(
                         "Could not load score history: " + error.getMessage()));
@@ -1112,14 +1060,7 @@ public class JoinGameViewModel extends AndroidViewModel {
         final String recoveryOperationId = UUID.randomUUID().toString();
         DocumentReference gameRef = db.collection(FirestoreCollections.GAMES).document(gameId);
         DocumentReference dataRef = db.collection(FirestoreCollections.GAME_DATA).document(gameId);
-        DocumentReference sourceEventRef = db.collection(FirestoreCollections.GAME_SCORE_HISTORY)
-                .document(gameId).collection("rounds")
-                .document(String.valueOf(preview.round1Based)).collection("events")
-                .document(preview.eventId);
-        DocumentReference recoveryEventRef = db.collection(FirestoreCollections.GAME_SCORE_HISTORY)
-                .document(gameId).collection("rounds")
-                .document(String.valueOf(preview.round1Based)).collection("events")
-                .document(recoveryOperationId);
+        DocumentReference sourceEventRef = db.document(preview.sourcePath);
         db.runTransaction(transaction -> {
             DocumentSnapshot authSnapshot = transaction.get(gameRef);
             DocumentSnapshot dataSnapshot = transaction.get(dataRef);
@@ -1133,12 +1074,11 @@ public class JoinGameViewModel extends AndroidViewModel {
             if (!historySnapshot.exists()) {
                 throw new IllegalStateException("The selected history record is unavailable.");
             }
-            Object rawHistoryScores = historySnapshot.get("scoresByPlayerId");
-            if (!(rawHistoryScores instanceof Map)) {
+            Map<String, Integer> historyScores = ScoreHistoryEvent.roundScores(
+                    historySnapshot.getData(), preview.round1Based);
+            if (historyScores.isEmpty()) {
                 throw new IllegalStateException("The selected history record is invalid.");
             }
-            Map<String, Integer> historyScores = parseHistoryScores(
-                    (Map<?, ?>) rawHistoryScores);
             GameDataWrapper wrapper = dataSnapshot.toObject(GameDataWrapper.class);
             GameData latest = wrapper == null ? null : wrapper.getData();
             GameData restored = ScoreRecoveryPatch.restoreMissing(
@@ -1148,9 +1088,10 @@ public class JoinGameViewModel extends AndroidViewModel {
                     buildGameDataDocument(restored, generation, nextRevision);
             document.put("lastOperationId", recoveryOperationId);
             transaction.set(dataRef, document);
-            transaction.set(recoveryEventRef, ScoreHistoryEvent.create(
-                    gameId, preview.round1Based, restored, recoveryOperationId,
-                    "RECOVERY", editorUserId, generation, currentRevision, nextRevision));
+            ScoreHistoryStore.record(transaction, db, gameId,
+                    Collections.singletonList(preview.round1Based), restored,
+                    recoveryOperationId, "RECOVERY", editorUserId, generation,
+                    currentRevision, nextRevision, true);
             transaction.update(gameRef, buildDashboardSummary(restored));
             return new SavedGameData(restored, nextRevision);
         }).addOnSuccessListener(saved -> {
@@ -1162,17 +1103,6 @@ public class JoinGameViewModel extends AndroidViewModel {
                 ? "Recovery failed without changing the game." : error.getMessage()));
     }
 
-    private static Map<String, Integer> parseHistoryScores(Map<?, ?> raw) {
-        Map<String, Integer> parsed = new LinkedHashMap<>();
-        if (raw == null) return parsed;
-        for (Map.Entry<?, ?> entry : raw.entrySet()) {
-            if (entry.getKey() instanceof String && entry.getValue() instanceof Number) {
-                parsed.put((String) entry.getKey(), ((Number) entry.getValue()).intValue());
-            }
-        }
-        return parsed;
-    }
-
     public void applyPendingRoundLocally(RoundScorePatch patch) {
         GameData current = gameData.getValue();
         if (patch != null && current != null) {
@@ -0,0 +1,37 @@
+package com.example.rummypulse.ui.join;
+
+import android.os.SystemClock;
+import android.util.Log;
+
+/**
+ * Measures reconnect-to-consistent-UI for an editor: from the network coming back to the first
+ * render of the server game with every queued operation applied. Each reconnect is logged once.
+ */
+public final class OfflineCatchUpTrace {
+    private static final String TAG = "OfflineCatchUp";
+
+    private long reconnectedAtMs = -1L;
+
+    public void markReconnected() {
+        reconnectedAtMs = SystemClock.elapsedRealtime();
+    }
+
+    /**
+     * Records a caught-up render.
+     *
+     * @param queuedRounds legacy pending rounds turned into operations by this catch-up
+     * @param laneMs       time the catch-up spent on the game's local lane
+     */
+    public void markConsistent(int queuedRounds, long laneMs) {
+        if (reconnectedAtMs < 0L) {
+            if (queuedRounds > 0) {
+                Log.i(TAG, "catch_up rounds=" + queuedRounds + " laneMs=" + laneMs);
+            }
+            return;
+        }
+        long elapsed = SystemClock.elapsedRealtime() - reconnectedAtMs;
+        reconnectedAtMs = -1L;
+        Log.i(TAG, "reconnect_to_consistent_ui ms=" + elapsed + " rounds=" + queuedRounds
+                + " laneMs=" + laneMs);
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.rummypulse.ui.playerconsolidation;
 
 import com.example.rummypulse.data.Player;
+import com.example.rummypulse.data.StandingsEngine;
 import com.example.rummypulse.ui.home.GameItem;
 
 import java.util.List;
@@ -10,6 +11,9 @@ public final class PlayerSettlementCalculator {
     private PlayerSettlementCalculator() {
     }
 
+    /** Last game's standings; consolidation asks for every player of a game in a row. */
+    private static volatile StandingsEngine.Result lastStandings;
+
     public static PlayerSettlement compute(GameItem game, Player player) {
         if (game == null || player == null) {
             return PlayerSettlement.zero();
@@ -20,12 +24,6 @@ public final class PlayerSettlementCalculator {
             return PlayerSettlement.zero();
         }
 
-        int totalScore = 0;
-        for (Player p : players) {
-            totalScore += p.getTotalScore();
-        }
-
-        int playerScore = player.getTotalScore();
         double pointValue = game.getPointValueAsDouble();
         double gstPercent = parseGstPercent(game.getGstPercentage());
         int numPlayers = game.getNumberOfPlayersAsInt();
@@ -33,11 +31,20 @@ public final class PlayerSettlementCalculator {
             numPlayers = players.size();
         }
 
-        double grossAmount = Math.round((totalScore - (double) playerScore * numPlayers) * pointValue);
+        StandingsEngine.Result standings = lastStandings;
+        if (standings == null || !standings.isFor(players, numPlayers, pointValue, gstPercent)) {
+            standings = StandingsEngine.compute(players, numPlayers, pointValue, gstPercent);
+            lastStandings = standings;
+        }
+        StandingsEngine.Standing standing = standings.forPlayer(player);
+        int playerScore = standing != null ? standing.totalScore : player.getTotalScore();
+        double rawGross = standing != null ? standing.grossAmount : standings.grossFor(playerScore);
+
+        double grossAmount = Math.round(rawGross);
         double gstPaid = 0;
         double netAmount = grossAmount;
         if (grossAmount > 0) {
-            gstPaid = Math.round((grossAmount * gstPercent) / 100.0);
+            gstPaid = Math.round(standings.gstFor(grossAmount));
             netAmount = grossAmount - gstPaid;
         }
 
@@ -0,0 +1,65 @@
+package com.example.rummypulse.utils;
+
+import android.app.Dialog;
+import android.content.ActivityNotFoundException;
+import android.content.Context;
+import android.content.Intent;
+import android.graphics.Color;
+import android.graphics.drawable.ColorDrawable;
+import android.view.View;
+import android.widget.TextView;
+
+import com.example.rummypulse.R;
+import com.example.rummypulse.data.sync.SyncTelemetryStore;
+import com.google.android.material.button.MaterialButton;
+
+/**
+ * Debug view of the local outbox telemetry, with a plain-text share export of the summary and
+ * every retained row. Reads only Room, so it works offline.
+ */
+public final class SyncTelemetryDialog {
+
+    private SyncTelemetryDialog() {
+    }
+
+    public static Dialog show(Context context) {
+        Dialog dialog = new Dialog(context);
+        dialog.setContentView(R.layout.dialog_sync_telemetry);
+        if (dialog.getWindow() != null) {
+            dialog.getWindow().setBackgroundDrawable(new ColorDrawable(Color.TRANSPARENT));
+        }
+        dialog.setCancelable(true);
+
+        TextView summary = dialog.findViewById(R.id.text_sync_summary);
+        MaterialButton share = dialog.findViewById(R.id.btn_share_sync_export);
+        View close = dialog.findViewById(R.id.btn_close);
+        close.setOnClickListener(v -> dialog.dismiss());
+
+        SyncTelemetryStore.getInstance(context).load((report, csv) -> {
+            if (!dialog.isShowing()) {
+                return;
+            }
+            String text = report.summary();
+            summary.setText(text);
+            share.setEnabled(true);
+            share.setOnClickListener(v -> shareExport(context, text + "\n\n" + csv));
+        });
+
+        dialog.show();
+        return dialog;
+    }
+
+    private static void shareExport(Context context, String export) {
+        Intent shareIntent = new Intent(Intent.ACTION_SEND);
+        shareIntent.setType("text/plain");
+        shareIntent.putExtra(Intent.EXTRA_SUBJECT,
+                context.getString(R.string.sync_diagnostics_title));
+        shareIntent.putExtra(Intent.EXTRA_TEXT, export);
+        try {
+            context.startActivity(Intent.createChooser(
+                    shareIntent, context.getString(R.string.sync_diagnostics_chooser_title)));
+        } catch (ActivityNotFoundException exception) {
+            ModernToast.error(context, context.getString(R.string.sync_diagnostics_no_handler));
+        }
+    }
+}
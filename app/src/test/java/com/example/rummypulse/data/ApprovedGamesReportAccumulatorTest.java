@@ -0,0 +1,122 @@
+package com.example.rummypulse.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ApprovedGamesReportAccumulatorTest {
+
+    @Test
+    public void foldedTotalsMatchTheListAggregation() {
+        List<ApprovedGameData> games = games(200);
+        ApprovedGamesReportAccumulator totals = new ApprovedGamesReportAccumulator();
+        for (ApprovedGameData game : games) {
+            totals.fold(game);
+        }
+
+        List<MonthlyPointValueReport> expected = ReportAggregator.aggregateAll(games);
+        assertEquals(expected.size(), totals.monthKeys().size());
+        for (String monthKey : totals.monthKeys()) {
+            List<ApprovedGameData> monthGames = new ArrayList<>();
+            for (ApprovedGameData game : games) {
+                if (monthKey.equals(ReportAggregator.yearMonthKey(game))) monthGames.add(game);
+            }
+            assertSameTotals(ReportAggregator.buildMonthlyPointValueReport(monthKey, monthGames),
+                    totals.toReportMonth(monthKey, null).toMonthlyPointValueReport());
+        }
+    }
+
+    @Test
+    public void resumingFromACheckpointMatchesAnUninterruptedPass() {
+        List<ApprovedGameData> games = games(150);
+        ApprovedGamesReportAccumulator uninterrupted = new ApprovedGamesReportAccumulator();
+        ApprovedGamesReportAccumulator firstHalf = new ApprovedGamesReportAccumulator();
+        for (int index = 0; index < games.size(); index++) {
+            uninterrupted.fold(games.get(index));
+            if (index < 70) firstHalf.fold(games.get(index));
+        }
+
+        ApprovedGamesReportAccumulator resumed =
+                ApprovedGamesReportAccumulator.fromCheckpoint(firestoreRoundTrip(firstHalf.toCheckpoint()));
+        for (int index = 70; index < games.size(); index++) {
+            resumed.fold(games.get(index));
+        }
+
+        assertEquals(uninterrupted.monthKeys(), resumed.monthKeys());
+        for (String monthKey : uninterrupted.monthKeys()) {
+            assertSameTotals(uninterrupted.toReportMonth(monthKey, null).toMonthlyPointValueReport(),
+                    resumed.toReportMonth(monthKey, null).toMonthlyPointValueReport());
+        }
+    }
+
+    @Test
+    public void gamesWithoutAMonthAreNotFolded() {
+        ApprovedGamesReportAccumulator totals = new ApprovedGamesReportAccumulator();
+
+        assertFalse(totals.fold(game("garbage", 0.25, 2, "5")));
+        assertTrue(totals.fold(game("2024-02-01 10:00:00", 0.25, 2, "5")));
+
+        assertEquals(Arrays.asList("2024-02"), new ArrayList<>(totals.monthKeys()));
+        assertTrue(ApprovedGamesReportAccumulator.fromCheckpoint(null).monthKeys().isEmpty());
+    }
+
+    private static void assertSameTotals(MonthlyPointValueReport expected, MonthlyPointValueReport actual) {
+        assertEquals(expected.getMonthYear(), actual.getMonthYear());
+        assertEquals(expected.getPointValueReports().size(), actual.getPointValueReports().size());
+        for (int index = 0; index < expected.getPointValueReports().size(); index++) {
+            PointValueReport want = expected.getPointValueReports().get(index);
+            PointValueReport got = actual.getPointValueReports().get(index);
+            assertEquals(want.getPointValue(), got.getPointValue(), 0.0);
+            assertEquals(want.getTotalGames(), got.getTotalGames());
+            assertEquals(want.getTotalPlayers(), got.getTotalPlayers());
+            assertEquals(want.getTotalGstCollected(), got.getTotalGstCollected(), 0.0001);
+        }
+    }
+
+    /** Firestore hands integers back as Long and may narrow whole doubles; mimic the mix. */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> firestoreRoundTrip(Map<String, Object> months) {
+        Map<String, Object> out = new HashMap<>();
+        for (Map.Entry<String, Object> month : months.entrySet()) {
+            Map<String, Object> buckets = new HashMap<>();
+            for (Map.Entry<String, Object> bucket : ((Map<String, Object>) month.getValue()).entrySet()) {
+                Map<String, Object> fields = new HashMap<>((Map<String, Object>) bucket.getValue());
+                fields.put("totalGames", ((Number) fields.get("totalGames")).intValue());
+                double gst = ((Number) fields.get("totalGstCollected")).doubleValue();
+                if (gst == Math.rint(gst)) fields.put("totalGstCollected", (long) gst);
+                buckets.put(bucket.getKey(), fields);
+            }
+            out.put(month.getKey(), buckets);
+        }
+        return out;
+    }
+
+    private static List<ApprovedGameData> games(int count) {
+        double[] pointValues = {0.1, 0.25, 0.5, 1.0};
+        List<ApprovedGameData> games = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            String creation = String.format("2024-%02d-%02d 10:00:00", 1 + index % 7, 1 + index % 28);
+            games.add(game(creation, pointValues[index % pointValues.length], 2 + index % 4,
+                    index % 3 == 0 ? "12.5" : Integer.toString(index % 20)));
+        }
+        return games;
+    }
+
+    private static ApprovedGameData game(String creationDateTime, double pointValue,
+            int numPlayers, String gstAmount) {
+        ApprovedGameData game = new ApprovedGameData();
+        game.setCreationDateTime(creationDateTime);
+        game.setPointValue(pointValue);
+        game.setNumPlayers(numPlayers);
+        game.setGstAmount(gstAmount);
+        return game;
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.rummypulse.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+public class ApprovedGamesReportDeltaTest {
+
+    @Test
+    public void approvalsAddToTheirMonthAndPointValueBucket() {
+        ApprovedGamesReportDelta delta = new ApprovedGamesReportDelta();
+
+        assertEquals("2024-05", delta.add(game("2024-05-01 10:00:00", 0.25, 3, "18")));
+        delta.add(game("2024-05-20 10:00:00", 0.25, 4, "24.5"));
+        delta.add(game("2024-05-21 10:00:00", 1.0, 2, "6"));
+        delta.add(game("2024-06-02 10:00:00", 0.25, 5, "30"));
+
+        assertEquals(Arrays.asList("2024-05", "2024-06"), Arrays.asList(delta.monthKeys().toArray()));
+        Map<String, ApprovedGamesReportMonth.Bucket> may = delta.changedBuckets("2024-05");
+        ApprovedGamesReportMonth.Bucket quarter = may.get("pv_0_25");
+        assertEquals(2L, quarter.getTotalGames());
+        assertEquals(7L, quarter.getTotalPlayers());
+        assertEquals(42.5, quarter.getTotalGstCollected(), 0.0001);
+        assertEquals(1L, may.get("pv_1").getTotalGames());
+    }
+
+    @Test
+    public void reapprovingACountedGameDoesNotCountItTwice() {
+        ApprovedGameData counted = game("2024-05-01 10:00:00", 0.25, 3, "18");
+        counted.setReportedMonthKey("2024-05");
+        ApprovedGamesReportDelta delta = new ApprovedGamesReportDelta();
+
+        delta.remove(counted);
+        delta.add(game("2024-05-01 10:00:00", 0.25, 3, "18"));
+
+        assertTrue(delta.monthKeys().isEmpty());
+    }
+
+    @Test
+    public void reapprovalMovesTotalsBetweenMonthsAndBuckets() {
+        ApprovedGameData counted = game("2024-04-30 23:00:00", 0.5, 3, "18");
+        counted.setReportedMonthKey("2024-04");
+        ApprovedGamesReportDelta delta = new ApprovedGamesReportDelta();
+
+        delta.remove(counted);
+        delta.add(game("2024-05-01 10:00:00", 0.25, 4, "20"));
+
+        assertEquals(-1L, delta.changedBuckets("2024-04").get("pv_0_5").getTotalGames());
+        assertEquals(-18.0, delta.changedBuckets("2024-04").get("pv_0_5").getTotalGstCollected(), 0.0001);
+        assertEquals(4L, delta.changedBuckets("2024-05").get("pv_0_25").getTotalPlayers());
+    }
+
+    @Test
+    public void uncountedOrUndatedGamesAreSkipped() {
+        ApprovedGamesReportDelta delta = new ApprovedGamesReportDelta();
+
+        delta.remove(null);
+        delta.remove(game("2024-05-01 10:00:00", 0.25, 3, "18"));
+        assertNull(delta.add(game("garbage", 0.25, 3, "18")));
+
+        assertTrue(delta.monthKeys().isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void legacyListDocumentIsSeededIntoBuckets() {
+        ApprovedGamesReportDelta delta = new ApprovedGamesReportDelta();
+        delta.add(game("2024-05-03 10:00:00", 0.25, 2, "10"));
+        ApprovedGamesReportMonth legacy = new ApprovedGamesReportMonth();
+        legacy.setMonthYear("May 2024");
+        legacy.setPointValueReports(Arrays.asList(
+                new PointValueReport(0.25, 4, 40.0, 12, Collections.emptyList()),
+                new PointValueReport(1.0, 1, 5.0, 2, Collections.emptyList())));
+
+        Map<String, Object> fields = delta.mergeFields("2024-05", legacy);
+
+        Map<String, Object> buckets = (Map<String, Object>) fields.get("buckets");
+        Map<String, Object> quarter = (Map<String, Object>) buckets.get("pv_0_25");
+        assertEquals(5L, quarter.get("totalGames"));
+        assertEquals(14L, quarter.get("totalPlayers"));
+        assertEquals(50.0, (Double) quarter.get("totalGstCollected"), 0.0001);
+        assertEquals(1L, ((Map<String, Object>) buckets.get("pv_1")).get("totalGames"));
+        assertEquals("May 2024", fields.get("monthYear"));
+    }
+
+    @Test
+    public void bucketsTakePrecedenceOverTheBuiltList() {
+        ApprovedGamesReportMonth month = new ApprovedGamesReportMonth("May 2024", Collections.singletonList(
+                new PointValueReport(0.25, 1, 10.0, 3, Collections.emptyList())), null);
+        month.getBuckets().get("pv_0_25").setTotalGames(3);
+        month.getBuckets().put("pv_0_1", new ApprovedGamesReportMonth.Bucket(0.1, 1, 2, 4.0));
+
+        MonthlyPointValueReport report = month.toMonthlyPointValueReport();
+
+        assertEquals(2, report.getPointValueReports().size());
+        assertEquals(0.1, report.getPointValueReports().get(0).getPointValue(), 0.0001);
+        assertEquals(4, report.getTotalGamesForMonth());
+        assertEquals(14.0, report.getTotalGstForMonth(), 0.0001);
+    }
+
+    private static ApprovedGameData game(String creationDateTime, double pointValue,
+            int numPlayers, String gstAmount) {
+        ApprovedGameData game = new ApprovedGameData();
+        game.setCreationDateTime(creationDateTime);
+        game.setPointValue(pointValue);
+        game.setNumPlayers(numPlayers);
+        game.setGstAmount(gstAmount);
+        return game;
+    }
+}
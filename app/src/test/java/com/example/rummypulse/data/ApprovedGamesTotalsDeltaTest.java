@@ -0,0 +1,105 @@
+package com.example.rummypulse.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class ApprovedGamesTotalsDeltaTest {
+
+    @Test
+    public void seededDocumentCountsNetChangeIncludingUndatedGames() {
+        ApprovedGamesTotalsDelta delta = new ApprovedGamesTotalsDelta(seeded(false));
+
+        delta.approve("a", game("18"), game("20"));
+        delta.approve("b", null, game("7.5"));
+        delta.approve("c", null, game("2"));
+
+        assertEquals(2L, delta.getApprovedGames());
+        assertEquals(11.5, delta.getTotalGst(), 0.0001);
+        assertTrue(delta.getApprovedIds().isEmpty());
+    }
+
+    @Test
+    public void missingDocumentIsLeftToTheSeed() {
+        ApprovedGamesTotalsDelta delta = new ApprovedGamesTotalsDelta(null);
+
+        delta.approve("a", game("18"), game("20"));
+
+        assertTrue(delta.isEmpty());
+    }
+
+    @Test
+    public void whileSeedingOnlyGamesApprovedSinceAreTakenBackOut() {
+        ApprovedGamesTotals seeding = seeded(true);
+        seeding.setSeedApprovedIds(Collections.singletonList("counted"));
+        ApprovedGamesTotalsDelta delta = new ApprovedGamesTotalsDelta(seeding);
+
+        delta.approve("counted", game("10"), game("12"));
+        delta.approve("archived", game("30"), game("5"));
+
+        assertEquals(1L, delta.getApprovedGames());
+        assertEquals(7.0, delta.getTotalGst(), 0.0001);
+        assertEquals(Arrays.asList("counted", "archived"), delta.getApprovedIds());
+    }
+
+    @Test
+    public void seedRemainderSkipsGamesApprovalsAlreadyCounted() {
+        Map<String, Double> scanned = new LinkedHashMap<>();
+        scanned.put("a", 10.0);
+        scanned.put("b", 4.0);
+        scanned.put("c", 2.5);
+
+        ApprovedGamesTotals remainder =
+                ApprovedGamesTotalsDelta.seedRemainder(scanned, Arrays.asList("b", "new"));
+
+        assertEquals(2L, remainder.getApprovedGames());
+        assertEquals(12.5, remainder.getTotalGst(), 0.0001);
+        assertEquals(3L, ApprovedGamesTotalsDelta.seedRemainder(scanned, null).getApprovedGames());
+    }
+
+    @Test
+    public void approvalsDuringTheScanAreCountedExactlyOnce() {
+        // "a" is scanned before its re-approval, "b" after, "c" is new; "d" is untouched.
+        ApprovedGamesTotals totals = seeded(true);
+        totals.setSeedApprovedIds(Collections.emptyList());
+        ApprovedGamesTotalsDelta first = new ApprovedGamesTotalsDelta(totals);
+        first.approve("a", game("10"), game("11"));
+        first.approve("b", game("20"), game("21"));
+        first.approve("c", null, game("5"));
+        totals.setApprovedGames(first.getApprovedGames());
+        totals.setTotalGst(first.getTotalGst());
+        totals.setSeedApprovedIds(first.getApprovedIds());
+        ApprovedGamesTotalsDelta second = new ApprovedGamesTotalsDelta(totals);
+        second.approve("b", game("21"), game("22"));
+
+        Map<String, Double> scanned = new LinkedHashMap<>();
+        scanned.put("a", 10.0);
+        scanned.put("b", 21.0);
+        scanned.put("d", 3.0);
+        ApprovedGamesTotals remainder = ApprovedGamesTotalsDelta.seedRemainder(scanned,
+                totals.getSeedApprovedIds());
+
+        assertEquals(4L, totals.getApprovedGames() + second.getApprovedGames()
+                + remainder.getApprovedGames());
+        assertEquals(41.0, totals.getTotalGst() + second.getTotalGst() + remainder.getTotalGst(),
+                0.0001);
+    }
+
+    private static ApprovedGamesTotals seeded(boolean seeding) {
+        ApprovedGamesTotals totals = new ApprovedGamesTotals(100, 1000.0, null);
+        totals.setSeeding(seeding);
+        return totals;
+    }
+
+    private static ApprovedGameData game(String gstAmount) {
+        ApprovedGameData game = new ApprovedGameData();
+        game.setGstAmount(gstAmount);
+        return game;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.rummypulse.data;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.firebase.Timestamp;
+
+import org.junit.Test;
+
+import java.util.Date;
+
+public class ApprovedReportsRebuildTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Test
+    public void recentCheckpointIsResumed() {
+        assertTrue(ApprovedReportsRebuild.isResumable(at(NOW - 60_000L), NOW));
+        assertTrue(ApprovedReportsRebuild.isResumable(
+                at(NOW - ApprovedReportsRebuild.MAX_CHECKPOINT_AGE_MS), NOW));
+    }
+
+    @Test
+    public void oldUndatedOrFutureCheckpointStartsOver() {
+        assertFalse(ApprovedReportsRebuild.isResumable(
+                at(NOW - ApprovedReportsRebuild.MAX_CHECKPOINT_AGE_MS - 1), NOW));
+        assertFalse(ApprovedReportsRebuild.isResumable(null, NOW));
+        assertFalse(ApprovedReportsRebuild.isResumable(at(NOW + 60_000L), NOW));
+    }
+
+    private static Timestamp at(long millis) {
+        return new Timestamp(new Date(millis));
+    }
+}
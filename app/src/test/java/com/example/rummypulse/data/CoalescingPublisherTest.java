@@ -0,0 +1,97 @@
+package com.example.rummypulse.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CoalescingPublisherTest {
+
+    private final List<Runnable> scheduled = new ArrayList<>();
+    private final List<Long> delays = new ArrayList<>();
+    private final List<Integer> published = new ArrayList<>();
+    private int state;
+
+    private CoalescingPublisher<Integer> newPublisher(long windowMs) {
+        return new CoalescingPublisher<>(
+                (task, delayMs) -> {
+                    scheduled.add(task);
+                    delays.add(delayMs);
+                },
+                windowMs,
+                () -> state,
+                published::add);
+    }
+
+    private void runScheduled() {
+        List<Runnable> tasks = new ArrayList<>(scheduled);
+        scheduled.clear();
+        for (Runnable task : tasks) {
+            task.run();
+        }
+    }
+
+    @Test
+    public void burstWithinWindowPublishesLatestStateOnce() {
+        CoalescingPublisher<Integer> publisher = newPublisher(16L);
+        for (int i = 1; i <= 5; i++) {
+            state = i;
+            publisher.requestPublish();
+        }
+        assertEquals(1, scheduled.size());
+        assertEquals(Long.valueOf(16L), delays.get(0));
+
+        runScheduled();
+        assertEquals(1, published.size());
+        assertEquals(Integer.valueOf(5), published.get(0));
+        assertEquals(5, publisher.getRequestedCount());
+        assertEquals(4, publisher.getCoalescedCount());
+        assertEquals(1, publisher.getPublishedCount());
+    }
+
+    @Test
+    public void requestAfterFlushOpensNewWindow() {
+        CoalescingPublisher<Integer> publisher = newPublisher(16L);
+        publisher.requestPublish();
+        runScheduled();
+        state = 7;
+        publisher.requestPublish();
+        runScheduled();
+
+        assertEquals(2, published.size());
+        assertEquals(Integer.valueOf(7), published.get(1));
+        assertEquals(0, publisher.getCoalescedCount());
+    }
+
+    @Test
+    public void publishNowSkipsTheRedundantScheduledFlush() {
+        CoalescingPublisher<Integer> publisher = newPublisher(16L);
+        state = 3;
+        publisher.requestPublish();
+        publisher.publishNow();
+        assertEquals(1, published.size());
+
+        runScheduled();
+        assertEquals(1, published.size());
+        assertEquals(1, publisher.getPublishedCount());
+    }
+
+    @Test
+    public void publishNowWithoutPendingChangesStillPublishes() {
+        CoalescingPublisher<Integer> publisher = newPublisher(16L);
+        publisher.publishNow();
+        assertEquals(1, published.size());
+        assertTrue(scheduled.isEmpty());
+    }
+
+    @Test
+    public void windowChangeAppliesToNextSchedule() {
+        CoalescingPublisher<Integer> publisher = newPublisher(16L);
+        publisher.setWindowMs(100L);
+        publisher.requestPublish();
+        assertEquals(Long.valueOf(100L), delays.get(0));
+    }
+}
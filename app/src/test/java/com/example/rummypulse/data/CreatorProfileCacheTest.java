@@ -0,0 +1,196 @@
+package com.example.rummypulse.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CreatorProfileCacheTest {
+
+    private final FakeLoader loader = new FakeLoader();
+    private final List<Runnable> scheduled = new ArrayList<>();
+    private long now = 1_000L;
+
+    private CreatorProfileCache newCache(int capacity, long ttlMs) {
+        return new CreatorProfileCache(
+                loader,
+                (task, delayMs) -> scheduled.add(task),
+                () -> now,
+                capacity,
+                ttlMs);
+    }
+
+    private void runScheduled() {
+        List<Runnable> tasks = new ArrayList<>(scheduled);
+        scheduled.clear();
+        for (Runnable task : tasks) {
+            task.run();
+        }
+    }
+
+    @Test
+    public void concurrentMissesShareOneBatchedQuery() {
+        CreatorProfileCache cache = newCache(10, 60_000L);
+        List<String> delivered = new ArrayList<>();
+
+        cache.get("u1", profile -> delivered.add(profile.displayName));
+        cache.get("u1", profile -> delivered.add(profile.displayName));
+        cache.get("u2", profile -> delivered.add(profile.displayName));
+        assertEquals(1, scheduled.size());
+
+        runScheduled();
+        assertEquals(1, loader.requests.size());
+        assertEquals(Arrays.asList("u1", "u2"), loader.requests.get(0));
+
+        loader.complete(0);
+        assertEquals(Arrays.asList("Name u1", "Name u1", "Name u2"), delivered);
+        assertEquals(3, cache.getMissCount());
+        assertEquals(1, cache.getQueryCount());
+        assertEquals(2, cache.getDocumentReadCount());
+    }
+
+    @Test
+    public void freshEntryIsServedWithoutReads() {
+        CreatorProfileCache cache = newCache(10, 60_000L);
+        cache.prefetch(Collections.singletonList("u1"));
+        runScheduled();
+        loader.complete(0);
+
+        CreatorProfileCache.Profile profile = cache.resolve("u1", loaded -> {
+            throw new AssertionError("hit must not load");
+        });
+        assertEquals("Name u1", profile.displayName);
+        assertEquals(1, cache.getHitCount());
+        assertTrue(scheduled.isEmpty());
+    }
+
+    @Test
+    public void expiredEntryIsReturnedWhileRefreshing() {
+        CreatorProfileCache cache = newCache(10, 1_000L);
+        cache.prefetch(Collections.singletonList("u1"));
+        runScheduled();
+        loader.complete(0);
+        CreatorProfileCache.Profile first = cache.resolve("u1", null);
+
+        now += 1_000L;
+        assertSame(first, cache.resolve("u1", null));
+        runScheduled();
+        assertEquals(2, loader.requests.size());
+    }
+
+    @Test
+    public void missesAreSplitIntoWhereInSizedBatches() {
+        CreatorProfileCache cache = newCache(100, 60_000L);
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 65; i++) {
+            ids.add("u" + i);
+        }
+        cache.prefetch(ids);
+        runScheduled();
+
+        assertEquals(3, loader.requests.size());
+        assertEquals(CreatorProfileCache.MAX_BATCH_SIZE, loader.requests.get(0).size());
+        assertEquals(CreatorProfileCache.MAX_BATCH_SIZE, loader.requests.get(1).size());
+        assertEquals(5, loader.requests.get(2).size());
+    }
+
+    @Test
+    public void leastRecentlyUsedEntryIsEvicted() {
+        CreatorProfileCache cache = newCache(2, 60_000L);
+        cache.prefetch(Arrays.asList("u1", "u2"));
+        runScheduled();
+        loader.complete(0);
+        cache.resolve("u1", null);
+
+        cache.prefetch(Collections.singletonList("u3"));
+        runScheduled();
+        loader.complete(1);
+
+        cache.resolve("u1", null);
+        assertTrue(scheduled.isEmpty());
+        cache.resolve("u2", null);
+        assertEquals(1, scheduled.size());
+    }
+
+    @Test
+    public void missingUserIsCachedAsEmptyProfile() {
+        CreatorProfileCache cache = newCache(10, 60_000L);
+        loader.missing.add("gone");
+        List<CreatorProfileCache.Profile> delivered = new ArrayList<>();
+        cache.get("gone", delivered::add);
+        runScheduled();
+        loader.complete(0);
+
+        assertNull(delivered.get(0).displayName);
+        cache.get("gone", delivered::add);
+        assertTrue(scheduled.isEmpty());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void failedBatchDeliversNullAndRetriesLater() {
+        CreatorProfileCache cache = newCache(10, 60_000L);
+        List<CreatorProfileCache.Profile> delivered = new ArrayList<>();
+        cache.get("u1", delivered::add);
+        runScheduled();
+        loader.fail(0);
+
+        assertEquals(1, delivered.size());
+        assertNull(delivered.get(0));
+        cache.get("u1", delivered::add);
+        assertEquals(1, scheduled.size());
+    }
+
+    @Test
+    public void seededDirectoryUsersAreHits() {
+        CreatorProfileCache cache = newCache(10, 60_000L);
+        AppUser user = new AppUser();
+        user.setUserId("u1");
+        user.setDisplayName("Asha");
+        user.setPhotoUrl("https://example.com/a.png");
+        cache.putAll(Collections.singletonList(user));
+
+        CreatorProfileCache.Profile profile = cache.resolve("u1", null);
+        assertEquals("Asha", profile.displayName);
+        assertTrue(profile.hasPhoto());
+        assertTrue(loader.requests.isEmpty());
+    }
+
+    // --- helpers --------------------------------------------------------------------------------
+
+    private static final class FakeLoader implements CreatorProfileCache.Loader {
+        final List<List<String>> requests = new ArrayList<>();
+        final List<CreatorProfileCache.LoadCallback> callbacks = new ArrayList<>();
+        final List<String> missing = new ArrayList<>();
+
+        @Override
+        public void load(List<String> userIds, CreatorProfileCache.LoadCallback callback) {
+            requests.add(new ArrayList<>(userIds));
+            callbacks.add(callback);
+        }
+
+        void complete(int index) {
+            Map<String, CreatorProfileCache.Profile> profiles = new HashMap<>();
+            for (String userId : requests.get(index)) {
+                if (!missing.contains(userId)) {
+                    profiles.put(userId, new CreatorProfileCache.Profile(
+                            userId, "Name " + userId, null));
+                }
+            }
+            callbacks.get(index).onLoaded(profiles);
+        }
+
+        void fail(int index) {
+            callbacks.get(index).onFailure(new Exception("offline"));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.rummypulse.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.example.rummypulse.ui.home.GameItem;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class DashboardSnapshotReconcilerTest {
+
+    private final Map<String, Long> liveVersions = new HashMap<>();
+
+    private static GameItem game(String gameId, String status) {
+        GameItem item = new GameItem();
+        item.setGameId(gameId);
+        item.setGameStatus(status);
+        return item;
+    }
+
+    private List<GameItem> reconcile(
+            DashboardSnapshotReconciler reconciler, List<GameItem> live, boolean delivered) {
+        return reconciler.reconcile(live, delivered, gameId -> liveVersions.getOrDefault(gameId, 0L));
+    }
+
+    private static List<String> ids(List<GameItem> items) {
+        List<String> ids = new ArrayList<>();
+        for (GameItem item : items) {
+            ids.add(item.getGameId());
+        }
+        return ids;
+    }
+
+    @Test
+    public void cachedRowsRenderBeforeLiveDelivers() {
+        DashboardSnapshotReconciler reconciler = new DashboardSnapshotReconciler(Arrays.asList(
+                new DashboardSnapshotReconciler.CachedRow(game("g2", "R3"), 0L),
+                new DashboardSnapshotReconciler.CachedRow(game("g1", "R1"), 0L)));
+
+        List<GameItem> shown = reconcile(reconciler, null, false);
+        assertEquals(Arrays.asList("g2", "g1"), ids(shown));
+        assertFalse(reconciler.isRevalidated());
+    }
+
+    @Test
+    public void liveRowsOverlayCacheByGameIdBeforeDelivery() {
+        DashboardSnapshotReconciler reconciler = new DashboardSnapshotReconciler(Arrays.asList(
+                new DashboardSnapshotReconciler.CachedRow(game("g2", "R3"), 0L),
+                new DashboardSnapshotReconciler.CachedRow(game("g1", "R1"), 0L)));
+        GameItem liveG1 = game("g1", "R2");
+        GameItem liveG3 = game("g3", "R1");
+
+        List<GameItem> shown = reconcile(reconciler, Arrays.asList(liveG3, liveG1), false);
+        assertEquals(Arrays.asList("g3", "g2", "g1"), ids(shown));
+        assertSame(liveG1, shown.get(2));
+    }
+
+    @Test
+    public void deliveredLiveListDecidesMembership() {
+        DashboardSnapshotReconciler reconciler = new DashboardSnapshotReconciler(Arrays.asList(
+                new DashboardSnapshotReconciler.CachedRow(game("deleted", "R3"), 0L),
+                new DashboardSnapshotReconciler.CachedRow(game("g1", "R1"), 0L)));
+        GameItem liveG1 = game("g1", "R2");
+
+        List<GameItem> shown = reconcile(reconciler, Collections.singletonList(liveG1), true);
+        assertEquals(Collections.singletonList("g1"), ids(shown));
+        assertSame(liveG1, shown.get(0));
+        assertTrue(reconciler.isRevalidated());
+    }
+
+    @Test
+    public void newerCachedRowWinsUntilLiveCatchesUp() {
+        GameItem cachedG1 = game("g1", "R4");
+        DashboardSnapshotReconciler reconciler = new DashboardSnapshotReconciler(
+                Collections.singletonList(new DashboardSnapshotReconciler.CachedRow(cachedG1, 2_000L)));
+        liveVersions.put("g1", 1_000L);
+
+        List<GameItem> shown = reconcile(reconciler, Collections.singletonList(game("g1", "R2")), true);
+        assertSame(cachedG1, shown.get(0));
+        assertFalse(reconciler.isRevalidated());
+
+        liveVersions.put("g1", 2_000L);
+        GameItem caughtUp = game("g1", "R4");
+        shown = reconcile(reconciler, Collections.singletonList(caughtUp), true);
+        assertSame(caughtUp, shown.get(0));
+        assertTrue(reconciler.isRevalidated());
+    }
+
+    @Test
+    public void unversionedLiveRowReplacesCachedRow() {
+        DashboardSnapshotReconciler reconciler = new DashboardSnapshotReconciler(Collections.singletonList(
+                new DashboardSnapshotReconciler.CachedRow(game("g1", "R4"), 2_000L)));
+        GameItem summary = game("g1", "R3");
+
+        List<GameItem> shown = reconcile(reconciler, Collections.singletonList(summary), true);
+        assertSame(summary, shown.get(0));
+        assertTrue(reconciler.isRevalidated());
+    }
+
+    @Test
+    public void emptyDeliveredListClearsSnapshot() {
+        DashboardSnapshotReconciler reconciler = new DashboardSnapshotReconciler(Collections.singletonList(
+                new DashboardSnapshotReconciler.CachedRow(game("g1", "R1"), 0L)));
+
+        assertTrue(reconcile(reconciler, Collections.<GameItem>emptyList(), true).isEmpty());
+        assertTrue(reconciler.isRevalidated());
+        assertTrue(reconciler.cachedItems().isEmpty());
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.rummypulse.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+import com.example.rummypulse.data.sync.GameOperationPayload;
+import com.example.rummypulse.data.sync.GameOperationProjector;
+import com.example.rummypulse.data.sync.GameOperationType;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class GameDataAggregatesTest {
+
+    private static Player player(String id, Integer... scores) {
+        Player player = new Player();
+        player.setPlayerId(id);
+        player.setName(id);
+        player.setScores(new ArrayList<>(Arrays.asList(scores)));
+        return player;
+    }
+
+    private static GameData game(Player... players) {
+        GameData data = new GameData();
+        data.setNumPlayers(players.length);
+        data.setPointValue(1.0);
+        data.setGstPercent(10.0);
+        data.setPlayers(new ArrayList<>(Arrays.asList(players)));
+        return data;
+    }
+
+    @Test
+    public void repeatedReadsKeepRevisionAndValues() {
+        GameData data = game(player("a", 10, 20), player("b", 30, 40));
+        int revision = data.revision();
+        String status = data.getGameStatus();
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(100, data.getTotalScore());
+            assertEquals(4.0, data.getGstAmount(), 0.0001);
+            assertSame(status, data.getGameStatus());
+        }
+        assertEquals(revision, data.revision());
+    }
+
+    @Test
+    public void settersInvalidateGstAndStatus() {
+        GameData data = game(player("a", 10, 20), player("b", 30, 40));
+        assertEquals(4.0, data.getGstAmount(), 0.0001);
+
+        data.setGstPercent(20.0);
+        assertEquals(8.0, data.getGstAmount(), 0.0001);
+        data.setPointValue(2.0);
+        assertEquals(16.0, data.getGstAmount(), 0.0001);
+
+        int revision = data.revision();
+        data.setPlayers(new ArrayList<>(Arrays.asList(
+                player("a", 5, 5, 5, 5, 5, 5, 5, 5, 5, 5),
+                player("b", 0, 0, 0, 0, 0, 0, 0, 0, 0, 0))));
+        assertNotEquals(revision, data.revision());
+        assertEquals("Completed", data.getGameStatus());
+        assertEquals(50, data.getTotalScore());
+    }
+
+    @Test
+    public void replacedScoreListIsNoticedWithoutExplicitInvalidation() {
+        Player a = player("a", 10, 20);
+        GameData data = game(a, player("b", 30, 40));
+        int revision = data.revision();
+
+        a.setScores(new ArrayList<>(Arrays.asList(10, 20, 60)));
+
+        assertNotEquals(revision, data.revision());
+        assertEquals(160, data.getTotalScore());
+        assertEquals("R3", data.getGameStatus());
+    }
+
+    @Test
+    public void playersByIdReplacementInvalidates() {
+        GameData data = game(player("a", 10), player("b", 20));
+        assertEquals(30, data.getTotalScore());
+
+        Map<String, Player> byId = new LinkedHashMap<>();
+        byId.put("a", player("a", 1, 1));
+        byId.put("b", player("b", 2, 2));
+        data.setPlayersById(byId);
+
+        assertEquals(6, data.getTotalScore());
+        assertEquals("R3", data.getGameStatus());
+    }
+
+    @Test
+    public void projectorScoreSetInvalidates() {
+        GameData data = game(
+                player("a", 10, -1, -1, -1, -1, -1, -1, -1, -1, -1),
+                player("b", 30, -1, -1, -1, -1, -1, -1, -1, -1, -1));
+        assertEquals("R2", data.getGameStatus());
+
+        Map<String, Integer> scores = new LinkedHashMap<>();
+        scores.put("a", 7);
+        scores.put("b", 0);
+        GameData projected = GameOperationProjector.apply(
+                data, GameOperationType.UPDATE_SCORE, null, GameOperationPayload.scores(2, scores));
+
+        assertEquals("R3", projected.getGameStatus());
+        assertEquals(47, projected.getTotalScore());
+        assertEquals("R2", data.getGameStatus());
+    }
+
+    @Test
+    public void administrativeStatusBypassesProgress() {
+        GameData data = game(player("a", 10), player("b", 20));
+        data.setGameStatus("Approved");
+        assertEquals("Approved", data.getGameStatus());
+        data.setGameStatus(null);
+        assertEquals("R2", data.getGameStatus());
+    }
+}
@@ -0,0 +1,247 @@
+package com.example.rummypulse.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.google.firebase.Timestamp;
+
+import org.junit.Test;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Checks the packed-month {@link ReportAggregator} against a copy of the string-keyed version it
+ * replaced.
+ */
+public class ReportAggregatorFastPathTest {
+
+    @Test
+    public void monthKeysMatchThePreviousImplementation() {
+        List<ApprovedGameData> games = syntheticGames(2_000, new Random(7));
+        games.addAll(edgeCases());
+        for (ApprovedGameData game : games) {
+            String input = game == null ? null : game.getCreationDateTime();
+            assertEquals(input, Legacy.yearMonthKey(game), ReportAggregator.yearMonthKey(game));
+            assertEquals(input, Legacy.derivedYearMonthKey(game), ReportAggregator.derivedYearMonthKey(game));
+        }
+    }
+
+    @Test
+    public void aggregateAllMatchesThePreviousImplementation() {
+        List<ApprovedGameData> games = syntheticGames(2_000, new Random(11));
+        games.addAll(edgeCases());
+        games.removeIf(game -> game != null && game.getApprovedMonthKey() != null
+                && !game.getApprovedMonthKey().isEmpty()
+                && ReportAggregator.monthIndex(game) == ReportAggregator.NO_MONTH);
+
+        assertSameReports(Legacy.aggregateAll(games), ReportAggregator.aggregateAll(games));
+    }
+
+    @Test
+    public void handEditedStoredKeysStillGroupByTheirString() {
+        List<ApprovedGameData> games = syntheticGames(2_000, new Random(13));
+        games.addAll(edgeCases());
+
+        assertSameReports(Legacy.aggregateAll(games), ReportAggregator.aggregateAll(games));
+    }
+
+    @Test
+    public void monthKeyFormatsPackedIndex() {
+        assertEquals("2024-05", ReportAggregator.monthKey(2024 * 12 + 4));
+        assertEquals("0999-12", ReportAggregator.monthKey(999 * 12 + 11));
+        assertEquals(null, ReportAggregator.monthKey(ReportAggregator.NO_MONTH));
+        assertEquals(ReportAggregator.NO_MONTH, ReportAggregator.monthIndex(stored("2024-13")));
+    }
+
+    private static void assertSameReports(List<MonthlyPointValueReport> expected,
+            List<MonthlyPointValueReport> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int m = 0; m < expected.size(); m++) {
+            MonthlyPointValueReport e = expected.get(m);
+            MonthlyPointValueReport a = actual.get(m);
+            assertEquals(e.getMonthYear(), a.getMonthYear());
+            assertEquals(e.getMonthYear(), e.getPointValueReports().size(), a.getPointValueReports().size());
+            for (int p = 0; p < e.getPointValueReports().size(); p++) {
+                PointValueReport ep = e.getPointValueReports().get(p);
+                PointValueReport ap = a.getPointValueReports().get(p);
+                assertEquals(Double.doubleToLongBits(ep.getPointValue()), Double.doubleToLongBits(ap.getPointValue()));
+                assertEquals(ep.getTotalGames(), ap.getTotalGames());
+                assertEquals(ep.getTotalPlayers(), ap.getTotalPlayers());
+                assertEquals(Double.doubleToLongBits(ep.getTotalGstCollected()),
+                        Double.doubleToLongBits(ap.getTotalGstCollected()));
+                assertEquals(ep.getGames().size(), ap.getGames().size());
+                for (int g = 0; g < ep.getGames().size(); g++) {
+                    assertSame(ep.getGames().get(g), ap.getGames().get(g));
+                }
+            }
+        }
+    }
+
+    /** Canonical rows across 1998-2031, with some approvedAt and stored-key rows mixed in. */
+    private static List<ApprovedGameData> syntheticGames(int count, Random random) {
+        double[] pointValues = {0.1, 0.25, 0.5, 1.0, 2.0, 5.0};
+        List<ApprovedGameData> games = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ApprovedGameData game = new ApprovedGameData();
+            int day = 1 + random.nextInt(31);
+            int hour = random.nextInt(24);
+            game.setCreationDateTime(String.format(Locale.US, "%04d-%02d-%02d %02d:%02d:%02d",
+                    1998 + random.nextInt(34), 1 + random.nextInt(12), day, hour,
+                    random.nextInt(60), random.nextInt(60)));
+            int kind = random.nextInt(20);
+            if (kind == 0) {
+                game.setApprovedAt(new Timestamp(new Date(random.nextLong() % 2_000_000_000_000L)));
+            } else if (kind == 1) {
+                game.setApprovedMonthKey(String.format(Locale.US, "%04d-%02d",
+                        2020 + random.nextInt(6), 1 + random.nextInt(12)));
+            }
+            game.setPointValue(pointValues[random.nextInt(pointValues.length)]);
+            game.setNumPlayers(2 + random.nextInt(5));
+            game.setGstAmount(String.valueOf(random.nextInt(5000) / 100.0));
+            games.add(game);
+        }
+        return games;
+    }
+
+    private static List<ApprovedGameData> edgeCases() {
+        List<ApprovedGameData> games = new ArrayList<>();
+        for (String creation : Arrays.asList(null, "", "garbage", "2024-02-30 10:00:00",
+                "2024-01-31 23:30:00", "2024-03-01 00:15:00", "2024-12-31 23:59:59",
+                "2024-05-10 10:00:00 IST", "2024-05-10 10:00:005", "2024-5-1 1:2:3",
+                "1500-03-10 10:00:00", "0024-06-10 10:00:00", "2024-05-10 24:00:00",
+                "2024-05-10T10:00:00", "10000-01-05 10:00:00", "2023-02-29 12:00:00")) {
+            games.add(creation(creation, 1.0));
+        }
+        games.add(creation("2024-05-10 10:00:00", 0.0));
+        games.add(creation("2024-05-11 10:00:00", -0.0));
+        games.add(creation("2024-05-12 10:00:00", Double.NaN));
+        games.add(stored("2024-13"));
+        games.add(stored("May 2024"));
+        games.add(stored(""));
+        games.add(null);
+        return games;
+    }
+
+    private static ApprovedGameData creation(String creationDateTime, double pointValue) {
+        ApprovedGameData game = new ApprovedGameData();
+        game.setCreationDateTime(creationDateTime);
+        game.setPointValue(pointValue);
+        game.setNumPlayers(3);
+        game.setGstAmount("12.5");
+        return game;
+    }
+
+    private static ApprovedGameData stored(String approvedMonthKey) {
+        ApprovedGameData game = creation("2024-05-10 10:00:00", 0.5);
+        game.setApprovedMonthKey(approvedMonthKey);
+        return game;
+    }
+
+    /** The string-keyed aggregation as it was before the packed month index. */
+    private static final class Legacy {
+
+        static String yearMonthKey(ApprovedGameData game) {
+            if (game == null) {
+                return null;
+            }
+            if (game.getApprovedMonthKey() != null && !game.getApprovedMonthKey().isEmpty()) {
+                return game.getApprovedMonthKey();
+            }
+            return derivedYearMonthKey(game);
+        }
+
+        static String derivedYearMonthKey(ApprovedGameData game) {
+            if (game == null) {
+                return null;
+            }
+            try {
+                Calendar calendar = Calendar.getInstance();
+                if (game.getApprovedAt() != null) {
+                    calendar.setTime(game.getApprovedAt().toDate());
+                } else {
+                    String creation = game.getCreationDateTime();
+                    if (creation == null || creation.isEmpty()) {
+                        return null;
+                    }
+                    SimpleDateFormat inputFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.getDefault());
+                    calendar.setTime(inputFormat.parse(creation));
+                }
+                return String.format(Locale.US, "%04d-%02d",
+                        calendar.get(Calendar.YEAR),
+                        calendar.get(Calendar.MONTH) + 1);
+            } catch (Exception e) {
+                return null;
+            }
+        }
+
+        static List<MonthlyPointValueReport> aggregateAll(List<ApprovedGameData> games) {
+            Map<String, List<ApprovedGameData>> byMonth = new HashMap<>();
+            for (ApprovedGameData g : games) {
+                String k = yearMonthKey(g);
+                if (k == null) {
+                    continue;
+                }
+                if (!byMonth.containsKey(k)) {
+                    byMonth.put(k, new ArrayList<>());
+                }
+                byMonth.get(k).add(g);
+            }
+            List<MonthlyPointValueReport> monthlyReports = new ArrayList<>();
+            for (Map.Entry<String, List<ApprovedGameData>> e : byMonth.entrySet()) {
+                monthlyReports.add(buildMonthlyPointValueReport(e.getKey(), e.getValue()));
+            }
+            sortMonthlyReportsDesc(monthlyReports);
+            return monthlyReports;
+        }
+
+        static MonthlyPointValueReport buildMonthlyPointValueReport(String yyyyMm, List<ApprovedGameData> monthGames) {
+            String displayMonthYear = ReportAggregator.displayMonthForYearMonth(yyyyMm);
+            Map<Double, List<ApprovedGameData>> gamesByPointValue = new HashMap<>();
+            for (ApprovedGameData game : monthGames) {
+                double pointValue = game.getPointValue();
+                if (!gamesByPointValue.containsKey(pointValue)) {
+                    gamesByPointValue.put(pointValue, new ArrayList<>());
+                }
+                gamesByPointValue.get(pointValue).add(game);
+            }
+            List<PointValueReport> pointValueReports = new ArrayList<>();
+            for (Map.Entry<Double, List<ApprovedGameData>> pointEntry : gamesByPointValue.entrySet()) {
+                List<ApprovedGameData> pointValueGames = pointEntry.getValue();
+                double totalGstCollected = 0.0;
+                int totalPlayers = 0;
+                for (ApprovedGameData game : pointValueGames) {
+                    totalGstCollected += game.getGstAmountAsDouble();
+                    totalPlayers += game.getNumPlayers();
+                }
+                pointValueReports.add(new PointValueReport(pointEntry.getKey(), pointValueGames.size(),
+                        totalGstCollected, totalPlayers, pointValueGames));
+            }
+            pointValueReports.sort((r1, r2) -> Double.compare(r1.getPointValue(), r2.getPointValue()));
+            return new MonthlyPointValueReport(displayMonthYear, pointValueReports);
+        }
+
+        static void sortMonthlyReportsDesc(List<MonthlyPointValueReport> monthlyReports) {
+            SimpleDateFormat monthYearFormat = new SimpleDateFormat("MMMM yyyy", Locale.getDefault());
+            monthlyReports.sort((r1, r2) -> {
+                try {
+                    Calendar cal1 = Calendar.getInstance();
+                    Calendar cal2 = Calendar.getInstance();
+                    cal1.setTime(monthYearFormat.parse(r1.getMonthYear()));
+                    cal2.setTime(monthYearFormat.parse(r2.getMonthYear()));
+                    return cal2.compareTo(cal1);
+                } catch (Exception e) {
+                    return r2.getMonthYear().compareTo(r1.getMonthYear());
+                }
+            });
+        }
+    }
+}
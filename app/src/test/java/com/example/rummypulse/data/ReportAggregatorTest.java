@@ -81,6 +81,21 @@ public class ReportAggregatorTest {
         assertEquals("2023-12", key);
     }
 
+    @Test
+    public void yearMonthKey_storedApprovedMonthKey_winsOverDates() {
+        ApprovedGameData g = game("2024-03-15 10:30:00", 1.0, 4, "18");
+        g.setApprovedMonthKey("2024-04");
+        assertEquals("2024-04", ReportAggregator.yearMonthKey(g));
+        assertEquals("2024-03", ReportAggregator.derivedYearMonthKey(g));
+    }
+
+    @Test
+    public void yearMonthKey_emptyApprovedMonthKey_fallsBackToDates() {
+        ApprovedGameData g = game("2024-03-15 10:30:00", 1.0, 4, "18");
+        g.setApprovedMonthKey("");
+        assertEquals("2024-03", ReportAggregator.yearMonthKey(g));
+    }
+
     // ---------------------------------------------------------------------------
     // displayMonthForYearMonth
     // ---------------------------------------------------------------------------
@@ -0,0 +1,146 @@
+package com.example.rummypulse.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ScoreHistoryEventTest {
+    @Test
+    public void operationRecordCoversEveryRoundInOneDocument() {
+        GameData data = game(player("a", 10, -1), player("b", 20, 5));
+
+        Map<String, Object> record = ScoreHistoryEvent.createOperation("g", Arrays.asList(2, 1),
+                data, "op", "PLAYER_REMOVAL_SNAPSHOT", "editor", 3L, 7L, 8L);
+
+        assertEquals(Arrays.asList(1, 2), record.get("roundNumbers"));
+        assertEquals(scores("a", 10, "b", 20), ScoreHistoryEvent.roundScores(record, 1));
+        assertEquals(scores("a", -1, "b", 5), ScoreHistoryEvent.roundScores(record, 2));
+        assertTrue(ScoreHistoryEvent.roundScores(record, 3).isEmpty());
+    }
+
+    @Test
+    public void incompleteSnapshotKeepsPreviousCompletePointer() {
+        Map<String, Object> complete = ScoreHistoryEvent.latestIndex("g", 1, "op1", 4L,
+                scores("a", 10, "b", 20));
+        Map<String, Object> incomplete = ScoreHistoryEvent.latestIndex("g", 1, "op2", 5L,
+                scores("a", 10, "b", -1));
+
+        // A Firestore merge of the second write onto the first.
+        Map<String, Object> merged = new LinkedHashMap<>(complete);
+        merged.putAll(incomplete);
+
+        assertEquals("op2", merged.get("latestOperationId"));
+        assertEquals("op1", merged.get("completeOperationId"));
+        assertEquals(scores("a", 10, "b", 20), merged.get("completeScoresByPlayerId"));
+    }
+
+    @Test
+    public void legacyEventsAreGroupedByOperation() {
+        List<Map<String, Object>> legacy = Arrays.asList(
+                legacy("op1", 2, 3L, scores("a", 4, "b", 6)),
+                legacy("op1", 1, 3L, scores("a", 1, "b", 2)),
+                legacy("op2", 1, 4L, scores("a", 1, "b", -1)));
+
+        Map<String, Map<String, Object>> operations =
+                ScoreHistoryEvent.backfillOperations(legacy);
+
+        assertEquals(2, operations.size());
+        Map<String, Object> first = operations.get("op1");
+        assertEquals(Arrays.asList(1, 2), first.get("roundNumbers"));
+        assertEquals(Boolean.TRUE, first.get("backfilled"));
+        assertEquals(scores("a", 4, "b", 6), ScoreHistoryEvent.roundScores(first, 2));
+        assertEquals(scores("a", 1, "b", 2), ScoreHistoryEvent.roundScores(legacy.get(1), 1));
+    }
+
+    @Test
+    public void backfilledIndexPointsAtNewestAndNewestComplete() {
+        List<Map<String, Object>> legacy = Arrays.asList(
+                legacy("op1", 1, 3L, scores("a", 1, "b", 2)),
+                legacy("op2", 1, 4L, scores("a", 1, "b", -1)),
+                legacy("op0", 1, 2L, scores("a", 9, "b", 9)));
+
+        Map<String, Object> index = ScoreHistoryEvent.backfillLatest("g", legacy).get(1);
+
+        assertEquals("op2", index.get("latestOperationId"));
+        assertEquals(4L, index.get("latestCommittedRevision"));
+        assertEquals("op1", index.get("completeOperationId"));
+        assertEquals(scores("a", 1, "b", 2), index.get("completeScoresByPlayerId"));
+    }
+
+    @Test
+    public void backfillNeverHidesNewerRecords() {
+        Map<String, Object> stored = ScoreHistoryEvent.latestIndex("g", 1, "new", 9L,
+                scores("a", 1, "b", -1));
+        Map<String, Object> backfilled = ScoreHistoryEvent.latestIndex("g", 1, "old", 3L,
+                scores("a", 5, "b", 6));
+
+        Map<String, Object> merged = ScoreHistoryEvent.mergeLatest(stored, backfilled);
+
+        assertEquals("new", merged.get("latestOperationId"));
+        assertEquals("old", merged.get("completeOperationId"));
+
+        Map<String, Object> newerComplete = ScoreHistoryEvent.latestIndex("g", 1, "new", 9L,
+                scores("a", 1, "b", 2));
+        assertEquals("new", ScoreHistoryEvent.mergeLatest(newerComplete, backfilled)
+                .get("completeOperationId"));
+    }
+
+    @Test
+    public void layoutMarkerControlsLegacyLookups() {
+        assertTrue(ScoreHistoryEvent.mayHaveLegacyEvents(null));
+        assertTrue(ScoreHistoryEvent.needsLegacyBackfill(null));
+        assertFalse(ScoreHistoryEvent.mayHaveLegacyEvents(ScoreHistoryEvent.layoutMarker(false)));
+        assertFalse(ScoreHistoryEvent.needsLegacyBackfill(ScoreHistoryEvent.layoutMarker(false)));
+
+        Map<String, Object> backfilled = ScoreHistoryEvent.layoutMarker(true);
+        backfilled.put("legacyBackfilled", true);
+        assertTrue(ScoreHistoryEvent.mayHaveLegacyEvents(backfilled));
+        assertFalse(ScoreHistoryEvent.needsLegacyBackfill(backfilled));
+    }
+
+    private static Map<String, Object> legacy(String operationId, int round, long revision,
+            Map<String, Integer> scores) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("schemaVersion", ScoreHistoryEvent.LEGACY_SCHEMA_VERSION);
+        event.put("gameId", "g");
+        event.put("round", round);
+        event.put("operationId", operationId);
+        event.put("committedRevision", revision);
+        event.put("scoresByPlayerId", scores);
+        return event;
+    }
+
+    private static Map<String, Integer> scores(String firstId, int first, String secondId,
+            int second) {
+        Map<String, Integer> scores = new LinkedHashMap<>();
+        scores.put(firstId, first);
+        scores.put(secondId, second);
+        return scores;
+    }
+
+    private static GameData game(Player... players) {
+        GameData data = new GameData();
+        data.setPlayers(new ArrayList<>(Arrays.asList(players)));
+        data.setNumPlayers(players.length);
+        return data;
+    }
+
+    private static Player player(String id, Integer... scores) {
+        Player player = new Player();
+        player.setPlayerId(id);
+        player.setName(id);
+        List<Integer> all = new ArrayList<>(Arrays.asList(scores));
+        all.addAll(Collections.nCopies(10 - scores.length, -1));
+        player.setScores(all);
+        return player;
+    }
+}
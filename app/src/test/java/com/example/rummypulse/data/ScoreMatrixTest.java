@@ -0,0 +1,112 @@
+package com.example.rummypulse.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class ScoreMatrixTest {
+
+    private static Player player(String id, Integer... scores) {
+        Player player = new Player();
+        player.setPlayerId(id);
+        player.setName(id);
+        player.setScores(new ArrayList<>(Arrays.asList(scores)));
+        return player;
+    }
+
+    private static GameData game(Player... players) {
+        GameData data = new GameData();
+        data.setNumPlayers(players.length);
+        data.setPointValue(1.0);
+        data.setGstPercent(10.0);
+        data.setPlayers(new ArrayList<>(Arrays.asList(players)));
+        return data;
+    }
+
+    @Test
+    public void packsScoresAndTotalsMatchingListSums() {
+        Player a = player("a", 10, 0, -1, 5);
+        Player b = player("b", 20, null, 3);
+        ScoreMatrix matrix = ScoreMatrix.of(Arrays.asList(a, b));
+
+        assertEquals(2, matrix.playerCount());
+        assertEquals(10, matrix.score(0, 1));
+        assertEquals(ScoreMatrix.MISSING, matrix.score(1, 2));
+        assertEquals(ScoreMatrix.MISSING, matrix.score(1, 10));
+        assertEquals(a.getTotalScore(), matrix.playerTotal(0));
+        assertEquals(b.getTotalScore(), matrix.playerTotal(1));
+        assertEquals(38, matrix.totalScore());
+        assertEquals(1, matrix.indexOf("b"));
+        assertEquals(-1, matrix.indexOf("zzz"));
+    }
+
+    @Test
+    public void roundBitsTrackEnteredAndValidRounds() {
+        ScoreMatrix matrix = ScoreMatrix.of(Arrays.asList(
+                player("a", 1, 2, -1, 4),
+                player("b", 1, 0, 3, -1)));
+
+        assertTrue(matrix.isRoundEntered(1));
+        assertTrue(matrix.isRoundValid(2));
+        assertFalse(matrix.isRoundEntered(3));
+        assertTrue(matrix.isRoundStarted(3));
+        assertEquals(3, matrix.firstUnenteredRound());
+        assertEquals(3, matrix.firstInvalidRound());
+        assertFalse(matrix.isRoundStarted(5));
+    }
+
+    @Test
+    public void gameDataStatusAndGstReadTheMatrix() {
+        GameData data = game(player("a", 10, 20), player("b", 30, 40));
+        assertEquals("R3", data.getGameStatus());
+        assertEquals(100, data.getTotalScore());
+        // a: (100 - 30 * 2) * 1 = 40 gross, 10% GST = 4.0; b loses.
+        assertEquals(4.0, data.getGstAmount(), 0.0001);
+    }
+
+    @Test
+    public void completedGameReportsCompleted() {
+        Integer[] full = {1, 1, 1, 1, 1, 1, 1, 1, 1, 1};
+        GameData data = game(player("a", full), player("b", full));
+        assertEquals("Completed", data.getGameStatus());
+        assertEquals(0, data.scoreMatrix().firstInvalidRound());
+    }
+
+    @Test
+    public void matrixIsReusedUntilScoresChange() {
+        GameData data = game(player("a", 1, 2), player("b", 3));
+        ScoreMatrix first = data.scoreMatrix();
+        assertSame(first, data.scoreMatrix());
+
+        data.getPlayers().get(1).getScores().add(4);
+        ScoreMatrix resized = data.scoreMatrix();
+        assertNotSame(first, resized);
+        assertEquals(10, resized.totalScore());
+
+        data.getPlayers().get(0).setScores(new ArrayList<>(Arrays.asList(5, 5)));
+        assertEquals(17, data.scoreMatrix().totalScore());
+
+        data.getPlayers().get(0).getScores().set(0, 6);
+        data.invalidateScoreMatrix();
+        assertEquals(18, data.scoreMatrix().totalScore());
+    }
+
+    @Test
+    public void emptyGameHasEmptyMatrix() {
+        GameData data = new GameData();
+        assertEquals(0, data.scoreMatrix().playerCount());
+        assertEquals(0, data.getTotalScore());
+        assertEquals(0.0, data.getGstAmount(), 0.0);
+        List<Player> none = new ArrayList<>();
+        data.setPlayers(none);
+        assertEquals("Not Started", data.getGameStatus());
+    }
+}
@@ -7,6 +7,10 @@ import org.junit.Test;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
 public class ScoreRegressionGuardTest {
     @Test(expected = IllegalStateException.class)
@@ -33,6 +37,25 @@ public class ScoreRegressionGuardTest {
         assertEquals(Integer.valueOf(11), after.getPlayers().get(0).getScores().get(0));
     }
 
+    @Test
+    public void roundSetMayChangeEachRoundForItsOwnPlayers() {
+        GameData before = game(player("a", -1, -1, 5), player("b", -1, -1, 6));
+        GameData after = game(player("a", 10, -1, 5), player("b", 11, 12, 6));
+        Map<Integer, Set<String>> allowed = new HashMap<>();
+        allowed.put(1, new HashSet<>(Arrays.asList("a", "b")));
+        allowed.put(2, Collections.singleton("b"));
+
+        ScoreRegressionGuard.requireOnlyRoundsChanged(before, after, allowed);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void roundSetCannotChangeARoundOutsideTheSet() {
+        GameData before = game(player("a", -1, -1, 5));
+        GameData after = game(player("a", 10, -1, 7));
+        ScoreRegressionGuard.requireOnlyRoundsChanged(before, after,
+                Collections.singletonMap(1, Collections.singleton("a")));
+    }
+
     @Test
     public void accountMayBeRemappedWithoutMovingPlayerScores() {
         Player beforeA = player("player-a", 10, 20);
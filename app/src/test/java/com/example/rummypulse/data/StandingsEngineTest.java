@@ -0,0 +1,105 @@
+package com.example.rummypulse.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class StandingsEngineTest {
+
+    private static Player player(String id, Integer... scores) {
+        Player player = new Player();
+        player.setPlayerId(id);
+        player.setName(id);
+        player.setScores(new ArrayList<>(Arrays.asList(scores)));
+        return player;
+    }
+
+    private static GameData game(Player... players) {
+        GameData data = new GameData();
+        data.setNumPlayers(players.length);
+        data.setPointValue(2.0);
+        data.setGstPercent(10.0);
+        data.setPlayers(new ArrayList<>(Arrays.asList(players)));
+        return data;
+    }
+
+    @Test
+    public void computesTotalsAmountsAndRanksInOnePass() {
+        List<Player> players = Arrays.asList(
+                player("c", 30), player("a", 10, -1), player("b", 15, 5));
+
+        StandingsEngine.Result result = StandingsEngine.compute(players, 3, 2.0, 10.0);
+
+        StandingsEngine.Standing a = result.forPlayerId("a");
+        assertEquals(10, a.totalScore);
+        assertEquals(60.0, a.grossAmount, 0.0001);
+        assertEquals(6.0, a.gstPaid, 0.0001);
+        assertEquals(54.0, a.netAmount, 0.0001);
+        assertEquals(1, a.rank);
+
+        StandingsEngine.Standing c = result.forPlayerId("c");
+        assertEquals(-60.0, c.grossAmount, 0.0001);
+        assertEquals(0.0, c.gstPaid, 0.0001);
+        assertEquals(3, c.rank);
+
+        assertEquals(60, result.totalScore());
+        assertEquals(6.0, result.totalGst(), 0.0001);
+        assertEquals("a", result.ranked().get(0).player.getPlayerId());
+        assertEquals("c", result.inPlayerOrder().get(0).player.getPlayerId());
+        assertSame(players.get(2), result.forPlayer(players.get(2)).player);
+        assertNull(result.forPlayerId("zzz"));
+    }
+
+    @Test
+    public void tiesKeepPlayerOrder() {
+        StandingsEngine.Result result = StandingsEngine.compute(
+                Arrays.asList(player("x", 20), player("y", 10), player("z", 20)), 3, 1.0, 0.0);
+
+        assertEquals("y", result.ranked().get(0).player.getPlayerId());
+        assertEquals("x", result.ranked().get(1).player.getPlayerId());
+        assertEquals("z", result.ranked().get(2).player.getPlayerId());
+        assertEquals(2, result.forPlayerId("x").rank);
+        assertEquals(3, result.forPlayerId("z").rank);
+    }
+
+    @Test
+    public void gameDataSharesOneResultPerRevision() {
+        GameData data = game(player("a", 10), player("b", 20), player("c", 30));
+
+        StandingsEngine.Result first = data.standings();
+        assertSame(first, data.standings());
+        assertEquals(first.totalGst(), data.getGstAmount(), 0.0);
+
+        data.setGstPercent(20.0);
+        StandingsEngine.Result second = data.standings();
+        assertNotSame(first, second);
+        assertEquals(12.0, data.getGstAmount(), 0.0001);
+    }
+
+    @Test
+    public void detachedPlayerIsSettledAgainstGameTotals() {
+        StandingsEngine.Result result = StandingsEngine.compute(
+                Arrays.asList(player("a", 10), player("b", 20)), 2, 1.0, 10.0);
+
+        assertNull(result.forPlayer(player("a", 10)));
+        assertEquals(10.0, result.grossFor(10), 0.0001);
+        assertEquals(1.0, result.gstFor(10.0), 0.0001);
+        assertEquals(0.0, result.gstFor(-10.0), 0.0001);
+    }
+
+    @Test
+    public void emptyGameHasNoStandings() {
+        StandingsEngine.Result result = StandingsEngine.compute(null, 0, 1.0, 10.0);
+
+        assertEquals(0, result.ranked().size());
+        assertEquals(0.0, result.totalGst(), 0.0);
+        assertEquals(0, new GameData().standings().ranked().size());
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.rummypulse.data.sync;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.example.rummypulse.data.GameData;
+import com.example.rummypulse.data.GameDataSchema;
+import com.example.rummypulse.data.Player;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class GameDataDeltaTest {
+
+    @Test
+    public void roundScoreTouchesOnlyChangedPlayers() {
+        GameData before = game(4);
+        Map<String, Integer> scores = new LinkedHashMap<>();
+        scores.put("p1", 12);
+        scores.put("p2", 0);
+        scores.put("p3", 2);
+        scores.put("p4", 0);
+        GameData after = GameOperationProjector.apply(before, GameOperationType.UPDATE_SCORE,
+                null, GameOperationPayload.scores(3, scores));
+
+        List<GameDataDelta.Change> changes = GameDataDelta.between(before, after);
+
+        // p3 and p4 keep their round 3 scores.
+        assertEquals(Arrays.asList(
+                "playersById/p1/scores", "playersById/p1/totalScore",
+                "playersById/p2/scores", "playersById/p2/totalScore"), paths(changes));
+        assertEqualsAfterReplay(before, after, changes);
+    }
+
+    @Test
+    public void renameAndReorderWriteSingleFields() {
+        GameData before = game(3);
+        GameData renamed = GameOperationProjector.apply(before,
+                GameOperationType.RENAME_PLAYER, "p2", GameOperationPayload.rename("Second"));
+        GameData reordered = GameOperationProjector.apply(renamed,
+                GameOperationType.SET_PLAYER_ORDER, null,
+                GameOperationPayload.order(Arrays.asList("p3", "p1", "p2")));
+
+        assertEquals(Arrays.asList("playersById/p2/name"),
+                paths(GameDataDelta.between(before, renamed)));
+        assertEquals(Arrays.asList("playerOrder"),
+                paths(GameDataDelta.between(renamed, reordered)));
+        assertEqualsAfterReplay(before, reordered, GameDataDelta.between(before, reordered));
+    }
+
+    @Test
+    public void addedAndRemovedPlayersAreWrittenWhole() {
+        GameData before = game(3);
+        GameData removed = GameOperationProjector.apply(before,
+                GameOperationType.DELETE_PLAYER, "p2", null);
+
+        List<GameDataDelta.Change> changes = GameDataDelta.between(before, removed);
+        assertTrue(paths(changes).contains("playersById/p2"));
+        assertTrue(changes.get(paths(changes).indexOf("playersById/p2")).delete);
+        assertEqualsAfterReplay(before, removed, changes);
+        assertEqualsAfterReplay(removed, before, GameDataDelta.between(removed, before));
+    }
+
+    @Test
+    public void unchangedGameHasNoChanges() {
+        assertEquals(0, GameDataDelta.between(game(4), game(4)).size());
+    }
+
+    @Test
+    public void roundScoreDeltaIsSmallerThanTheFullDocument() {
+        for (int players = 4; players <= 12; players += 4) {
+            GameData before = game(players);
+            Map<String, Integer> scores = new LinkedHashMap<>();
+            for (String playerId : before.getPlayerOrder()) {
+                scores.put(playerId, 20);
+            }
+            GameData after = GameOperationProjector.apply(before,
+                    GameOperationType.UPDATE_SCORE, null, GameOperationPayload.scores(7, scores));
+            long delta = GameDataDelta.estimateBytes(GameDataDelta.between(before, after));
+            long full = GameDataDelta.estimateBytes(GameDataSchema.toFirestoreData(after));
+            assertTrue(delta < full);
+        }
+    }
+
+    private static void assertEqualsAfterReplay(GameData before, GameData after,
+            List<GameDataDelta.Change> changes) {
+        Map<String, Object> document = storedForm(before);
+        for (GameDataDelta.Change change : changes) {
+            Map<String, Object> parent = document;
+            for (int index = 0; index < change.path.size() - 1; index++) {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> child =
+                        (Map<String, Object>) parent.get(change.path.get(index));
+                parent = child;
+            }
+            String leaf = change.path.get(change.path.size() - 1);
+            if (change.delete) {
+                parent.remove(leaf);
+            } else {
+                parent.put(leaf, change.value instanceof Player
+                        ? new LinkedHashMap<>(GameDataDelta.playerFields((Player) change.value))
+                        : change.value);
+            }
+        }
+        assertEquals(storedForm(after), document);
+    }
+
+    private static Map<String, Object> storedForm(GameData data) {
+        Map<String, Object> document = new LinkedHashMap<>(GameDataSchema.toFirestoreData(data));
+        Map<String, Object> players = new LinkedHashMap<>();
+        for (Map.Entry<String, Player> entry : data.getPlayersById().entrySet()) {
+            players.put(entry.getKey(),
+                    new LinkedHashMap<>(GameDataDelta.playerFields(entry.getValue())));
+        }
+        document.put("playersById", players);
+        return document;
+    }
+
+    private static List<String> paths(List<GameDataDelta.Change> changes) {
+        List<String> paths = new ArrayList<>();
+        for (GameDataDelta.Change change : changes) {
+            paths.add(String.join("/", change.path));
+        }
+        return paths;
+    }
+
+    private static GameData game(int playerCount) {
+        GameData data = new GameData();
+        data.setNumPlayers(playerCount);
+        data.setPointValue(0.5);
+        data.setGstPercent(10.0);
+        List<Player> players = new ArrayList<>();
+        for (int index = 1; index <= playerCount; index++) {
+            Player player = new Player();
+            player.setPlayerId("p" + index);
+            player.setName("Player " + index);
+            player.setUserId("user-" + index);
+            List<Integer> scores = new ArrayList<>();
+            for (int round = 0; round < 10; round++) {
+                scores.add(round < 6 ? (index + round) % 3 : -1);
+            }
+            player.setScores(scores);
+            players.add(player);
+        }
+        data.setPlayers(players);
+        // Stored documents carry the status written by the previous full set.
+        return GameDataCopies.deepCopy(data);
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.rummypulse.data.sync;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.example.rummypulse.data.GameData;
+import com.example.rummypulse.data.GameDataSchema;
+import com.example.rummypulse.data.Player;
+import com.google.gson.Gson;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class GameOperationBatchTest {
+    private static final Gson GSON = new Gson();
+    private long sequence;
+
+    @Test
+    public void eachOperationKeepsItsOwnRevision() {
+        GameData latest = game();
+        List<PendingGameOperation> operations = Arrays.asList(
+                scores(1, 5, 7),
+                operation(GameOperationType.RENAME_PLAYER, "p2",
+                        GameOperationPayload.rename("Second")),
+                scores(2, 0, 9));
+
+        GameOperationBatch batch = GameOperationBatch.plan(latest, 40L, "older-op", operations);
+
+        assertEquals(3, batch.steps.size());
+        assertEquals(40L, batch.steps.get(0).previousRevision);
+        assertEquals(41L, batch.steps.get(0).committedRevision);
+        assertEquals(42L, batch.steps.get(1).committedRevision);
+        assertEquals(43L, batch.steps.get(2).committedRevision);
+        assertEquals(43L, batch.revision);
+        assertEquals("op-3", batch.lastOperationId());
+        assertSame(batch.steps.get(0).after, batch.steps.get(1).before);
+        assertEquals(GSON.toJson(replay(latest, operations)), GSON.toJson(batch.result));
+    }
+
+    @Test
+    public void operationsUpToLastOperationIdAreSkipped() {
+        List<PendingGameOperation> operations = Arrays.asList(
+                scores(1, 5, 7), scores(2, 1, 2), scores(3, 3, 4));
+
+        GameOperationBatch partial = GameOperationBatch.plan(game(), 12L, "op-2", operations);
+        assertEquals(1, partial.steps.size());
+        assertEquals("op-3", partial.steps.get(0).operation.operationId);
+        assertEquals(13L, partial.revision);
+
+        GameOperationBatch applied = GameOperationBatch.plan(game(), 12L, "op-3", operations);
+        assertTrue(applied.isAlreadyApplied());
+        assertEquals(12L, applied.revision);
+    }
+
+    @Test
+    public void removedPlayerSnapshotComesFromStateBeforeTheDelete() {
+        List<PendingGameOperation> operations = Arrays.asList(
+                scores(1, 5, 7),
+                operation(GameOperationType.DELETE_PLAYER, "p2", null));
+
+        GameOperationBatch batch = GameOperationBatch.plan(game(), 0L, null, operations);
+
+        Player removed = GameOperationBatch.targetBefore(batch.steps.get(1));
+        assertEquals("u2", removed.getUserId());
+        assertEquals(Integer.valueOf(7), removed.getScores().get(0));
+        assertEquals(1, batch.result.getPlayers().size());
+    }
+
+    @Test
+    public void invalidOperationRejectsTheWholeBatch() {
+        GameOperationPayload incomplete = new GameOperationPayload();
+        incomplete.round1Based = 2;
+        try {
+            GameOperationBatch.plan(game(), 0L, null, Arrays.asList(
+                    scores(1, 5, 7),
+                    operation(GameOperationType.UPDATE_SCORE, null, incomplete)));
+            fail("Expected incomplete score rejection");
+        } catch (IllegalArgumentException expected) {
+            assertEquals("Round scores are incomplete.", expected.getMessage());
+        }
+    }
+
+    @Test
+    public void batchMustShareOneEditSession() {
+        PendingGameOperation later = scores(2, 1, 2);
+        later.editGeneration = 2L;
+        try {
+            GameOperationBatch.plan(game(), 0L, null, Arrays.asList(scores(1, 5, 7), later));
+            fail("Expected generation rejection");
+        } catch (IllegalArgumentException expected) {
+            assertEquals("A sync batch must belong to one game and edit session.",
+                    expected.getMessage());
+        }
+    }
+
+    @Test
+    public void batchAboveTheRulesCapIsRejected() {
+        List<PendingGameOperation> operations = new ArrayList<>();
+        for (int index = 0; index <= GameOperationBatch.MAX_SIZE; index++) {
+            operations.add(scores(index % 10 + 1, index, index + 1));
+        }
+        try {
+            GameOperationBatch.plan(game(), 0L, null, operations);
+            fail("Expected size rejection");
+        } catch (IllegalArgumentException expected) {
+            assertEquals("A sync batch must hold between 1 and 15 operations.",
+                    expected.getMessage());
+        }
+    }
+
+    @Test
+    public void backlogDrainsToTheSameRevisionAtEveryBatchSize() {
+        List<PendingGameOperation> backlog = new ArrayList<>();
+        for (int index = 0; index < 30; index++) {
+            backlog.add(scores(index % 10 + 1, index, index + 1));
+        }
+        GameData expected = replay(game(), backlog);
+        for (int size : new int[] {1, 5, 10, GameOperationBatch.MAX_SIZE}) {
+            GameData state = game();
+            long revision = 0L;
+            int transactions = 0;
+            for (int from = 0; from < backlog.size(); from += size) {
+                GameOperationBatch batch = GameOperationBatch.plan(state, revision, null,
+                        backlog.subList(from, Math.min(backlog.size(), from + size)));
+                state = batch.result;
+                revision = batch.revision;
+                transactions++;
+            }
+            assertEquals(30L, revision);
+            assertEquals((30 + size - 1) / size, transactions);
+            assertEquals(GSON.toJson(expected), GSON.toJson(state));
+        }
+    }
+
+    private static GameData replay(GameData latest, List<PendingGameOperation> operations) {
+        GameData value = latest;
+        for (PendingGameOperation operation : operations) {
+            value = GameOperationProjector.apply(value, operation);
+        }
+        return value;
+    }
+
+    private static GameData game() {
+        GameData data = new GameData();
+        data.setNumPlayers(2);
+        data.setPointValue(1.0);
+        data.setPlayers(new ArrayList<>(Arrays.asList(player("p1", "u1"), player("p2", "u2"))));
+        GameDataSchema.normalize(data);
+        return data;
+    }
+
+    private static Player player(String id, String userId) {
+        Player player = new Player();
+        player.setPlayerId(id);
+        player.setName(id);
+        player.setUserId(userId);
+        List<Integer> scores = new ArrayList<>();
+        for (int round = 0; round < 10; round++) {
+            scores.add(-1);
+        }
+        player.setScores(scores);
+        return player;
+    }
+
+    private PendingGameOperation scores(int round, int first, int second) {
+        Map<String, Integer> values = new LinkedHashMap<>();
+        values.put("p1", first);
+        values.put("p2", second);
+        return operation(GameOperationType.UPDATE_SCORE, null,
+                GameOperationPayload.scores(round, values));
+    }
+
+    private PendingGameOperation operation(
+            GameOperationType type, String playerId, GameOperationPayload payload) {
+        sequence++;
+        return new PendingGameOperation(
+                "op-" + sequence, "g1", 1L, playerId, sequence, type.name(),
+                GameOperationCodec.encodePayload(
+                        payload == null ? new GameOperationPayload() : payload),
+                GameOperationStatus.PENDING.name(), 0, null, sequence);
+    }
+}
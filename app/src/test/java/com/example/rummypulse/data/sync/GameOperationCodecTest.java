@@ -0,0 +1,145 @@
+package com.example.rummypulse.data.sync;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.example.rummypulse.data.GameData;
+import com.example.rummypulse.data.GameDataSchema;
+import com.example.rummypulse.data.Player;
+import com.google.firebase.Timestamp;
+import com.google.gson.Gson;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class GameOperationCodecTest {
+    private static final Gson GSON = new Gson();
+
+    @Test
+    public void gameRoundTripMatchesGsonForm() {
+        GameData game = game(6);
+        game.setLastUpdated(new Timestamp(1_700_000_000L, 123_000_000));
+        game.setVersion("2.1");
+        game.setGameStatus("Approved");
+        game.setMidGameJoinActiveRound(4);
+        game.setMidGameJoinBackfillScore(-3);
+        game.getPlayers().get(1).getScores().set(2, null);
+        game.getPlayers().get(2).setUserId(null);
+        game.getPlayers().get(3).setIsCreator(null);
+        GameDataSchema.normalize(game);
+
+        GameData decoded = GameOperationCodec.decodeGame(GameOperationCodec.encodeGame(game));
+
+        assertEquals(GSON.toJson(game), GSON.toJson(decoded));
+    }
+
+    @Test
+    public void payloadRoundTripKeepsEveryField() {
+        Map<String, Integer> scores = new LinkedHashMap<>();
+        scores.put("p2", 0);
+        scores.put("p1", 80);
+        GameOperationPayload payload = GameOperationPayload.scores(3, scores, true);
+        payload.playerOrder = Arrays.asList("p2", "p1", "p3");
+        payload.fromPlayerId = "p3";
+        payload.name = "Rénamed";
+        payload.userId = "uid";
+        payload.userDisplayName = "User";
+        payload.player = player(3, 5);
+
+        GameOperationPayload decoded =
+                GameOperationCodec.decodePayload(GameOperationCodec.encodePayload(payload));
+
+        assertEquals(GSON.toJson(payload), GSON.toJson(decoded));
+        assertEquals(Arrays.asList("p2", "p1"),
+                new ArrayList<>(decoded.scoresByPlayerId.keySet()));
+    }
+
+    @Test
+    public void emptyPayloadRoundTrips() {
+        GameOperationPayload decoded = GameOperationCodec.decodePayload(
+                GameOperationCodec.encodePayload(new GameOperationPayload()));
+
+        assertNull(decoded.round1Based);
+        assertNull(decoded.correction);
+        assertNull(decoded.player);
+    }
+
+    @Test
+    public void legacyJsonRowsConvert() {
+        GameData game = game(4);
+        GameDataSchema.normalize(game);
+        byte[] snapshot = LegacyJsonRecords.snapshot(GSON.toJson(game));
+        assertEquals(GSON.toJson(game), GSON.toJson(GameOperationCodec.decodeGame(snapshot)));
+
+        GameOperationPayload payload = GameOperationPayload.order(Arrays.asList("p2", "p1"));
+        byte[] converted = LegacyJsonRecords.payload(GSON.toJson(payload));
+        assertEquals(payload.playerOrder,
+                GameOperationCodec.decodePayload(converted).playerOrder);
+
+        assertNull(LegacyJsonRecords.snapshot("{not json"));
+        assertNull(LegacyJsonRecords.payload("[1, 2"));
+    }
+
+    @Test
+    public void truncatedOrUnknownRecordsAreRejected() {
+        byte[] encoded = GameOperationCodec.encodeGame(game(4));
+        try {
+            GameOperationCodec.decodeGame(Arrays.copyOf(encoded, encoded.length - 3));
+            fail("Expected truncated record rejection");
+        } catch (IllegalStateException expected) {
+            assertEquals("Corrupt operation record.", expected.getMessage());
+        }
+        encoded[0] = 9;
+        try {
+            GameOperationCodec.decodeGame(encoded);
+            fail("Expected format rejection");
+        } catch (IllegalStateException expected) {
+            assertTrue(expected.getMessage().startsWith("Unsupported game snapshot format"));
+        }
+    }
+
+    @Test
+    public void binaryFormIsSmallerThanGson() {
+        for (int players = 4; players <= 12; players += 4) {
+            GameData game = game(players);
+            GameDataSchema.normalize(game);
+            assertTrue(GameOperationCodec.encodeGame(game).length
+                    < GSON.toJson(game).getBytes().length);
+        }
+    }
+
+    private static GameData game(int playerCount) {
+        GameData data = new GameData();
+        data.setNumPlayers(playerCount);
+        data.setPointValue(0.5);
+        data.setGstPercent(18.0);
+        List<Player> players = new ArrayList<>();
+        for (int index = 1; index <= playerCount; index++) {
+            players.add(player(index, 6));
+        }
+        data.setPlayers(players);
+        return data;
+    }
+
+    private static Player player(int index, int completedRounds) {
+        Player player = new Player();
+        player.setPlayerId("p" + index);
+        player.setName("Player " + index);
+        player.setUserId("user-" + index);
+        player.setIsCreator(index == 1);
+        player.setRandomNumber(1000 + index);
+        List<Integer> scores = new ArrayList<>();
+        for (int round = 0; round < 10; round++) {
+            scores.add(round < completedRounds ? (index * 7 + round * 3) % 81 : -1);
+        }
+        player.setScores(scores);
+        return player;
+    }
+}
@@ -0,0 +1,316 @@
+package com.example.rummypulse.data.sync;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.example.rummypulse.data.GameData;
+import com.example.rummypulse.data.GameDataSchema;
+import com.example.rummypulse.data.Player;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+
+public class GameOperationCompactorTest {
+    private static final String[] USERS = {"u1", "u2", "u3", "u4", "u5", "u6"};
+
+    private long sequence;
+    private int addedCount;
+
+    @Test
+    public void addRenameMapKeepsAddAndMap() {
+        Player added = newPlayer("new-1", "Guest", null);
+        List<PendingGameOperation> tail = Arrays.asList(
+                operation(GameOperationType.ADD_PLAYER, null,
+                        GameOperationPayload.player(added)),
+                operation(GameOperationType.RENAME_PLAYER, "new-1",
+                        GameOperationPayload.rename("Asha")),
+                operation(GameOperationType.MAP_USER, "new-1",
+                        GameOperationPayload.mapping("u9", "Asha K", "Asha")));
+
+        GameOperationCompactor.Plan plan = GameOperationCompactor.compact(tail);
+
+        assertEquals(types(GameOperationType.ADD_PLAYER, GameOperationType.MAP_USER),
+                types(plan.operations));
+        assertEquals(Collections.singletonList("op-2"), plan.deletedOperationIds);
+        assertSameOutcome(game(3), tail, plan.operations);
+    }
+
+    @Test
+    public void mapThenUnmapBecomesOneUnmapThatRevokesTheMappedUser() {
+        List<PendingGameOperation> tail = Arrays.asList(
+                operation(GameOperationType.MAP_USER, "p2",
+                        GameOperationPayload.mapping("u9", "Asha K", "Asha")),
+                operation(GameOperationType.UNMAP_USER, "p2", new GameOperationPayload()));
+
+        GameOperationCompactor.Plan plan = GameOperationCompactor.compact(tail);
+
+        assertEquals(1, plan.operations.size());
+        GameOperationPayload unmap =
+                GameOperationCodec.decodePayload(plan.operations.get(0).payloadBlob);
+        assertEquals(Collections.singletonList("u9"), unmap.revokeUserIds);
+        assertEquals("Asha", unmap.name);
+        assertSameOutcome(game(3), tail, plan.operations);
+    }
+
+    @Test
+    public void addThenDeleteCancelsOnlyWithoutDependentOperations() {
+        Player added = newPlayer("new-1", "Guest", null);
+        List<PendingGameOperation> cancels = Arrays.asList(
+                operation(GameOperationType.ADD_PLAYER, null,
+                        GameOperationPayload.player(added)),
+                scores(1, "p1", 10),
+                operation(GameOperationType.DELETE_PLAYER, "new-1", null));
+        assertEquals(types(GameOperationType.UPDATE_SCORE),
+                types(GameOperationCompactor.compact(cancels).operations));
+
+        List<PendingGameOperation> scored = Arrays.asList(
+                operation(GameOperationType.ADD_PLAYER, null,
+                        GameOperationPayload.player(added)),
+                scores(1, "new-1", 10),
+                operation(GameOperationType.DELETE_PLAYER, "new-1", null));
+        assertEquals(3, GameOperationCompactor.compact(scored).operations.size());
+    }
+
+    @Test
+    public void sameRoundScoresMergeAcrossIndependentOperations() {
+        List<PendingGameOperation> tail = Arrays.asList(
+                scores(2, "p1", 10),
+                operation(GameOperationType.RENAME_PLAYER, "p3",
+                        GameOperationPayload.rename("Third")),
+                scores(2, "p2", 4));
+
+        GameOperationCompactor.Plan plan = GameOperationCompactor.compact(tail);
+
+        assertEquals(types(GameOperationType.UPDATE_SCORE, GameOperationType.RENAME_PLAYER),
+                types(plan.operations));
+        assertEquals("op-1", plan.operations.get(0).operationId);
+        assertSameOutcome(game(3), tail, plan.operations);
+    }
+
+    @Test
+    public void attemptedOperationsAreNotPartOfTheTail() {
+        PendingGameOperation first = scores(1, "p1", 3);
+        PendingGameOperation attempted = scores(1, "p2", 4);
+        attempted.attemptCount = 1;
+        PendingGameOperation last = scores(1, "p3", 5);
+
+        assertEquals(Collections.singletonList(last),
+                GameOperationCompactor.pendingTail(Arrays.asList(first, attempted, last)));
+    }
+
+    /**
+     * Random tails that a user could have produced against the local projection: the
+     * compacted tail must project to the same game and leave the same view approvals.
+     */
+    @Test
+    public void randomTailsProjectToTheSameState() {
+        Random random = new Random(18L);
+        int original = 0;
+        int compacted = 0;
+        for (int round = 0; round < 3000; round++) {
+            sequence = 0;
+            GameData base = game(2 + random.nextInt(4));
+            for (Player player : base.getPlayers()) {
+                if (random.nextBoolean()) player.setUserId(USERS[random.nextInt(USERS.length)]);
+            }
+            dedupeUsers(base);
+            List<PendingGameOperation> tail = randomTail(base, random, 1 + random.nextInt(12));
+            GameOperationCompactor.Plan plan = GameOperationCompactor.compact(tail);
+            assertSameOutcome(base, tail, plan.operations);
+            assertEquals(tail.size(),
+                    plan.operations.size() + plan.deletedOperationIds.size());
+            original += tail.size();
+            compacted += plan.operations.size();
+        }
+        assertTrue("rules never fired", compacted < original * 9 / 10);
+    }
+
+    private List<PendingGameOperation> randomTail(GameData base, Random random, int length) {
+        List<PendingGameOperation> tail = new ArrayList<>();
+        GameData state = GameDataCopies.deepCopy(base);
+        int guard = 0;
+        while (tail.size() < length && guard++ < length * 20) {
+            PendingGameOperation operation = randomOperation(state, random);
+            if (operation == null) continue;
+            try {
+                state = GameOperationProjector.apply(state, operation);
+                tail.add(operation);
+            } catch (RuntimeException invalid) {
+                sequence--;
+            }
+        }
+        return tail;
+    }
+
+    private PendingGameOperation randomOperation(GameData state, Random random) {
+        List<Player> players = state.getPlayers();
+        Player target = players.isEmpty() ? null : players.get(random.nextInt(players.size()));
+        String user = USERS[random.nextInt(USERS.length)];
+        switch (random.nextInt(9)) {
+            case 0:
+            case 1:
+                if (players.isEmpty()) return null;
+                Map<String, Integer> scores = new LinkedHashMap<>();
+                for (Player player : players) {
+                    if (random.nextBoolean()) scores.put(player.getPlayerId(), random.nextInt(40));
+                }
+                if (scores.isEmpty()) return null;
+                return operation(GameOperationType.UPDATE_SCORE, null,
+                        GameOperationPayload.scores(1 + random.nextInt(3), scores,
+                                random.nextInt(4) == 0));
+            case 2:
+                return target == null ? null : operation(GameOperationType.RENAME_PLAYER,
+                        target.getPlayerId(),
+                        GameOperationPayload.rename("Name " + random.nextInt(5)));
+            case 3:
+                return target == null ? null : operation(GameOperationType.MAP_USER,
+                        target.getPlayerId(),
+                        GameOperationPayload.mapping(user, "User " + user,
+                                "Mapped " + random.nextInt(5)));
+            case 4:
+                return target == null ? null : operation(GameOperationType.UNMAP_USER,
+                        target.getPlayerId(), new GameOperationPayload());
+            case 5:
+                if (target == null || target.getUserId() == null || players.size() < 2) {
+                    return null;
+                }
+                Player to = players.get(random.nextInt(players.size()));
+                return operation(GameOperationType.TRANSFER_MAPPING, to.getPlayerId(),
+                        GameOperationPayload.transfer(target.getPlayerId(),
+                                target.getUserId(), "User", "Moved " + random.nextInt(5)));
+            case 6:
+                List<String> order = new ArrayList<>(state.getPlayerOrder());
+                Collections.shuffle(order, random);
+                return operation(GameOperationType.SET_PLAYER_ORDER, null,
+                        GameOperationPayload.order(order));
+            case 7:
+                Player added = newPlayer("new-" + (++addedCount), "Guest",
+                        random.nextInt(4) == 0 ? user : null);
+                return operation(GameOperationType.ADD_PLAYER, null,
+                        GameOperationPayload.player(added));
+            default:
+                return target == null ? null : operation(GameOperationType.DELETE_PLAYER,
+                        target.getPlayerId(), null);
+        }
+    }
+
+    private static void assertSameOutcome(GameData base, List<PendingGameOperation> original,
+            List<PendingGameOperation> compacted) {
+        Map<String, String> expectedApprovals = approvals(base);
+        Map<String, String> actualApprovals = approvals(base);
+        GameData expected = replay(base, original, expectedApprovals);
+        GameData actual = replay(base, compacted, actualApprovals);
+        // deepCopy stores the status computed before each step, so it trails the state by one
+        // operation and depends on how many were replayed. The computed status follows the
+        // players, which are compared.
+        expected.setGameStatus(null);
+        actual.setGameStatus(null);
+        assertArrayEquals(GameOperationCodec.encodeGame(expected),
+                GameOperationCodec.encodeGame(actual));
+        assertEquals(expectedApprovals, actualApprovals);
+    }
+
+    /** Projects {@code operations}, applying the approval changes the remote applier makes. */
+    private static GameData replay(GameData base, List<PendingGameOperation> operations,
+            Map<String, String> approvals) {
+        GameData state = GameDataCopies.deepCopy(base);
+        for (PendingGameOperation operation : operations) {
+            Player before = operation.playerId == null
+                    ? null : GameDataSchema.findPlayer(state, operation.playerId);
+            GameOperationPayload payload =
+                    GameOperationCodec.decodePayload(operation.payloadBlob);
+            state = GameOperationProjector.apply(state, operation);
+            for (GameOperationApprovals.Change change : GameOperationApprovals.changes(
+                    operation.operationType(), payload,
+                    before == null ? null : before.getUserId(),
+                    operation.operationType() == GameOperationType.DELETE_PLAYER
+                            ? before : null)) {
+                if (change.approve) {
+                    approvals.put(change.userId, change.displayName);
+                } else {
+                    approvals.remove(change.userId);
+                }
+            }
+        }
+        return state;
+    }
+
+    /** Mapped users start approved, plus one viewer that mappings may later pick up. */
+    private static Map<String, String> approvals(GameData base) {
+        Map<String, String> approvals = new TreeMap<>();
+        for (Player player : base.getPlayers()) {
+            if (player.getUserId() != null) approvals.put(player.getUserId(), "existing");
+        }
+        approvals.put("u6", "viewer");
+        return approvals;
+    }
+
+    private static void dedupeUsers(GameData data) {
+        Set<String> seen = new HashSet<>();
+        for (Player player : data.getPlayers()) {
+            if (player.getUserId() != null && !seen.add(player.getUserId())) {
+                player.setUserId(null);
+            }
+        }
+        GameDataSchema.normalize(data);
+    }
+
+    private PendingGameOperation scores(int round, String playerId, int score) {
+        Map<String, Integer> scores = new LinkedHashMap<>();
+        scores.put(playerId, score);
+        return operation(GameOperationType.UPDATE_SCORE, null,
+                GameOperationPayload.scores(round, scores));
+    }
+
+    private PendingGameOperation operation(GameOperationType type, String playerId,
+            GameOperationPayload payload) {
+        sequence++;
+        return new PendingGameOperation("op-" + sequence, "game", 1L, playerId, sequence,
+                type.name(),
+                GameOperationCodec.encodePayload(
+                        payload == null ? new GameOperationPayload() : payload),
+                GameOperationStatus.PENDING.name(), 0, null, sequence);
+    }
+
+    private static List<GameOperationType> types(GameOperationType... types) {
+        return Arrays.asList(types);
+    }
+
+    private static List<GameOperationType> types(List<PendingGameOperation> operations) {
+        List<GameOperationType> types = new ArrayList<>();
+        for (PendingGameOperation operation : operations) types.add(operation.operationType());
+        return types;
+    }
+
+    private static Player newPlayer(String playerId, String name, String userId) {
+        Player player = new Player();
+        player.setPlayerId(playerId);
+        player.setName(name);
+        player.setUserId(userId);
+        player.setScores(new ArrayList<>(Collections.nCopies(10, -1)));
+        return player;
+    }
+
+    private static GameData game(int playerCount) {
+        GameData data = new GameData();
+        List<Player> players = new ArrayList<>();
+        for (int index = 1; index <= playerCount; index++) {
+            players.add(newPlayer("p" + index, "Player " + index, null));
+        }
+        data.setPlayers(players);
+        data.setNumPlayers(playerCount);
+        GameDataSchema.normalize(data);
+        return data;
+    }
+}
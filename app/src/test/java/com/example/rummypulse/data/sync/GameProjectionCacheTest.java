@@ -0,0 +1,144 @@
+package com.example.rummypulse.data.sync;
+
+import static org.junit.Assert.assertEquals;
+
+import com.example.rummypulse.data.GameData;
+import com.example.rummypulse.data.Player;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class GameProjectionCacheTest {
+    private final GameProjectionCache cache = new GameProjectionCache();
+    private long sequence;
+
+    @Test
+    public void newOperationsApplyOnTopOfPreviousProjection() {
+        GameSnapshotEntity snapshot = snapshot(1L, 1L);
+        List<PendingGameOperation> active = new ArrayList<>();
+        active.add(scores(1, 5, 7));
+        assertEquals(12, cache.project(snapshot, active).getTotalScore());
+
+        active.add(scores(2, 1, 2));
+        active.add(scores(3, 3, 4));
+        GameData projected = cache.project(snapshot, active);
+
+        assertEquals(22, projected.getTotalScore());
+        assertEquals(3L, cache.getAppliedCount());
+        assertEquals(projected.getTotalScore(), replay(snapshot, active).getTotalScore());
+    }
+
+    @Test
+    public void coalescedNewestPayloadRewindsOneStep() {
+        GameSnapshotEntity snapshot = snapshot(1L, 1L);
+        List<PendingGameOperation> active = new ArrayList<>();
+        active.add(scores(1, 5, 7));
+        active.add(scores(2, 1, 2));
+        cache.project(snapshot, active);
+
+        active.get(1).payloadBlob = payloadBlob(2, 10, 20);
+        GameData projected = cache.project(snapshot, active);
+
+        assertEquals(42, projected.getTotalScore());
+        assertEquals(3L, cache.getAppliedCount());
+    }
+
+    @Test
+    public void replacedSnapshotOrGenerationReplaysFromNewBase() {
+        List<PendingGameOperation> active = new ArrayList<>();
+        active.add(scores(1, 5, 7));
+        active.add(scores(2, 1, 2));
+        cache.project(snapshot(1L, 1L), active);
+
+        // The worker acknowledged round 1 and stored the server's game.
+        active.remove(0);
+        GameSnapshotEntity acknowledged = snapshot(2L, 1L, 5, 7);
+        assertEquals(15, cache.project(acknowledged, active).getTotalScore());
+        assertEquals(3L, cache.getAppliedCount());
+
+        GameSnapshotEntity nextSession = snapshot(2L, 2L, 5, 7);
+        assertEquals(15, cache.project(nextSession, active).getTotalScore());
+        assertEquals(4L, cache.getAppliedCount());
+    }
+
+    @Test
+    public void removedEarlierOperationReplaysRemainingQueue() {
+        GameSnapshotEntity snapshot = snapshot(1L, 1L);
+        List<PendingGameOperation> active = new ArrayList<>();
+        active.add(scores(1, 5, 7));
+        active.add(scores(2, 1, 2));
+        active.add(scores(3, 3, 4));
+        cache.project(snapshot, active);
+
+        active.remove(1);
+        GameData projected = cache.project(snapshot, active);
+
+        assertEquals(19, projected.getTotalScore());
+        assertEquals(5L, cache.getAppliedCount());
+    }
+
+    @Test
+    public void projectionIsNotMutatedByLaterOperations() {
+        GameSnapshotEntity snapshot = snapshot(1L, 1L);
+        List<PendingGameOperation> active = new ArrayList<>();
+        active.add(scores(1, 5, 7));
+        GameData first = cache.project(snapshot, active);
+
+        active.add(scores(2, 1, 2));
+        cache.project(snapshot, active);
+
+        assertEquals(12, first.getTotalScore());
+    }
+
+    private GameData replay(GameSnapshotEntity snapshot, List<PendingGameOperation> active) {
+        GameData value = GameOperationCodec.decodeGame(snapshot.snapshotBlob);
+        for (PendingGameOperation operation : active) {
+            value = GameOperationProjector.apply(value, operation);
+        }
+        return value;
+    }
+
+    private static GameSnapshotEntity snapshot(long revision, long generation,
+            Integer... roundOne) {
+        GameData data = new GameData();
+        data.setNumPlayers(2);
+        data.setPointValue(1.0);
+        data.setPlayers(new ArrayList<>(Arrays.asList(
+                player("p1", roundOne.length > 0 ? roundOne[0] : -1),
+                player("p2", roundOne.length > 1 ? roundOne[1] : -1))));
+        return new GameSnapshotEntity(
+                "g1", GameOperationCodec.encodeGame(data), revision, generation, revision);
+    }
+
+    private static Player player(String id, int roundOne) {
+        Player player = new Player();
+        player.setPlayerId(id);
+        player.setName(id);
+        List<Integer> scores = new ArrayList<>();
+        for (int round = 0; round < 10; round++) {
+            scores.add(round == 0 ? roundOne : -1);
+        }
+        player.setScores(scores);
+        return player;
+    }
+
+    private PendingGameOperation scores(int round, int first, int second) {
+        sequence++;
+        return new PendingGameOperation(
+                "op-" + sequence, "g1", 1L, null, sequence,
+                GameOperationType.UPDATE_SCORE.name(), payloadBlob(round, first, second),
+                GameOperationStatus.PENDING.name(), 0, null, sequence);
+    }
+
+    private static byte[] payloadBlob(int round, int first, int second) {
+        Map<String, Integer> values = new LinkedHashMap<>();
+        values.put("p1", first);
+        values.put("p2", second);
+        return GameOperationCodec.encodePayload(GameOperationPayload.scores(round, values));
+    }
+}
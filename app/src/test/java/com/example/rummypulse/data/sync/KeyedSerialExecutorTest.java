@@ -0,0 +1,116 @@
+package com.example.rummypulse.data.sync;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class KeyedSerialExecutorTest {
+
+    @Test
+    public void tasksForOneKeyRunInSubmissionOrder() throws Exception {
+        ExecutorService pool = KeyedSerialExecutor.newPool(4, "test");
+        KeyedSerialExecutor executor = new KeyedSerialExecutor(pool);
+        Map<String, List<Integer>> seen = new HashMap<>();
+        CountDownLatch done = new CountDownLatch(400);
+        for (int index = 0; index < 100; index++) {
+            for (String key : new String[] {"a", "b", "c", "d"}) {
+                int value = index;
+                executor.execute(key, () -> {
+                    synchronized (seen) {
+                        seen.computeIfAbsent(key, ignored -> new ArrayList<>()).add(value);
+                    }
+                    done.countDown();
+                });
+            }
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        pool.shutdown();
+        for (List<Integer> values : seen.values()) {
+            List<Integer> sorted = new ArrayList<>(values);
+            Collections.sort(sorted);
+            assertEquals(sorted, values);
+            assertEquals(100, values.size());
+        }
+    }
+
+    @Test
+    public void blockedKeyDoesNotStallOtherKeys() throws Exception {
+        ExecutorService pool = KeyedSerialExecutor.newPool(2, "test");
+        KeyedSerialExecutor executor = new KeyedSerialExecutor(pool);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherRan = new CountDownLatch(1);
+        CountDownLatch slowDrained = new CountDownLatch(1);
+        executor.execute("slow", () -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.execute("slow", slowDrained::countDown);
+        executor.execute("fast", otherRan::countDown);
+
+        assertTrue(otherRan.await(5, TimeUnit.SECONDS));
+        assertEquals(2, executor.stats("slow").queueDepth);
+        release.countDown();
+        assertTrue(slowDrained.await(5, TimeUnit.SECONDS));
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(0, executor.stats("slow").queueDepth);
+        assertEquals(2L, executor.stats("slow").completedCount);
+    }
+
+    @Test
+    public void laneReleasesItsSlotAfterEveryTask() {
+        ArrayDeque<Runnable> pool = new ArrayDeque<>();
+        KeyedSerialExecutor executor = new KeyedSerialExecutor(pool::add);
+        List<String> order = new ArrayList<>();
+        executor.execute("a", () -> order.add("a1"));
+        executor.execute("a", () -> order.add("a2"));
+        executor.execute("b", () -> order.add("b1"));
+
+        assertEquals(2, pool.size());
+        while (!pool.isEmpty()) {
+            pool.poll().run();
+        }
+        assertEquals(Arrays.asList("a1", "b1", "a2"), order);
+    }
+
+    @Test
+    public void waitTimesAreMeasuredFromSubmission() {
+        ArrayDeque<Runnable> pool = new ArrayDeque<>();
+        long[] now = {0L};
+        KeyedSerialExecutor executor = new KeyedSerialExecutor(pool::add, () -> now[0]);
+        executor.execute("g1", () -> now[0] += 30_000_000L);
+        executor.execute("g1", () -> { });
+        executor.execute(null, () -> { });
+        assertEquals(2, executor.stats("g1").queueDepth);
+
+        now[0] = 10_000_000L;
+        while (!pool.isEmpty()) {
+            pool.poll().run();
+        }
+
+        KeyedSerialExecutor.LaneStats stats = executor.stats("g1");
+        assertEquals(0, stats.queueDepth);
+        assertEquals(2L, stats.completedCount);
+        assertEquals(40L, stats.lastWaitMillis);
+        assertEquals(40L, stats.maxWaitMillis);
+        assertEquals(25.0, stats.averageWaitMillis(), 0.0001);
+        assertEquals(1L, executor.stats(null).completedCount);
+        assertEquals(2, executor.allStats().size());
+        assertEquals(0L, executor.stats("unknown").completedCount);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.rummypulse.data.sync;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.example.rummypulse.data.GameData;
+import com.example.rummypulse.data.GameDataSchema;
+import com.example.rummypulse.data.Player;
+import com.example.rummypulse.data.RoundScorePatch;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class PendingRoundCatchUpTest {
+    private static final long GENERATION = 4L;
+
+    @Test
+    public void allRoundsLandOnOneCopyInRoundOrder() {
+        GameData base = game(player("p1", "u1"), player("p2", null));
+        List<RoundScorePatch> pending = Arrays.asList(
+                patch(3, GENERATION, "p:p1", 30, "p:p2", 31),
+                patch(1, GENERATION, "p:p1", 10, "p:p2", 11),
+                patch(2, GENERATION, "u:u1", 20, "n:Name p2", 21));
+
+        PendingRoundCatchUp.Plan plan = PendingRoundCatchUp.plan(base, pending, GENERATION);
+
+        assertEquals(Arrays.asList(1, 2, 3), rounds(plan.accepted));
+        assertEquals(3, plan.payloads.size());
+        assertEquals(Integer.valueOf(20), plan.payloads.get(1).scoresByPlayerId.get("p1"));
+        assertEquals(Integer.valueOf(21), plan.payloads.get(1).scoresByPlayerId.get("p2"));
+        assertEquals(Arrays.asList(10, 20, 30),
+                GameDataSchema.findPlayer(plan.projected, "p1").getScores().subList(0, 3));
+        assertEquals(Integer.valueOf(-1),
+                GameDataSchema.findPlayer(base, "p1").getScores().get(0));
+    }
+
+    @Test
+    public void otherSessionsAndMissingPlayersAreSetAside() {
+        GameData base = game(player("p1", null), player("p2", null));
+        List<RoundScorePatch> pending = Arrays.asList(
+                patch(1, GENERATION - 1, "p:p1", 10, "p:p2", 11),
+                patch(2, GENERATION, "p:p1", 20, "p:gone", 21),
+                patch(3, GENERATION, "p:p1", 30, "p:p2", 31));
+
+        PendingRoundCatchUp.Plan plan = PendingRoundCatchUp.plan(base, pending, GENERATION);
+
+        assertEquals(Collections.singletonList(3), rounds(plan.accepted));
+        assertEquals(Collections.singletonList(1), rounds(plan.otherSessions));
+        assertEquals(Collections.singletonList(2), rounds(plan.unresolved));
+        assertEquals(Integer.valueOf(-1),
+                GameDataSchema.findPlayer(plan.projected, "p1").getScores().get(1));
+    }
+
+    @Test
+    public void correctionsKeepTheirFlagAndMayReplaceScores() {
+        Player first = player("p1", null);
+        first.getScores().set(0, 12);
+        GameData base = game(first, player("p2", null));
+        List<RoundScorePatch> pending = Collections.singletonList(new RoundScorePatch(1, true,
+                GENERATION, Collections.singletonList(new RoundScorePatch.Entry("p:p1", 15))));
+
+        PendingRoundCatchUp.Plan plan = PendingRoundCatchUp.plan(base, pending, GENERATION);
+
+        assertTrue(plan.payloads.get(0).correction);
+        assertEquals(Integer.valueOf(15),
+                GameDataSchema.findPlayer(plan.projected, "p1").getScores().get(0));
+    }
+
+    private static List<Integer> rounds(List<RoundScorePatch> patches) {
+        List<Integer> rounds = new ArrayList<>();
+        for (RoundScorePatch patch : patches) rounds.add(patch.getRound1Based());
+        return rounds;
+    }
+
+    private static RoundScorePatch patch(int round, long generation, String firstIdentity,
+            int firstScore, String secondIdentity, int secondScore) {
+        return new RoundScorePatch(round, false, generation, Arrays.asList(
+                new RoundScorePatch.Entry(firstIdentity, firstScore),
+                new RoundScorePatch.Entry(secondIdentity, secondScore)));
+    }
+
+    private static Player player(String playerId, String userId) {
+        Player player = new Player();
+        player.setPlayerId(playerId);
+        player.setName("Name " + playerId);
+        player.setUserId(userId);
+        player.setScores(new ArrayList<>(Collections.nCopies(10, -1)));
+        return player;
+    }
+
+    private static GameData game(Player... players) {
+        GameData data = new GameData();
+        data.setPlayers(new ArrayList<>(Arrays.asList(players)));
+        data.setNumPlayers(players.length);
+        GameDataSchema.normalize(data);
+        return data;
+    }
+}
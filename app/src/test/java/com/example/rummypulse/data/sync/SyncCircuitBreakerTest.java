@@ -0,0 +1,66 @@
+package com.example.rummypulse.data.sync;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class SyncCircuitBreakerTest {
+
+    @Test
+    public void consecutiveTransientFailuresOpenTheCircuit() {
+        SyncCircuitBreaker breaker = new SyncCircuitBreaker(3, 1_000L, 10_000L);
+
+        breaker.recordTransientFailure(0L);
+        assertEquals(1_000L, breaker.backoffMillis());
+        breaker.recordTransientFailure(0L);
+        assertEquals(2_000L, breaker.backoffMillis());
+        assertTrue(breaker.allowRequest(0L));
+
+        breaker.recordTransientFailure(100L);
+        assertEquals(SyncCircuitBreaker.State.OPEN, breaker.state(100L));
+        assertFalse(breaker.allowRequest(4_000L));
+        assertEquals(100L, breaker.remainingOpenMillis(4_000L));
+    }
+
+    @Test
+    public void halfOpenLetsOneTrialThrough() {
+        SyncCircuitBreaker breaker = new SyncCircuitBreaker(1, 1_000L, 10_000L);
+        breaker.recordTransientFailure(0L);
+
+        assertEquals(SyncCircuitBreaker.State.HALF_OPEN, breaker.state(1_000L));
+        assertTrue(breaker.allowRequest(1_000L));
+        assertFalse(breaker.allowRequest(1_000L));
+
+        breaker.recordSuccess();
+        assertEquals(SyncCircuitBreaker.State.CLOSED, breaker.state(1_000L));
+        assertTrue(breaker.allowRequest(1_000L));
+        assertTrue(breaker.allowRequest(1_000L));
+        assertEquals(0L, breaker.backoffMillis());
+    }
+
+    @Test
+    public void failedTrialReopensForLongerUpToTheCap() {
+        SyncCircuitBreaker breaker = new SyncCircuitBreaker(1, 1_000L, 3_000L);
+        breaker.recordTransientFailure(0L);
+        assertTrue(breaker.allowRequest(1_000L));
+
+        breaker.recordTransientFailure(1_000L);
+        assertEquals(2_000L, breaker.remainingOpenMillis(1_000L));
+
+        assertTrue(breaker.allowRequest(3_000L));
+        breaker.recordTransientFailure(3_000L);
+        assertEquals(3_000L, breaker.remainingOpenMillis(3_000L));
+    }
+
+    @Test
+    public void releasedTrialCanBeRetaken() {
+        SyncCircuitBreaker breaker = new SyncCircuitBreaker(1, 1_000L, 10_000L);
+        breaker.recordTransientFailure(0L);
+        assertTrue(breaker.allowRequest(2_000L));
+        breaker.releaseTrial();
+
+        assertTrue(breaker.allowRequest(2_000L));
+    }
+}
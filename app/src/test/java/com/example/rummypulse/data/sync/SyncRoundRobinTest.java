@@ -0,0 +1,67 @@
+package com.example.rummypulse.data.sync;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class SyncRoundRobinTest {
+
+    @Test
+    public void gamesWithMoreWorkRejoinTheBack() {
+        SyncRoundRobin order = new SyncRoundRobin();
+        order.offer(Arrays.asList("a", "b", "c"));
+
+        assertEquals(Arrays.asList("a", "b"), order.nextTurn(2));
+        order.finishTurn("a", true);
+        order.finishTurn("b", false);
+
+        assertEquals(Arrays.asList("c", "a"), order.nextTurn(2));
+    }
+
+    @Test
+    public void rediscoveredGamesAreNotQueuedTwice() {
+        SyncRoundRobin order = new SyncRoundRobin();
+        order.offer(Arrays.asList("a", "b"));
+        List<String> turn = order.nextTurn(1);
+        order.offer(Arrays.asList("a", "b", "c"));
+        order.finishTurn(turn.get(0), true);
+
+        assertEquals(Arrays.asList("b", "c", "a"), order.nextTurn(5));
+    }
+
+    @Test
+    public void drainedGameCanBeQueuedAgainLater() {
+        SyncRoundRobin order = new SyncRoundRobin();
+        order.offer(Collections.singletonList("a"));
+        order.nextTurn(1);
+        order.finishTurn("a", false);
+        assertTrue(order.isEmpty());
+
+        order.offer(Collections.singletonList("a"));
+        assertEquals(Collections.singletonList("a"), order.nextTurn(1));
+    }
+
+    @Test
+    public void longBacklogDoesNotStarveOtherGames() {
+        SyncRoundRobin order = new SyncRoundRobin();
+        order.offer(Arrays.asList("big", "small"));
+        int[] remaining = {10, 1};
+        List<String> served = new ArrayList<>();
+        while (!order.isEmpty()) {
+            for (String gameId : order.nextTurn(1)) {
+                served.add(gameId);
+                int slot = gameId.equals("big") ? 0 : 1;
+                remaining[slot]--;
+                order.finishTurn(gameId, remaining[slot] > 0);
+            }
+        }
+        assertEquals(1, served.indexOf("small"));
+        assertEquals(11, served.size());
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.rummypulse.data.sync;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class SyncTelemetryReportTest {
+    private static final long NOW = 10L * SyncTelemetryReport.WINDOW_MILLIS;
+
+    @Test
+    public void percentilesUseNearestRank() {
+        List<Long> samples = new ArrayList<>();
+        for (long value = 100; value >= 1; value--) {
+            samples.add(value);
+        }
+
+        SyncTelemetryReport.Percentiles percentiles = SyncTelemetryReport.percentiles(samples);
+
+        assertEquals(100, percentiles.count);
+        assertEquals(50L, percentiles.p50);
+        assertEquals(90L, percentiles.p90);
+        assertEquals(99L, percentiles.p99);
+        assertEquals(100L, percentiles.max);
+
+        SyncTelemetryReport.Percentiles single =
+                SyncTelemetryReport.percentiles(Collections.singletonList(7L));
+        assertEquals(7L, single.p50);
+        assertEquals(7L, single.p99);
+        assertEquals(0, SyncTelemetryReport.percentiles(Collections.<Long>emptyList()).count);
+    }
+
+    @Test
+    public void windowCoversRecentRowsButQueuedRowsAlwaysCount() {
+        List<SyncTelemetryEntity> rows = Arrays.asList(
+                committed("a", NOW - 5_000L, NOW - 4_000L, NOW - 1_000L, 1),
+                committed("b", NOW - 9_000L, NOW - 8_000L, NOW - 7_000L, 3),
+                row("c", NOW - 2L * SyncTelemetryReport.WINDOW_MILLIS,
+                        SyncTelemetryEntity.QUEUED),
+                row("d", NOW - 2L * SyncTelemetryReport.WINDOW_MILLIS,
+                        SyncTelemetryEntity.COMMITTED),
+                row("e", NOW - 500L, SyncTelemetryEntity.COMPACTED));
+        rows.get(1).lastErrorCode = "UNAVAILABLE";
+        rows.get(1).errorCount = 2;
+
+        SyncTelemetryReport report = SyncTelemetryReport.build(rows, NOW);
+
+        assertEquals(3, report.windowCount);
+        assertEquals(2, report.committedCount);
+        assertEquals(1, report.compactedCount);
+        assertEquals(1, report.queuedCount);
+        assertEquals(2L * SyncTelemetryReport.WINDOW_MILLIS, report.oldestQueuedMillis);
+        assertEquals(2, report.commitLatency.count);
+        assertEquals(2_000L, report.commitLatency.p50);
+        assertEquals(4_000L, report.commitLatency.max);
+        assertEquals(1_000L, report.firstAttemptDelay.p90);
+        assertEquals(3L, report.attempts.max);
+        assertEquals(Integer.valueOf(1), report.errorCodes.get("UNAVAILABLE"));
+        assertTrue(report.summary().contains("UNAVAILABLE x1"));
+    }
+
+    @Test
+    public void csvIsOldestFirstAndQuotesFields() {
+        SyncTelemetryEntity later = committed("op-2", 20L, 21L, 25L, 1);
+        SyncTelemetryEntity earlier = row("op-1", 10L, SyncTelemetryEntity.BLOCKED);
+        earlier.lastErrorCode = "Bad, \"odd\" code";
+
+        String[] lines = SyncTelemetryReport.toCsv(Arrays.asList(later, earlier)).split("\n");
+
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("operationId,gameId,type,outcome,"));
+        assertEquals("op-1,game,UPDATE_SCORE,BLOCKED,10,0,0,0,0,0,\"Bad, \"\"odd\"\" code\"",
+                lines[1]);
+        assertEquals("op-2,game,UPDATE_SCORE,COMMITTED,20,0,21,25,1,0,", lines[2]);
+    }
+
+    private static SyncTelemetryEntity committed(String operationId, long enqueuedAt,
+            long firstAttemptAt, long committedAt, int attempts) {
+        SyncTelemetryEntity row = row(operationId, enqueuedAt, SyncTelemetryEntity.COMMITTED);
+        row.firstAttemptAt = firstAttemptAt;
+        row.committedAt = committedAt;
+        row.attemptCount = attempts;
+        return row;
+    }
+
+    private static SyncTelemetryEntity row(String operationId, long enqueuedAt, String outcome) {
+        return new SyncTelemetryEntity(operationId, "game", "UPDATE_SCORE", enqueuedAt, 0, 0L,
+                0L, 0, null, 0, outcome);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.rummypulse.ui.home;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+public class GameItemSnapshotTest {
+
+    private static GameItem game(String gameId) {
+        GameItem item = new GameItem();
+        item.setGameId(gameId);
+        item.setGamePin("1234");
+        item.setGameStatus("R3");
+        item.setTotalScore("240");
+        item.setPointValue("0.25");
+        item.setNumberOfPlayers("4");
+        item.setGstPercentage("10");
+        item.setGstAmount("12");
+        item.setCreationDateTime("2024-01-15 14:30:00");
+        item.setCreatorUserId("creator");
+        item.setCreatorName("Asha");
+        return item;
+    }
+
+    @Test
+    public void unchangedRowHasNoPayloadsAndIsEqual() {
+        GameItem item = game("g1");
+        GameItemSnapshot before = new GameItemSnapshot(item);
+        GameItemSnapshot after = new GameItemSnapshot(item);
+
+        assertEquals(Collections.emptySet(), GameItemSnapshot.changePayloads(before, after));
+        assertEquals(before, after);
+        assertEquals(before.hashCode(), after.hashCode());
+    }
+
+    @Test
+    public void inPlaceMutationIsDetectedAgainstEarlierCapture() {
+        GameItem item = game("g1");
+        GameItemSnapshot before = new GameItemSnapshot(item);
+        item.setGameStatus("R4");
+
+        GameItemSnapshot after = new GameItemSnapshot(item);
+        assertFalse(before.equals(after));
+        assertEquals(Collections.singleton(GameItemSnapshot.PAYLOAD_STATUS),
+                GameItemSnapshot.changePayloads(before, after));
+    }
+
+    @Test
+    public void eachFieldGroupMapsToItsPayload() {
+        GameItem item = game("g1");
+        GameItemSnapshot before = new GameItemSnapshot(item);
+        item.setTotalScore("300");
+        item.setPendingViewRequestCount(2);
+        item.setCreationDateTime("2024-01-15 14:31:00");
+
+        Set<String> payloads = GameItemSnapshot.changePayloads(before, new GameItemSnapshot(item));
+        assertEquals(new HashSet<>(Arrays.asList(
+                GameItemSnapshot.PAYLOAD_SCORES,
+                GameItemSnapshot.PAYLOAD_VIEW_COUNTS,
+                GameItemSnapshot.PAYLOAD_TIME)), payloads);
+    }
+
+    @Test
+    public void viewAccessChangeRebindsStatus() {
+        GameItem item = game("g1");
+        GameItemSnapshot before = new GameItemSnapshot(item);
+        item.setMyViewAccessStatus("pending");
+
+        assertEquals(Collections.singleton(GameItemSnapshot.PAYLOAD_STATUS),
+                GameItemSnapshot.changePayloads(before, new GameItemSnapshot(item)));
+    }
+
+    @Test
+    public void identityChangeRequiresFullBind() {
+        GameItem item = game("g1");
+        GameItemSnapshot before = new GameItemSnapshot(item);
+        item.setCreatorPhotoUrl("https://example.com/a.png");
+
+        assertNull(GameItemSnapshot.changePayloads(before, new GameItemSnapshot(item)));
+    }
+
+    @Test
+    public void rowsAreMatchedByGameId() {
+        GameItemSnapshot first = new GameItemSnapshot(game("g1"));
+        assertTrue(first.isSameGame(new GameItemSnapshot(game("g1"))));
+        assertFalse(first.isSameGame(new GameItemSnapshot(game("g2"))));
+        assertFalse(new GameItemSnapshot(new GameItem()).isSameGame(new GameItemSnapshot(new GameItem())));
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.rummypulse.ui.home;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+import com.example.rummypulse.data.Player;
+
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+
+public class GameItemTest {
+
+    @Test
+    public void copyCarriesEveryFieldAndIgnoresLaterUpdates() throws Exception {
+        GameItem item = new GameItem();
+        int value = 1;
+        for (Field field : GameItem.class.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) continue;
+            field.setAccessible(true);
+            if (field.getType() == String.class) {
+                field.set(item, field.getName());
+            } else if (field.getType() == int.class) {
+                field.setInt(item, value++);
+            } else {
+                field.set(item, new ArrayList<Player>());
+            }
+        }
+
+        GameItem copy = item.copy();
+        item.setTotalScore("changed");
+
+        assertNotSame(item, copy);
+        assertEquals("totalScore", copy.getTotalScore());
+        for (Field field : GameItem.class.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || "totalScore".equals(field.getName())) continue;
+            field.setAccessible(true);
+            assertEquals(field.getName(), field.get(item), field.get(copy));
+        }
+    }
+}